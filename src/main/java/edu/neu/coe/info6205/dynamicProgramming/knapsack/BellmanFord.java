@@ -1,52 +1,439 @@
 package edu.neu.coe.info6205.dynamicProgramming.knapsack;
 
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The Bellman-Ford single-source shortest paths algorithm, which allows negative edge weights.
+ * <p>
+ * The graph is held as primitive arrays: edge e runs from from(e) to to(e) with weight weight(e),
+ * and is indexed both by its source (for the queue) and by its target (for the passes).
+ * There are three modes (see {@link Mode}):
+ * <ul>
+ *     <li>PASSES: repeated passes over all the edges, updating the distances in place,
+ *     stopping as soon as a pass makes no relaxation;</li>
+ *     <li>PARALLEL: the same, but each pass computes the new distance of every vertex from the old distances
+ *     of its predecessors, so that the vertices may be shared out among the threads of a fork/join pool;</li>
+ *     <li>QUEUE: only the edges out of vertices whose distance has changed are relaxed,
+ *     those vertices being kept in a FIFO queue (the "shortest path faster algorithm").</li>
+ * </ul>
+ * A negative cycle reachable from the source is detected in every mode, and is returned as a sequence of edges.
+ * This uses the fact that any cycle in the graph of edgeTo links is a negative cycle:
+ * the links are checked for a cycle once the number of passes (or, for the queue, of relaxations)
+ * shows that the distances are not converging.
+ */
 public class BellmanFord {
+
+    public enum Mode {PASSES, PARALLEL, QUEUE}
+
     /**
-     * Method to return the Maximum profit after selecting particular items using Bellman Ford Algorithm.
+     * Constructor.
      *
-     * TODO fix generic type issues
+     * @param n       the number of vertices.
+     * @param from    the source vertex of each edge.
+     * @param to      the target vertex of each edge.
+     * @param weights the weight of each edge (which may be negative).
+     * @param pool    the fork/join pool for Mode.PARALLEL.
+     */
+    public BellmanFord(int n, int[] from, int[] to, double[] weights, ForkJoinPool pool) {
+        if (from.length != to.length || from.length != weights.length)
+            throw new IllegalArgumentException("BellmanFord: edge arrays differ in length");
+        this.n = n;
+        this.from = from;
+        this.to = to;
+        this.weights = weights;
+        this.pool = pool;
+        for (int e = 0; e < from.length; e++) {
+            validateVertex(from[e]);
+            validateVertex(to[e]);
+        }
+        outOffsets = new int[n + 1];
+        outEdges = index(from, outOffsets);
+        inOffsets = new int[n + 1];
+        inEdges = index(to, inOffsets);
+    }
+
+    public BellmanFord(int n, int[] from, int[] to, double[] weights) {
+        this(n, from, to, weights, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to solve the shortest paths problem for the starting point s.
      *
-     * @param graph the weights for each item.
-     * @param source soruce Vertex.
-     * @param target target Vertex.
-     * @return Maximum profit after selecting items from the list of items available.
+     * @param s    the starting point.
+     * @param mode the mode.
+     * @return the ShortestPaths from s.
+     */
+    public ShortestPaths shortestPaths(int s, Mode mode) {
+        validateVertex(s);
+        final ShortestPaths result = new ShortestPaths(s);
+        switch (mode) {
+            case PASSES:
+                result.passes(false);
+                break;
+            case PARALLEL:
+                result.passes(true);
+                break;
+            case QUEUE:
+                result.queue();
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Method to solve the shortest paths problem for the starting point s,
+     * using parallel passes for a large graph (if the pool has more than one thread) and otherwise the queue.
+     *
+     * @param s the starting point.
+     * @return the ShortestPaths from s.
      */
-    public static double bellmanFordAlgorihm(Graph graph,Vertex source,Vertex target){
+    public ShortestPaths shortestPaths(int s) {
+        return shortestPaths(s, E() >= PARALLEL_THRESHOLD && pool.getParallelism() > 1 ? Mode.PARALLEL : Mode.QUEUE);
+    }
+
+    public int V() {
+        return n;
+    }
+
+    public int E() {
+        return from.length;
+    }
+
+    public int from(int e) {
+        return from[e];
+    }
+
+    public int to(int e) {
+        return to[e];
+    }
+
+    public double weight(int e) {
+        return weights[e];
+    }
+
+    /**
+     * The result of solving from one source.
+     * If hasNegativeCycle() is true, the distances are meaningless and there are no shortest paths.
+     */
+    public class ShortestPaths {
+
+        public double distTo(int v) {
+            validateVertex(v);
+            return distTo[v];
+        }
+
+        public boolean hasPathTo(int v) {
+            validateVertex(v);
+            return distTo[v] < Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * @param v a vertex.
+         * @return the index of the last edge on the shortest path to v, or -1.
+         */
+        public int edgeTo(int v) {
+            validateVertex(v);
+            return edgeTo[v];
+        }
+
+        /**
+         * Get the shortest path to v.
+         *
+         * @param v a vertex.
+         * @return the edge indices of the path from the source to v (popping in order from the source), or null.
+         * @throws UnsupportedOperationException if there is a negative cycle.
+         */
+        public Iterable<Integer> pathTo(int v) {
+            if (hasNegativeCycle()) throw new UnsupportedOperationException("BellmanFord: negative cycle exists");
+            if (!hasPathTo(v)) return null;
+            Stack<Integer> path = new Stack<>();
+            for (int e = edgeTo[v]; e >= 0; e = edgeTo[from[e]]) path.push(e);
+            return path;
+        }
+
+        public boolean hasNegativeCycle() {
+            return cycle != null;
+        }
+
+        /**
+         * @return the edge indices of a negative cycle reachable from the source, in order, or null.
+         */
+        public Iterable<Integer> negativeCycle() {
+            if (cycle == null) return null;
+            List<Integer> result = new ArrayList<>(cycle.length);
+            for (int e : cycle) result.add(e);
+            return result;
+        }
 
-        HashMap<Vertex,Double> shortestDistance = new HashMap();
+        /**
+         * @return the number of passes over the edges (zero for Mode.QUEUE).
+         */
+        public int passes() {
+            return passes;
+        }
 
-        shortestDistance.put(source,0.0);
-        shortestDistance.put(target,Double.MAX_VALUE);
+        /**
+         * @return the number of successful relaxations.
+         */
+        public long relaxations() {
+            return relaxations;
+        }
 
-        Queue<Vertex> queue=new LinkedList<>();
-        queue.add(source);
+        ShortestPaths(int s) {
+            source = s;
+            distTo = new double[n];
+            edgeTo = new int[n];
+            Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+            Arrays.fill(edgeTo, -1);
+            distTo[s] = 0.0;
+        }
+
+        /**
+         * Repeat passes until nothing changes, or until there is a negative cycle.
+         * After n - 1 passes every shortest path has been found, so a change in any later pass shows a negative cycle.
+         */
+        private void passes(boolean parallel) {
+            double[] next = parallel ? distTo.clone() : distTo;
+            while (true) {
+                long relaxed = parallel ? parallelPass(next) : pass();
+                if (parallel) {
+                    double[] temp = distTo;
+                    distTo = next;
+                    next = temp;
+                }
+                passes++;
+                relaxations += relaxed;
+                if (relaxed == 0) return;
+                if (passes >= n && (cycle = findCycle()) != null) return;
+            }
+        }
 
-        while(!queue.isEmpty())
-        {
-            source=queue.poll();
-            Iterator it=graph.edges(source);
-            while(it.hasNext())
-            {
-                Edge edge = (Edge) it.next();
-                Vertex v1=edge.source();
-                Vertex v2=edge.destination();
-                double weight=edge.getEdgeWeight();
+        /**
+         * One pass in place, vertex by vertex over the incoming edges.
+         *
+         * @return the number of relaxations.
+         */
+        private long pass() {
+            long relaxed = 0;
+            for (int w = 0; w < n; w++)
+                for (int slot = inOffsets[w]; slot < inOffsets[w + 1]; slot++) {
+                    int e = inEdges[slot];
+                    double d = distTo[from[e]] + weights[e];
+                    if (d < distTo[w]) {
+                        distTo[w] = d;
+                        edgeTo[w] = e;
+                        relaxed++;
+                    }
+                }
+            return relaxed;
+        }
 
-                if(shortestDistance.getOrDefault(v1,Double.MAX_VALUE)!= Double.MAX_VALUE && (shortestDistance.getOrDefault(v1,Double.MAX_VALUE)+weight)< shortestDistance.getOrDefault(v2,Double.MAX_VALUE))
-                    shortestDistance.put(v2,shortestDistance.get(v1)+weight);
+        /**
+         * One pass from distTo into next: each vertex (hence each element of next and edgeTo) belongs to one chunk.
+         *
+         * @return the number of relaxations.
+         */
+        private long parallelPass(double[] next) {
+            final double[] current = distTo;
+            final AtomicLong count = new AtomicLong();
+            Parallel.forEachChunk(pool, n, Parallel.grain(pool, n), (lo, hi) -> {
+                long relaxed = 0;
+                for (int w = lo; w < hi; w++) {
+                    double best = current[w];
+                    for (int slot = inOffsets[w]; slot < inOffsets[w + 1]; slot++) {
+                        int e = inEdges[slot];
+                        double d = current[from[e]] + weights[e];
+                        if (d < best) {
+                            best = d;
+                            edgeTo[w] = e;
+                            relaxed++;
+                        }
+                    }
+                    next[w] = best;
+                }
+                if (relaxed > 0) count.addAndGet(relaxed);
+            });
+            return count.get();
+        }
 
-                queue.add(edge.destination());
+        /**
+         * The queue-based algorithm: a vertex is queued (at most once at a time) whenever its distance decreases.
+         * Every n relaxations the edgeTo links are checked for a cycle.
+         */
+        private void queue() {
+            final int[] queue = new int[n];
+            final boolean[] queued = new boolean[n];
+            int head = 0, size = 0;
+            queue[size++] = source;
+            queued[source] = true;
+            long nextCheck = n;
+            while (size > 0) {
+                int v = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                size--;
+                queued[v] = false;
+                for (int slot = outOffsets[v]; slot < outOffsets[v + 1]; slot++) {
+                    int e = outEdges[slot];
+                    int w = to[e];
+                    double d = distTo[v] + weights[e];
+                    if (d < distTo[w]) {
+                        distTo[w] = d;
+                        edgeTo[w] = e;
+                        if (!queued[w]) {
+                            int tail = head + size;
+                            queue[tail >= n ? tail - n : tail] = w;
+                            size++;
+                            queued[w] = true;
+                        }
+                        if (++relaxations >= nextCheck) {
+                            nextCheck += n;
+                            if ((cycle = findCycle()) != null) return;
+                        }
+                    }
+                }
             }
         }
+
         /**
+         * Look for a cycle in the graph of edgeTo links, by walking back from each vertex
+         * and marking the vertices with the starting point until the walk reaches an already-marked vertex.
+         *
+         * @return the edges of a negative cycle, in order, or null.
+         */
+        private int[] findCycle() {
+            final int[] mark = new int[n];
+            Arrays.fill(mark, -1);
+            for (int v = 0; v < n; v++) {
+                int x = v;
+                while (x >= 0 && mark[x] < 0) {
+                    mark[x] = v;
+                    x = edgeTo[x] < 0 ? -1 : from[edgeTo[x]];
+                }
+                if (x >= 0 && mark[x] == v) {
+                    int[] result = trace(x);
+                    if (result != null) return result;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param x a vertex on a cycle of edgeTo links.
+         * @return the edges of the cycle in order, or null if the cycle is not negative.
+         */
+        private int[] trace(int x) {
+            int length = 0;
+            int y = x;
+            do {
+                length++;
+                y = from[edgeTo[y]];
+            } while (y != x);
+            final int[] result = new int[length];
+            double weight = 0;
+            for (int i = length - 1; i >= 0; i--) {
+                result[i] = edgeTo[y];
+                weight += weights[result[i]];
+                y = from[result[i]];
+            }
+            return weight < 0 ? result : null;
+        }
+
+        private final int source;
+        private double[] distTo;     // distTo[v] = distance of shortest s->v path
+        private final int[] edgeTo;  // edgeTo[v] = last edge on shortest s->v path (or -1)
+        private int[] cycle;         // the edges of a negative cycle (or null)
+        private int passes;
+        private long relaxations;
+    }
+
+    /**
+     * Method to return the Maximum profit after selecting particular items using Bellman Ford Algorithm.
+     * The vertices reachable from source (with their edges) are numbered and solved by the queue-based algorithm.
+     *
+     * @param graph  the weights for each item.
+     * @param source soruce Vertex.
+     * @param target target Vertex.
+     * @return Maximum profit after selecting items from the list of items available.
+     * @throws UnsupportedOperationException if a cycle of positive profit (a negative cycle) is reachable from source,
+     *                                       since the profit is then unbounded.
+     */
+    public static double bellmanFordAlgorihm(Graph<Vertex> graph, Vertex source, Vertex target) {
+        final Map<Vertex, Integer> index = new HashMap<>();
+        final List<Vertex> vertices = new ArrayList<>();
+        final List<Edge> edges = new ArrayList<>();
+        index.put(source, 0);
+        vertices.add(source);
+        for (int i = 0; i < vertices.size(); i++) {
+            Iterator<Edge> it = graph.edges(vertices.get(i));
+            if (it == null) continue;
+            while (it.hasNext()) {
+                Edge edge = it.next();
+                edges.add(edge);
+                if (!index.containsKey(edge.destination())) {
+                    index.put(edge.destination(), vertices.size());
+                    vertices.add(edge.destination());
+                }
+            }
+        }
+        final int m = edges.size();
+        final int[] from = new int[m], to = new int[m];
+        final double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = index.get(edges.get(e).source());
+            to[e] = index.get(edges.get(e).destination());
+            weights[e] = edges.get(e).getEdgeWeight();
+        }
+        Integer t = index.get(target);
+        if (t == null) return -Double.MAX_VALUE;
+        ShortestPaths paths = new BellmanFord(vertices.size(), from, to, weights).shortestPaths(0, Mode.QUEUE);
+        if (paths.hasNegativeCycle()) throw new UnsupportedOperationException("BellmanFord: negative cycle exists");
+        /*
          * Negating the shortest Distance
          */
-        return (-1 * shortestDistance.get(target));
+        return paths.hasPathTo(t) ? -paths.distTo(t) : -Double.MAX_VALUE;
+    }
+
+    /**
+     * Group the edges by the given endpoint.
+     *
+     * @param endpoints the endpoint of each edge.
+     * @param offsets   array of n + 1 to be filled: the edges of v are in slots offsets[v] until offsets[v+1].
+     * @return the edge index in each slot.
+     */
+    private int[] index(int[] endpoints, int[] offsets) {
+        for (int v : endpoints) offsets[v + 1]++;
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+        final int[] result = new int[endpoints.length];
+        final int[] next = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < endpoints.length; e++) result[next[endpoints[e]]++] = e;
+        return result;
+    }
 
+    private void validateVertex(int v) {
+        if (v < 0 || v >= n)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (n - 1));
     }
-}
\ No newline at end of file
+
+    // The number of edges above which shortestPaths(s) uses parallel passes.
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int n;
+    private final int[] from;
+    private final int[] to;
+    private final double[] weights;
+    private final ForkJoinPool pool;
+    private final int[] outOffsets;
+    private final int[] outEdges;
+    private final int[] inOffsets;
+    private final int[] inEdges;
+}
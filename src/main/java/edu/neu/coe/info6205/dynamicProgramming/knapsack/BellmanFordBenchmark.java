@@ -0,0 +1,79 @@
+package edu.neu.coe.info6205.dynamicProgramming.knapsack;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of the modes of {@link BellmanFord} on a random digraph with negative weights (but no negative cycle),
+ * parallel passes being run with the number of threads ranging from 1 to the number of available processors.
+ * <p>
+ * Usage: BellmanFordBenchmark [n [degree [runs]]]
+ */
+public class BellmanFordBenchmark {
+
+    public BellmanFordBenchmark(int n, int degree, int runs) {
+        this.n = n;
+        this.runs = runs;
+        final Random random = new Random(0L);
+        final int m = n * degree;
+        // Weights of the form c(u, v) + p(u) - p(v) with c non-negative: some are negative, but every cycle is positive.
+        final double[] potential = new double[n];
+        for (int v = 0; v < n; v++) potential[v] = random.nextDouble() * 10;
+        from = new int[m];
+        to = new int[m];
+        weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextDouble() + potential[from[e]] - potential[to[e]];
+        }
+    }
+
+    public void runBenchmarks() {
+        System.out.println("BellmanFordBenchmark: V=" + Utilities.formatWhole(n) + ", E=" + Utilities.formatWhole(from.length));
+        final BellmanFord bellmanFord = new BellmanFord(n, from, to, weights);
+        final BellmanFord.ShortestPaths passes = bellmanFord.shortestPaths(0, BellmanFord.Mode.PASSES);
+        System.out.println("  passes: " + passes.passes() + " (rather than " + Utilities.formatWhole(n - 1) + "), relaxations: " + Utilities.formatWhole((int) passes.relaxations()));
+        System.out.println("  queue relaxations: " + Utilities.formatWhole((int) bellmanFord.shortestPaths(0, BellmanFord.Mode.QUEUE).relaxations()));
+        double base = benchmark(bellmanFord, BellmanFord.Mode.PASSES, "BellmanFord (passes)");
+        double queue = benchmark(bellmanFord, BellmanFord.Mode.QUEUE, "BellmanFord (queue)");
+        System.out.println("  speedup over passes: " + Utilities.formatDecimal3Places(base / queue));
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= processors; p *= 2) {
+            scaling(p, base);
+            if (p < processors && 2 * p > processors) scaling(processors, base);
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        new BellmanFordBenchmark(n, degree, runs).runBenchmarks();
+    }
+
+    private void scaling(int p, double base) {
+        final ForkJoinPool pool = new ForkJoinPool(p);
+        try {
+            double time = benchmark(new BellmanFord(n, from, to, weights, pool), BellmanFord.Mode.PARALLEL, "BellmanFord (parallel passes) with " + p + " threads");
+            System.out.println("  speedup over passes: " + Utilities.formatDecimal3Places(base / time));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double benchmark(BellmanFord bellmanFord, BellmanFord.Mode mode, String description) {
+        double time = new Benchmark_Timer<Integer>(description, s -> bellmanFord.shortestPaths(s, mode)).run(0, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec");
+        return time;
+    }
+
+    private final int n;
+    private final int runs;
+    private final int[] from;
+    private final int[] to;
+    private final double[] weights;
+}
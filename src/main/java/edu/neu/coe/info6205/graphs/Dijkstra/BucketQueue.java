@@ -0,0 +1,153 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code BucketQueue} class represents Dial's <em>monotone</em> indexed priority queue of non-negative integer keys.
+ * <p>
+ * The queue is a circular array of <em>C</em> + 1 buckets, where <em>C</em> is the largest permitted difference
+ * between any key on the queue and the most recently deleted minimum.
+ * For Dijkstra's algorithm, <em>C</em> is the maximum edge weight, so every tentative distance lies in the range
+ * [<em>d</em>, <em>d</em> + <em>C</em>] where <em>d</em> is the distance of the vertex most recently settled;
+ * hence no two distinct keys on the queue ever share a bucket.
+ * <p>
+ * The buckets are intrusive doubly-linked lists threaded through {@code int} arrays indexed by vertex.
+ * <em>insert</em> and <em>decrease-key</em> take &Theta;(1) time; <em>delete-the-minimum</em> scans forward
+ * from the previous minimum and so takes &Theta;(1) amortized time in addition to a total of
+ * &Theta;(<em>D</em>) time over a whole run, where <em>D</em> is the largest key.
+ * The space required is &Theta;(<em>maxN</em> + <em>C</em>), so this queue is best suited to small integer weights.
+ */
+public class BucketQueue implements IndexPQ {
+
+    /**
+     * Initializes an empty bucket queue with indices between {@code 0} and {@code maxN - 1}.
+     *
+     * @param maxN the keys on this priority queue are index from {@code 0} {@code maxN - 1}
+     * @param c    the largest difference permitted between a key and the last minimum deleted
+     *             (for Dijkstra's algorithm, the maximum edge weight)
+     * @throws IllegalArgumentException if {@code maxN < 0} or if {@code c} is negative or too large
+     */
+    public BucketQueue(int maxN, long c) {
+        if (maxN < 0) throw new IllegalArgumentException("maxN must be non-negative");
+        if (c < 0 || c >= Integer.MAX_VALUE) throw new IllegalArgumentException("c is out of range: " + c);
+        this.maxN = maxN;
+        this.c = c;
+        keys = new long[maxN];
+        next = new int[maxN];
+        prev = new int[maxN];
+        onQueue = new boolean[maxN];
+        heads = new int[(int) c + 1];
+        Arrays.fill(heads, NONE);
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean contains(int i) {
+        validateIndex(i);
+        return onQueue[i];
+    }
+
+    public void insert(int i, double key) {
+        insert(i, RadixHeap.toLong(key));
+    }
+
+    /**
+     * Associates key with index {@code i}.
+     *
+     * @param i   an index
+     * @param key the key to associate with index {@code i}
+     * @throws IllegalArgumentException if there already is an item associated with index {@code i}
+     * @throws IllegalArgumentException if {@code key} is not within {@code c} of the last minimum deleted
+     */
+    public void insert(int i, long key) {
+        validateIndex(i);
+        if (contains(i)) throw new IllegalArgumentException("index is already in the priority queue");
+        validateKey(key);
+        keys[i] = key;
+        link(i);
+        onQueue[i] = true;
+        n++;
+    }
+
+    public void decreaseKey(int i, double key) {
+        validateIndex(i);
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        long k = RadixHeap.toLong(key);
+        if (k >= keys[i])
+            throw new IllegalArgumentException("Calling decreaseKey() with a key not strictly less than the key in the priority queue");
+        validateKey(k);
+        unlink(i);
+        keys[i] = k;
+        link(i);
+    }
+
+    /**
+     * Returns the key associated with index {@code i}.
+     *
+     * @param i the index of the key to return
+     * @return the key associated with index {@code i}
+     * @throws NoSuchElementException no key is associated with index {@code i}
+     */
+    public long keyOf(int i) {
+        validateIndex(i);
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        return keys[i];
+    }
+
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        while (heads[bucket(last)] == NONE) last++;
+        int min = heads[bucket(last)];
+        unlink(min);
+        onQueue[min] = false;
+        n--;
+        return min;
+    }
+
+    private int bucket(long key) {
+        return (int) (key % heads.length);
+    }
+
+    private void link(int i) {
+        int b = bucket(keys[i]);
+        prev[i] = NONE;
+        next[i] = heads[b];
+        if (heads[b] != NONE) prev[heads[b]] = i;
+        heads[b] = i;
+    }
+
+    private void unlink(int i) {
+        if (prev[i] != NONE) next[prev[i]] = next[i];
+        else heads[bucket(keys[i])] = next[i];
+        if (next[i] != NONE) prev[next[i]] = prev[i];
+    }
+
+    private void validateKey(long key) {
+        if (key < last || key - last > c)
+            throw new IllegalArgumentException("key " + key + " is not in range [" + last + ", " + (last + c) + "]");
+    }
+
+    private void validateIndex(int i) {
+        if (i < 0) throw new IllegalArgumentException("index is negative: " + i);
+        if (i >= maxN) throw new IllegalArgumentException("index >= capacity: " + i);
+    }
+
+    private static final int NONE = -1;
+
+    private final int maxN;         // maximum number of elements on PQ
+    private final long c;           // maximum spread of keys on PQ
+    private int n;                  // number of elements on PQ
+    private long last;              // the most recently deleted minimum key (the cursor)
+    private final long[] keys;      // keys[i] = priority of i
+    private final boolean[] onQueue;// onQueue[i] = true iff i is on PQ
+    private final int[] next;       // next[i] = successor of i in its bucket
+    private final int[] prev;       // prev[i] = predecessor of i in its bucket
+    private final int[] heads;      // heads[b] = first index in bucket b (circular)
+}
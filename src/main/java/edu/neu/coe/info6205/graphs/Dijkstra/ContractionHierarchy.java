@@ -0,0 +1,448 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeCache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Stack;
+
+/**
+ * A contraction hierarchy (after Geisberger, Sanders, Schultes and Delling) for fast point-to-point
+ * shortest-path queries in a static edge-weighted digraph with non-negative weights.
+ * <p>
+ * The vertices are contracted one at a time, in order of increasing importance (see {@link ContractionHierarchyBuilder}):
+ * contracting v removes it from the graph, adding a <em>shortcut</em> u-&gt;w wherever u-&gt;v-&gt;w was the only
+ * shortest path from u to w.
+ * The rank of a vertex is the order in which it was contracted.
+ * A query from s to t is then a bidirectional Dijkstra search which only ever moves <em>upwards</em> in rank:
+ * forwards from s over edges to higher-ranked vertices, and backwards from t over edges from higher-ranked vertices.
+ * Each search settles only a small number of vertices, since most of the graph has been summarized by shortcuts.
+ * Shortcuts in the resulting path are unpacked recursively into the original edges.
+ * <p>
+ * A hierarchy is built once, offline, and may be saved by {@link #write(OutputStream)} and
+ * restored by {@link #read(InputStream)}.
+ * Queries may be run concurrently (each thread has its own search state).
+ */
+public class ContractionHierarchy {
+
+    /**
+     * Build a contraction hierarchy for an EdgeWeightedDigraph.
+     *
+     * @param G the digraph.
+     * @return a new ContractionHierarchy.
+     * @throws IllegalArgumentException if any edge has negative weight.
+     */
+    public static ContractionHierarchy create(EdgeWeightedDigraph G) {
+        final int m = G.E();
+        final int[] from = new int[m], to = new int[m];
+        final double[] weights = new double[m];
+        int i = 0;
+        for (DirectedEdge e : G.edges()) {
+            from[i] = e.from();
+            to[i] = e.to();
+            weights[i++] = e.weight();
+        }
+        return create(G.V(), from, to, weights);
+    }
+
+    /**
+     * Build a contraction hierarchy for a DiGraph whose edge attributes are weights.
+     * The vertices of the hierarchy are the indices given by {@code graph.edgeArrays().index(v)}.
+     *
+     * @param graph the digraph.
+     * @param <V>   the vertex type.
+     * @param <E>   the edge-attribute (weight) type.
+     * @return a new ContractionHierarchy.
+     * @throws IllegalArgumentException if any edge has negative weight.
+     */
+    public static <V, E extends Number> ContractionHierarchy create(DiGraph<V, E> graph) {
+        final EdgeCache.EdgeArrays<V, Edge<V, E>> arrays = graph.edgeArrays();
+        final int m = arrays.E();
+        final int[] from = new int[m], to = new int[m];
+        for (int i = 0; i < m; i++) {
+            from[i] = arrays.from(i);
+            to[i] = arrays.to(i);
+        }
+        return create(arrays.V(), from, to, arrays.weights(e -> e.getAttributes().doubleValue()));
+    }
+
+    /**
+     * Build a contraction hierarchy for a digraph given as an edge list.
+     *
+     * @param n       the number of vertices.
+     * @param from    from[i] is the from vertex of edge i.
+     * @param to      to[i] is the to vertex of edge i.
+     * @param weights weights[i] is the (non-negative) weight of edge i.
+     * @return a new ContractionHierarchy.
+     * @throws IllegalArgumentException if any edge has negative weight.
+     */
+    public static ContractionHierarchy create(int n, int[] from, int[] to, double[] weights) {
+        return new ContractionHierarchyBuilder(n, from, to, weights).build();
+    }
+
+    /**
+     * Find the shortest route from s to t.
+     *
+     * @param s the source vertex.
+     * @param t the target vertex.
+     * @return a Route.
+     */
+    public Route query(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        return searches.get().run(s, t);
+    }
+
+    /**
+     * @return the number of vertices.
+     */
+    public int V() {
+        return n;
+    }
+
+    /**
+     * @return the number of edges in the hierarchy (original edges plus shortcuts).
+     */
+    public int E() {
+        return from.length;
+    }
+
+    /**
+     * @return the number of shortcuts.
+     */
+    public int shortcuts() {
+        int result = 0;
+        for (int c : child1) if (c >= 0) result++;
+        return result;
+    }
+
+    /**
+     * @param v a vertex.
+     * @return the rank of v (the order in which it was contracted).
+     */
+    public int rank(int v) {
+        validateVertex(v);
+        return rank[v];
+    }
+
+    /**
+     * Save this hierarchy in a compact binary form.
+     *
+     * @param outputStream the stream to write to (which is not closed).
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeInt(n);
+        out.writeInt(from.length);
+        for (int r : rank) out.writeInt(r);
+        for (int e = 0; e < from.length; e++) {
+            out.writeInt(from[e]);
+            out.writeInt(to[e]);
+            out.writeDouble(weight[e]);
+            out.writeInt(child1[e]);
+            out.writeInt(child2[e]);
+        }
+        out.flush();
+    }
+
+    /**
+     * Restore a hierarchy which was saved by write.
+     *
+     * @param inputStream the stream to read from (which is not closed).
+     * @return the ContractionHierarchy.
+     * @throws IOException if the stream cannot be read, or is not in the expected form.
+     */
+    public static ContractionHierarchy read(InputStream inputStream) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) throw new IOException("not a contraction hierarchy");
+        final int n = in.readInt();
+        final int m = in.readInt();
+        final int[] rank = new int[n];
+        for (int v = 0; v < n; v++) rank[v] = in.readInt();
+        final int[] from = new int[m], to = new int[m], child1 = new int[m], child2 = new int[m];
+        final double[] weight = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = in.readInt();
+            to[e] = in.readInt();
+            weight[e] = in.readDouble();
+            child1[e] = in.readInt();
+            child2[e] = in.readInt();
+        }
+        return new ContractionHierarchy(n, rank, from, to, weight, child1, child2);
+    }
+
+    /**
+     * The result of a query.
+     */
+    public class Route {
+
+        /**
+         * @return the length of the shortest route (infinite if there is no route).
+         */
+        public double distance() {
+            return distance;
+        }
+
+        public boolean hasPath() {
+            return distance < Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Get the original edges of the route, in the same form as {@link Dijkstra.ShortestPaths#pathTo(int)}:
+         * popping the stack yields the edges in order from the source.
+         *
+         * @return the path, or null if there is no route.
+         */
+        public Iterable<DirectedEdge> path() {
+            if (!hasPath()) return null;
+            final List<Integer> edges = new ArrayList<>();
+            for (int e : up) unpack(e, edges);
+            for (int i = down.length - 1; i >= 0; i--) unpack(down[i], edges);
+            Stack<DirectedEdge> result = new Stack<>();
+            for (int i = edges.size() - 1; i >= 0; i--) {
+                int e = edges.get(i);
+                result.push(new DirectedEdge(from[e], to[e], weight[e]));
+            }
+            return result;
+        }
+
+        /**
+         * @return the number of vertices settled by the two searches.
+         */
+        public int settled() {
+            return settled;
+        }
+
+        Route(double distance, int[] up, int[] down, int settled) {
+            this.distance = distance;
+            this.up = up;
+            this.down = down;
+            this.settled = settled;
+        }
+
+        private final double distance;
+        private final int[] up;     // hierarchy edges from s up to the meeting vertex, in order
+        private final int[] down;   // hierarchy edges from t (backwards) up to the meeting vertex, in order
+        private final int settled;
+    }
+
+    ContractionHierarchy(int n, int[] rank, int[] from, int[] to, double[] weight, int[] child1, int[] child2) {
+        this.n = n;
+        this.rank = rank;
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+        this.child1 = child1;
+        this.child2 = child2;
+        // Each edge is stored with its lower-ranked end: as an upward edge of its from vertex,
+        // or as a (backward) upward edge of its to vertex.
+        upOffsets = new int[n + 1];
+        downOffsets = new int[n + 1];
+        for (int e = 0; e < from.length; e++)
+            if (rank[from[e]] < rank[to[e]]) upOffsets[from[e] + 1]++;
+            else downOffsets[to[e] + 1]++;
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        upEdges = new int[upOffsets[n]];
+        downEdges = new int[downOffsets[n]];
+        final int[] upNext = Arrays.copyOf(upOffsets, n), downNext = Arrays.copyOf(downOffsets, n);
+        for (int e = 0; e < from.length; e++)
+            if (rank[from[e]] < rank[to[e]]) upEdges[upNext[from[e]]++] = e;
+            else downEdges[downNext[to[e]]++] = e;
+    }
+
+    /**
+     * Append the original edges which make up hierarchy edge e, in order, to result.
+     */
+    private void unpack(int e, List<Integer> result) {
+        final Stack<Integer> stack = new Stack<>();
+        stack.push(e);
+        while (!stack.isEmpty()) {
+            int x = stack.pop();
+            if (child1[x] < 0) result.add(x);
+            else {
+                stack.push(child2[x]);
+                stack.push(child1[x]);
+            }
+        }
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= n)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (n - 1));
+    }
+
+    /**
+     * The state of the bidirectional upward search (one per thread), reused from query to query.
+     */
+    private class Search {
+
+        Route run(int s, int t) {
+            forward.start(s);
+            backward.start(t);
+            double best = Double.POSITIVE_INFINITY;
+            int meeting = -1;
+            int settled = 0;
+            while (true) {
+                boolean forwardDone = forward.heap.isEmpty() || forward.heap.minKey() >= best;
+                boolean backwardDone = backward.heap.isEmpty() || backward.heap.minKey() >= best;
+                if (forwardDone && backwardDone) break;
+                boolean isForward = backwardDone || !forwardDone && forward.heap.minKey() <= backward.heap.minKey();
+                Side side = isForward ? forward : backward;
+                Side other = isForward ? backward : forward;
+                double key = side.heap.minKey();
+                int v = side.heap.pop();
+                if (key > side.distance(v)) continue; // stale entry
+                settled++;
+                double d = key + other.distance(v);
+                if (d < best) {
+                    best = d;
+                    meeting = v;
+                }
+                final int[] offsets = isForward ? upOffsets : downOffsets;
+                final int[] edges = isForward ? upEdges : downEdges;
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int e = edges[i];
+                    int w = isForward ? to[e] : from[e];
+                    double dw = key + weight[e];
+                    if (dw < side.distance(w)) side.relax(w, dw, e);
+                }
+            }
+            if (meeting < 0) return new Route(Double.POSITIVE_INFINITY, null, null, settled);
+            return new Route(best, forward.edgesTo(meeting, true), backward.edgesTo(meeting, false), settled);
+        }
+
+        private final Side forward = new Side();
+        private final Side backward = new Side();
+    }
+
+    /**
+     * One direction of the search: distances and parent edges, valid only where stamp is current.
+     */
+    private class Side {
+
+        void start(int s) {
+            if (++current == 0) {
+                Arrays.fill(stamp, 0);
+                current = 1;
+            }
+            heap.clear();
+            relax(s, 0, -1);
+        }
+
+        double distance(int v) {
+            return stamp[v] == current ? dist[v] : Double.POSITIVE_INFINITY;
+        }
+
+        void relax(int v, double d, int e) {
+            stamp[v] = current;
+            dist[v] = d;
+            edgeTo[v] = e;
+            heap.push(v, d);
+        }
+
+        /**
+         * @return the edges from the start of this side to v, in order from the start.
+         */
+        int[] edgesTo(int v, boolean isForward) {
+            int count = 0;
+            for (int w = v; edgeTo[w] >= 0; w = isForward ? from[edgeTo[w]] : to[edgeTo[w]]) count++;
+            final int[] result = new int[count];
+            for (int w = v; edgeTo[w] >= 0; w = isForward ? from[edgeTo[w]] : to[edgeTo[w]]) result[--count] = edgeTo[w];
+            return result;
+        }
+
+        private final double[] dist = new double[n];
+        private final int[] edgeTo = new int[n];
+        private final int[] stamp = new int[n];
+        private final Heap heap = new Heap();
+        private int current = 0;
+    }
+
+    /**
+     * A binary min-heap of (vertex, key) pairs without decrease-key: stale entries are skipped by the caller.
+     */
+    static class Heap {
+
+        void clear() {
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        double minKey() {
+            return keys[0];
+        }
+
+        void push(int v, double key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+                vertices = Arrays.copyOf(vertices, 2 * size);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= key) break;
+                keys[i] = keys[parent];
+                vertices[i] = vertices[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            vertices[i] = v;
+        }
+
+        int pop() {
+            final int result = vertices[0];
+            final double key = keys[--size];
+            final int v = vertices[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (key <= keys[child]) break;
+                keys[i] = keys[child];
+                vertices[i] = vertices[child];
+                i = child;
+            }
+            keys[i] = key;
+            vertices[i] = v;
+            return result;
+        }
+
+        private double[] keys = new double[16];
+        private int[] vertices = new int[16];
+        private int size = 0;
+    }
+
+    private static final int MAGIC = 0x43484945; // "CHIE"
+
+    private final int n;
+    private final int[] rank;
+    private final int[] from;        // from[e] = from vertex of hierarchy edge e
+    private final int[] to;          // to[e] = to vertex of hierarchy edge e
+    private final double[] weight;   // weight[e] = weight of hierarchy edge e
+    private final int[] child1;      // child1[e] = first half of shortcut e (u->v), or -1 for an original edge
+    private final int[] child2;      // child2[e] = second half of shortcut e (v->w), or -1 for an original edge
+    private final int[] upOffsets;   // upward edges from v are upEdges[upOffsets[v], upOffsets[v+1])
+    private final int[] upEdges;
+    private final int[] downOffsets; // upward edges into v (for the backward search) are downEdges[downOffsets[v], downOffsets[v+1])
+    private final int[] downEdges;
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+}
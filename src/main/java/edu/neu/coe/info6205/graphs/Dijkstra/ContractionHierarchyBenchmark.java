@@ -0,0 +1,76 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import edu.neu.coe.info6205.graphs.csr.RandomGraphs;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark of {@link ContractionHierarchy} queries against {@link Dijkstra}, on the same random point-to-point queries
+ * in a road-like graph (a random geometric graph, with each edge in both directions).
+ * The (one-off) preprocessing time is also reported.
+ * <p>
+ * Usage: ContractionHierarchyBenchmark [n [degree [queries]]]
+ */
+public class ContractionHierarchyBenchmark {
+
+    public ContractionHierarchyBenchmark(int n, double degree, int queries) {
+        final CSRGraph<Integer, Double> geometric = RandomGraphs.geometric(n, Math.sqrt(degree / Math.PI / n), new Random(0L));
+        graph = new EdgeWeightedDigraph(n);
+        for (int e = 0; e < geometric.E(); e++) {
+            graph.addEdge(new DirectedEdge(geometric.from(e), geometric.to(e), geometric.edgeWeight(e)));
+            graph.addEdge(new DirectedEdge(geometric.to(e), geometric.from(e), geometric.edgeWeight(e)));
+        }
+        final Random random = new Random(1L);
+        sources = new int[queries];
+        targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(n);
+            targets[i] = random.nextInt(n);
+        }
+    }
+
+    public void runBenchmarks() {
+        System.out.println("ContractionHierarchyBenchmark: V=" + Utilities.formatWhole(graph.V()) + ", E=" + Utilities.formatWhole(graph.E()) + ", queries=" + Utilities.formatWhole(sources.length));
+        long start = System.nanoTime();
+        final ContractionHierarchy ch = ContractionHierarchy.create(graph);
+        System.out.println("Preprocessing: " + Utilities.formatDecimal3Places((System.nanoTime() - start) / 1E6) + " mSec, shortcuts=" + Utilities.formatWhole(ch.shortcuts()));
+        final Dijkstra dijkstra = new Dijkstra(graph);
+        final double[] expected = new double[sources.length];
+        double base = benchmark("Dijkstra", i -> expected[i] = dijkstra.shortestPaths(sources[i]).distTo(targets[i]));
+        double time = benchmark("ContractionHierarchy", i -> {
+            double distance = ch.query(sources[i], targets[i]).distance();
+            if (Math.abs(distance - expected[i]) > 1E-9)
+                throw new RuntimeException("query " + i + ": expected " + expected[i] + " but got " + distance);
+        });
+        long settled = 0;
+        for (int i = 0; i < sources.length; i++) settled += ch.query(sources[i], targets[i]).settled();
+        System.out.println("  mean vertices settled per query: " + Utilities.formatWhole((int) (settled / sources.length)));
+        System.out.println("  speedup over Dijkstra: " + Utilities.formatDecimal3Places(base / time));
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        double degree = args.length > 1 ? Double.parseDouble(args[1]) : 6;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        new ContractionHierarchyBenchmark(n, degree, queries).runBenchmarks();
+    }
+
+    /**
+     * @return the mean time (mSec) per query.
+     */
+    private double benchmark(String description, Consumer<Integer> query) {
+        double time = new Benchmark_Timer<Integer>(description, x -> {
+            for (int i = 0; i < sources.length; i++) query.accept(i);
+        }).run(0, 1) / sources.length;
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec per query");
+        return time;
+    }
+
+    private final EdgeWeightedDigraph graph;
+    private final int[] sources;
+    private final int[] targets;
+}
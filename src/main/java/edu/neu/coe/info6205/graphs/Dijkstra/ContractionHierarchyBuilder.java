@@ -0,0 +1,269 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import java.util.Arrays;
+
+/**
+ * The (offline) preprocessing step of a {@link ContractionHierarchy}.
+ * <p>
+ * The vertices are contracted in order of priority, where the priority of v is its <em>edge difference</em>
+ * (the number of shortcuts which contracting v would add, less the number of edges which it would remove)
+ * plus the number of its edges which have been removed by the contraction of its neighbours (which spreads the contractions
+ * evenly over the graph).
+ * Priorities are found by simulating each contraction; they are kept up to date lazily:
+ * when the vertex of least priority is taken from the queue, its priority is recomputed and,
+ * if it is no longer the least, it goes back into the queue.
+ * The priorities of the neighbours of each contracted vertex are also recomputed.
+ * <p>
+ * When v is contracted, a shortcut u-&gt;w is added for each pair of edges u-&gt;v and v-&gt;w
+ * unless a <em>witness</em> (a path from u to w avoiding v, no longer than u-&gt;v-&gt;w) is found by a
+ * local Dijkstra search from u. The witness search is limited to a fixed number of settled vertices:
+ * a missed witness costs only an unnecessary shortcut, never a wrong answer.
+ * <p>
+ * The graph is held as growable arrays of edge ids for the incoming and outgoing edges of each
+ * uncontracted vertex; the edges of a vertex are removed from its neighbours' lists when it is contracted,
+ * at which point they are recorded as edges of the hierarchy.
+ */
+class ContractionHierarchyBuilder {
+
+    ContractionHierarchyBuilder(int n, int[] from, int[] to, double[] weights) {
+        this.n = n;
+        final int capacity = Math.max(16, 2 * from.length);
+        eFrom = new int[capacity];
+        eTo = new int[capacity];
+        eWeight = new double[capacity];
+        eChild1 = new int[capacity];
+        eChild2 = new int[capacity];
+        out = new int[n][];
+        in = new int[n][];
+        outSize = new int[n];
+        inSize = new int[n];
+        deleted = new int[n];
+        dist = new double[n];
+        stamp = new int[n];
+        target = new int[n];
+        for (int i = 0; i < from.length; i++) {
+            if (weights[i] < 0)
+                throw new IllegalArgumentException("edge " + from[i] + "->" + to[i] + " has negative weight");
+            if (from[i] != to[i]) addEdge(from[i], to[i], weights[i], -1, -1);
+        }
+    }
+
+    ContractionHierarchy build() {
+        final int[] rank = new int[n];
+        final IndexMinPQ<Double> pq = new IndexMinPQ<>(Math.max(1, n));
+        for (int v = 0; v < n; v++) pq.insert(v, priority(v));
+        int[] kept = new int[m];
+        int keptCount = 0;
+        int order = 0;
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            double priority = priority(v);
+            if (!pq.isEmpty() && priority > pq.minKey()) {
+                pq.insert(v, priority);
+                continue;
+            }
+            contract(v, CONTRACTION_LIMIT, false);
+            rank[v] = order++;
+            // Record v's remaining edges in the hierarchy and remove them from its neighbours' lists.
+            if (keptCount + outSize[v] + inSize[v] > kept.length)
+                kept = Arrays.copyOf(kept, Math.max(2 * kept.length, keptCount + outSize[v] + inSize[v]));
+            for (int i = 0; i < outSize[v]; i++) {
+                int e = out[v][i];
+                kept[keptCount++] = e;
+                remove(in, inSize, eTo[e], e);
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                int e = in[v][i];
+                kept[keptCount++] = e;
+                remove(out, outSize, eFrom[e], e);
+            }
+            for (int i = 0; i < outSize[v]; i++) update(pq, eTo[out[v][i]]);
+            for (int i = 0; i < inSize[v]; i++) update(pq, eFrom[in[v][i]]);
+            out[v] = null;
+            in[v] = null;
+        }
+        return compact(rank, kept, keptCount);
+    }
+
+    /**
+     * Renumber the recorded edges densely (children are always recorded, since they are incident to the contracted vertex).
+     */
+    private ContractionHierarchy compact(int[] rank, int[] kept, int count) {
+        final int[] id = new int[m];
+        Arrays.fill(id, -1);
+        for (int i = 0; i < count; i++) id[kept[i]] = i;
+        final int[] from = new int[count], to = new int[count], child1 = new int[count], child2 = new int[count];
+        final double[] weight = new double[count];
+        for (int i = 0; i < count; i++) {
+            int e = kept[i];
+            from[i] = eFrom[e];
+            to[i] = eTo[e];
+            weight[i] = eWeight[e];
+            child1[i] = eChild1[e] < 0 ? -1 : id[eChild1[e]];
+            child2[i] = eChild2[e] < 0 ? -1 : id[eChild2[e]];
+        }
+        return new ContractionHierarchy(n, rank, from, to, weight, child1, child2);
+    }
+
+    private void update(IndexMinPQ<Double> pq, int w) {
+        deleted[w]++;
+        if (pq.contains(w)) pq.changeKey(w, priority(w));
+    }
+
+    private double priority(int v) {
+        return contract(v, SIMULATION_LIMIT, true) - inSize[v] - outSize[v] + deleted[v];
+    }
+
+    /**
+     * Contract v (or simulate its contraction).
+     *
+     * @param v        the vertex.
+     * @param limit    the maximum number of vertices to be settled by each witness search.
+     * @param simulate if true, shortcuts are counted but not added.
+     * @return the number of shortcuts.
+     */
+    private int contract(int v, int limit, boolean simulate) {
+        int result = 0;
+        for (int i = 0; i < inSize[v]; i++) {
+            int e = in[v][i];
+            int u = eFrom[e];
+            double maxOut = -1;
+            int targets = 0;
+            targetStamp++;
+            for (int j = 0; j < outSize[v]; j++) {
+                int f = out[v][j];
+                int w = eTo[f];
+                if (w == u) continue;
+                maxOut = Math.max(maxOut, eWeight[f]);
+                if (target[w] != targetStamp) {
+                    target[w] = targetStamp;
+                    targets++;
+                }
+            }
+            if (maxOut < 0) continue;
+            witnessSearch(u, v, eWeight[e] + maxOut, targets, limit);
+            for (int j = 0; j < outSize[v]; j++) {
+                int f = out[v][j];
+                int w = eTo[f];
+                if (w == u) continue;
+                double d = eWeight[e] + eWeight[f];
+                if (distance(w) > d) {
+                    result++;
+                    if (!simulate) addEdge(u, w, d, e, f);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Dijkstra's algorithm from u over the uncontracted vertices other than v,
+     * stopping at distance maxCost, when all the targets have been settled, or after limit vertices have been settled.
+     */
+    private void witnessSearch(int u, int v, double maxCost, int targets, int limit) {
+        if (++current == 0) {
+            Arrays.fill(stamp, 0);
+            current = 1;
+        }
+        heap.clear();
+        stamp[u] = current;
+        dist[u] = 0;
+        heap.push(u, 0);
+        int settled = 0;
+        while (!heap.isEmpty() && settled < limit) {
+            double key = heap.minKey();
+            if (key > maxCost) break;
+            int x = heap.pop();
+            if (key > dist[x]) continue;
+            settled++;
+            if (target[x] == targetStamp && --targets == 0) break;
+            for (int i = 0; i < outSize[x]; i++) {
+                int e = out[x][i];
+                int y = eTo[e];
+                if (y == v) continue;
+                double d = key + eWeight[e];
+                if (d <= maxCost && d < distance(y)) {
+                    stamp[y] = current;
+                    dist[y] = d;
+                    heap.push(y, d);
+                }
+            }
+        }
+    }
+
+    private double distance(int v) {
+        return stamp[v] == current ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Add the edge u->w, or improve the existing edge u->w if it is heavier.
+     */
+    private void addEdge(int u, int w, double weight, int child1, int child2) {
+        for (int i = 0; i < outSize[u]; i++) {
+            int e = out[u][i];
+            if (eTo[e] == w) {
+                if (weight < eWeight[e]) {
+                    // Neither end has been contracted, so e is not yet part of the hierarchy, and can be changed in place.
+                    eWeight[e] = weight;
+                    eChild1[e] = child1;
+                    eChild2[e] = child2;
+                }
+                return;
+            }
+        }
+        if (m == eFrom.length) {
+            int capacity = 2 * m;
+            eFrom = Arrays.copyOf(eFrom, capacity);
+            eTo = Arrays.copyOf(eTo, capacity);
+            eWeight = Arrays.copyOf(eWeight, capacity);
+            eChild1 = Arrays.copyOf(eChild1, capacity);
+            eChild2 = Arrays.copyOf(eChild2, capacity);
+        }
+        eFrom[m] = u;
+        eTo[m] = w;
+        eWeight[m] = weight;
+        eChild1[m] = child1;
+        eChild2[m] = child2;
+        append(out, outSize, u, m);
+        append(in, inSize, w, m);
+        m++;
+    }
+
+    private static void append(int[][] lists, int[] sizes, int v, int e) {
+        if (lists[v] == null) lists[v] = new int[4];
+        else if (sizes[v] == lists[v].length) lists[v] = Arrays.copyOf(lists[v], 2 * sizes[v]);
+        lists[v][sizes[v]++] = e;
+    }
+
+    private static void remove(int[][] lists, int[] sizes, int v, int e) {
+        for (int i = 0; i < sizes[v]; i++)
+            if (lists[v][i] == e) {
+                lists[v][i] = lists[v][--sizes[v]];
+                return;
+            }
+    }
+
+    // The maximum number of vertices settled by a witness search while simulating a contraction (to compute a priority)
+    // and while actually contracting.
+    private static final int SIMULATION_LIMIT = 50;
+    private static final int CONTRACTION_LIMIT = 500;
+
+    private final int n;
+    private int m = 0;               // the number of edges (original and shortcut) created so far
+    private int[] eFrom;
+    private int[] eTo;
+    private double[] eWeight;
+    private int[] eChild1;           // for a shortcut u->w via v: the id of u->v (otherwise -1)
+    private int[] eChild2;           // for a shortcut u->w via v: the id of v->w (otherwise -1)
+    private final int[][] out;       // out[v][0 .. outSize[v]) = ids of edges from v to uncontracted vertices
+    private final int[][] in;        // in[v][0 .. inSize[v]) = ids of edges to v from uncontracted vertices
+    private final int[] outSize;
+    private final int[] inSize;
+    private final int[] deleted;     // deleted[v] = number of edges of v removed by contracting its neighbours
+    private final double[] dist;     // witness search distances, valid where stamp[v] == current
+    private final int[] stamp;
+    private int current = 0;
+    private final int[] target;      // target[w] == targetStamp if w is a target of the current witness search
+    private int targetStamp = 0;
+    private final ContractionHierarchy.Heap heap = new ContractionHierarchy.Heap();
+}
@@ -0,0 +1,341 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.Arrays;
+import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code DeltaStepping} class solves the single-source shortest paths problem in edge-weighted digraphs
+ * with non-negative weights, in parallel, using the <em>delta-stepping</em> algorithm of Meyer and Sanders.
+ * <p>
+ * Vertices are kept in buckets of width &Delta; according to their tentative distances.
+ * The lowest non-empty bucket is emptied repeatedly: all of its vertices relax their <em>light</em> edges
+ * (weight &le; &Delta;) in parallel, which may put vertices back into the same bucket.
+ * When the bucket stays empty, the vertices which were removed from it relax their <em>heavy</em> edges,
+ * again in parallel. Tentative distances are lowered by compare-and-set
+ * (the bits of a non-negative double are ordered in the same way as its value).
+ * With &Delta; = 0 this is Dijkstra's algorithm; with &Delta; = &infin; it is Bellman-Ford.
+ * By default, &Delta; is the maximum weight divided by the average out-degree, so that each bucket
+ * holds roughly one "layer" of vertices.
+ * The buckets are cyclic, and there are about (maximum weight) / &Delta; of them: so that they fit in memory,
+ * a given &Delta; is raised if necessary to make their number at most {@link #MAX_BUCKETS_PER_VERTEX} times the number of vertices
+ * (or {@link #MIN_BUCKETS}, if that is greater).
+ * <p>
+ * Once the distances are known, the shortest-paths tree is formed by a breadth-first search over the tight edges
+ * (those for which distTo[v] + weight = distTo[w]).
+ * The distances are identical to those of {@link Dijkstra}; the paths are also shortest paths, and identical to those of
+ * {@link Dijkstra} whenever the shortest paths are unique.
+ */
+public class DeltaStepping {
+
+    /**
+     * Constructor.
+     *
+     * @param G     the edge-weighted digraph.
+     * @param pool  the fork/join pool on which to run.
+     * @param delta the bucket width (if not positive, it will be chosen automatically; if too small, it will be raised).
+     * @throws IllegalArgumentException if any edge has negative weight.
+     */
+    public DeltaStepping(EdgeWeightedDigraph G, ForkJoinPool pool, double delta) {
+        this.pool = pool;
+        n = G.V();
+        offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) offsets[v + 1] = offsets[v] + G.outdegree(v);
+        targets = new int[offsets[n]];
+        weights = new double[offsets[n]];
+        edges = new DirectedEdge[offsets[n]];
+        for (int v = 0, slot = 0; v < n; v++)
+            for (DirectedEdge e : G.adj(v)) {
+                if (e.weight() < 0) throw new IllegalArgumentException("edge " + e + " has negative weight");
+                targets[slot] = e.to();
+                weights[slot] = e.weight();
+                edges[slot++] = e;
+            }
+        this.delta = boundDelta(n, weights, delta > 0 ? delta : tuneDelta(n, weights));
+    }
+
+    public DeltaStepping(EdgeWeightedDigraph G, ForkJoinPool pool) {
+        this(G, pool, 0);
+    }
+
+    public DeltaStepping(EdgeWeightedDigraph G) {
+        this(G, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to solve the shortest paths problem for the starting point s.
+     *
+     * @param s the starting point.
+     * @return the ShortestPaths from s.
+     */
+    public ShortestPaths shortestPaths(int s) {
+        if (s < 0 || s >= n) throw new IllegalArgumentException("vertex " + s + " is not between 0 and " + (n - 1));
+        double[] distTo = distances(n, offsets, targets, weights, s, delta, pool);
+        return new ShortestPaths(distTo, tree(n, offsets, targets, weights, s, distTo));
+    }
+
+    /**
+     * @return the bucket width.
+     */
+    public double delta() {
+        return delta;
+    }
+
+    public class ShortestPaths {
+
+        public double distTo(int v) {
+            validateVertex(v);
+            return distTo[v];
+        }
+
+        public boolean hasPathTo(int v) {
+            validateVertex(v);
+            return distTo[v] < Double.POSITIVE_INFINITY;
+        }
+
+        public Iterable<DirectedEdge> pathTo(int v) {
+            validateVertex(v);
+            if (!hasPathTo(v)) return null;
+            Stack<DirectedEdge> path = new Stack<>();
+            for (int slot = slotTo[v]; slot >= 0; slot = slotTo[edges[slot].from()]) path.push(edges[slot]);
+            return path;
+        }
+
+        ShortestPaths(double[] distTo, int[] slotTo) {
+            this.distTo = distTo;
+            this.slotTo = slotTo;
+        }
+
+        private void validateVertex(int v) {
+            if (v < 0 || v >= n)
+                throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (n - 1));
+        }
+
+        private final double[] distTo;  // distTo[v] = distance of shortest s->v path
+        private final int[] slotTo;     // slotTo[v] = slot of last edge on shortest s->v path (or -1)
+    }
+
+    /**
+     * Choose the bucket width: the maximum weight divided by the average out-degree (but never zero).
+     *
+     * @param n       the number of vertices.
+     * @param weights the edge weights.
+     * @return a suitable value of delta.
+     */
+    public static double tuneDelta(int n, double[] weights) {
+        double max = 0;
+        for (double w : weights) max = Math.max(max, w);
+        if (max == 0) return 1;
+        double degree = Math.max(1.0, (double) weights.length / Math.max(1, n));
+        return max / degree;
+    }
+
+    /**
+     * Raise delta, if necessary, so that there are no more than max(MIN_BUCKETS, MAX_BUCKETS_PER_VERTEX * n) buckets.
+     *
+     * @param n       the number of vertices.
+     * @param weights the edge weights.
+     * @param delta   the proposed bucket width (positive).
+     * @return delta, or the smallest width which yields few enough buckets.
+     */
+    public static double boundDelta(int n, double[] weights, double delta) {
+        double max = 0;
+        for (double w : weights) max = Math.max(max, w);
+        final long limit = Math.min(Integer.MAX_VALUE - 8, Math.max(MIN_BUCKETS, (long) MAX_BUCKETS_PER_VERTEX * n));
+        return max / delta + 2 > limit ? max / (limit - 2) : delta;
+    }
+
+    /**
+     * The maximum number of buckets per vertex.
+     */
+    public static final int MAX_BUCKETS_PER_VERTEX = 4;
+
+    /**
+     * The number of buckets which is always allowed (however few the vertices).
+     */
+    public static final int MIN_BUCKETS = 1 << 10;
+
+    /**
+     * Compute the shortest distances from s by delta-stepping over a graph in compressed-sparse-row form.
+     *
+     * @param n       the number of vertices.
+     * @param offsets the edges of v are in the slots [offsets[v], offsets[v+1]).
+     * @param targets targets[slot] is the vertex at the head of the edge in slot.
+     * @param weights weights[slot] is the (non-negative) weight of the edge in slot.
+     * @param s       the source.
+     * @param delta   the bucket width (positive; raised, if necessary, by {@link #boundDelta}).
+     * @param pool    the fork/join pool.
+     * @return the array of distances (infinite if unreachable).
+     */
+    public static double[] distances(int n, int[] offsets, int[] targets, double[] weights, int s, double delta, ForkJoinPool pool) {
+        return new Engine(n, offsets, targets, weights, boundDelta(n, weights, delta), pool).run(s);
+    }
+
+    /**
+     * Form a shortest-paths tree by breadth-first search from s over the tight edges.
+     *
+     * @param n       the number of vertices.
+     * @param offsets the edges of v are in the slots [offsets[v], offsets[v+1]).
+     * @param targets targets[slot] is the vertex at the head of the edge in slot.
+     * @param weights weights[slot] is the weight of the edge in slot.
+     * @param s       the source.
+     * @param distTo  the shortest distances from s.
+     * @return an array which yields the slot of the last edge on the shortest path to each vertex (or -1).
+     */
+    public static int[] tree(int n, int[] offsets, int[] targets, double[] weights, int s, double[] distTo) {
+        final int[] result = new int[n];
+        Arrays.fill(result, -1);
+        final boolean[] marked = new boolean[n];
+        final int[] queue = new int[n];
+        int head = 0, tail = 0;
+        marked[s] = true;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int slot = offsets[v]; slot < offsets[v + 1]; slot++) {
+                int w = targets[slot];
+                if (!marked[w] && distTo[v] + weights[slot] == distTo[w]) {
+                    marked[w] = true;
+                    result[w] = slot;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The state of one run of delta-stepping.
+     */
+    private static class Engine {
+        Engine(int n, int[] offsets, int[] targets, double[] weights, double delta, ForkJoinPool pool) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.delta = delta;
+            this.pool = pool;
+            double max = 0;
+            for (double w : weights) max = Math.max(max, w);
+            // All tentative distances lie within maxWeight + delta of the current bucket, so the buckets can be cyclic.
+            // (delta has been bounded so that nb is at most a small multiple of n.)
+            int nb = (int) Math.min(Integer.MAX_VALUE - 8, (long) Math.floor(max / delta) + 2);
+            buckets = new int[nb][];
+            sizes = new int[nb];
+            dist = new AtomicLongArray(n);
+            for (int v = 0; v < n; v++) dist.set(v, INFINITY);
+            bucketOf = new long[n];
+            Arrays.fill(bucketOf, -1);
+            stamps = new AtomicIntegerArray(n);
+            improved = new int[n];
+        }
+
+        double[] run(int s) {
+            dist.set(s, Double.doubleToLongBits(0.0));
+            insert(s);
+            long current = 0;
+            int[] settled = new int[16];
+            while (queued > 0) {
+                // Find the lowest non-empty bucket.
+                while (sizes[(int) (current % buckets.length)] == 0) current++;
+                final int b = (int) (current % buckets.length);
+                int settledCount = 0;
+                while (sizes[b] > 0) {
+                    // Take the vertices which are still (validly) in this bucket.
+                    int[] bucket = buckets[b];
+                    int size = sizes[b];
+                    buckets[b] = null;
+                    sizes[b] = 0;
+                    queued -= size;
+                    int count = 0;
+                    for (int i = 0; i < size; i++) {
+                        int v = bucket[i];
+                        if (bucketOf[v] == current) {
+                            bucketOf[v] = -1;
+                            bucket[count++] = v;
+                        }
+                    }
+                    if (settledCount + count > settled.length) settled = Arrays.copyOf(settled, Math.max(2 * settled.length, settledCount + count));
+                    System.arraycopy(bucket, 0, settled, settledCount, count);
+                    settledCount += count;
+                    relax(bucket, count, true);
+                }
+                relax(settled, settledCount, false);
+                current++;
+            }
+            double[] result = new double[dist.length()];
+            for (int v = 0; v < result.length; v++) result[v] = Double.longBitsToDouble(dist.get(v));
+            return result;
+        }
+
+        /**
+         * Relax the light (or heavy) edges of vertices[0, count) in parallel, then (sequentially) re-bucket the improved vertices.
+         */
+        private void relax(int[] vertices, int count, boolean light) {
+            final int phase = ++this.phase;
+            final AtomicInteger tail = new AtomicInteger();
+            Parallel.forEachChunk(pool, count, Parallel.grain(pool, count) / 16, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int v = vertices[i];
+                    double d = Double.longBitsToDouble(dist.get(v));
+                    for (int slot = offsets[v]; slot < offsets[v + 1]; slot++) {
+                        double weight = weights[slot];
+                        if ((weight <= delta) != light) continue;
+                        int w = targets[slot];
+                        long candidate = Double.doubleToLongBits(d + weight);
+                        long current = dist.get(w);
+                        while (candidate < current) {
+                            if (dist.compareAndSet(w, current, candidate)) {
+                                int stamp = stamps.get(w);
+                                if (stamp != phase && stamps.compareAndSet(w, stamp, phase))
+                                    improved[tail.getAndIncrement()] = w;
+                                break;
+                            }
+                            current = dist.get(w);
+                        }
+                    }
+                }
+            });
+            for (int i = 0, k = tail.get(); i < k; i++) insert(improved[i]);
+        }
+
+        private void insert(int v) {
+            long b = (long) (Double.longBitsToDouble(dist.get(v)) / delta);
+            if (bucketOf[v] == b) return;
+            bucketOf[v] = b;
+            int i = (int) (b % buckets.length);
+            if (buckets[i] == null) buckets[i] = new int[4];
+            else if (sizes[i] == buckets[i].length) buckets[i] = Arrays.copyOf(buckets[i], 2 * sizes[i]);
+            buckets[i][sizes[i]++] = v;
+            queued++;
+        }
+
+        private static final long INFINITY = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+
+        private final int[] offsets;
+        private final int[] targets;
+        private final double[] weights;
+        private final double delta;
+        private final ForkJoinPool pool;
+        private final int[][] buckets;        // cyclic array of buckets (each a growable array of vertices)
+        private final int[] sizes;            // sizes[i] = number of entries in buckets[i]
+        private final AtomicLongArray dist;   // bits of the tentative distance of each vertex
+        private final long[] bucketOf;        // bucketOf[v] = (absolute) bucket in which v is validly queued, or -1
+        private final AtomicIntegerArray stamps;  // stamps[v] = last phase in which v was improved
+        private final int[] improved;         // vertices improved in the current phase
+        private int phase = 0;
+        private long queued = 0;              // number of entries (including stale ones) in all buckets
+    }
+
+    private final ForkJoinPool pool;
+    private final int n;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final DirectedEdge[] edges;
+    private final double delta;
+}
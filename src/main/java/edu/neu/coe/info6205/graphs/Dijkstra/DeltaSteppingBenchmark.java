@@ -0,0 +1,64 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark of {@link DeltaStepping} on a random edge-weighted digraph,
+ * with the number of threads ranging from 1 to the number of available processors.
+ * The sequential {@link Dijkstra} (with a binary heap) is timed as the baseline.
+ * <p>
+ * Usage: DeltaSteppingBenchmark [V [E [runs]]]
+ */
+public class DeltaSteppingBenchmark {
+
+    public DeltaSteppingBenchmark(int V, int E, int runs) {
+        this.runs = runs;
+        this.graph = new EdgeWeightedDigraph(V);
+        final Random random = new Random(0L);
+        for (int i = 0; i < E; i++)
+            graph.addEdge(new DirectedEdge(random.nextInt(V), random.nextInt(V), random.nextDouble()));
+    }
+
+    public void runBenchmarks() {
+        System.out.println("DeltaSteppingBenchmark: V=" + Utilities.formatWhole(graph.V()) + ", E=" + Utilities.formatWhole(graph.E()));
+        final Dijkstra dijkstra = new Dijkstra(graph);
+        double base = benchmark("Dijkstra (binary heap)", s -> dijkstra.shortestPaths(s));
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= processors; p *= 2) {
+            scaling(p, base);
+            if (p < processors && 2 * p > processors) scaling(processors, base);
+        }
+    }
+
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 8 * V;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        new DeltaSteppingBenchmark(V, E, runs).runBenchmarks();
+    }
+
+    private void scaling(int p, double base) {
+        final ForkJoinPool pool = new ForkJoinPool(p);
+        try {
+            final DeltaStepping deltaStepping = new DeltaStepping(graph, pool);
+            double time = benchmark("DeltaStepping (delta=" + Utilities.formatDecimal3Places(deltaStepping.delta()) + ") with " + p + " threads", s -> deltaStepping.shortestPaths(s));
+            System.out.println("  speedup over Dijkstra: " + Utilities.formatDecimal3Places(base / time));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double benchmark(String description, Consumer<Integer> function) {
+        double time = new Benchmark_Timer<>(description, function).run(0, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec");
+        return time;
+    }
+
+    private final int runs;
+    private final EdgeWeightedDigraph graph;
+}
@@ -19,6 +19,13 @@
  * where <em>V</em> is the number of vertices and <em>C</em> is the maximum
  * weight of any edge.
  * <p>
+ * When all edge weights are non-negative integers (for example, costs or lengths in whole units),
+ * the binary heap may be replaced by a monotone integer priority queue by specifying a {@link Strategy}:
+ * a {@link RadixHeap} ({@link Strategy#RADIX_HEAP}) makes each <em>delete-the-minimum</em> cost
+ * &Theta;(log <em>C</em>) amortized time and a {@link BucketQueue} ({@link Strategy#BUCKET_QUEUE}, Dial's algorithm)
+ * makes it &Theta;(1) amortized time (plus &Theta;(<em>V C</em>) in total) with &Theta;(<em>C</em>) extra space.
+ * <em>insert</em> and <em>decrease-key</em> take &Theta;(1) time with either.
+ * <p>
  * For additional documentation,
  * see <a href="https://algs4.cs.princeton.edu/44sp">Section 4.4</a> of
  * <i>Algorithms, 4th Edition</i> by Robert Sedgewick and Kevin Wayne.
@@ -45,12 +52,80 @@ public class Dijkstra {
         return result;
     }
 
-    public Dijkstra(EdgeWeightedDigraph G) {
+    /**
+     * Constructor which uses the given priority queue strategy.
+     *
+     * @param G        the edge-weighted digraph.
+     * @param strategy the kind of priority queue to be used.
+     * @throws IllegalArgumentException if any edge has negative weight or if strategy requires integer weights
+     *                                  and any edge weight is not an integer.
+     */
+    public Dijkstra(EdgeWeightedDigraph G, Strategy strategy) {
         this.G = G;
+        this.strategy = strategy;
         n = G.V();
-        for (DirectedEdge e : G.edges())
+        double max = 0;
+        for (DirectedEdge e : G.edges()) {
             if (e.weight() < 0)
                 throw new IllegalArgumentException("edge " + e + " has negative weight");
+            if (strategy.integral && e.weight() != Math.rint(e.weight()))
+                throw new IllegalArgumentException("edge " + e + " has non-integer weight (required by " + strategy + ")");
+            max = Math.max(max, e.weight());
+        }
+        maxWeight = (long) max;
+    }
+
+    public Dijkstra(EdgeWeightedDigraph G) {
+        this(G, Strategy.BINARY_HEAP);
+    }
+
+    /**
+     * The kind of priority queue used to order the vertices.
+     */
+    public enum Strategy {
+        /**
+         * Binary heap (IndexMinPQ): any non-negative weights.
+         */
+        BINARY_HEAP(false),
+        /**
+         * Radix heap: non-negative integer weights.
+         */
+        RADIX_HEAP(true),
+        /**
+         * Dial's bucket queue: non-negative integer weights, preferably small.
+         */
+        BUCKET_QUEUE(true);
+
+        /**
+         * Create an empty priority queue of this kind.
+         *
+         * @param n the number of vertices.
+         * @param c the maximum edge weight (used only by BUCKET_QUEUE).
+         * @return a new IndexPQ.
+         */
+        public IndexPQ create(int n, long c) {
+            switch (this) {
+                case RADIX_HEAP:
+                    return new RadixHeap(n);
+                case BUCKET_QUEUE:
+                    return new BucketQueue(n, c);
+                default:
+                    return new BinaryHeap(n);
+            }
+        }
+
+        /**
+         * @return true if this kind of priority queue requires integer keys.
+         */
+        public boolean isIntegral() {
+            return integral;
+        }
+
+        Strategy(boolean integral) {
+            this.integral = integral;
+        }
+
+        private final boolean integral;
     }
 
     public class ShortestPaths {
@@ -88,7 +163,7 @@ public class Dijkstra {
         }
 
         ShortestPaths() {
-            pq = new IndexMinPQ<>(n);
+            pq = strategy.create(n, maxWeight);
             distTo = new double[n];
             edgeTo = new DirectedEdge[n];
             keyDecreaser = pq::decreaseKey;
@@ -158,10 +233,45 @@ public class Dijkstra {
         private final BiConsumer<Integer, Double> keyInserter;
         private final double[] distTo;          // distTo[v] = distance  of shortest s->v path
         private final DirectedEdge[] edgeTo;    // edgeTo[v] = last edge on shortest s->v path
-        private final IndexMinPQ<Double> pq;    // priority queue of vertices
+        private final IndexPQ pq;               // priority queue of vertices
+    }
+
+    /**
+     * Adapter which presents an IndexMinPQ of Double as an IndexPQ.
+     */
+    private static class BinaryHeap implements IndexPQ {
+        BinaryHeap(int n) {
+            pq = new IndexMinPQ<>(n);
+        }
+
+        public boolean isEmpty() {
+            return pq.isEmpty();
+        }
+
+        public boolean contains(int i) {
+            return pq.contains(i);
+        }
+
+        public void insert(int i, double key) {
+            pq.insert(i, key);
+        }
+
+        public void decreaseKey(int i, double key) {
+            pq.decreaseKey(i, key);
+        }
+
+        public int delMin() {
+            return pq.delMin();
+        }
+
+        private final IndexMinPQ<Double> pq;
     }
 
     private final EdgeWeightedDigraph G;    // G is the original graph passed in to the constructor.
 
+    private final Strategy strategy;
+
+    private final long maxWeight;
+
     private final int n;
 }
\ No newline at end of file
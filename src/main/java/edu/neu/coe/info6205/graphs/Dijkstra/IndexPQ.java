@@ -0,0 +1,57 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+/**
+ * The {@code IndexPQ} interface defines the operations which {@link Dijkstra} requires of
+ * its priority queue of vertices.
+ * Each vertex is an integer between {@code 0} and {@code maxN - 1} and its key is the tentative
+ * distance from the source.
+ * <p>
+ * Implementations: {@link IndexMinPQ} (via {@link Dijkstra.Strategy#BINARY_HEAP}), {@link RadixHeap}
+ * and {@link BucketQueue}.
+ * The latter two are <em>monotone</em> priority queues: they require that keys be non-negative integers
+ * and that no key inserted (or decreased) be less than the most recently deleted minimum.
+ * Dijkstra's algorithm with non-negative integer edge weights satisfies both requirements.
+ */
+public interface IndexPQ {
+
+    /**
+     * Is this priority queue empty?
+     *
+     * @return {@code true} if this priority queue is empty; {@code false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Is {@code i} an index on this priority queue?
+     *
+     * @param i an index
+     * @return {@code true} if {@code i} is an index on this priority queue; {@code false} otherwise
+     */
+    boolean contains(int i);
+
+    /**
+     * Associates key with index {@code i}.
+     *
+     * @param i   an index
+     * @param key the key to associate with index {@code i}
+     * @throws IllegalArgumentException if there already is an item associated with index {@code i}
+     */
+    void insert(int i, double key);
+
+    /**
+     * Decrease the key associated with index {@code i} to the specified value.
+     *
+     * @param i   the index of the key to decrease
+     * @param key decrease the key associated with index {@code i} to this key
+     * @throws IllegalArgumentException if {@code key >= keyOf(i)}
+     */
+    void decreaseKey(int i, double key);
+
+    /**
+     * Removes a minimum key and returns its associated index.
+     *
+     * @return an index associated with a minimum key
+     * @throws java.util.NoSuchElementException if this priority queue is empty
+     */
+    int delMin();
+}
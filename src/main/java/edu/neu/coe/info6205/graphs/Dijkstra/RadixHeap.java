@@ -0,0 +1,178 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code RadixHeap} class represents a <em>monotone</em> indexed priority queue of non-negative integer keys.
+ * <p>
+ * Each index is placed in a bucket according to the position of the highest bit in which its key
+ * differs from {@code last}, the most recently deleted minimum key.
+ * Bucket 0 therefore holds exactly those indices whose key equals {@code last}.
+ * When bucket 0 is empty, <em>delete-the-minimum</em> finds the first non-empty bucket, takes its minimum as the
+ * new value of {@code last} and redistributes that bucket's contents into lower-numbered buckets.
+ * Since an index can only ever move to a lower-numbered bucket, each index is moved at most
+ * 64 times; more precisely, at most log <em>C</em> + 1 times where <em>C</em> is the largest difference between
+ * a key and {@code last} (for Dijkstra's algorithm, the maximum edge weight).
+ * <p>
+ * The buckets are intrusive doubly-linked lists threaded through {@code int} arrays indexed by vertex,
+ * so that no objects are allocated after construction and <em>decrease-key</em> takes &Theta;(1) time.
+ * <em>insert</em> and <em>decrease-key</em> take &Theta;(1) time; <em>delete-the-minimum</em> takes
+ * &Theta;(log <em>C</em>) amortized time.
+ */
+public class RadixHeap implements IndexPQ {
+
+    /**
+     * Initializes an empty radix heap with indices between {@code 0} and {@code maxN - 1}.
+     *
+     * @param maxN the keys on this priority queue are index from {@code 0} {@code maxN - 1}
+     * @throws IllegalArgumentException if {@code maxN < 0}
+     */
+    public RadixHeap(int maxN) {
+        if (maxN < 0) throw new IllegalArgumentException("maxN must be non-negative");
+        this.maxN = maxN;
+        keys = new long[maxN];
+        bucketOf = new int[maxN];
+        next = new int[maxN];
+        prev = new int[maxN];
+        heads = new int[BUCKETS];
+        Arrays.fill(bucketOf, NONE);
+        Arrays.fill(heads, NONE);
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean contains(int i) {
+        validateIndex(i);
+        return bucketOf[i] != NONE;
+    }
+
+    public void insert(int i, double key) {
+        insert(i, toLong(key));
+    }
+
+    /**
+     * Associates key with index {@code i}.
+     *
+     * @param i   an index
+     * @param key the key to associate with index {@code i}
+     * @throws IllegalArgumentException if there already is an item associated with index {@code i}
+     * @throws IllegalArgumentException if {@code key} is less than the last minimum deleted
+     */
+    public void insert(int i, long key) {
+        validateIndex(i);
+        if (contains(i)) throw new IllegalArgumentException("index is already in the priority queue");
+        validateKey(key);
+        keys[i] = key;
+        link(i, bucket(key));
+        n++;
+    }
+
+    public void decreaseKey(int i, double key) {
+        validateIndex(i);
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        long k = toLong(key);
+        if (k >= keys[i])
+            throw new IllegalArgumentException("Calling decreaseKey() with a key not strictly less than the key in the priority queue");
+        validateKey(k);
+        unlink(i);
+        keys[i] = k;
+        link(i, bucket(k));
+    }
+
+    /**
+     * Returns the key associated with index {@code i}.
+     *
+     * @param i the index of the key to return
+     * @return the key associated with index {@code i}
+     * @throws NoSuchElementException no key is associated with index {@code i}
+     */
+    public long keyOf(int i) {
+        validateIndex(i);
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        return keys[i];
+    }
+
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        if (heads[0] == NONE) redistribute();
+        int min = heads[0];
+        unlink(min);
+        n--;
+        return min;
+    }
+
+    /**
+     * Find the first non-empty bucket, advance last to its minimum key and then move each of its
+     * indices into the (lower) bucket appropriate to the new value of last.
+     */
+    private void redistribute() {
+        int b = 1;
+        while (heads[b] == NONE) b++;
+        long min = Long.MAX_VALUE;
+        for (int i = heads[b]; i != NONE; i = next[i]) if (keys[i] < min) min = keys[i];
+        last = min;
+        int i = heads[b];
+        heads[b] = NONE;
+        while (i != NONE) {
+            int j = next[i];
+            link(i, bucket(keys[i]));
+            i = j;
+        }
+    }
+
+    private int bucket(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int i, int b) {
+        bucketOf[i] = b;
+        prev[i] = NONE;
+        next[i] = heads[b];
+        if (heads[b] != NONE) prev[heads[b]] = i;
+        heads[b] = i;
+    }
+
+    private void unlink(int i) {
+        int b = bucketOf[i];
+        if (prev[i] != NONE) next[prev[i]] = next[i];
+        else heads[b] = next[i];
+        if (next[i] != NONE) prev[next[i]] = prev[i];
+        bucketOf[i] = NONE;
+    }
+
+    private void validateKey(long key) {
+        if (key < last)
+            throw new IllegalArgumentException("key " + key + " is less than the last minimum deleted: " + last);
+    }
+
+    private void validateIndex(int i) {
+        if (i < 0) throw new IllegalArgumentException("index is negative: " + i);
+        if (i >= maxN) throw new IllegalArgumentException("index >= capacity: " + i);
+    }
+
+    static long toLong(double key) {
+        long result = (long) key;
+        if (result != key || result < 0)
+            throw new IllegalArgumentException("key " + key + " is not a non-negative integer");
+        return result;
+    }
+
+    private static final int BUCKETS = 65;
+    private static final int NONE = -1;
+
+    private final int maxN;        // maximum number of elements on PQ
+    private int n;                 // number of elements on PQ
+    private long last;             // the most recently deleted minimum key
+    private final long[] keys;     // keys[i] = priority of i
+    private final int[] bucketOf;  // bucketOf[i] = bucket containing i, or NONE if i is not on PQ
+    private final int[] next;      // next[i] = successor of i in its bucket
+    private final int[] prev;      // prev[i] = predecessor of i in its bucket
+    private final int[] heads;     // heads[b] = first index in bucket b
+}
@@ -0,0 +1,78 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import edu.neu.coe.info6205.graphs.csr.RandomGraphs;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark of all-pairs shortest paths on a random directed graph:
+ * the textbook Floyd-Warshall triple loop, the blocked {@link FloydWarshall} and {@link ParallelDijkstra},
+ * the latter two with the number of threads ranging from 1 to the number of available processors.
+ * <p>
+ * Usage: AllPairsBenchmark [n [degree [runs]]]
+ */
+public class AllPairsBenchmark {
+
+    public AllPairsBenchmark(int n, int degree, int runs) {
+        this.runs = runs;
+        this.graph = RandomGraphs.uniform(n, n * degree, true, new Random(0L));
+    }
+
+    public void runBenchmarks() {
+        System.out.println("AllPairsBenchmark: V=" + Utilities.formatWhole(graph.V()) + ", E=" + Utilities.formatWhole(graph.E()));
+        double base = benchmark("Floyd-Warshall (textbook)", g -> textbook(FloydWarshall.weights(g)));
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= processors; p *= 2) {
+            scaling(p, base);
+            if (p < processors && 2 * p > processors) scaling(processors, base);
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        new AllPairsBenchmark(n, degree, runs).runBenchmarks();
+    }
+
+    private void scaling(int p, double base) {
+        final ForkJoinPool pool = new ForkJoinPool(p);
+        try {
+            double blocked = benchmark("FloydWarshall (blocked) with " + p + " threads", g -> FloydWarshall.distances(g, pool));
+            System.out.println("  speedup over textbook: " + Utilities.formatDecimal3Places(base / blocked));
+            double dijkstra = benchmark("ParallelDijkstra with " + p + " threads", g -> ParallelDijkstra.distances(g, pool));
+            System.out.println("  speedup over textbook: " + Utilities.formatDecimal3Places(base / dijkstra));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double benchmark(String description, Consumer<CSRGraph<Integer, Double>> function) {
+        double time = new Benchmark_Timer<>(description, function).run(graph, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec");
+        return time;
+    }
+
+    /**
+     * The textbook triple loop.
+     */
+    private static void textbook(ArrayDistanceMatrix matrix) {
+        final double[] d = matrix.array();
+        final int n = matrix.size();
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++) {
+                double dik = d[i * n + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                for (int j = 0; j < n; j++)
+                    if (dik + d[k * n + j] < d[i * n + j]) d[i * n + j] = dik + d[k * n + j];
+            }
+    }
+
+    private final int runs;
+    private final CSRGraph<Integer, Double> graph;
+}
@@ -0,0 +1,51 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import java.util.Arrays;
+
+/**
+ * A DistanceMatrix held on the heap as a flat, row-major double[] (so n may be at most 46,340).
+ */
+public class ArrayDistanceMatrix implements DistanceMatrix {
+
+    public ArrayDistanceMatrix(int n) {
+        if ((long) n * n > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("ArrayDistanceMatrix: " + n + " vertices is too many for an array");
+        this.n = n;
+        this.array = new double[n * n];
+        Arrays.fill(array, Double.POSITIVE_INFINITY);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public double get(int i, int j) {
+        return array[i * n + j];
+    }
+
+    public void set(int i, int j, double distance) {
+        array[i * n + j] = distance;
+    }
+
+    public void getRow(int i, double[] row) {
+        System.arraycopy(array, i * n, row, 0, n);
+    }
+
+    public void setRow(int i, double[] row) {
+        System.arraycopy(row, 0, array, i * n, n);
+    }
+
+    /**
+     * @return the underlying array (element [i * size() + j] is the distance from i to j), which is not copied.
+     */
+    public double[] array() {
+        return array;
+    }
+
+    public void close() {
+        // nothing to release
+    }
+
+    private final int n;
+    private final double[] array;
+}
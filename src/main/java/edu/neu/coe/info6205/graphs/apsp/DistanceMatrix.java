@@ -0,0 +1,83 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A square matrix of shortest-path distances: get(i, j) is the length of the shortest path from vertex i to vertex j
+ * (infinite if there is no such path).
+ * <p>
+ * Implementations: {@link ArrayDistanceMatrix} (a flat, row-major double[] on the heap) and
+ * {@link MappedDistanceMatrix} (a memory-mapped file, for matrices which do not fit in the heap).
+ * Distinct rows may be written concurrently.
+ */
+public interface DistanceMatrix extends AutoCloseable {
+
+    /**
+     * Create a matrix on the heap.
+     *
+     * @param n the number of vertices.
+     * @return a new ArrayDistanceMatrix, with every element infinite.
+     */
+    static ArrayDistanceMatrix inMemory(int n) {
+        return new ArrayDistanceMatrix(n);
+    }
+
+    /**
+     * Create a matrix in a memory-mapped file (which is created, or overwritten).
+     *
+     * @param n    the number of vertices.
+     * @param path the file.
+     * @return a new MappedDistanceMatrix, with every element infinite.
+     * @throws IOException if the file cannot be created or mapped.
+     */
+    static MappedDistanceMatrix mapped(int n, Path path) throws IOException {
+        return MappedDistanceMatrix.create(n, path);
+    }
+
+    /**
+     * @return the number of vertices (rows and columns).
+     */
+    int size();
+
+    /**
+     * @param i the from vertex.
+     * @param j the to vertex.
+     * @return the distance from i to j.
+     */
+    double get(int i, int j);
+
+    /**
+     * @param i        the from vertex.
+     * @param j        the to vertex.
+     * @param distance the distance from i to j.
+     */
+    void set(int i, int j, double distance);
+
+    /**
+     * Copy row i (the distances from i) into row.
+     *
+     * @param i   the from vertex.
+     * @param row an array of length size().
+     */
+    default void getRow(int i, double[] row) {
+        for (int j = 0; j < row.length; j++) row[j] = get(i, j);
+    }
+
+    /**
+     * Replace row i (the distances from i) by row.
+     *
+     * @param i   the from vertex.
+     * @param row an array of length size().
+     */
+    default void setRow(int i, double[] row) {
+        for (int j = 0; j < row.length; j++) set(i, j, row[j]);
+    }
+
+    /**
+     * Release any resources held by this matrix (for a mapped matrix, the contents are first forced to the file).
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    void close() throws IOException;
+}
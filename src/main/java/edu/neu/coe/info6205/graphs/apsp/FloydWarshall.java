@@ -0,0 +1,169 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.DirectedEdge;
+import edu.neu.coe.info6205.graphs.Dijkstra.EdgeWeightedDigraph;
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * All-pairs shortest paths by the Floyd-Warshall algorithm, for dense graphs.
+ * <p>
+ * The matrix is a flat, row-major double[] which is updated in place.
+ * It is processed in square blocks of side BLOCK (so that three blocks fit comfortably in the L2 cache),
+ * following Venkataraman, Sahni and Mukhopadhyaya: for each diagonal block k,
+ * <ol>
+ *     <li>block (k, k) is updated by itself;</li>
+ *     <li>the other blocks of row k and of column k are updated using block (k, k);</li>
+ *     <li>all the remaining blocks (i, j) are updated using blocks (i, k) and (k, j).</li>
+ * </ol>
+ * Within each phase the blocks are independent, so phases 2 and 3 are run in parallel on a fork/join pool.
+ * The total work is the same n<sup>3</sup> as the textbook triple loop, but almost all of it is done in cache.
+ * <p>
+ * Negative weights are allowed: if the graph has a negative cycle, some diagonal element will be negative
+ * (see {@link #hasNegativeCycle(ArrayDistanceMatrix)}).
+ */
+public class FloydWarshall {
+
+    /**
+     * Compute all shortest-path distances in an EdgeWeightedDigraph.
+     *
+     * @param G    the digraph.
+     * @param pool the fork/join pool.
+     * @return a new ArrayDistanceMatrix.
+     */
+    public static ArrayDistanceMatrix distances(EdgeWeightedDigraph G, ForkJoinPool pool) {
+        final ArrayDistanceMatrix result = initialize(G.V());
+        for (DirectedEdge e : G.edges()) addEdge(result, e.from(), e.to(), e.weight());
+        solve(result.array(), G.V(), pool);
+        return result;
+    }
+
+    /**
+     * Compute all shortest-path distances in a CSRGraph (directed or undirected).
+     *
+     * @param graph the graph.
+     * @param pool  the fork/join pool.
+     * @return a new ArrayDistanceMatrix.
+     */
+    public static ArrayDistanceMatrix distances(CSRGraph<?, ?> graph, ForkJoinPool pool) {
+        final ArrayDistanceMatrix result = weights(graph);
+        solve(result.array(), graph.V(), pool);
+        return result;
+    }
+
+    /**
+     * Run the (blocked) Floyd-Warshall algorithm in place.
+     *
+     * @param d    the n x n row-major matrix of edge weights (infinite where there is no edge, and zero on the diagonal).
+     * @param n    the number of vertices.
+     * @param pool the fork/join pool.
+     */
+    public static void solve(double[] d, int n, ForkJoinPool pool) {
+        final int blocks = (n + BLOCK - 1) / BLOCK;
+        for (int k = 0; k < blocks; k++) {
+            final int kb = k;
+            update(d, n, kb, kb, kb);
+            // Phase 2: the rest of row kb (even indices) and of column kb (odd indices).
+            Parallel.forEachChunk(pool, 2 * blocks, 1, (from, to) -> {
+                for (int x = from; x < to; x++) {
+                    int b = x >> 1;
+                    if (b == kb) continue;
+                    if ((x & 1) == 0) update(d, n, kb, b, kb);
+                    else update(d, n, b, kb, kb);
+                }
+            });
+            // Phase 3: all the other blocks.
+            Parallel.forEachChunk(pool, blocks * blocks, 1, (from, to) -> {
+                for (int x = from; x < to; x++) {
+                    int i = x / blocks, j = x % blocks;
+                    if (i != kb && j != kb) updateIndependent(d, n, i, j, kb);
+                }
+            });
+        }
+    }
+
+    public static void solve(double[] d, int n) {
+        solve(d, n, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param matrix a solved matrix.
+     * @return true if some vertex lies on a negative cycle.
+     */
+    public static boolean hasNegativeCycle(ArrayDistanceMatrix matrix) {
+        for (int v = 0; v < matrix.size(); v++) if (matrix.get(v, v) < 0) return true;
+        return false;
+    }
+
+    /**
+     * Update block (ib, jb) via the vertices of block kb: d[i][j] = min(d[i][j], d[i][k] + d[k][j]).
+     * The k loop is outermost, so the same kernel is correct when the block being updated is also a source block.
+     */
+    private static void update(double[] d, int n, int ib, int jb, int kb) {
+        final int iStart = ib * BLOCK, iEnd = Math.min(n, iStart + BLOCK);
+        final int jStart = jb * BLOCK, jEnd = Math.min(n, jStart + BLOCK);
+        final int kStart = kb * BLOCK, kEnd = Math.min(n, kStart + BLOCK);
+        for (int k = kStart; k < kEnd; k++) {
+            final int kRow = k * n;
+            for (int i = iStart; i < iEnd; i++) {
+                final int iRow = i * n;
+                final double dik = d[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = dik + d[kRow + j];
+                    if (candidate < d[iRow + j]) d[iRow + j] = candidate;
+                }
+            }
+        }
+    }
+
+    /**
+     * Update block (ib, jb), which is neither in row kb nor in column kb, via the vertices of block kb.
+     * Since the source blocks are not changed, the loops may be ordered so that each row of the block being updated
+     * stays in the L1 cache while it is combined with every row of block (kb, jb).
+     */
+    private static void updateIndependent(double[] d, int n, int ib, int jb, int kb) {
+        final int iStart = ib * BLOCK, iEnd = Math.min(n, iStart + BLOCK);
+        final int jStart = jb * BLOCK, jEnd = Math.min(n, jStart + BLOCK);
+        final int kStart = kb * BLOCK, kEnd = Math.min(n, kStart + BLOCK);
+        for (int i = iStart; i < iEnd; i++) {
+            final int iRow = i * n;
+            for (int k = kStart; k < kEnd; k++) {
+                final double dik = d[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                final int kRow = k * n;
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = dik + d[kRow + j];
+                    if (candidate < d[iRow + j]) d[iRow + j] = candidate;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the initial (unsolved) matrix for graph: the least weight of any edge from i to j, or zero if i = j.
+     */
+    static ArrayDistanceMatrix weights(CSRGraph<?, ?> graph) {
+        final ArrayDistanceMatrix result = initialize(graph.V());
+        for (int e = 0; e < graph.E(); e++) {
+            addEdge(result, graph.from(e), graph.to(e), graph.edgeWeight(e));
+            if (!graph.isDirected()) addEdge(result, graph.to(e), graph.from(e), graph.edgeWeight(e));
+        }
+        return result;
+    }
+
+    private static ArrayDistanceMatrix initialize(int n) {
+        final ArrayDistanceMatrix result = DistanceMatrix.inMemory(n);
+        for (int v = 0; v < n; v++) result.set(v, v, 0);
+        return result;
+    }
+
+    private static void addEdge(ArrayDistanceMatrix matrix, int v, int w, double weight) {
+        if (weight < matrix.get(v, w)) matrix.set(v, w, weight);
+    }
+
+    // The side of a block: 64 x 64 doubles is 32 KB.
+    static final int BLOCK = 64;
+}
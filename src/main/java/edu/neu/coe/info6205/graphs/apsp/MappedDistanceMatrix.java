@@ -0,0 +1,107 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A DistanceMatrix held in a memory-mapped file, for matrices which are too large for the heap.
+ * <p>
+ * The file holds the n x n distances in row-major order as little-endian doubles, with no header
+ * (so the file of an n-vertex matrix has exactly 8 n<sup>2</sup> bytes).
+ * Since a single mapping is limited to 2 GB, the file is mapped as a sequence of segments, each of a whole number of rows.
+ * The operating system pages the matrix in and out as required: writing row by row
+ * (as {@link ParallelDijkstra} does) is sequential within each row and so pages well.
+ */
+public class MappedDistanceMatrix implements DistanceMatrix {
+
+    /**
+     * Create a new matrix file (overwriting any existing file), with every element infinite.
+     *
+     * @param n    the number of vertices.
+     * @param path the file.
+     * @return a new MappedDistanceMatrix.
+     * @throws IOException if the file cannot be created or mapped.
+     */
+    public static MappedDistanceMatrix create(int n, Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedDistanceMatrix result = new MappedDistanceMatrix(n, channel);
+        final double[] row = new double[n];
+        Arrays.fill(row, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < n; i++) result.setRow(i, row);
+        return result;
+    }
+
+    /**
+     * Open an existing matrix file (for reading and writing).
+     *
+     * @param path the file.
+     * @return a MappedDistanceMatrix.
+     * @throws IOException if the file cannot be opened or mapped, or its size is not that of a square matrix.
+     */
+    public static MappedDistanceMatrix open(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final long elements = channel.size() / Double.BYTES;
+        final int n = (int) Math.round(Math.sqrt((double) elements));
+        if ((long) n * n * Double.BYTES != channel.size()) {
+            channel.close();
+            throw new IOException("MappedDistanceMatrix: " + path + " is not a square matrix of doubles");
+        }
+        return new MappedDistanceMatrix(n, channel);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public double get(int i, int j) {
+        return segments[i / rowsPerSegment].get((i % rowsPerSegment) * n + j);
+    }
+
+    public void set(int i, int j, double distance) {
+        segments[i / rowsPerSegment].put((i % rowsPerSegment) * n + j, distance);
+    }
+
+    public void getRow(int i, double[] row) {
+        segments[i / rowsPerSegment].get((i % rowsPerSegment) * n, row, 0, n);
+    }
+
+    public void setRow(int i, double[] row) {
+        segments[i / rowsPerSegment].put((i % rowsPerSegment) * n, row, 0, n);
+    }
+
+    public void close() throws IOException {
+        for (MappedByteBuffer buffer : buffers) buffer.force();
+        channel.close();
+    }
+
+    private MappedDistanceMatrix(int n, FileChannel channel) throws IOException {
+        this.n = n;
+        this.channel = channel;
+        this.rowsPerSegment = Math.max(1, SEGMENT_ELEMENTS / Math.max(1, n));
+        final int count = (n + rowsPerSegment - 1) / rowsPerSegment;
+        buffers = new MappedByteBuffer[count];
+        segments = new DoubleBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long firstRow = (long) s * rowsPerSegment;
+            long rows = Math.min(rowsPerSegment, n - firstRow);
+            buffers[s] = channel.map(FileChannel.MapMode.READ_WRITE, firstRow * n * Double.BYTES, rows * n * Double.BYTES);
+            buffers[s].order(ByteOrder.LITTLE_ENDIAN);
+            segments[s] = buffers[s].asDoubleBuffer();
+        }
+    }
+
+    // The maximum number of elements in one segment (1 GB).
+    private static final int SEGMENT_ELEMENTS = 1 << 27;
+
+    private final int n;
+    private final FileChannel channel;
+    private final int rowsPerSegment;
+    private final MappedByteBuffer[] buffers;
+    private final DoubleBuffer[] segments;
+}
@@ -0,0 +1,92 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import edu.neu.coe.info6205.graphs.Dijkstra.DirectedEdge;
+import edu.neu.coe.info6205.graphs.Dijkstra.EdgeWeightedDigraph;
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import edu.neu.coe.info6205.graphs.csr.CSRShortestPaths;
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * All-pairs shortest paths by running Dijkstra's algorithm ({@link CSRShortestPaths}) from every vertex,
+ * the sources being shared out among the threads of a fork/join pool.
+ * This is O(V E log V) in total, and so is much faster than {@link FloydWarshall} for sparse graphs;
+ * it requires non-negative weights.
+ * <p>
+ * Each row of the result is written as soon as it is complete, so the matrix may be a {@link MappedDistanceMatrix}
+ * when it is too large for the heap.
+ */
+public class ParallelDijkstra {
+
+    /**
+     * Compute all shortest-path distances in a CSRGraph (directed or undirected) into matrix.
+     *
+     * @param graph    the graph.
+     * @param matrix   the matrix to be filled (whose size must be graph.V()).
+     * @param pool     the fork/join pool.
+     * @param strategy the priority queue strategy for Dijkstra's algorithm.
+     * @param <M>      the type of the matrix.
+     * @return matrix.
+     */
+    public static <M extends DistanceMatrix> M distances(CSRGraph<?, ?> graph, M matrix, ForkJoinPool pool, Dijkstra.Strategy strategy) {
+        final int n = graph.V();
+        if (matrix.size() != n)
+            throw new IllegalArgumentException("ParallelDijkstra: matrix has size " + matrix.size() + " but graph has " + n + " vertices");
+        Parallel.forEachChunk(pool, n, Math.max(1, n / (8 * pool.getParallelism())), (from, to) -> {
+            final double[] row = new double[n];
+            for (int s = from; s < to; s++) {
+                CSRShortestPaths paths = new CSRShortestPaths(graph, s, strategy);
+                for (int v = 0; v < n; v++) row[v] = paths.distTo(v);
+                matrix.setRow(s, row);
+            }
+        });
+        return matrix;
+    }
+
+    public static <M extends DistanceMatrix> M distances(CSRGraph<?, ?> graph, M matrix, ForkJoinPool pool) {
+        return distances(graph, matrix, pool, Dijkstra.Strategy.BINARY_HEAP);
+    }
+
+    /**
+     * Compute all shortest-path distances in a CSRGraph into a new matrix on the heap.
+     *
+     * @param graph the graph.
+     * @param pool  the fork/join pool.
+     * @return a new ArrayDistanceMatrix.
+     */
+    public static ArrayDistanceMatrix distances(CSRGraph<?, ?> graph, ForkJoinPool pool) {
+        return distances(graph, DistanceMatrix.inMemory(graph.V()), pool);
+    }
+
+    /**
+     * Compute all shortest-path distances in an EdgeWeightedDigraph into matrix.
+     *
+     * @param G      the digraph.
+     * @param matrix the matrix to be filled (whose size must be G.V()).
+     * @param pool   the fork/join pool.
+     * @param <M>    the type of the matrix.
+     * @return matrix.
+     */
+    public static <M extends DistanceMatrix> M distances(EdgeWeightedDigraph G, M matrix, ForkJoinPool pool) {
+        return distances(toCSR(G), matrix, pool);
+    }
+
+    public static ArrayDistanceMatrix distances(EdgeWeightedDigraph G, ForkJoinPool pool) {
+        return distances(G, DistanceMatrix.inMemory(G.V()), pool);
+    }
+
+    private static CSRGraph<Integer, Double> toCSR(EdgeWeightedDigraph G) {
+        final int m = G.E();
+        final int[] from = new int[m], to = new int[m];
+        final double[] weights = new double[m];
+        int i = 0;
+        for (DirectedEdge e : G.edges()) {
+            from[i] = e.from();
+            to[i] = e.to();
+            weights[i++] = e.weight();
+        }
+        return CSRGraph.create(G.V(), from, to, weights, true);
+    }
+}
@@ -0,0 +1,97 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.DeltaStepping;
+
+import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel single-source shortest paths over a {@link CSRGraph} (directed or undirected) by delta-stepping:
+ * see {@link DeltaStepping}, whose engine this class shares.
+ * <p>
+ * The results have the same form as those of {@link CSRShortestPaths}, and the distances are identical.
+ */
+public class CSRDeltaStepping {
+
+    /**
+     * Constructor which runs the search.
+     *
+     * @param graph the graph.
+     * @param s     the index of the source vertex.
+     * @param pool  the fork/join pool.
+     * @param delta the bucket width (if not positive, it will be chosen automatically; if too small, it will be raised).
+     */
+    public CSRDeltaStepping(CSRGraph<?, ?> graph, int s, ForkJoinPool pool, double delta) {
+        this.graph = graph;
+        this.source = s;
+        final int n = graph.V();
+        final int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) offsets[v + 1] = graph.end(v);
+        final int slots = offsets[n];
+        final int[] targets = new int[slots];
+        final double[] weights = new double[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            targets[slot] = graph.target(slot);
+            weights[slot] = graph.weight(slot);
+            if (weights[slot] < 0) throw new IllegalArgumentException("edge " + graph.edge(slot) + " has negative weight");
+        }
+        this.delta = DeltaStepping.boundDelta(n, weights, delta > 0 ? delta : DeltaStepping.tuneDelta(n, weights));
+        distTo = DeltaStepping.distances(n, offsets, targets, weights, s, this.delta, pool);
+        edgeTo = DeltaStepping.tree(n, offsets, targets, weights, s, distTo);
+        for (int v = 0; v < n; v++) if (edgeTo[v] >= 0) edgeTo[v] = graph.edge(edgeTo[v]);
+    }
+
+    public CSRDeltaStepping(CSRGraph<?, ?> graph, int s, ForkJoinPool pool) {
+        this(graph, s, pool, 0);
+    }
+
+    public CSRDeltaStepping(CSRGraph<?, ?> graph, int s) {
+        this(graph, s, ForkJoinPool.commonPool());
+    }
+
+    public double distTo(int v) {
+        return distTo[v];
+    }
+
+    public boolean hasPathTo(int v) {
+        return distTo[v] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the index of the last edge on the shortest path to v, or -1.
+     */
+    public int edgeTo(int v) {
+        return edgeTo[v];
+    }
+
+    /**
+     * Get the shortest path to v.
+     *
+     * @param v a vertex index.
+     * @return the edge indices of the path from the source to v (popping in order from the source), or null.
+     */
+    public Iterable<Integer> pathTo(int v) {
+        if (!hasPathTo(v)) return null;
+        Stack<Integer> path = new Stack<>();
+        for (int w = v; w != source; ) {
+            int e = edgeTo[w];
+            path.push(e);
+            w = graph.from(e) == w ? graph.to(e) : graph.from(e);
+        }
+        return path;
+    }
+
+    /**
+     * @return the bucket width.
+     */
+    public double delta() {
+        return delta;
+    }
+
+    private final CSRGraph<?, ?> graph;
+    private final int source;
+    private final double delta;
+    private final double[] distTo;
+    private final int[] edgeTo;
+}
@@ -0,0 +1,400 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.SizedIterable;
+import edu.neu.coe.info6205.SizedIterableImpl;
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable graph in <em>compressed sparse row</em> (CSR) form.
+ * <p>
+ * Vertices are mapped to the dense indices 0 through <em>V</em> - 1 and edges to the indices 0 through <em>E</em> - 1.
+ * The adjacency of vertex <em>v</em> is the slice [offsets[v], offsets[v+1]) of the <em>slot</em> arrays
+ * {@code targets}, {@code slotWeights} and {@code edges}.
+ * For a directed graph, each edge occupies one slot (at its from vertex);
+ * for an undirected graph, each edge occupies two slots (one at each end).
+ * <p>
+ * There is one object per vertex and one attribute reference per edge: everything else is held in primitive arrays,
+ * so iterating over the adjacency of a vertex is a linear scan which involves no pointer-chasing.
+ * <p>
+ * Although this class implements {@link Graph}, algorithms should normally use the index-based methods
+ * ({@link #begin(int)}, {@link #end(int)}, {@link #target(int)}, {@link #weight(int)}) which do no boxing.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge-attribute type.
+ */
+public class CSRGraph<V, E> implements Graph<V, V> {
+
+    /**
+     * Create an undirected CSRGraph from an EdgeGraph.
+     *
+     * @param graph   the graph.
+     * @param weigher a function which yields the weight of an edge from its attribute.
+     * @param <V>     the vertex type.
+     * @param <E>     the edge-attribute type.
+     * @return a new undirected CSRGraph.
+     */
+    public static <V, E> CSRGraph<V, E> create(EdgeGraph<V, E> graph, ToDoubleFunction<E> weigher) {
+        final Indexer<V> indexer = new Indexer<>(graph.vertices());
+        final SizedIterable<Edge<V, E>> edges = graph.edges();
+        final EdgeArrays<E> arrays = new EdgeArrays<>(edges.size());
+        for (Edge<V, E> edge : edges) {
+            V v = edge.get();
+            arrays.add(indexer.index(v), indexer.index(edge.getOther(v)), weigher.applyAsDouble(edge.getAttribute()), edge.getAttribute());
+        }
+        return new CSRGraph<>(indexer.vertices, arrays.from, arrays.to, arrays.weights, arrays.attributes, false, true);
+    }
+
+    /**
+     * Create an undirected CSRGraph from an EdgeGraph whose attributes are ordered by a comparator
+     * (rather than by a numeric weight).
+     * The weight of each edge is the rank of its attribute according to comparator (equal attributes have equal rank),
+     * so that MST algorithms over the result choose the same edges as those which compare attributes directly.
+     *
+     * @param graph      the graph.
+     * @param comparator the ordering of edge attributes.
+     * @param <V>        the vertex type.
+     * @param <E>        the edge-attribute type.
+     * @return a new undirected CSRGraph.
+     */
+    public static <V, E> CSRGraph<V, E> createRanked(EdgeGraph<V, E> graph, Comparator<? super E> comparator) {
+        final CSRGraph<V, E> unranked = create(graph, e -> 0);
+        final int m = unranked.E();
+        final Integer[] order = new Integer[m];
+        for (int e = 0; e < m; e++) order[e] = e;
+        Arrays.sort(order, (e, f) -> comparator.compare(unranked.attributes[e], unranked.attributes[f]));
+        final double[] ranks = new double[m];
+        for (int k = 1; k < m; k++) {
+            final int e = order[k];
+            final boolean tie = comparator.compare(unranked.attributes[order[k - 1]], unranked.attributes[e]) == 0;
+            ranks[e] = tie ? ranks[order[k - 1]] : k;
+        }
+        return new CSRGraph<>(unranked.vertices, unranked.from, unranked.to, ranks, unranked.attributes, false, true);
+    }
+
+    /**
+     * Create a directed CSRGraph from a DiGraph.
+     *
+     * @param graph   the graph.
+     * @param weigher a function which yields the weight of an edge from its attribute.
+     * @param <V>     the vertex type.
+     * @param <E>     the edge-attribute type.
+     * @return a new directed CSRGraph.
+     */
+    public static <V, E> CSRGraph<V, E> create(DiGraph<V, E> graph, ToDoubleFunction<E> weigher) {
+        final Indexer<V> indexer = new Indexer<>(graph.vertices());
+        final SizedIterable<edu.neu.coe.info6205.graphs.dag.Edge<V, E>> edges = graph.edges();
+        final EdgeArrays<E> arrays = new EdgeArrays<>(edges.size());
+        for (edu.neu.coe.info6205.graphs.dag.Edge<V, E> edge : edges)
+            arrays.add(indexer.index(edge.getFrom()), indexer.index(edge.getTo()), weigher.applyAsDouble(edge.getAttributes()), edge.getAttributes());
+        return new CSRGraph<>(indexer.vertices, arrays.from, arrays.to, arrays.weights, arrays.attributes, true, true);
+    }
+
+    /**
+     * Create a CSRGraph directly from primitive edge arrays, with vertices 0 through n-1.
+     * The attribute of each edge is its weight.
+     *
+     * @param n        the number of vertices.
+     * @param from     the from vertex of each edge.
+     * @param to       the to vertex of each edge.
+     * @param weights  the weight of each edge.
+     * @param directed true if the graph is directed.
+     * @return a new CSRGraph.
+     */
+    public static CSRGraph<Integer, Double> create(int n, int[] from, int[] to, double[] weights, boolean directed) {
+        if (from.length != to.length || from.length != weights.length)
+            throw new IllegalArgumentException("CSRGraph.create: edge arrays have different lengths");
+        for (int e = 0; e < from.length; e++) {
+            if (from[e] < 0 || from[e] >= n || to[e] < 0 || to[e] >= n)
+                throw new IllegalArgumentException("CSRGraph.create: edge " + e + " has vertex out of range");
+        }
+        return wrap(n, from.clone(), to.clone(), weights.clone(), directed);
+    }
+
+    /**
+     * Create a CSRGraph from primitive edge arrays without copying or validating them.
+     * The arrays must not be modified subsequently.
+     */
+    static CSRGraph<Integer, Double> wrap(int n, int[] from, int[] to, double[] weights, boolean directed) {
+        final List<Integer> vertices = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) vertices.add(i);
+        return new CSRGraph<>(vertices, from, to, weights, null, directed, false);
+    }
+
+    /**
+     * @return the number of vertices.
+     */
+    public int V() {
+        return vertices.size();
+    }
+
+    /**
+     * @return the number of edges.
+     */
+    public int E() {
+        return from.length;
+    }
+
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Get the dense index of a vertex.
+     *
+     * @param vertex a vertex.
+     * @return its index, between 0 and V-1.
+     * @throws IllegalArgumentException if vertex is not in this graph.
+     */
+    public int index(V vertex) {
+        final Integer result = indices != null ? indices.get(vertex) : identity(vertex);
+        if (result == null) throw new IllegalArgumentException("vertex " + vertex + " is not in this graph");
+        return result;
+    }
+
+    /**
+     * Get the vertex at the given index.
+     *
+     * @param v an index between 0 and V-1.
+     * @return the corresponding vertex.
+     */
+    public V vertex(int v) {
+        return vertices.get(v);
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the number of slots (edges) adjacent to v.
+     */
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the first slot of v's adjacency.
+     */
+    public int begin(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return one more than the last slot of v's adjacency.
+     */
+    public int end(int v) {
+        return offsets[v + 1];
+    }
+
+    /**
+     * @param slot a slot.
+     * @return the index of the vertex at the far end of slot.
+     */
+    public int target(int slot) {
+        return targets[slot];
+    }
+
+    /**
+     * @param slot a slot.
+     * @return the weight of the edge at slot.
+     */
+    public double weight(int slot) {
+        return slotWeights[slot];
+    }
+
+    /**
+     * @param slot a slot.
+     * @return the index of the edge at slot.
+     */
+    public int edge(int slot) {
+        return edges[slot];
+    }
+
+    /**
+     * @param e an edge index.
+     * @return the index of the from vertex of edge e (for an undirected graph, one end of e).
+     */
+    public int from(int e) {
+        return from[e];
+    }
+
+    /**
+     * @param e an edge index.
+     * @return the index of the to vertex of edge e (for an undirected graph, the other end of e).
+     */
+    public int to(int e) {
+        return to[e];
+    }
+
+    /**
+     * @param e an edge index.
+     * @return the weight of edge e.
+     */
+    public double edgeWeight(int e) {
+        return weights[e];
+    }
+
+    /**
+     * @param e an edge index.
+     * @return the attribute of edge e.
+     */
+    public E attribute(int e) {
+        if (attributes == null) {
+            @SuppressWarnings("unchecked") final E result = (E) Double.valueOf(weights[e]);
+            return result;
+        }
+        return attributes[e];
+    }
+
+    /**
+     * Get the indices of the vertices adjacent to v, without boxing.
+     *
+     * @param v a vertex index.
+     * @return an iterator over the slice of the targets array which belongs to v.
+     */
+    public PrimitiveIterator.OfInt adjacent(int v) {
+        return new PrimitiveIterator.OfInt() {
+            public boolean hasNext() {
+                return slot < limit;
+            }
+
+            public int nextInt() {
+                if (slot >= limit) throw new NoSuchElementException();
+                return targets[slot++];
+            }
+
+            private int slot = offsets[v];
+            private final int limit = offsets[v + 1];
+        };
+    }
+
+    public SizedIterable<V> vertices() {
+        return SizedIterableImpl.create(Collections.unmodifiableList(vertices));
+    }
+
+    public Iterable<V> adjacent(V vertex) {
+        final int v = index(vertex);
+        return () -> new Iterator<V>() {
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            public V next() {
+                return vertices.get(iterator.nextInt());
+            }
+
+            private final PrimitiveIterator.OfInt iterator = adjacent(v);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "CSRGraph{" + (directed ? "directed" : "undirected") + ", V=" + V() + ", E=" + E() + "}";
+    }
+
+    private Integer identity(V vertex) {
+        if (vertex instanceof Integer) {
+            int v = (Integer) vertex;
+            if (v >= 0 && v < V()) return v;
+        }
+        return null;
+    }
+
+    private CSRGraph(List<V> vertices, int[] from, int[] to, double[] weights, E[] attributes, boolean directed, boolean mapped) {
+        this.vertices = vertices;
+        this.from = from;
+        this.to = to;
+        this.weights = weights;
+        this.attributes = attributes;
+        this.directed = directed;
+        if (mapped) {
+            indices = new HashMap<>();
+            for (int i = 0; i < vertices.size(); i++) indices.put(vertices.get(i), i);
+        } else indices = null;
+        final int n = vertices.size();
+        // Counting sort of the slots by their source vertex.
+        offsets = new int[n + 1];
+        for (int e = 0; e < from.length; e++) {
+            offsets[from[e] + 1]++;
+            if (!directed) offsets[to[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+        final int slots = offsets[n];
+        targets = new int[slots];
+        edges = new int[slots];
+        slotWeights = new double[slots];
+        final int[] next = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < from.length; e++) {
+            int slot = next[from[e]]++;
+            targets[slot] = to[e];
+            edges[slot] = e;
+            slotWeights[slot] = weights[e];
+            if (!directed) {
+                slot = next[to[e]]++;
+                targets[slot] = from[e];
+                edges[slot] = e;
+                slotWeights[slot] = weights[e];
+            }
+        }
+    }
+
+    private final boolean directed;
+    private final List<V> vertices;      // vertices.get(i) = vertex with index i
+    private final Map<V, Integer> indices;   // inverse of vertices (null if each vertex is its own index)
+    private final int[] offsets;         // adjacency of v is the slot range [offsets[v], offsets[v+1])
+    private final int[] targets;         // targets[slot] = index of vertex at far end of slot
+    private final int[] edges;           // edges[slot] = index of edge at slot
+    private final double[] slotWeights;  // slotWeights[slot] = weight of edge at slot
+    private final int[] from;            // from[e] = index of from vertex of edge e
+    private final int[] to;              // to[e] = index of to vertex of edge e
+    private final double[] weights;      // weights[e] = weight of edge e
+    private final E[] attributes;        // attributes[e] = attribute of edge e (null if attribute is the weight)
+
+    private static class Indexer<V> {
+        Indexer(Iterable<V> vs) {
+            for (V v : vs) {
+                map.put(v, vertices.size());
+                vertices.add(v);
+            }
+        }
+
+        int index(V v) {
+            Integer result = map.get(v);
+            if (result != null) return result;
+            map.put(v, vertices.size());
+            vertices.add(v);
+            return vertices.size() - 1;
+        }
+
+        private final Map<V, Integer> map = new HashMap<>();
+        private final List<V> vertices = new ArrayList<>();
+    }
+
+    private static class EdgeArrays<E> {
+        EdgeArrays(int n) {
+            from = new int[n];
+            to = new int[n];
+            weights = new double[n];
+            @SuppressWarnings("unchecked") final E[] array = (E[]) new Object[n];
+            attributes = array;
+        }
+
+        void add(int v, int w, double weight, E attribute) {
+            from[count] = v;
+            to[count] = w;
+            weights[count] = weight;
+            attributes[count++] = attribute;
+        }
+
+        private int count = 0;
+        private final int[] from;
+        private final int[] to;
+        private final double[] weights;
+        private final E[] attributes;
+    }
+}
@@ -0,0 +1,191 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.IndexMinPQ;
+import edu.neu.coe.info6205.graphs.gis.Sequenced;
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
+import edu.neu.coe.info6205.union_find.WQUPC;
+
+import java.util.Arrays;
+
+/**
+ * Minimum spanning tree (or forest) algorithms over an undirected {@link CSRGraph}.
+ * <p>
+ * Each method yields the indices of the MST edges (in the order in which they were chosen).
+ * Ties between edges of equal weight are broken by edge index, so that all three algorithms
+ * yield the same tree when the weights are distinct and a consistent one when they are not.
+ * Use {@link #getMST(CSRGraph, int[])} to turn the result into an {@link EdgeGraph},
+ * numbered in the same way as {@code graphs.gis.MST.getMST()}.
+ */
+public class CSRMST {
+
+    /**
+     * Kruskal's algorithm: &Theta;(<em>E</em> log <em>E</em>).
+     *
+     * @param graph an undirected graph.
+     * @return the indices of the MST edges in order of increasing weight.
+     */
+    public static int[] kruskal(CSRGraph<?, ?> graph) {
+        checkUndirected(graph);
+        final int n = graph.V();
+        final WQUPC uf = new WQUPC(n);
+        final int[] result = new int[Math.max(0, n - 1)];
+        int count = 0;
+        for (int e : sortedEdges(graph)) {
+            if (count == result.length) break;
+            int v = graph.from(e), w = graph.to(e);
+            if (!uf.connected(v, w)) {
+                uf.union(v, w);
+                result[count++] = e;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Prim's algorithm (eager version): &Theta;(<em>E</em> log <em>V</em>).
+     *
+     * @param graph an undirected graph.
+     * @return the indices of the MST edges in the order in which they joined the tree.
+     */
+    public static int[] prim(CSRGraph<?, ?> graph) {
+        checkUndirected(graph);
+        final int n = graph.V();
+        final boolean[] marked = new boolean[n];
+        final int[] edgeTo = new int[n];
+        final double[] distTo = new double[n];
+        Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+        final IndexMinPQ<Double> pq = new IndexMinPQ<>(Math.max(1, n));
+        final int[] result = new int[Math.max(0, n - 1)];
+        int count = 0;
+        for (int s = 0; s < n; s++) {
+            if (marked[s]) continue;
+            distTo[s] = 0.0;
+            edgeTo[s] = -1;
+            pq.insert(s, 0.0);
+            while (!pq.isEmpty()) {
+                int v = pq.delMin();
+                marked[v] = true;
+                if (edgeTo[v] >= 0) result[count++] = edgeTo[v];
+                for (int slot = graph.begin(v), end = graph.end(v); slot < end; slot++) {
+                    int w = graph.target(slot);
+                    if (marked[w]) continue;
+                    double weight = graph.weight(slot);
+                    if (weight < distTo[w] || weight == distTo[w] && graph.edge(slot) < edgeTo[w]) {
+                        distTo[w] = weight;
+                        edgeTo[w] = graph.edge(slot);
+                        if (pq.contains(w)) pq.changeKey(w, weight);
+                        else pq.insert(w, weight);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Boruvka's algorithm: &Theta;(<em>E</em> log <em>V</em>).
+     *
+     * @param graph an undirected graph.
+     * @return the indices of the MST edges in the order in which they were chosen.
+     */
+    public static int[] boruvka(CSRGraph<?, ?> graph) {
+        checkUndirected(graph);
+        final int n = graph.V();
+        final int m = graph.E();
+        final WQUPC uf = new WQUPC(n);
+        final int[] result = new int[Math.max(0, n - 1)];
+        int count = 0;
+        final int[] closest = new int[n];
+        boolean progress = true;
+        while (progress && count < n - 1) {
+            progress = false;
+            Arrays.fill(closest, -1);
+            for (int e = 0; e < m; e++) {
+                int i = uf.find(graph.from(e)), j = uf.find(graph.to(e));
+                if (i == j) continue;
+                if (closest[i] < 0 || less(graph, e, closest[i])) closest[i] = e;
+                if (closest[j] < 0 || less(graph, e, closest[j])) closest[j] = e;
+            }
+            for (int i = 0; i < n; i++) {
+                int e = closest[i];
+                if (e >= 0 && !uf.connected(graph.from(e), graph.to(e))) {
+                    uf.union(graph.from(e), graph.to(e));
+                    result[count++] = e;
+                    progress = true;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Method to generate an EdgeGraph from the MST edge indices,
+     * setting the sequence of each edge attribute to its position in mst.
+     *
+     * @param graph the graph on which the MST was computed.
+     * @param mst   the indices of the MST edges.
+     * @param <V>   the vertex type.
+     * @param <X>   the edge-attribute type.
+     * @return an EdgeGraph containing the MST edges.
+     */
+    public static <V, X extends Sequenced> EdgeGraph<V, X> getMST(CSRGraph<V, X> graph, int[] mst) {
+        int sequence = 0;
+        EdgeGraph<V, X> result = new Graph_Edges<>();
+        for (int e : mst) {
+            X attribute = graph.attribute(e);
+            attribute.setSequence(sequence++);
+            result.addEdge(new Edge<>(graph.vertex(graph.from(e)), graph.vertex(graph.to(e)), attribute));
+        }
+        return result;
+    }
+
+    /**
+     * Compute the total weight of the given edges.
+     *
+     * @param graph the graph.
+     * @param mst   the indices of the MST edges.
+     * @return the sum of their weights.
+     */
+    public static double weight(CSRGraph<?, ?> graph, int[] mst) {
+        double result = 0;
+        for (int e : mst) result += graph.edgeWeight(e);
+        return result;
+    }
+
+    /**
+     * Is edge e lighter than edge f? Ties are broken by edge index.
+     */
+    static boolean less(CSRGraph<?, ?> graph, int e, int f) {
+        double we = graph.edgeWeight(e), wf = graph.edgeWeight(f);
+        return we < wf || we == wf && e < f;
+    }
+
+    /**
+     * Get the edge indices of graph sorted by weight (ties broken by edge index).
+     * This is a bottom-up merge sort on a primitive array: being stable, it preserves index order for ties.
+     */
+    static int[] sortedEdges(CSRGraph<?, ?> graph) {
+        final int m = graph.E();
+        int[] a = new int[m];
+        for (int e = 0; e < m; e++) a[e] = e;
+        int[] aux = new int[m];
+        for (int width = 1; width < m; width += width) {
+            for (int lo = 0; lo < m - width; lo += width + width) {
+                int mid = lo + width, hi = Math.min(lo + width + width, m);
+                int i = lo, j = mid;
+                for (int k = lo; k < hi; k++) {
+                    if (i < mid && (j >= hi || graph.edgeWeight(a[i]) <= graph.edgeWeight(a[j]))) aux[k] = a[i++];
+                    else aux[k] = a[j++];
+                }
+                System.arraycopy(aux, lo, a, lo, hi - lo);
+            }
+        }
+        return a;
+    }
+
+    private static void checkUndirected(CSRGraph<?, ?> graph) {
+        if (graph.isDirected()) throw new IllegalArgumentException("CSRMST: graph must be undirected");
+    }
+}
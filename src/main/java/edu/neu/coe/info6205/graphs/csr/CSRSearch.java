@@ -0,0 +1,123 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first and depth-first search over a {@link CSRGraph}.
+ * <p>
+ * Both searches are iterative (so that deep graphs cannot overflow the call stack)
+ * and use only primitive arrays indexed by vertex.
+ * Each takes &Theta;(<em>V</em> + <em>E</em>) time.
+ */
+public class CSRSearch {
+
+    /**
+     * Breadth-first search from s.
+     *
+     * @param graph the graph.
+     * @param s     the index of the source vertex.
+     * @return a CSRSearch with distances (in edges), parents and the visit order.
+     */
+    public static CSRSearch bfs(CSRGraph<?, ?> graph, int s) {
+        final CSRSearch result = new CSRSearch(graph.V());
+        final int[] queue = result.order;
+        int head = 0, tail = 0;
+        result.distTo[s] = 0;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int slot = graph.begin(v), end = graph.end(v); slot < end; slot++) {
+                int w = graph.target(slot);
+                if (result.distTo[w] == UNREACHED) {
+                    result.distTo[w] = result.distTo[v] + 1;
+                    result.edgeTo[w] = v;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        result.count = tail;
+        return result;
+    }
+
+    /**
+     * Depth-first search from s.
+     * The order is preorder; distTo yields the depth of each vertex in the DFS tree.
+     *
+     * @param graph the graph.
+     * @param s     the index of the source vertex.
+     * @return a CSRSearch with depths, parents and the visit (preorder) order.
+     */
+    public static CSRSearch dfs(CSRGraph<?, ?> graph, int s) {
+        final int n = graph.V();
+        final CSRSearch result = new CSRSearch(n);
+        final int[] stack = new int[n];     // vertices on the current path
+        final int[] cursor = new int[n];    // cursor[v] = next slot of v to be explored
+        int top = 0;
+        result.distTo[s] = 0;
+        result.order[result.count++] = s;
+        cursor[s] = graph.begin(s);
+        stack[top++] = s;
+        while (top > 0) {
+            int v = stack[top - 1];
+            if (cursor[v] == graph.end(v)) {
+                top--;
+                continue;
+            }
+            int w = graph.target(cursor[v]++);
+            if (result.distTo[w] == UNREACHED) {
+                result.distTo[w] = result.distTo[v] + 1;
+                result.edgeTo[w] = v;
+                result.order[result.count++] = w;
+                cursor[w] = graph.begin(w);
+                stack[top++] = w;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return true if v is reachable from the source.
+     */
+    public boolean marked(int v) {
+        return distTo[v] != UNREACHED;
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the number of edges from the source to v in the search tree, or -1 if v is not reachable.
+     */
+    public int distTo(int v) {
+        return distTo[v];
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the parent of v in the search tree, or -1 if v is the source or is not reachable.
+     */
+    public int edgeTo(int v) {
+        return edgeTo[v];
+    }
+
+    /**
+     * @return the reachable vertices in the order that they were visited.
+     */
+    public int[] order() {
+        return Arrays.copyOf(order, count);
+    }
+
+    private CSRSearch(int n) {
+        distTo = new int[n];
+        edgeTo = new int[n];
+        order = new int[n];
+        Arrays.fill(distTo, UNREACHED);
+        Arrays.fill(edgeTo, UNREACHED);
+    }
+
+    static final int UNREACHED = -1;
+
+    private final int[] distTo;
+    private final int[] edgeTo;
+    private final int[] order;
+    private int count;
+}
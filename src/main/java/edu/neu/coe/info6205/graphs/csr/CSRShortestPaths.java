@@ -0,0 +1,94 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import edu.neu.coe.info6205.graphs.Dijkstra.IndexPQ;
+
+import java.util.Arrays;
+import java.util.Stack;
+
+/**
+ * Dijkstra's single-source shortest paths over a {@link CSRGraph} (directed or undirected).
+ * <p>
+ * The priority queue is chosen by a {@link Dijkstra.Strategy}, exactly as for {@link Dijkstra}.
+ * The results are held in primitive arrays indexed by vertex: {@code distTo[v]} is the length of the
+ * shortest path from the source to v and {@code edgeTo[v]} is the index of the last edge on that path.
+ */
+public class CSRShortestPaths {
+
+    public CSRShortestPaths(CSRGraph<?, ?> graph, int s, Dijkstra.Strategy strategy) {
+        this.graph = graph;
+        this.source = s;
+        final int n = graph.V();
+        double max = 0;
+        for (int e = 0; e < graph.E(); e++) {
+            double weight = graph.edgeWeight(e);
+            if (weight < 0) throw new IllegalArgumentException("edge " + e + " has negative weight");
+            if (strategy.isIntegral() && weight != Math.rint(weight))
+                throw new IllegalArgumentException("edge " + e + " has non-integer weight (required by " + strategy + ")");
+            max = Math.max(max, weight);
+        }
+        distTo = new double[n];
+        edgeTo = new int[n];
+        Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+        Arrays.fill(edgeTo, -1);
+        distTo[s] = 0.0;
+        final IndexPQ pq = strategy.create(n, (long) max);
+        pq.insert(s, 0.0);
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            for (int slot = graph.begin(v), end = graph.end(v); slot < end; slot++) {
+                int w = graph.target(slot);
+                double d = distTo[v] + graph.weight(slot);
+                if (d < distTo[w]) {
+                    boolean queued = distTo[w] < Double.POSITIVE_INFINITY;
+                    distTo[w] = d;
+                    edgeTo[w] = graph.edge(slot);
+                    if (queued) pq.decreaseKey(w, d);
+                    else pq.insert(w, d);
+                }
+            }
+        }
+    }
+
+    public CSRShortestPaths(CSRGraph<?, ?> graph, int s) {
+        this(graph, s, Dijkstra.Strategy.BINARY_HEAP);
+    }
+
+    public double distTo(int v) {
+        return distTo[v];
+    }
+
+    public boolean hasPathTo(int v) {
+        return distTo[v] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the index of the last edge on the shortest path to v, or -1.
+     */
+    public int edgeTo(int v) {
+        return edgeTo[v];
+    }
+
+    /**
+     * Get the shortest path to v.
+     *
+     * @param v a vertex index.
+     * @return the edge indices of the path from the source to v (popping in order from the source), or null.
+     */
+    public Iterable<Integer> pathTo(int v) {
+        if (!hasPathTo(v)) return null;
+        Stack<Integer> path = new Stack<>();
+        for (int w = v; w != source; ) {
+            int e = edgeTo[w];
+            path.push(e);
+            w = graph.from(e) == w ? graph.to(e) : graph.from(e);
+        }
+        return path;
+    }
+
+    private final CSRGraph<?, ?> graph;
+    private final int source;
+    private final double[] distTo;
+    private final int[] edgeTo;
+}
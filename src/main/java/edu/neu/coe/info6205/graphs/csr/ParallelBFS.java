@@ -0,0 +1,289 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parallel, level-synchronous, direction-optimizing breadth-first search over a {@link CSRGraph}
+ * (after Beamer, Asanović and Patterson).
+ * <p>
+ * Each level is expanded in parallel on a fork/join pool, in one of two ways:
+ * <ul>
+ *     <li>top-down: each vertex of the frontier examines its neighbours, and claims each unvisited one
+ *     by compare-and-set of its parent;</li>
+ *     <li>bottom-up: each unvisited vertex examines its (incoming) neighbours until it finds one in the frontier.
+ *     Since each vertex is handled by exactly one task, no atomic operations are required.</li>
+ * </ul>
+ * Top-down is cheaper while the frontier is small; bottom-up is much cheaper when the frontier is large
+ * (as it is in the middle levels of low-diameter graphs) since most of the edges need never be examined.
+ * The search switches to bottom-up when the frontier is growing and the number of edges leaving it exceeds
+ * the number of edges leaving unvisited vertices divided by ALPHA, and back to top-down when the frontier
+ * is shrinking and has fewer than V/BETA vertices.
+ * <p>
+ * Visited vertices are recorded in a bitmap. The results are the same as those of {@link CSRSearch#bfs},
+ * except that, where a vertex has several parents at the previous level, any one of them may be chosen,
+ * and that the order of vertices within a level is arbitrary.
+ */
+public class ParallelBFS {
+
+    /**
+     * Constructor which runs the search.
+     *
+     * @param graph             the graph.
+     * @param s                 the index of the source vertex.
+     * @param pool              the fork/join pool.
+     * @param directionOptimize true if bottom-up steps may be used (otherwise, every step is top-down).
+     */
+    public ParallelBFS(CSRGraph<?, ?> graph, int s, ForkJoinPool pool, boolean directionOptimize) {
+        this.graph = graph;
+        this.pool = pool;
+        final int n = graph.V();
+        this.words = (n + 63) >>> 6;
+        this.distTo = new int[n];
+        this.parent = new AtomicIntegerArray(n);
+        this.visited = new AtomicLongArray(words);
+        this.order = new int[n];
+        Arrays.fill(distTo, CSRSearch.UNREACHED);
+        for (int v = 0; v < n; v++) parent.set(v, CSRSearch.UNREACHED);
+        if (directionOptimize && graph.isDirected()) {
+            inOffsets = new int[n + 1];
+            inSources = new int[graph.E()];
+            transpose();
+        } else {
+            inOffsets = null;
+            inSources = null;
+        }
+        search(s, directionOptimize);
+    }
+
+    public ParallelBFS(CSRGraph<?, ?> graph, int s, ForkJoinPool pool) {
+        this(graph, s, pool, true);
+    }
+
+    public ParallelBFS(CSRGraph<?, ?> graph, int s) {
+        this(graph, s, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return true if v is reachable from the source.
+     */
+    public boolean marked(int v) {
+        return distTo[v] != CSRSearch.UNREACHED;
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the number of edges from the source to v, or -1 if v is not reachable.
+     */
+    public int distTo(int v) {
+        return distTo[v];
+    }
+
+    /**
+     * @param v a vertex index.
+     * @return the parent of v in the BFS tree, or -1 if v is the source or is not reachable.
+     */
+    public int edgeTo(int v) {
+        return parent.get(v);
+    }
+
+    /**
+     * @return a copy of the distance array.
+     */
+    public int[] distances() {
+        return distTo.clone();
+    }
+
+    /**
+     * @return a copy of the parent array (-1 for the source and for unreachable vertices).
+     */
+    public int[] parents() {
+        int[] result = new int[distTo.length];
+        for (int v = 0; v < result.length; v++) result[v] = parent.get(v);
+        return result;
+    }
+
+    /**
+     * @return the reachable vertices, level by level.
+     */
+    public int[] order() {
+        return Arrays.copyOf(order, count);
+    }
+
+    /**
+     * Method to yield the reachable vertices in the same form as {@code BFS.traverse(s)}.
+     *
+     * @return the reachable vertices, level by level.
+     */
+    public List<Integer> traverse() {
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) result.add(order[i]);
+        return result;
+    }
+
+    /**
+     * @return the number of levels which were expanded bottom-up.
+     */
+    public int bottomUpSteps() {
+        return bottomUpSteps;
+    }
+
+    private void search(int s, boolean directionOptimize) {
+        final int n = graph.V();
+        distTo[s] = 0;
+        visit(s);
+        order[count++] = s;
+        int frontierStart = 0, frontierEnd = 1;
+        long unexploredEdges = slots() - graph.degree(s);
+        boolean bottomUp = false;
+        int previousSize = 0;
+        for (int level = 1; frontierEnd > frontierStart; level++) {
+            int frontierSize = frontierEnd - frontierStart;
+            if (directionOptimize) {
+                long frontierEdges = 0;
+                for (int i = frontierStart; i < frontierEnd; i++) frontierEdges += graph.degree(order[i]);
+                boolean growing = frontierSize > previousSize;
+                if (!bottomUp && growing && frontierEdges > unexploredEdges / ALPHA) bottomUp = true;
+                else if (bottomUp && !growing && frontierSize < n / BETA) bottomUp = false;
+            }
+            previousSize = frontierSize;
+            int added = bottomUp ? bottomUpStep(frontierStart, frontierEnd, level) : topDownStep(frontierStart, frontierEnd, level);
+            if (bottomUp) bottomUpSteps++;
+            for (int i = frontierEnd; i < frontierEnd + added; i++) unexploredEdges -= graph.degree(order[i]);
+            frontierStart = frontierEnd;
+            frontierEnd += added;
+            count = frontierEnd;
+        }
+    }
+
+    /**
+     * Expand the frontier order[start, end) top-down, appending the next frontier to order.
+     *
+     * @return the size of the next frontier.
+     */
+    private int topDownStep(int start, int end, int level) {
+        final AtomicInteger tail = new AtomicInteger(end);
+        Parallel.forEachChunk(pool, end - start, Parallel.grain(pool, end - start) / 16, (from, to) -> {
+            int[] local = new int[64];
+            int size = 0;
+            for (int i = start + from; i < start + to; i++) {
+                int v = order[i];
+                for (int slot = graph.begin(v), limit = graph.end(v); slot < limit; slot++) {
+                    int w = graph.target(slot);
+                    if (!isVisited(w) && parent.compareAndSet(w, CSRSearch.UNREACHED, v)) {
+                        visit(w);
+                        distTo[w] = level;
+                        if (size == local.length) local = Arrays.copyOf(local, 2 * size);
+                        local[size++] = w;
+                    }
+                }
+            }
+            System.arraycopy(local, 0, order, tail.getAndAdd(size), size);
+        });
+        return tail.get() - end;
+    }
+
+    /**
+     * Expand the frontier order[start, end) bottom-up, appending the next frontier to order.
+     *
+     * @return the size of the next frontier.
+     */
+    private int bottomUpStep(int start, int end, int level) {
+        final int n = graph.V();
+        final long[] frontier = new long[words];
+        for (int i = start; i < end; i++) frontier[order[i] >>> 6] |= 1L << order[i];
+        final AtomicInteger tail = new AtomicInteger(end);
+        // Chunks are whole words of the visited bitmap, so that each word is written by one task only.
+        Parallel.forEachChunk(pool, words, Parallel.grain(pool, words) / 16, (from, to) -> {
+            int[] local = new int[64];
+            int size = 0;
+            for (int word = from; word < to; word++) {
+                long unvisited = ~visited.get(word);
+                long claimed = 0;
+                while (unvisited != 0) {
+                    int v = (word << 6) + Long.numberOfTrailingZeros(unvisited);
+                    unvisited &= unvisited - 1;
+                    if (v >= n) break;
+                    for (int slot = inBegin(v), limit = inEnd(v); slot < limit; slot++) {
+                        int u = inSource(slot);
+                        if ((frontier[u >>> 6] & (1L << u)) != 0) {
+                            parent.set(v, u);
+                            distTo[v] = level;
+                            claimed |= 1L << v;
+                            if (size == local.length) local = Arrays.copyOf(local, 2 * size);
+                            local[size++] = v;
+                            break;
+                        }
+                    }
+                }
+                if (claimed != 0) visited.set(word, visited.get(word) | claimed);
+            }
+            System.arraycopy(local, 0, order, tail.getAndAdd(size), size);
+        });
+        return tail.get() - end;
+    }
+
+    private boolean isVisited(int v) {
+        return (visited.get(v >>> 6) & (1L << v)) != 0;
+    }
+
+    private void visit(int v) {
+        int word = v >>> 6;
+        long bit = 1L << v;
+        while (true) {
+            long current = visited.get(word);
+            if ((current & bit) != 0 || visited.compareAndSet(word, current, current | bit)) return;
+        }
+    }
+
+    private long slots() {
+        return graph.isDirected() ? graph.E() : 2L * graph.E();
+    }
+
+    private int inBegin(int v) {
+        return inOffsets == null ? graph.begin(v) : inOffsets[v];
+    }
+
+    private int inEnd(int v) {
+        return inOffsets == null ? graph.end(v) : inOffsets[v + 1];
+    }
+
+    private int inSource(int slot) {
+        return inOffsets == null ? graph.target(slot) : inSources[slot];
+    }
+
+    /**
+     * Build the incoming adjacency (for directed graphs only) by counting sort.
+     */
+    private void transpose() {
+        final int n = graph.V();
+        for (int e = 0; e < graph.E(); e++) inOffsets[graph.to(e) + 1]++;
+        for (int v = 0; v < n; v++) inOffsets[v + 1] += inOffsets[v];
+        final int[] next = Arrays.copyOf(inOffsets, n);
+        for (int e = 0; e < graph.E(); e++) inSources[next[graph.to(e)]++] = graph.from(e);
+    }
+
+    // Beamer's tuning parameters.
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private final CSRGraph<?, ?> graph;
+    private final ForkJoinPool pool;
+    private final int words;
+    private final int[] distTo;
+    private final AtomicIntegerArray parent;
+    private final AtomicLongArray visited;
+    private final int[] order;
+    private final int[] inOffsets;
+    private final int[] inSources;
+    private int count = 0;
+    private int bottomUpSteps = 0;
+}
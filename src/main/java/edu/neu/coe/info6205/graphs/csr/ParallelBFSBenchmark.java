@@ -0,0 +1,70 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark of {@link ParallelBFS} on uniform random graphs and power-law (R-MAT) graphs,
+ * with the number of threads ranging from 1 to the number of available processors,
+ * both with and without direction optimization.
+ * The sequential {@link CSRSearch#bfs} is timed as the baseline.
+ * <p>
+ * Usage: ParallelBFSBenchmark [scale [edgeFactor [runs]]]
+ */
+public class ParallelBFSBenchmark {
+
+    public ParallelBFSBenchmark(String description, CSRGraph<Integer, Double> graph, int runs) {
+        this.description = description;
+        this.graph = graph;
+        this.runs = runs;
+        // Start from the vertex of largest degree, so that (almost) the whole graph is searched.
+        int s = 0;
+        for (int v = 1; v < graph.V(); v++) if (graph.degree(v) > graph.degree(s)) s = v;
+        this.source = s;
+    }
+
+    public void runBenchmarks() {
+        System.out.println("ParallelBFSBenchmark: " + description + ": V=" + Utilities.formatWhole(graph.V()) + ", E=" + Utilities.formatWhole(graph.E()));
+        double base = benchmark("CSRSearch.bfs", g -> CSRSearch.bfs(g, source));
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= processors; p *= 2) {
+            scaling(p, base);
+            if (p < processors && 2 * p > processors) scaling(processors, base);
+        }
+    }
+
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int n = 1 << scale;
+        new ParallelBFSBenchmark("uniform", RandomGraphs.uniform(n, edgeFactor * n, false, new Random(0L)), runs).runBenchmarks();
+        new ParallelBFSBenchmark("R-MAT", RandomGraphs.rmat(scale, edgeFactor, false, new Random(0L)), runs).runBenchmarks();
+    }
+
+    private void scaling(int p, double base) {
+        final ForkJoinPool pool = new ForkJoinPool(p);
+        try {
+            double topDown = benchmark("ParallelBFS (top-down only) with " + p + " threads", g -> new ParallelBFS(g, source, pool, false));
+            double optimized = benchmark("ParallelBFS (direction-optimizing) with " + p + " threads", g -> new ParallelBFS(g, source, pool, true));
+            System.out.println("  speedup over sequential BFS: top-down " + Utilities.formatDecimal3Places(base / topDown) + ", direction-optimizing " + Utilities.formatDecimal3Places(base / optimized));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double benchmark(String description, Consumer<CSRGraph<Integer, Double>> function) {
+        double time = new Benchmark_Timer<>(description, function).run(graph, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec");
+        return time;
+    }
+
+    private final String description;
+    private final CSRGraph<Integer, Double> graph;
+    private final int runs;
+    private final int source;
+}
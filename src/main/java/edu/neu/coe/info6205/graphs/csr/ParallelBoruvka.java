@@ -0,0 +1,149 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.graphs.gis.Sequenced;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.union_find.UF_Concurrent;
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Parallel version of Boruvka's algorithm over an undirected {@link CSRGraph}, using a fork/join pool.
+ * <p>
+ * Each round has three phases, each of which runs in parallel:
+ * <ol>
+ *     <li>label every vertex with the root of its component (in a concurrent union-find);</li>
+ *     <li>scan the edges, recording for each component its cheapest outgoing edge by compare-and-set;</li>
+ *     <li>add each component's cheapest edge to the MST and union its ends.</li>
+ * </ol>
+ * Ties are broken by edge index, so the edges chosen in a round form a forest
+ * (except that two components may choose the same edge, in which case only the component with the smaller label adds it).
+ * The number of components at least halves in each round, so there are at most log <em>V</em> rounds.
+ * <p>
+ * The resulting set of edges is identical to that of {@link CSRMST#boruvka(CSRGraph)};
+ * the order is deterministic (by round, then by component label).
+ */
+public class ParallelBoruvka {
+
+    /**
+     * Method to compute the MST of an EdgeGraph in parallel and yield it in the same form as {@code MST.getMST()}.
+     * Edge attributes are compared with their natural ordering.
+     *
+     * @param graph the graph.
+     * @param pool  the fork/join pool.
+     * @param <V>   the vertex type.
+     * @param <X>   the edge-attribute type.
+     * @return an EdgeGraph of the MST whose attributes have been sequenced.
+     */
+    public static <V, X extends Comparable<X> & Sequenced> EdgeGraph<V, X> getMST(EdgeGraph<V, X> graph, ForkJoinPool pool) {
+        final CSRGraph<V, X> csr = CSRGraph.createRanked(graph, Comparable::compareTo);
+        return CSRMST.getMST(csr, new ParallelBoruvka(csr, pool).edges());
+    }
+
+    /**
+     * Constructor which computes the MST (or minimum spanning forest).
+     *
+     * @param graph an undirected graph.
+     * @param pool  the fork/join pool on which to run.
+     */
+    public ParallelBoruvka(CSRGraph<?, ?> graph, ForkJoinPool pool) {
+        if (graph.isDirected()) throw new IllegalArgumentException("ParallelBoruvka: graph must be undirected");
+        this.graph = graph;
+        this.pool = pool;
+        this.mst = run();
+    }
+
+    public ParallelBoruvka(CSRGraph<?, ?> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @return the indices of the MST edges.
+     */
+    public int[] edges() {
+        return mst.clone();
+    }
+
+    /**
+     * @return the total weight of the MST.
+     */
+    public double weight() {
+        return CSRMST.weight(graph, mst);
+    }
+
+    /**
+     * @return the number of rounds which were required.
+     */
+    public int rounds() {
+        return rounds;
+    }
+
+    private int[] run() {
+        final int n = graph.V();
+        final int m = graph.E();
+        final UF_Concurrent uf = new UF_Concurrent(n);
+        final int[] label = new int[n];
+        final AtomicIntegerArray closest = new AtomicIntegerArray(n);
+        final int[] chosen = new int[n];
+        final int[] result = new int[Math.max(0, n - 1)];
+        int count = 0;
+        final int vertexGrain = Parallel.grain(pool, n);
+        final int edgeGrain = Parallel.grain(pool, m);
+        while (count < n - 1) {
+            rounds++;
+            // Phase 1: label each vertex with its component (no unions are in progress).
+            Parallel.forEachChunk(pool, n, vertexGrain, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    label[v] = uf.find(v);
+                    closest.set(v, NONE);
+                }
+            });
+            // Phase 2: find the cheapest edge leaving each component.
+            Parallel.forEachChunk(pool, m, edgeGrain, (from, to) -> {
+                for (int e = from; e < to; e++) {
+                    int i = label[graph.from(e)], j = label[graph.to(e)];
+                    if (i == j) continue;
+                    offerMin(closest, i, e);
+                    offerMin(closest, j, e);
+                }
+            });
+            // Phase 3: add the cheapest edges and merge their components.
+            Parallel.forEachChunk(pool, n, vertexGrain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    chosen[i] = NONE;
+                    int e = closest.get(i);
+                    if (e == NONE) continue;
+                    int j = label[graph.from(e)] == i ? label[graph.to(e)] : label[graph.from(e)];
+                    if (closest.get(j) == e && j < i) continue; // the same edge is added by component j
+                    chosen[i] = e;
+                    uf.union(graph.from(e), graph.to(e));
+                }
+            });
+            int added = 0;
+            for (int i = 0; i < n; i++) if (chosen[i] != NONE) result[count + added++] = chosen[i];
+            if (added == 0) break; // the graph is not connected: we have a minimum spanning forest.
+            count += added;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Atomically replace the edge at closest[i] with e if e is lighter.
+     */
+    private void offerMin(AtomicIntegerArray closest, int i, int e) {
+        while (true) {
+            int current = closest.get(i);
+            if (current != NONE && !CSRMST.less(graph, e, current)) return;
+            if (closest.compareAndSet(i, current, e)) return;
+        }
+    }
+
+    private static final int NONE = -1;
+
+    private final CSRGraph<?, ?> graph;
+    private final ForkJoinPool pool;
+    private final int[] mst;
+    private int rounds = 0;
+}
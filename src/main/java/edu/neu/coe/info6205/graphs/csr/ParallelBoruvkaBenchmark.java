@@ -0,0 +1,60 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark of {@link ParallelBoruvka} on random geometric graphs,
+ * with the number of threads ranging from 1 to the number of available processors.
+ * The sequential {@link CSRMST#boruvka(CSRGraph)} and {@link CSRMST#kruskal(CSRGraph)} are timed as baselines.
+ * <p>
+ * Usage: ParallelBoruvkaBenchmark [n [degree [runs]]]
+ */
+public class ParallelBoruvkaBenchmark {
+
+    public ParallelBoruvkaBenchmark(int n, double degree, int runs) {
+        this.runs = runs;
+        this.graph = RandomGraphs.geometric(n, Math.sqrt(degree / Math.PI / n), new Random(0L));
+    }
+
+    public void runBenchmarks() {
+        System.out.println("ParallelBoruvkaBenchmark: V=" + Utilities.formatWhole(graph.V()) + ", E=" + Utilities.formatWhole(graph.E()));
+        double base = benchmark("CSRMST.boruvka", g -> CSRMST.boruvka(g));
+        benchmark("CSRMST.kruskal", g -> CSRMST.kruskal(g));
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= processors; p *= 2) {
+            scaling(p, base);
+            if (p < processors && 2 * p > processors) scaling(processors, base);
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        double degree = args.length > 1 ? Double.parseDouble(args[1]) : 8;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        new ParallelBoruvkaBenchmark(n, degree, runs).runBenchmarks();
+    }
+
+    private void scaling(int p, double base) {
+        final ForkJoinPool pool = new ForkJoinPool(p);
+        try {
+            double time = benchmark("ParallelBoruvka with " + p + " threads", g -> new ParallelBoruvka(g, pool));
+            System.out.println("  speedup over sequential Boruvka: " + Utilities.formatDecimal3Places(base / time));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double benchmark(String description, Consumer<CSRGraph<Integer, Double>> function) {
+        double time = new Benchmark_Timer<>(description, function).run(graph, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec");
+        return time;
+    }
+
+    private final int runs;
+    private final CSRGraph<Integer, Double> graph;
+}
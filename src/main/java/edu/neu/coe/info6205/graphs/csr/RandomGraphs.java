@@ -0,0 +1,154 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generators of large random graphs (in CSR form) for benchmarks.
+ */
+public class RandomGraphs {
+
+    /**
+     * Create a random geometric graph: n points uniformly distributed in the unit square,
+     * with an undirected edge between each pair of points closer together than radius.
+     * The weight of each edge is its Euclidean length.
+     * The expected degree of a vertex is approximately n &pi; radius<sup>2</sup>.
+     *
+     * @param n      the number of vertices.
+     * @param radius the connection radius.
+     * @param random the source of randomness.
+     * @return a new undirected CSRGraph.
+     */
+    public static CSRGraph<Integer, Double> geometric(int n, double radius, Random random) {
+        final double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+        // Bucket the points into a grid of cells of side (at least) radius.
+        final int cells = Math.max(1, (int) (1 / radius));
+        final int[] cellStart = new int[cells * cells + 1];
+        final int[] cellOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cell(xs[i], cells) * cells + cell(ys[i], cells);
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < cells * cells; c++) cellStart[c + 1] += cellStart[c];
+        final int[] points = new int[n];
+        final int[] next = Arrays.copyOf(cellStart, cells * cells);
+        for (int i = 0; i < n; i++) points[next[cellOf[i]]++] = i;
+        final EdgeList edges = new EdgeList(n * 4);
+        final double r2 = radius * radius;
+        for (int i = 0; i < n; i++) {
+            int cx = cellOf[i] / cells, cy = cellOf[i] % cells;
+            for (int dx = -1; dx <= 1; dx++)
+                for (int dy = -1; dy <= 1; dy++) {
+                    int x = cx + dx, y = cy + dy;
+                    if (x < 0 || y < 0 || x >= cells || y >= cells) continue;
+                    int c = x * cells + y;
+                    for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                        int j = points[k];
+                        if (j <= i) continue;
+                        double ddx = xs[i] - xs[j], ddy = ys[i] - ys[j];
+                        double d2 = ddx * ddx + ddy * ddy;
+                        if (d2 < r2) edges.add(i, j, Math.sqrt(d2));
+                    }
+                }
+        }
+        return edges.toGraph(n, false);
+    }
+
+    /**
+     * Create a random (Erdős–Rényi style) graph with n vertices and m edges, each with uniformly chosen ends.
+     * The weight of each edge is uniform in [0, 1).
+     *
+     * @param n        the number of vertices.
+     * @param m        the number of edges.
+     * @param directed true if the graph is to be directed.
+     * @param random   the source of randomness.
+     * @return a new CSRGraph.
+     */
+    public static CSRGraph<Integer, Double> uniform(int n, int m, boolean directed, Random random) {
+        final EdgeList edges = new EdgeList(m);
+        for (int e = 0; e < m; e++) edges.add(random.nextInt(n), random.nextInt(n), random.nextDouble());
+        return edges.toGraph(n, directed);
+    }
+
+    /**
+     * Create a random power-law graph by the R-MAT (recursive matrix) method, as used by the Graph500 benchmark:
+     * each edge is placed by descending scale times into one of the four quadrants of the adjacency matrix,
+     * with probabilities a, b, c and 1-a-b-c.
+     * The weight of each edge is uniform in [0, 1).
+     *
+     * @param scale      the log (base 2) of the number of vertices.
+     * @param edgeFactor the number of edges per vertex.
+     * @param directed   true if the graph is to be directed.
+     * @param random     the source of randomness.
+     * @return a new CSRGraph with 2^scale vertices and edgeFactor * 2^scale edges.
+     */
+    public static CSRGraph<Integer, Double> rmat(int scale, int edgeFactor, boolean directed, Random random) {
+        final int n = 1 << scale;
+        final int m = edgeFactor * n;
+        final double a = 0.57, b = 0.19, c = 0.19;
+        // Randomly permute the vertex labels so that the high-degree vertices are not all at low indices.
+        final int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) permutation[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = temp;
+        }
+        final EdgeList edges = new EdgeList(m);
+        for (int e = 0; e < m; e++) {
+            int v = 0, w = 0;
+            for (int bit = n >>> 1; bit > 0; bit >>>= 1) {
+                double r = random.nextDouble();
+                if (r < a) continue;
+                if (r < a + b) w |= bit;
+                else if (r < a + b + c) v |= bit;
+                else {
+                    v |= bit;
+                    w |= bit;
+                }
+            }
+            edges.add(permutation[v], permutation[w], random.nextDouble());
+        }
+        return edges.toGraph(n, directed);
+    }
+
+    private static int cell(double x, int cells) {
+        return Math.min(cells - 1, (int) (x * cells));
+    }
+
+    /**
+     * Growable primitive edge list.
+     */
+    static class EdgeList {
+        EdgeList(int capacity) {
+            from = new int[Math.max(1, capacity)];
+            to = new int[from.length];
+            weights = new double[from.length];
+        }
+
+        void add(int v, int w, double weight) {
+            if (count == from.length) {
+                from = Arrays.copyOf(from, 2 * count);
+                to = Arrays.copyOf(to, 2 * count);
+                weights = Arrays.copyOf(weights, 2 * count);
+            }
+            from[count] = v;
+            to[count] = w;
+            weights[count++] = weight;
+        }
+
+        CSRGraph<Integer, Double> toGraph(int n, boolean directed) {
+            return CSRGraph.wrap(n, Arrays.copyOf(from, count), Arrays.copyOf(to, count), Arrays.copyOf(weights, count), directed);
+        }
+
+        private int count = 0;
+        private int[] from;
+        private int[] to;
+        private double[] weights;
+    }
+}
@@ -1,6 +1,5 @@
 package edu.neu.coe.info6205.graphs.dag;
 
-import edu.neu.coe.info6205.SizedIterable;
 import edu.neu.coe.info6205.bqs.Bag;
 import edu.neu.coe.info6205.bqs.Bag_Array;
 
@@ -32,21 +31,6 @@ public class DAG_Impl<V, E> extends DiGraph<V, E> implements DAG<V, E> {
         return reversePostOrderDFS();
     }
 
-    public SizedIterable<Edge<V, E>> edges() {
-        Bag<Edge<V, E>> result = new Bag_Array<>(random);
-        for (Bag<Edge<V, E>> b : adjacentEdges.values())
-            for (Edge<V, E> e : b)
-                result.add(e);
-        return result;
-    }
-
-    public void addEdge(Edge<V, E> edge) {
-        // First, we add the edge to the adjacency bag for the "from" vertex;
-        getAdjacencyBag(edge.getFrom()).add(edge);
-        // Then, we simply ensure that the "to" vertex has an adjacency bag (which might be empty)
-        getAdjacencyBag(edge.getTo());
-    }
-
     public void addEdge(V from, V to, E attributes) {
         addEdge(new Edge<>(from, to, attributes));
     }
@@ -1,11 +1,10 @@
 package edu.neu.coe.info6205.graphs.dag;
 
 import edu.neu.coe.info6205.SizedIterable;
-import edu.neu.coe.info6205.bqs.Bag;
-import edu.neu.coe.info6205.bqs.Bag_Array;
 import edu.neu.coe.info6205.bqs.Stack;
 import edu.neu.coe.info6205.bqs.Stack_LinkedList;
 import edu.neu.coe.info6205.graphs.undirected.AbstractGraph;
+import edu.neu.coe.info6205.graphs.undirected.EdgeCache;
 
 import java.util.*;
 import java.util.function.Consumer;
@@ -26,14 +25,32 @@ public class DiGraph<V, E> extends AbstractGraph<V, Edge<V, E>> {
     public void addEdge(Edge<V, E> edge) {
         getAdjacencyBag(edge.getFrom()).add(edge);
         getAdjacencyBag(edge.getTo());
+        edgeCache.add(edge);
     }
 
+    @Override
+    public void addVertex(V vertex) {
+        // Replacing the adjacency bag of an existing vertex discards its edges.
+        if (adjacentEdges.containsKey(vertex)) edgeCache.invalidate();
+        super.addVertex(vertex);
+    }
+
+    /**
+     * Get the edges of this DiGraph as a read-only view (which is maintained as edges are added, rather than rebuilt on each call).
+     *
+     * @return a SizedIterable of edges.
+     */
     public SizedIterable<Edge<V, E>> edges() {
-        Bag<Edge<V, E>> result = new Bag_Array<>();
-        for (Iterable<Edge<V, E>> b : adjacentEdges.values())
-            for (Edge<V, E> e : b)
-                result.add(e);
-        return result;
+        return edgeCache;
+    }
+
+    /**
+     * Get the edges as primitive arrays of vertex indices (cached until this DiGraph is next mutated).
+     *
+     * @return an EdgeArrays object.
+     */
+    public EdgeCache.EdgeArrays<V, Edge<V, E>> edgeArrays() {
+        return edgeCache.arrays();
     }
 
     protected Stack<V> reversePostOrderDFS() {
@@ -42,23 +59,22 @@ public class DiGraph<V, E> extends AbstractGraph<V, Edge<V, E>> {
         return postOrderStack;
     }
 
+    /**
+     * Find the strongly-connected components of this DiGraph (iteratively, in O(V+E) time).
+     *
+     * @return the StrongComponents of this DiGraph.
+     */
+    public StrongComponents<V, E> strongComponents() {
+        return new StrongComponents<>(this);
+    }
+
+    /**
+     * Create the kernel DAG (condensation) of this DiGraph: each strongly-connected component becomes a Kernel.
+     *
+     * @return a DAG of Kernels.
+     */
     public DAG<Kernel<V>, E> kernelDAG() {
-        final DAG_Impl<Kernel<V>, E> result = new DAG_Impl<>(new Random(0L));
-        final TreeSet<V> marked = new TreeSet<>();
-        for (V vertex : reverse().reversePostOrderDFS()) {
-            Kernel<V> kernel = new Kernel<>();
-            new DepthFirstSearch(marked, kernel::add, null).innerDfs(vertex);
-            if (!kernel.vertices.isEmpty())
-                result.addVertex(kernel);
-        }
-        final List<Kernel<V>> kernels = result.vertices().toList();
-        for (Edge<V, E> edge : edges()) {
-            final Kernel<V> from = kernels.stream().filter((k) -> k.vertices.contains(edge.getFrom())).findAny().orElse(null);
-            final Kernel<V> to = kernels.stream().filter((k) -> k.vertices.contains(edge.getTo())).findAny().orElse(null);
-            if (from != null && to != null && from != to)
-                result.addEdge(new Edge<>(from, to, edge.getAttributes()));
-        }
-        return result;
+        return strongComponents().condensation();
     }
 
     @Override
@@ -66,6 +82,8 @@ public class DiGraph<V, E> extends AbstractGraph<V, Edge<V, E>> {
         return adjacentEdges.toString();
     }
 
+    private final EdgeCache<V, Edge<V, E>> edgeCache = new EdgeCache<>(adjacentEdges::keySet, adjacentEdges::values, Edge::getFrom, Edge::getTo);
+
     class DepthFirstSearch {
 
         public DepthFirstSearch(TreeSet<V> marked, Consumer<V> pre, Consumer<V> post) {
@@ -0,0 +1,200 @@
+package edu.neu.coe.info6205.graphs.dag;
+
+import edu.neu.coe.info6205.graphs.undirected.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The strongly-connected components of a DiGraph (or other directed Graph), found by Pearce's variant of Tarjan's algorithm.
+ * <p>
+ * The vertices are given dense indices (in the order of {@code graph.vertices()}) and the adjacency lists
+ * are copied into flat arrays, so the search itself touches only primitive arrays.
+ * The depth-first search is iterative (an explicit call stack of vertex and edge cursor)
+ * so that deep graphs cannot overflow the Java stack.
+ * Pearce's variant needs only one array (rindex) in addition to the two stacks.
+ * The whole computation, including the condensation DAG, is O(V+E).
+ * <p>
+ * Components are numbered in topological order of the condensation:
+ * if there is an edge from component i to component j (i != j), then i &lt; j.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge-attribute type.
+ */
+public class StrongComponents<V, E> {
+
+    /**
+     * Constructor which finds the strongly-connected components of graph.
+     *
+     * @param graph a directed graph (such as a DiGraph) whose adjacent entities are the outgoing edges of each vertex.
+     */
+    public StrongComponents(Graph<V, Edge<V, E>> graph) {
+        vertices = graph.vertices().toList();
+        final int n = vertices.size();
+        indices = new HashMap<>(2 * n);
+        for (V v : vertices) indices.put(v, indices.size());
+        offsets = new int[n + 1];
+        final List<Edge<V, E>> edgeList = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            for (Edge<V, E> e : graph.adjacent(vertices.get(v))) edgeList.add(e);
+            offsets[v + 1] = edgeList.size();
+        }
+        edges = edgeList;
+        targets = new int[edges.size()];
+        for (int i = 0; i < targets.length; i++) targets[i] = indices.get(edges.get(i).getTo());
+        components = new int[n];
+        count = search();
+    }
+
+    /**
+     * @return the number of strongly-connected components.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @param v a vertex.
+     * @return the component (0 .. count-1) of v.
+     */
+    public int component(V v) {
+        return components[index(v)];
+    }
+
+    /**
+     * @param v a vertex.
+     * @return the dense index of v.
+     */
+    public int index(V v) {
+        Integer result = indices.get(v);
+        if (result == null) throw new IllegalArgumentException("vertex " + v + " is not in the graph");
+        return result;
+    }
+
+    /**
+     * @param i a dense index.
+     * @return the vertex with index i.
+     */
+    public V vertex(int i) {
+        return vertices.get(i);
+    }
+
+    /**
+     * @return a copy of the array which maps each vertex index to its component.
+     */
+    public int[] components() {
+        return components.clone();
+    }
+
+    /**
+     * @param v one vertex.
+     * @param w another vertex.
+     * @return true if v and w are strongly connected.
+     */
+    public boolean stronglyConnected(V v, V w) {
+        return component(v) == component(w);
+    }
+
+    /**
+     * Create the condensation of the graph: a DAG with one Kernel for each component (added in topological order),
+     * and one edge for each edge of the graph which joins different components.
+     * The vertices of each Kernel are in index order.
+     *
+     * @return the condensation DAG.
+     */
+    public DAG<DiGraph.Kernel<V>, E> condensation() {
+        final List<DiGraph.Kernel<V>> kernels = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) kernels.add(new DiGraph.Kernel<>());
+        for (int v = 0; v < vertices.size(); v++) kernels.get(components[v]).add(vertices.get(v));
+        final DAG_Impl<DiGraph.Kernel<V>, E> result = new DAG_Impl<>(new Random(0L));
+        for (DiGraph.Kernel<V> kernel : kernels) result.addVertex(kernel);
+        for (int v = 0; v < vertices.size(); v++)
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int from = components[v], to = components[targets[i]];
+                if (from != to) result.addEdge(new Edge<>(kernels.get(from), kernels.get(to), edges.get(i).getAttributes()));
+            }
+        return result;
+    }
+
+    /**
+     * Pearce's algorithm (iterative).
+     * On completion, rindex[v] holds the order in which v's component was completed (0 is a sink);
+     * the components are then renumbered so that they are in topological order.
+     *
+     * @return the number of components.
+     */
+    private int search() {
+        final int n = vertices.size();
+        final int[] rindex = components; // the same array is reused for the result
+        final boolean[] root = new boolean[n];
+        final int[] cursor = new int[n];
+        final int[] callStack = new int[n];
+        final int[] stack = new int[n];
+        int sp = 0;
+        int index = 1;
+        int c = n - 1;
+        for (int s = 0; s < n; s++) {
+            if (rindex[s] != 0) continue;
+            int depth = 0;
+            callStack[depth++] = s;
+            rindex[s] = index++;
+            root[s] = true;
+            cursor[s] = offsets[s];
+            while (depth > 0) {
+                int v = callStack[depth - 1];
+                if (cursor[v] < offsets[v + 1]) {
+                    int w = targets[cursor[v]];
+                    if (rindex[w] == 0) {
+                        // Descend to w: the edge v->w is finished when we return to v.
+                        rindex[w] = index++;
+                        root[w] = true;
+                        cursor[w] = offsets[w];
+                        callStack[depth++] = w;
+                    } else {
+                        if (rindex[w] < rindex[v]) {
+                            rindex[v] = rindex[w];
+                            root[v] = false;
+                        }
+                        cursor[v]++;
+                    }
+                    continue;
+                }
+                // All of v's edges are done.
+                depth--;
+                if (root[v]) {
+                    index--;
+                    while (sp > 0 && rindex[v] <= rindex[stack[sp - 1]]) {
+                        int w = stack[--sp];
+                        rindex[w] = c;
+                        index--;
+                    }
+                    rindex[v] = c--;
+                } else stack[sp++] = v;
+                if (depth > 0) {
+                    // Return to the parent u, completing the edge u->v.
+                    int u = callStack[depth - 1];
+                    if (rindex[v] < rindex[u]) {
+                        rindex[u] = rindex[v];
+                        root[u] = false;
+                    }
+                    cursor[u]++;
+                }
+            }
+        }
+        // Components were assigned n-1, n-2, ... in reverse topological order.
+        for (int v = 0; v < n; v++) rindex[v] = rindex[v] - (c + 1);
+        return n - 1 - c;
+    }
+
+    private final List<V> vertices;
+    private final Map<V, Integer> indices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final List<Edge<V, E>> edges;
+    private final int[] components;
+    private final int count;
+}
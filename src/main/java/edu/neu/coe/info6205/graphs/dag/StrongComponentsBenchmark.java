@@ -0,0 +1,35 @@
+package edu.neu.coe.info6205.graphs.dag;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+
+/**
+ * Benchmark of {@link StrongComponents} (and {@link DiGraph#kernelDAG()}) on random digraphs
+ * with four edges per vertex, doubling up to (by default) about a million edges.
+ * <p>
+ * Usage: StrongComponentsBenchmark [maxEdges [runs]]
+ */
+public class StrongComponentsBenchmark {
+
+    public static void main(String[] args) {
+        int maxEdges = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        for (int m = 1 << 14; m <= maxEdges; m *= 2) {
+            DiGraph<Integer, Integer> graph = randomDiGraph(m / 4, m, new Random(0L));
+            System.out.println("StrongComponentsBenchmark: V=" + Utilities.formatWhole(m / 4) + ", E=" + Utilities.formatWhole(m) + ", components=" + Utilities.formatWhole(graph.strongComponents().count()));
+            double time = new Benchmark_Timer<DiGraph<Integer, Integer>>("strongComponents", DiGraph::strongComponents).run(graph, runs);
+            System.out.println("  strongComponents: " + Utilities.formatDecimal3Places(time) + " mSec; " + Utilities.formatDecimal3Places(time * 1E6 / (m + m / 4)) + " nSec per (V+E)");
+            time = new Benchmark_Timer<DiGraph<Integer, Integer>>("kernelDAG", DiGraph::kernelDAG).run(graph, runs);
+            System.out.println("  kernelDAG: " + Utilities.formatDecimal3Places(time) + " mSec");
+        }
+    }
+
+    private static DiGraph<Integer, Integer> randomDiGraph(int n, int m, Random random) {
+        DiGraph<Integer, Integer> result = new DiGraph<>();
+        for (int v = 0; v < n; v++) result.addVertex(v);
+        for (int e = 0; e < m; e++) result.addEdge(new Edge<>(random.nextInt(n), random.nextInt(n), e));
+        return result;
+    }
+}
@@ -0,0 +1,169 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.gis.spatial.KdTree;
+import edu.neu.coe.info6205.graphs.gis.spatial.Projection;
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Generator of sparse candidate-edge graphs over a set of GeoPoints, for use (instead of the complete graph)
+ * as the input to the MST algorithms.
+ * <p>
+ * The points are indexed by a {@link KdTree} (in the plane of its {@link Projection}),
+ * so that the neighbours of every point can be found in O(log N) time.
+ * Only the (lengths of the) candidate pairs are then calculated on the sphere, using {@link GeoGraphSpherical#getDistance}.
+ * <ul>
+ *     <li>{@link #nearest} joins each point to its k nearest neighbours: this yields O(kN) edges.
+ *     The Euclidean MST is a subgraph of the Delaunay triangulation, whose edges (for points spread
+ *     as buildings are) almost always join near neighbours, so a k of 6 to 10 is usually sufficient.</li>
+ *     <li>{@link #withinRadius} joins every pair of points closer than a given distance: this yields
+ *     exactly the same graph as the all-pairs construction filtered by a length predicate, but in time
+ *     proportional to N log N plus the number of edges.</li>
+ * </ul>
+ * In both cases, the given predicate is applied to each candidate edge, just as for {@code Graph_Edges.addEdge}.
+ * The edges are added to a new GeoGraphSpherical or, if one is given, to any other EdgeGraph.
+ * Note that the graph of nearest neighbours may omit edges of the MST of the complete graph (and may even be disconnected),
+ * especially if edge costs are not proportional to length: where the graph must be exact, use {@link #withinRadius}.
+ */
+public class CandidateEdges {
+
+    /**
+     * Functional interface to create the attribute of an edge between two points.
+     *
+     * @param <V> the vertex type.
+     * @param <E> the edge-attribute type.
+     */
+    @FunctionalInterface
+    public interface AttributeFunction<V, E> {
+        /**
+         * @param v1     one end of the edge.
+         * @param v2     the other end of the edge.
+         * @param length the length of the edge (in meters).
+         * @return the edge attribute.
+         */
+        E apply(V v1, V v2, double length);
+    }
+
+    /**
+     * Create a graph in which each point is joined to (up to) its k nearest neighbours.
+     *
+     * @param points    the points (which must have Position_Spherical positions).
+     * @param k         the number of neighbours for each point.
+     * @param function  the function to create the edge attributes.
+     * @param predicate only edges satisfying this predicate will be added to the graph.
+     * @param <V>       the vertex type.
+     * @param <E>       the edge-attribute type.
+     * @return a new sparse GeoGraphSpherical.
+     */
+    public static <V extends GeoPoint, E> GeoGraphSpherical<V, E> nearest(List<V> points, int k, AttributeFunction<V, E> function, Predicate<Edge<V, E>> predicate) {
+        return nearest(points, k, function, predicate, new GeoGraphSpherical<>());
+    }
+
+    /**
+     * Add to graph the edges which join each point to (up to) its k nearest neighbours.
+     *
+     * @param points    the points (which must have Position_Spherical positions).
+     * @param k         the number of neighbours for each point.
+     * @param function  the function to create the edge attributes.
+     * @param predicate only edges satisfying this predicate will be added to the graph.
+     * @param graph     the graph to which the edges are added.
+     * @param <V>       the vertex type.
+     * @param <E>       the edge-attribute type.
+     * @param <G>       the graph type.
+     * @return graph.
+     */
+    public static <V extends GeoPoint, E, G extends EdgeGraph<V, E>> G nearest(List<V> points, int k, AttributeFunction<V, E> function, Predicate<Edge<V, E>> predicate, G graph) {
+        KdTree<V> tree = new KdTree<>(points);
+        Set<Long> pairs = new HashSet<>();
+        // Each point is (normally) its own nearest neighbour, so we look for one more.
+        int[] neighbors = new int[k + 1];
+        double[] xy = new double[2];
+        for (int i = 0; i < points.size(); i++) {
+            final int p = i;
+            final V v1 = points.get(i);
+            tree.getProjection().project(v1, xy);
+            int found = tree.nearest(xy[0], xy[1], neighbors);
+            if (found <= 1) continue;
+            // The projection is slightly inexact, so the k nearest neighbours in the plane may not quite be
+            // the k nearest on the sphere: we gather every point within (a little more than) the spherical
+            // distance of the furthest of them, and choose again by spherical distance.
+            double furthest = sphere.getDistance(v1, points.get(neighbors[found - 1]));
+            List<Integer> candidates = new ArrayList<>();
+            tree.forEachWithinRadius(xy[0], xy[1], furthest * (1 + SLACK), j -> {
+                if (j != p) candidates.add(j);
+            });
+            candidates.sort(Comparator.comparingDouble(j -> sphere.getDistance(v1, points.get(j))));
+            for (int j = 0; j < candidates.size() && j < k; j++)
+                addEdge(graph, pairs, i, candidates.get(j), points, function, predicate);
+        }
+        return graph;
+    }
+
+    /**
+     * Create a graph in which each pair of points no further apart than radius is joined.
+     *
+     * @param points    the points (which must have Position_Spherical positions).
+     * @param radius    the maximum length of an edge (in meters).
+     * @param function  the function to create the edge attributes.
+     * @param predicate only edges satisfying this predicate will be added to the graph.
+     * @param <V>       the vertex type.
+     * @param <E>       the edge-attribute type.
+     * @return a new GeoGraphSpherical.
+     */
+    public static <V extends GeoPoint, E> GeoGraphSpherical<V, E> withinRadius(List<V> points, double radius, AttributeFunction<V, E> function, Predicate<Edge<V, E>> predicate) {
+        return withinRadius(points, radius, function, predicate, new GeoGraphSpherical<>());
+    }
+
+    /**
+     * Add to graph the edges which join each pair of points no further apart than radius.
+     *
+     * @param points    the points (which must have Position_Spherical positions).
+     * @param radius    the maximum length of an edge (in meters).
+     * @param function  the function to create the edge attributes.
+     * @param predicate only edges satisfying this predicate will be added to the graph.
+     * @param graph     the graph to which the edges are added.
+     * @param <V>       the vertex type.
+     * @param <E>       the edge-attribute type.
+     * @param <G>       the graph type.
+     * @return graph.
+     */
+    public static <V extends GeoPoint, E, G extends EdgeGraph<V, E>> G withinRadius(List<V> points, double radius, AttributeFunction<V, E> function, Predicate<Edge<V, E>> predicate, G graph) {
+        KdTree<V> tree = new KdTree<>(points);
+        double[] xy = new double[2];
+        // The projection is slightly inexact so we search a little further, and then check the true (spherical) length.
+        double searchRadius = radius * (1 + SLACK);
+        for (int i = 0; i < points.size(); i++) {
+            final int p = i;
+            final V v1 = points.get(i);
+            tree.getProjection().project(v1, xy);
+            tree.forEachWithinRadius(xy[0], xy[1], searchRadius, j -> {
+                if (p < j) {
+                    V v2 = points.get(j);
+                    double length = sphere.getDistance(v1, v2);
+                    if (length <= radius) graph.addEdge(v1, v2, function.apply(v1, v2, length), predicate);
+                }
+            });
+        }
+        return graph;
+    }
+
+    private static <V extends GeoPoint, E> void addEdge(EdgeGraph<V, E> graph, Set<Long> pairs, int i, int j, List<V> points, AttributeFunction<V, E> function, Predicate<Edge<V, E>> predicate) {
+        long key = (long) Math.min(i, j) * points.size() + Math.max(i, j);
+        if (!pairs.add(key)) return;
+        V v1 = points.get(Math.min(i, j)), v2 = points.get(Math.max(i, j));
+        graph.addEdge(v1, v2, function.apply(v1, v2, sphere.getDistance(v1, v2)), predicate);
+    }
+
+    // Used only for its (great-circle) distance.
+    private static final GeoGraphSpherical<GeoPoint, Object> sphere = new GeoGraphSpherical<>();
+
+    // Relative error allowed for in the projection.
+    private final static double SLACK = 0.01;
+}
@@ -0,0 +1,159 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
+import edu.neu.coe.info6205.union_find.WQUPC;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is the Filter-Kruskal variant of Kruskal's algorithm to find the minimum spanning tree of an edge-weighted graph.
+ * <p>
+ * Rather than sorting all the edges up front, the edges are partitioned (quicksort-style) around a pivot.
+ * The light partition is handled first (recursively); then, before the heavy partition is considered,
+ * every edge whose ends are already in the same component is filtered out.
+ * For dense graphs (such as the complete graph built by {@code Tunnels.createGraph}),
+ * most of the heavy edges are discarded without ever being sorted.
+ * Once a partition is small enough, it is sorted (in parallel, if so configured) and scanned as in Kruskal.
+ * <p>
+ * The edges of the MST are yielded (and sequenced by getMST) in ascending order, exactly as for {@link Kruskal}.
+ *
+ * @param <V> is the type of each vertex.
+ * @param <X> is the type of the edge attribute.
+ */
+public class FilterKruskal<V, X extends Comparable<X> & Sequenced> extends MST<V, X> {
+
+    /**
+     * Constructor which uses a parallel sort for the light partitions.
+     *
+     * @param graph the graph.
+     */
+    public FilterKruskal(EdgeGraph<V, X> graph) {
+        this(graph, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param graph    the graph.
+     * @param parallel true if the light partitions should be sorted in parallel.
+     */
+    public FilterKruskal(EdgeGraph<V, X> graph, boolean parallel) {
+        this.parallel = parallel;
+        this.vertexToInteger = new HashMap<>();
+        for (V v : graph.vertices()) vertexToInteger.put(v, vertexToInteger.size());
+        this.size = vertexToInteger.size();
+        this.uf = new WQUPC(size);
+        this.threshold = Math.max(CUTOFF, size);
+        @SuppressWarnings("unchecked") final Edge<V, X>[] array = (Edge<V, X>[]) new Edge<?, ?>[graph.edges().size()];
+        int i = 0;
+        for (Edge<V, X> edge : graph.edges()) array[i++] = edge;
+        this.edges = array;
+        this.result = new ArrayList<>(Math.max(0, size - 1));
+        filterKruskal(0, edges.length);
+        this.mst = result;
+    }
+
+    public EdgeGraph<V, X> getMST() {
+        int sequence = 0;
+        EdgeGraph<V, X> graph = new Graph_Edges<>();
+        for (Edge<V, X> edge : result) {
+            edge.getAttribute().setSequence(sequence++);
+            graph.addEdge(edge);
+        }
+        return graph;
+    }
+
+    /**
+     * Process the edges in [lo, hi) which have not been filtered.
+     */
+    private void filterKruskal(int lo, int hi) {
+        if (done() || lo >= hi) return;
+        if (hi - lo <= threshold) {
+            sort(lo, hi);
+            kruskal(lo, hi);
+            return;
+        }
+        // Three-way partition around the pivot: [lo, lt) < pivot, [lt, gt) == pivot, [gt, hi) > pivot.
+        X pivot = medianOfThree(lo, (lo + hi) >>> 1, hi - 1);
+        int lt = lo, i = lo, gt = hi;
+        while (i < gt) {
+            int cf = edges[i].getAttribute().compareTo(pivot);
+            if (cf < 0) swap(lt++, i++);
+            else if (cf > 0) swap(i, --gt);
+            else i++;
+        }
+        filterKruskal(lo, lt);
+        kruskal(lt, gt);
+        filterKruskal(gt, filter(gt, hi));
+    }
+
+    /**
+     * Add, in order, those edges in [lo, hi) (which must already be sorted) which join different components.
+     */
+    private void kruskal(int lo, int hi) {
+        for (int i = lo; i < hi && !done(); i++) {
+            int p = index(edges[i].get()), q = index(edges[i].getOther(edges[i].get()));
+            if (!uf.connected(p, q)) {
+                uf.union(p, q);
+                result.add(edges[i]);
+            }
+        }
+    }
+
+    /**
+     * Move those edges in [lo, hi) whose ends are in different components to the front of the range.
+     *
+     * @return the end of the remaining edges.
+     */
+    private int filter(int lo, int hi) {
+        int j = lo;
+        for (int i = lo; i < hi; i++) {
+            V v = edges[i].get();
+            if (!uf.connected(index(v), index(edges[i].getOther(v)))) swap(i, j++);
+        }
+        return j;
+    }
+
+    private void sort(int lo, int hi) {
+        if (parallel) Arrays.parallelSort(edges, lo, hi, comparator);
+        else Arrays.sort(edges, lo, hi, comparator);
+    }
+
+    private X medianOfThree(int i, int j, int k) {
+        X a = edges[i].getAttribute(), b = edges[j].getAttribute(), c = edges[k].getAttribute();
+        if (a.compareTo(b) < 0) return b.compareTo(c) < 0 ? b : (a.compareTo(c) < 0 ? c : a);
+        else return a.compareTo(c) < 0 ? a : (b.compareTo(c) < 0 ? c : b);
+    }
+
+    private void swap(int i, int j) {
+        Edge<V, X> temp = edges[i];
+        edges[i] = edges[j];
+        edges[j] = temp;
+    }
+
+    private int index(V v) {
+        return vertexToInteger.get(v);
+    }
+
+    private boolean done() {
+        return result.size() >= size - 1;
+    }
+
+    // Partitions no larger than this (or the number of vertices, if greater) are simply sorted.
+    private static final int CUTOFF = 1024;
+
+    private final Comparator<Edge<V, X>> comparator = Comparator.comparing(Edge::getAttribute);
+    private final boolean parallel;
+    private final Map<V, Integer> vertexToInteger;
+    private final int size;
+    private final WQUPC uf;
+    private final int threshold;
+    private final Edge<V, X>[] edges;
+    private final ArrayList<Edge<V, X>> result;
+}
@@ -0,0 +1,184 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Batch calculation of the great-circle distances between many points, for use instead of calling
+ * {@link GeoGraphSpherical#getDistance} once per pair.
+ * <p>
+ * The points are held as a structure of arrays. The trigonometry is done once per point, on construction:
+ * each point becomes a unit vector (x, y, z) = (cos lat cos lon, cos lat sin lon, sin lat).
+ * The haversine of the central angle between two points is then simply c<sup>2</sup>/4, where c is the
+ * length of the chord between their unit vectors, so that the distance is 2R asin(c/2).
+ * This is the same formula as {@link GeoGraphSpherical} uses, but:
+ * <ul>
+ *     <li>each pair costs three subtractions, three multiply-adds and a square root, in a loop over contiguous
+ *     arrays without branches or calls, which the JIT compiler can vectorize;</li>
+ *     <li>the arc sine of a short chord (below about 128 km) is evaluated by its (exact to double precision)
+ *     Taylor series, rather than by a call to Math.asin;</li>
+ *     <li>the chord is computed from differences of coordinates, so that the distance between nearby points
+ *     is accurate to far better than a millimeter.</li>
+ * </ul>
+ */
+public class GeoDistances {
+
+    /**
+     * Constructor.
+     *
+     * @param latitudes  the latitudes of the points (in degrees).
+     * @param longitudes the longitudes of the points (in degrees).
+     */
+    public GeoDistances(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length)
+            throw new IllegalArgumentException("GeoDistances: latitudes and longitudes differ in length");
+        n = latitudes.length;
+        x = new double[n];
+        y = new double[n];
+        z = new double[n];
+        for (int i = 0; i < n; i++) {
+            double lat = Math.toRadians(latitudes[i]), lon = Math.toRadians(longitudes[i]);
+            double cosLat = Math.cos(lat);
+            x[i] = cosLat * Math.cos(lon);
+            y[i] = cosLat * Math.sin(lon);
+            z[i] = Math.sin(lat);
+        }
+    }
+
+    /**
+     * Create a GeoDistances for a list of points.
+     *
+     * @param points the points (which must have Position_Spherical positions).
+     * @return a new GeoDistances, in which point i is points.get(i).
+     */
+    public static GeoDistances of(List<? extends GeoPoint> points) {
+        final int n = points.size();
+        final double[] latitudes = new double[n], longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            Position_Spherical position = (Position_Spherical) points.get(i).getPosition();
+            latitudes[i] = position.getLatitude();
+            longitudes[i] = position.getLongitude();
+        }
+        return new GeoDistances(latitudes, longitudes);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * @param i the index of one point.
+     * @param j the index of the other point.
+     * @return the distance between points i and j (in meters).
+     */
+    public double distance(int i, int j) {
+        double dx = x[i] - x[j], dy = y[i] - y[j], dz = z[i] - z[j];
+        return arc(Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    /**
+     * Calculate the distances from point i to every point.
+     *
+     * @param i      the index of a point.
+     * @param result an array of at least size() elements, to receive the distances (in meters).
+     */
+    public void row(int i, double[] result) {
+        row(i, result, 0);
+    }
+
+    /**
+     * Calculate the matrix of the distances between every pair of points.
+     *
+     * @return a new row-major array of size() * size() distances (in meters).
+     */
+    public double[] matrix() {
+        final double[] result = new double[checkedSquare()];
+        for (int i = 0; i < n; i++) row(i, result, i * n);
+        return result;
+    }
+
+    /**
+     * Calculate the matrix of the distances between every pair of points, the rows being shared out among the threads of pool.
+     *
+     * @param pool the fork/join pool.
+     * @return a new row-major array of size() * size() distances (in meters).
+     */
+    public double[] matrix(ForkJoinPool pool) {
+        final double[] result = new double[checkedSquare()];
+        Parallel.forEachChunk(pool, n, Math.max(1, Parallel.grain(pool, n * n) / Math.max(1, n)), (from, to) -> {
+            for (int i = from; i < to; i++) row(i, result, i * n);
+        });
+        return result;
+    }
+
+    /**
+     * Calculate the lengths of a list of edges.
+     *
+     * @param from   the index of one end of each edge.
+     * @param to     the index of the other end of each edge.
+     * @param result an array to receive the length of each edge (in meters).
+     */
+    public void lengths(int[] from, int[] to, double[] result) {
+        final int m = from.length;
+        for (int e = 0; e < m; e++) {
+            int i = from[e], j = to[e];
+            double dx = x[i] - x[j], dy = y[i] - y[j], dz = z[i] - z[j];
+            result[e] = dx * dx + dy * dy + dz * dz;
+        }
+        chordsToArcs(result, 0, m);
+    }
+
+    /**
+     * Calculate the distances from point i into result[offset, offset + n).
+     * The first loop (the chords) is a simple loop over arrays, which can be vectorized; the second converts to arcs.
+     */
+    private void row(int i, double[] result, int offset) {
+        final double xi = x[i], yi = y[i], zi = z[i];
+        for (int j = 0; j < n; j++) {
+            double dx = x[j] - xi, dy = y[j] - yi, dz = z[j] - zi;
+            result[offset + j] = dx * dx + dy * dy + dz * dz;
+        }
+        chordsToArcs(result, offset, offset + n);
+    }
+
+    /**
+     * Replace the squared chords in a[from, to) by the corresponding distances.
+     */
+    private static void chordsToArcs(double[] a, int from, int to) {
+        for (int k = from; k < to; k++) a[k] = arc(Math.sqrt(a[k]));
+    }
+
+    /**
+     * @param chord the length of the chord between two unit vectors.
+     * @return the length of the arc (in meters) on the Earth's surface.
+     */
+    private static double arc(double chord) {
+        double h = chord / 2;
+        if (h < SERIES_LIMIT) {
+            // asin(h) = h + h^3/6 + 3h^5/40 + 5h^7/112 + ...: the remaining terms are below 1E-17 relative to h.
+            double h2 = h * h;
+            return DIAMETER * h * (1 + h2 * (1.0 / 6 + h2 * (3.0 / 40 + h2 * (5.0 / 112))));
+        }
+        return DIAMETER * Math.asin(Math.min(1, h));
+    }
+
+    private int checkedSquare() {
+        final long square = (long) n * n;
+        if (square > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("GeoDistances: a matrix of " + n + " points is too large for an array");
+        return (int) square;
+    }
+
+    private static final double DIAMETER = 2.0 * GeoGraphSpherical.R;
+
+    // Half the chord below which the series is used (an arc of about 128 km).
+    private static final double SERIES_LIMIT = 0.01;
+
+    private final int n;
+    // The unit vectors of the points.
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+}
@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Position;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark of {@link GeoDistances} against {@link GeoGraphSpherical#getDistance}:
+ * the mean time per pair to calculate rows of the distance matrix of n random points (spread over about 100 km by 100 km).
+ * The matrix itself is not stored (at 10<sup>4</sup> points it would need 800 MB): each row is calculated into the same array.
+ * <p>
+ * Usage: GeoDistancesBenchmark [n [rows]]
+ */
+public class GeoDistancesBenchmark {
+
+    public GeoDistancesBenchmark(int n, int rows) {
+        this.rows = Math.min(rows, n);
+        final Random random = new Random(0L);
+        points = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Position position = new Position_Spherical(42.0 + random.nextDouble(), -71.6 + random.nextDouble());
+            points.add(new GeoPoint() {
+                public String getName() {
+                    return "";
+                }
+
+                public Position getPosition() {
+                    return position;
+                }
+            });
+        }
+    }
+
+    public void runBenchmarks() {
+        final int n = points.size();
+        System.out.println("GeoDistancesBenchmark: n=" + Utilities.formatWhole(n) + ", rows=" + Utilities.formatWhole(rows));
+        final double[] row = new double[n];
+        final GeoGraphSpherical<GeoPoint, Object> graph = new GeoGraphSpherical<>();
+        double base = benchmark("GeoGraphSpherical.getDistance", () -> {
+            for (int i = 0; i < rows; i++)
+                for (int j = 0; j < n; j++) row[j] = graph.getDistance(points.get(i), points.get(j));
+        });
+        final double[] batch = new double[n];
+        double time = benchmark("GeoDistances (including construction)", () -> {
+            GeoDistances distances = GeoDistances.of(points);
+            for (int i = 0; i < rows; i++) distances.row(i, batch);
+        });
+        System.out.println("  speedup: " + Utilities.formatDecimal3Places(base / time));
+        double maximum = 0;
+        for (int j = 0; j < n; j++) maximum = Math.max(maximum, Math.abs(row[j] - batch[j]));
+        System.out.println("  maximum difference in the last row: " + maximum + " meters");
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        new GeoDistancesBenchmark(n, rows).runBenchmarks();
+    }
+
+    /**
+     * @return the mean time (nSec) per pair.
+     */
+    private double benchmark(String description, Runnable rows) {
+        double time = new Benchmark_Timer<Integer>(description, x -> rows.run()).run(0, 3) * 1E6 / this.rows / points.size();
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " nSec per pair");
+        return time;
+    }
+
+    private final int rows;
+    private final List<GeoPoint> points;
+}
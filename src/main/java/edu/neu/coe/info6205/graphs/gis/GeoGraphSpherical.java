@@ -38,5 +38,5 @@ public class GeoGraphSpherical<V extends GeoPoint, E> extends BaseGeoGraph<V, E>
         return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
     }
 
-    private final static int R = 6378100; // Radius of the earth (meters)
+    final static int R = 6378100; // Radius of the earth (meters)
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import edu.neu.coe.info6205.graphs.undirected.Graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Stack;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Point-to-point shortest-path queries over a DiGraph (or other directed Graph), which (unlike {@link ShortestPaths}) stop as soon as the
+ * route to the target is known, so that typically only a small part of the graph is touched.
+ * <p>
+ * Three searches are provided:
+ * <ul>
+ *     <li>dijkstra: Dijkstra's algorithm from the source, stopping when the target is settled;</li>
+ *     <li>bidirectional: Dijkstra's algorithm from the source (forwards) and from the target (over the reversed edges),
+ *     always advancing the side with the smaller key, and stopping when the sum of the two smallest keys is no less than
+ *     the best route seen so far;</li>
+ *     <li>aStar: A* search, in which vertex v is keyed by its cost plus heuristic(v, target).
+ *     The heuristic must be admissible (never greater than the true remaining cost).
+ *     For GeoPoint graphs whose edge weights are at least the great-circle distance between their ends (in meters),
+ *     {@link #haversine(GeoGraphSpherical)} is such a heuristic.</li>
+ * </ul>
+ * The incoming edges of each vertex are gathered once, by the constructor, so that each query costs only
+ * as much as the part of the graph which it explores.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge-attribute (weight) type.
+ */
+public class PointToPoint<V, E extends Number> {
+
+    /**
+     * Constructor.
+     *
+     * @param graph the graph, whose adjacent entities are the outgoing edges of each vertex (and whose edge weights must be non-negative).
+     * @throws IllegalArgumentException if any edge has negative weight.
+     */
+    public PointToPoint(Graph<V, Edge<V, E>> graph) {
+        this.graph = graph;
+        for (V v : graph.vertices())
+            for (Edge<V, E> e : graph.adjacent(v)) {
+                if (e.getAttributes().doubleValue() < 0)
+                    throw new IllegalArgumentException("edge " + e + " has negative weight");
+                incoming.computeIfAbsent(e.getTo(), k -> new ArrayList<>()).add(e);
+            }
+    }
+
+    /**
+     * Find the shortest route from source to target by Dijkstra's algorithm, stopping when target is settled.
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return a Route.
+     */
+    public Route<V, E> dijkstra(V source, V target) {
+        return aStar(source, target, (v, t) -> 0.0);
+    }
+
+    /**
+     * Find the shortest route from source to target by A* search.
+     *
+     * @param source    the source vertex.
+     * @param target    the target vertex.
+     * @param heuristic an admissible estimate of the cost of the route from its first argument to its second.
+     * @return a Route.
+     */
+    public Route<V, E> aStar(V source, V target, ToDoubleBiFunction<? super V, ? super V> heuristic) {
+        final Map<V, Label<V, E>> labels = new HashMap<>();
+        final PriorityQueue<Entry<V>> pq = new PriorityQueue<>();
+        labels.put(source, new Label<>(0, null));
+        pq.offer(new Entry<>(source, 0, heuristic.applyAsDouble(source, target)));
+        int settled = 0;
+        while (!pq.isEmpty()) {
+            Entry<V> entry = pq.poll();
+            V v = entry.vertex;
+            Label<V, E> label = labels.get(v);
+            if (entry.cost > label.cost) continue; // stale entry
+            settled++;
+            if (v.equals(target)) return new Route<>(label.cost, forwardPath(labels, target), settled);
+            for (Edge<V, E> e : graph.adjacent(v)) {
+                V w = e.getTo();
+                double cost = label.cost + e.getAttributes().doubleValue();
+                Label<V, E> labelW = labels.get(w);
+                if (labelW == null) labels.put(w, new Label<>(cost, e));
+                else if (cost < labelW.cost) labelW.relax(cost, e);
+                else continue;
+                pq.offer(new Entry<>(w, cost, cost + heuristic.applyAsDouble(w, target)));
+            }
+        }
+        return new Route<>(Double.POSITIVE_INFINITY, null, settled);
+    }
+
+    /**
+     * Find the shortest route from source to target by bidirectional Dijkstra.
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return a Route.
+     */
+    public Route<V, E> bidirectional(V source, V target) {
+        final Map<V, Label<V, E>> forward = new HashMap<>();
+        final Map<V, Label<V, E>> backward = new HashMap<>();
+        final PriorityQueue<Entry<V>> pqForward = new PriorityQueue<>();
+        final PriorityQueue<Entry<V>> pqBackward = new PriorityQueue<>();
+        forward.put(source, new Label<>(0, null));
+        backward.put(target, new Label<>(0, null));
+        pqForward.offer(new Entry<>(source, 0, 0));
+        pqBackward.offer(new Entry<>(target, 0, 0));
+        double best = source.equals(target) ? 0 : Double.POSITIVE_INFINITY;
+        V meeting = source.equals(target) ? source : null;
+        int settled = 0;
+        while (!pqForward.isEmpty() && !pqBackward.isEmpty()) {
+            if (pqForward.peek().key + pqBackward.peek().key >= best) break;
+            boolean isForward = pqForward.peek().key <= pqBackward.peek().key;
+            PriorityQueue<Entry<V>> pq = isForward ? pqForward : pqBackward;
+            Map<V, Label<V, E>> labels = isForward ? forward : backward;
+            Map<V, Label<V, E>> others = isForward ? backward : forward;
+            Entry<V> entry = pq.poll();
+            V v = entry.vertex;
+            Label<V, E> label = labels.get(v);
+            if (entry.cost > label.cost) continue; // stale entry
+            settled++;
+            for (Edge<V, E> e : isForward ? graph.adjacent(v) : incoming.getOrDefault(v, List.of())) {
+                V w = isForward ? e.getTo() : e.getFrom();
+                double cost = label.cost + e.getAttributes().doubleValue();
+                Label<V, E> labelW = labels.get(w);
+                if (labelW == null) labels.put(w, new Label<>(cost, e));
+                else if (cost < labelW.cost) labelW.relax(cost, e);
+                else continue;
+                pq.offer(new Entry<>(w, cost, cost));
+                Label<V, E> other = others.get(w);
+                if (other != null && cost + other.cost < best) {
+                    best = cost + other.cost;
+                    meeting = w;
+                }
+            }
+        }
+        if (meeting == null) return new Route<>(Double.POSITIVE_INFINITY, null, settled);
+        // The route is the forward path to the meeting vertex followed by the backward path from it.
+        final List<Edge<V, E>> edges = new ArrayList<>();
+        for (V w = meeting; !w.equals(target); ) {
+            Edge<V, E> e = backward.get(w).edgeTo;
+            edges.add(e);
+            w = e.getTo();
+        }
+        final Stack<Edge<V, E>> path = forwardPath(forward, meeting);
+        for (Edge<V, E> e : edges) path.add(0, e);
+        return new Route<>(best, path, settled);
+    }
+
+    /**
+     * Get the heuristic for A* search over a spherical GeoGraph: the great-circle (haversine) distance between two points.
+     *
+     * @param geo the GeoGraph which defines the distance.
+     * @param <V> the vertex type.
+     * @return a heuristic function.
+     */
+    public static <V extends GeoPoint> ToDoubleBiFunction<V, V> haversine(GeoGraphSpherical<?, ?> geo) {
+        return geo::getDistance;
+    }
+
+    /**
+     * The result of a point-to-point query.
+     *
+     * @param <V> the vertex type.
+     * @param <E> the edge-attribute type.
+     */
+    public static class Route<V, E> {
+
+        /**
+         * @return the cost of the shortest route (infinite if there is no route).
+         */
+        public double cost() {
+            return cost;
+        }
+
+        public boolean hasPath() {
+            return path != null;
+        }
+
+        /**
+         * Get the edges of the route, in the same form as {@link ShortestPaths#pathTo}:
+         * popping the stack yields the edges in order from the source.
+         *
+         * @return the path (empty if there is no route).
+         */
+        public Iterable<Edge<V, E>> path() {
+            return path == null ? new Stack<>() : path;
+        }
+
+        /**
+         * @return the number of vertices which the search settled.
+         */
+        public int settled() {
+            return settled;
+        }
+
+        @Override
+        public String toString() {
+            return "Route{cost=" + cost + ", settled=" + settled + ", path=" + path + '}';
+        }
+
+        Route(double cost, Stack<Edge<V, E>> path, int settled) {
+            this.cost = cost;
+            this.path = path;
+            this.settled = settled;
+        }
+
+        private final double cost;
+        private final Stack<Edge<V, E>> path;
+        private final int settled;
+    }
+
+    private static <V, E> Stack<Edge<V, E>> forwardPath(Map<V, Label<V, E>> labels, V target) {
+        Stack<Edge<V, E>> result = new Stack<>();
+        for (Edge<V, E> e = labels.get(target).edgeTo; e != null; e = labels.get(e.getFrom()).edgeTo) result.push(e);
+        return result;
+    }
+
+    private static class Label<V, E> {
+        Label(double cost, Edge<V, E> edgeTo) {
+            this.cost = cost;
+            this.edgeTo = edgeTo;
+        }
+
+        void relax(double cost, Edge<V, E> edgeTo) {
+            this.cost = cost;
+            this.edgeTo = edgeTo;
+        }
+
+        private double cost;
+        private Edge<V, E> edgeTo;
+    }
+
+    private static class Entry<V> implements Comparable<Entry<V>> {
+        Entry(V vertex, double cost, double key) {
+            this.vertex = vertex;
+            this.cost = cost;
+            this.key = key;
+        }
+
+        public int compareTo(Entry<V> o) {
+            return Double.compare(key, o.key);
+        }
+
+        private final V vertex;
+        private final double cost;
+        private final double key;
+    }
+
+    private final Graph<V, Edge<V, E>> graph;
+    private final Map<V, List<Edge<V, E>>> incoming = new HashMap<>();
+}
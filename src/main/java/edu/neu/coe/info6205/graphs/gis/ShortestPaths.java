@@ -8,6 +8,14 @@ import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Stack;
 
+/**
+ * Single-source shortest paths over a DiGraph: the table of costs from start to every reachable vertex
+ * is computed by the constructor.
+ * When only the route between one pair of vertices is required, {@link PointToPoint} is much cheaper.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge-attribute (weight) type.
+ */
 public class ShortestPaths<V, E extends Number> {
     public ShortestPaths(DiGraph<V, E> graph, V start) {
         this.graph = graph;
@@ -28,7 +36,7 @@ public class ShortestPaths<V, E extends Number> {
         Stack<Edge<V, E>> edges = new Stack<>();
         if (hasPathTo(target)) {
             V v = target;
-            for (Vertex vertex = table.get(v); vertex.edgeTo != null; ) {
+            for (Vertex vertex = table.get(v); vertex.edgeTo != null; vertex = table.get(v)) {
                 Edge<V, E> edgeTo = vertex.edgeTo;
                 if (edgeTo.getTo() != v) throw new RuntimeException("assertion error");
                 edges.push(edgeTo);
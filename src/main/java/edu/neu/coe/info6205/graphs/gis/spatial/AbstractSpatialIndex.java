@@ -0,0 +1,145 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+import edu.neu.coe.info6205.graphs.gis.Position_Spherical;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Base class for spatial indexes: the points are projected once, on construction,
+ * and subclasses answer the queries in the plane, in terms of the indices of the points in the original list.
+ *
+ * @param <V> the type of the points.
+ */
+public abstract class AbstractSpatialIndex<V extends GeoPoint> implements SpatialIndex<V> {
+
+    public int size() {
+        return points.size();
+    }
+
+    public List<V> nearest(double latitude, double longitude, int k) {
+        final double[] xy = new double[2];
+        projection.project(latitude, longitude, xy);
+        final int[] result = new int[Math.min(k, size())];
+        final int found = nearest(xy[0], xy[1], result);
+        final List<V> list = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) list.add(points.get(result[i]));
+        return list;
+    }
+
+    public List<V> withinRadius(double latitude, double longitude, double radius) {
+        final double[] xy = new double[2];
+        projection.project(latitude, longitude, xy);
+        final List<V> list = new ArrayList<>();
+        forEachWithinRadius(xy[0], xy[1], radius, i -> list.add(points.get(i)));
+        return list;
+    }
+
+    /**
+     * The box is a rectangle in latitude and longitude but not in the plane, where its sides are (slightly) curved.
+     * So the planar search is of a rectangle which encloses the projections of points spaced along the sides of the box,
+     * with a margin; the result is then filtered by latitude and longitude.
+     */
+    public List<V> withinBox(double south, double west, double north, double east) {
+        final List<V> list = new ArrayList<>();
+        if (south > north || west > east) return list;
+        final double[] xy = new double[2];
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i <= BOX_SAMPLES; i++) {
+            double f = (double) i / BOX_SAMPLES;
+            double[][] samples = {{south, west + f * (east - west)}, {north, west + f * (east - west)},
+                    {south + f * (north - south), west}, {south + f * (north - south), east}};
+            for (double[] sample : samples) {
+                projection.project(sample[0], sample[1], xy);
+                minX = Math.min(minX, xy[0]);
+                maxX = Math.max(maxX, xy[0]);
+                minY = Math.min(minY, xy[1]);
+                maxY = Math.max(maxY, xy[1]);
+            }
+        }
+        final double margin = 1 + BOX_SLACK * Math.max(maxX - minX, maxY - minY);
+        forEachWithinBox(minX - margin, minY - margin, maxX + margin, maxY + margin, i -> {
+            Position_Spherical position = Projection.position(points.get(i));
+            if (position.getLatitude() >= south && position.getLatitude() <= north && position.getLongitude() >= west && position.getLongitude() <= east)
+                list.add(points.get(i));
+        });
+        return list;
+    }
+
+    /**
+     * Find the nearest points to (x, y) in the plane.
+     *
+     * @param x      the easting.
+     * @param y      the northing.
+     * @param result an array which will be filled with the indices of the nearest points (nearest first).
+     * @return the number of points found (the length of result unless there are too few points).
+     */
+    public abstract int nearest(double x, double y, int[] result);
+
+    /**
+     * Call action with the index of every point within radius of (x, y) in the plane.
+     *
+     * @param x      the easting.
+     * @param y      the northing.
+     * @param radius the distance (in meters).
+     * @param action the action.
+     */
+    public abstract void forEachWithinRadius(double x, double y, double radius, IntConsumer action);
+
+    /**
+     * Call action with the index of every point in the given rectangle of the plane (bounds included).
+     *
+     * @param minX   the least easting.
+     * @param minY   the least northing.
+     * @param maxX   the greatest easting.
+     * @param maxY   the greatest northing.
+     * @param action the action.
+     */
+    public abstract void forEachWithinBox(double minX, double minY, double maxX, double maxY, IntConsumer action);
+
+    /**
+     * @param i the index of a point.
+     * @return the point.
+     */
+    public V get(int i) {
+        return points.get(i);
+    }
+
+    public Projection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Constructor which projects the points into xs and ys.
+     *
+     * @param points the points (which must have Position_Spherical positions).
+     */
+    protected AbstractSpatialIndex(List<V> points) {
+        this.points = points;
+        this.projection = Projection.of(points);
+        final int n = points.size();
+        xs = new double[n];
+        ys = new double[n];
+        final double[] xy = new double[2];
+        for (int i = 0; i < n; i++) {
+            projection.project(points.get(i), xy);
+            xs[i] = xy[0];
+            ys[i] = xy[1];
+        }
+    }
+
+    protected final List<V> points;
+    protected final Projection projection;
+    // The projected coordinates of the points, in the order of the list: subclasses typically rearrange copies of these.
+    protected final double[] xs;
+    protected final double[] ys;
+
+    // The number of segments into which each side of a box is divided for projection.
+    private static final int BOX_SAMPLES = 8;
+
+    // The relative margin added to the planar rectangle enclosing a box.
+    private static final double BOX_SLACK = 0.01;
+}
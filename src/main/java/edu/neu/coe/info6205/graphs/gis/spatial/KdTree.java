@@ -0,0 +1,130 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A static two-dimensional k-d tree, bulk-loaded from a list of GeoPoints.
+ * <p>
+ * The tree is implicit: the points are rearranged so that, for each range [lo, hi) of the arrays,
+ * the median (by x at even depths and by y at odd depths) is at the middle, with the smaller points before it
+ * and the larger points after it. Building is O(N log N) by quickselect, and the coordinates are held
+ * (in tree order) in primitive arrays, so that there are no node objects at all.
+ *
+ * @param <V> the type of the points.
+ */
+public class KdTree<V extends GeoPoint> extends AbstractSpatialIndex<V> {
+
+    /**
+     * Constructor.
+     *
+     * @param points the points (which must have Position_Spherical positions).
+     */
+    public KdTree(List<V> points) {
+        super(points);
+        final int n = points.size();
+        kx = xs.clone();
+        ky = ys.clone();
+        order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        build(0, n, 0);
+    }
+
+    public int nearest(double x, double y, int[] result) {
+        if (result.length == 0) return 0;
+        final NeighborHeap heap = new NeighborHeap(result);
+        nearest(0, order.length, 0, x, y, heap);
+        return heap.sort();
+    }
+
+    public void forEachWithinRadius(double x, double y, double radius, IntConsumer action) {
+        if (radius >= 0) withinRadius(0, order.length, 0, x, y, radius * radius, action);
+    }
+
+    public void forEachWithinBox(double minX, double minY, double maxX, double maxY, IntConsumer action) {
+        withinBox(0, order.length, 0, minX, minY, maxX, maxY, action);
+    }
+
+    private void build(int lo, int hi, int depth) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, depth % 2 == 0 ? kx : ky);
+            build(lo, mid, depth + 1);
+            lo = mid + 1;
+            depth++;
+        }
+    }
+
+    /**
+     * Quickselect: rearrange [lo..hi] so that the element at k is in its sorted position (by keys).
+     */
+    private void select(int lo, int hi, int k, double[] keys) {
+        while (hi > lo) {
+            double pivot = keys[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) swap(i++, j--);
+            }
+            if (k <= j) hi = j;
+            else if (k >= i) lo = i;
+            else return;
+        }
+    }
+
+    private void nearest(int lo, int hi, int depth, double x, double y, NeighborHeap heap) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        double dx = x - kx[mid], dy = y - ky[mid];
+        heap.offer(order[mid], dx * dx + dy * dy);
+        double delta = depth % 2 == 0 ? dx : dy;
+        // Search the side containing the query point first, then the other side only if it could be closer.
+        if (delta < 0) {
+            nearest(lo, mid, depth + 1, x, y, heap);
+            if (delta * delta < heap.bound()) nearest(mid + 1, hi, depth + 1, x, y, heap);
+        } else {
+            nearest(mid + 1, hi, depth + 1, x, y, heap);
+            if (delta * delta < heap.bound()) nearest(lo, mid, depth + 1, x, y, heap);
+        }
+    }
+
+    private void withinRadius(int lo, int hi, int depth, double x, double y, double radius2, IntConsumer action) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        double dx = x - kx[mid], dy = y - ky[mid];
+        if (dx * dx + dy * dy <= radius2) action.accept(order[mid]);
+        double delta = depth % 2 == 0 ? dx : dy;
+        if (delta <= 0 || delta * delta <= radius2) withinRadius(lo, mid, depth + 1, x, y, radius2, action);
+        if (delta >= 0 || delta * delta <= radius2) withinRadius(mid + 1, hi, depth + 1, x, y, radius2, action);
+    }
+
+    private void withinBox(int lo, int hi, int depth, double minX, double minY, double maxX, double maxY, IntConsumer action) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        double px = kx[mid], py = ky[mid];
+        if (px >= minX && px <= maxX && py >= minY && py <= maxY) action.accept(order[mid]);
+        boolean even = depth % 2 == 0;
+        if (even ? minX <= px : minY <= py) withinBox(lo, mid, depth + 1, minX, minY, maxX, maxY, action);
+        if (even ? maxX >= px : maxY >= py) withinBox(mid + 1, hi, depth + 1, minX, minY, maxX, maxY, action);
+    }
+
+    private void swap(int i, int j) {
+        double x = kx[i];
+        kx[i] = kx[j];
+        kx[j] = x;
+        double y = ky[i];
+        ky[i] = ky[j];
+        ky[j] = y;
+        int p = order[i];
+        order[i] = order[j];
+        order[j] = p;
+    }
+
+    // The coordinates and the original indices of the points, in tree order.
+    private final double[] kx;
+    private final double[] ky;
+    private final int[] order;
+}
@@ -0,0 +1,82 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+/**
+ * A bounded max-heap (by squared distance) of the best candidates found so far by a nearest-neighbours search.
+ * When full, the root is the furthest of the candidates, which is the bound for pruning the search.
+ */
+class NeighborHeap {
+
+    NeighborHeap(int[] points) {
+        this.points = points;
+        this.distances = new double[points.length];
+    }
+
+    boolean isFull() {
+        return size == points.length;
+    }
+
+    /**
+     * @return the squared distance beyond which no candidate can be accepted.
+     */
+    double bound() {
+        return isFull() ? distances[0] : Double.POSITIVE_INFINITY;
+    }
+
+    void offer(int p, double d2) {
+        if (points.length == 0) return;
+        if (size < points.length) {
+            points[size] = p;
+            distances[size] = d2;
+            swim(size++);
+        } else if (d2 < distances[0]) {
+            points[0] = p;
+            distances[0] = d2;
+            sink(0);
+        }
+    }
+
+    /**
+     * Heap-sort in place so that the nearest is first.
+     *
+     * @return the number of candidates.
+     */
+    int sort() {
+        final int found = size;
+        while (size > 1) {
+            swap(0, --size);
+            sink(0);
+        }
+        size = 0;
+        return found;
+    }
+
+    private void swim(int k) {
+        while (k > 0 && distances[(k - 1) / 2] < distances[k]) {
+            swap(k, (k - 1) / 2);
+            k = (k - 1) / 2;
+        }
+    }
+
+    private void sink(int k) {
+        while (2 * k + 1 < size) {
+            int j = 2 * k + 1;
+            if (j + 1 < size && distances[j] < distances[j + 1]) j++;
+            if (distances[k] >= distances[j]) break;
+            swap(k, j);
+            k = j;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int p = points[i];
+        points[i] = points[j];
+        points[j] = p;
+        double d = distances[i];
+        distances[i] = distances[j];
+        distances[j] = d;
+    }
+
+    private final int[] points;
+    private final double[] distances;
+    private int size;
+}
@@ -0,0 +1,60 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+import edu.neu.coe.info6205.graphs.gis.Position_Spherical;
+import edu.neu.coe.info6205.util.GeoConversions;
+
+import java.util.List;
+
+/**
+ * The projection of GeoPoints onto the (planar) coordinates of a single UTM zone, in meters.
+ * <p>
+ * All the points of an index share one zone (that of their mean longitude), so that planar distances are comparable.
+ * Within a zone the scale error of the projection is less than 0.1%; it grows slowly outside the zone.
+ */
+public class Projection {
+
+    /**
+     * Choose the projection for a list of points.
+     *
+     * @param points the points (which must have Position_Spherical positions).
+     * @return a Projection for the zone of the mean longitude of points.
+     */
+    public static Projection of(List<? extends GeoPoint> points) {
+        double sum = 0;
+        for (GeoPoint point : points) sum += position(point).getLongitude();
+        return new Projection(GeoConversions.zone(points.isEmpty() ? 0 : sum / points.size()));
+    }
+
+    public Projection(int zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * @param latitude  the latitude (in degrees).
+     * @param longitude the longitude (in degrees).
+     * @param result    an array of two elements to receive the easting and northing (in meters).
+     */
+    public void project(double latitude, double longitude, double[] result) {
+        GeoConversions.project(latitude, longitude, zone, result);
+    }
+
+    /**
+     * @param point  a GeoPoint (which must have a Position_Spherical position).
+     * @param result an array of two elements to receive the easting and northing (in meters).
+     */
+    public void project(GeoPoint point, double[] result) {
+        Position_Spherical position = position(point);
+        project(position.getLatitude(), position.getLongitude(), result);
+    }
+
+    public int getZone() {
+        return zone;
+    }
+
+    static Position_Spherical position(GeoPoint point) {
+        return (Position_Spherical) point.getPosition();
+    }
+
+    private final int zone;
+}
@@ -0,0 +1,359 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A static R-tree, bulk-loaded from a list of GeoPoints by Sort-Tile-Recursive packing
+ * (Leutenegger, Lopez and Edgington).
+ * <p>
+ * To pack m items (points, or the nodes of the level below) into nodes of CAPACITY:
+ * sort them by x, cut them into about sqrt(m / CAPACITY) vertical slices, sort each slice by y,
+ * and then take runs of CAPACITY items in order. This is repeated, level by level, until there is just one node.
+ * Every node (except perhaps the last of each level) is full, and neighbouring nodes hardly overlap.
+ * <p>
+ * The nodes are held in primitive arrays: leaves first, then each level above in turn, so that the root is the last node.
+ * The children of a node are contiguous: the points from first(node) of a leaf, or the nodes from first(node) otherwise.
+ * Nearest-neighbour queries are best-first (Hjaltason and Samet): a single priority queue holds nodes and points,
+ * ordered by their least possible distance from the query point, so the first k points to be removed are the k nearest.
+ *
+ * @param <V> the type of the points.
+ */
+public class RTree<V extends GeoPoint> extends AbstractSpatialIndex<V> {
+
+    /**
+     * Constructor.
+     *
+     * @param points the points (which must have Position_Spherical positions).
+     */
+    public RTree(List<V> points) {
+        super(points);
+        final int n = points.size();
+        // Pack the points into leaves.
+        order = identity(n);
+        pack(order, xs, ys);
+        px = new double[n];
+        py = new double[n];
+        for (int i = 0; i < n; i++) {
+            px[i] = xs[order[i]];
+            py[i] = ys[order[i]];
+        }
+        final List<Level> levels = new ArrayList<>();
+        Level level = new Level((n + CAPACITY - 1) / CAPACITY);
+        for (int node = 0; node < level.size(); node++) {
+            int first = node * CAPACITY;
+            level.set(node, first, Math.min(CAPACITY, n - first), px, py, px, py);
+        }
+        levels.add(level);
+        // Pack each level into the level above.
+        while (level.size() > 1) {
+            final Level children = level;
+            final int m = children.size();
+            final double[] cx = new double[m], cy = new double[m];
+            for (int i = 0; i < m; i++) {
+                cx[i] = (children.minX[i] + children.maxX[i]) / 2;
+                cy[i] = (children.minY[i] + children.maxY[i]) / 2;
+            }
+            final int[] permutation = identity(m);
+            pack(permutation, cx, cy);
+            children.permute(permutation);
+            level = new Level((m + CAPACITY - 1) / CAPACITY);
+            for (int node = 0; node < level.size(); node++) {
+                int first = node * CAPACITY;
+                level.set(node, first, Math.min(CAPACITY, m - first), children.minX, children.minY, children.maxX, children.maxY);
+            }
+            levels.add(level);
+        }
+        // Concatenate the levels, with the children of each internal node renumbered accordingly.
+        int total = 0;
+        for (Level l : levels) total += l.size();
+        minX = new double[total];
+        minY = new double[total];
+        maxX = new double[total];
+        maxY = new double[total];
+        first = new int[total];
+        count = new int[total];
+        leaves = levels.get(0).size();
+        int base = 0, childBase = 0;
+        for (int i = 0; i < levels.size(); i++) {
+            Level l = levels.get(i);
+            System.arraycopy(l.minX, 0, minX, base, l.size());
+            System.arraycopy(l.minY, 0, minY, base, l.size());
+            System.arraycopy(l.maxX, 0, maxX, base, l.size());
+            System.arraycopy(l.maxY, 0, maxY, base, l.size());
+            System.arraycopy(l.count, 0, count, base, l.size());
+            for (int node = 0; node < l.size(); node++) first[base + node] = l.first[node] + (i == 0 ? 0 : childBase);
+            if (i > 0) childBase += levels.get(i - 1).size();
+            base += l.size();
+        }
+        root = total - 1;
+        height = levels.size();
+    }
+
+    public int nearest(double x, double y, int[] result) {
+        if (root < 0 || result.length == 0) return 0;
+        final Queue queue = new Queue();
+        queue.insert(0, root);
+        int found = 0;
+        while (!queue.isEmpty() && found < result.length) {
+            int item = queue.delMin();
+            if (item < 0) result[found++] = order[-1 - item];
+            else if (item < leaves)
+                for (int p = first[item], end = p + count[item]; p < end; p++) {
+                    double dx = x - px[p], dy = y - py[p];
+                    queue.insert(dx * dx + dy * dy, -1 - p);
+                }
+            else
+                for (int child = first[item], end = child + count[item]; child < end; child++)
+                    queue.insert(distance2(child, x, y), child);
+        }
+        return found;
+    }
+
+    public void forEachWithinRadius(double x, double y, double radius, IntConsumer action) {
+        if (root < 0 || radius < 0) return;
+        final double radius2 = radius * radius;
+        final int[] stack = new int[height * CAPACITY];
+        int size = 0;
+        stack[size++] = root;
+        while (size > 0) {
+            int node = stack[--size];
+            if (node < leaves)
+                for (int p = first[node], end = p + count[node]; p < end; p++) {
+                    double dx = x - px[p], dy = y - py[p];
+                    if (dx * dx + dy * dy <= radius2) action.accept(order[p]);
+                }
+            else
+                for (int child = first[node], end = child + count[node]; child < end; child++)
+                    if (distance2(child, x, y) <= radius2) stack[size++] = child;
+        }
+    }
+
+    public void forEachWithinBox(double minX, double minY, double maxX, double maxY, IntConsumer action) {
+        if (root < 0 || !intersects(root, minX, minY, maxX, maxY)) return;
+        final int[] stack = new int[height * CAPACITY];
+        int size = 0;
+        stack[size++] = root;
+        while (size > 0) {
+            int node = stack[--size];
+            if (node < leaves)
+                for (int p = first[node], end = p + count[node]; p < end; p++) {
+                    if (px[p] >= minX && px[p] <= maxX && py[p] >= minY && py[p] <= maxY) action.accept(order[p]);
+                }
+            else
+                for (int child = first[node], end = child + count[node]; child < end; child++)
+                    if (intersects(child, minX, minY, maxX, maxY)) stack[size++] = child;
+        }
+    }
+
+    /**
+     * @return the number of levels of nodes.
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * @return the square of the least distance from (x, y) to the bounding box of node.
+     */
+    private double distance2(int node, double x, double y) {
+        double dx = x < minX[node] ? minX[node] - x : x > maxX[node] ? x - maxX[node] : 0;
+        double dy = y < minY[node] ? minY[node] - y : y > maxY[node] ? y - maxY[node] : 0;
+        return dx * dx + dy * dy;
+    }
+
+    private boolean intersects(int node, double minX, double minY, double maxX, double maxY) {
+        return this.minX[node] <= maxX && this.maxX[node] >= minX && this.minY[node] <= maxY && this.maxY[node] >= minY;
+    }
+
+    /**
+     * Sort-Tile-Recursive: rearrange items so that each run of CAPACITY is a compact tile.
+     *
+     * @param items the items (indices into xs and ys) to be rearranged.
+     * @param xs    the x coordinates (of the items' centers).
+     * @param ys    the y coordinates (of the items' centers).
+     */
+    private static void pack(int[] items, double[] xs, double[] ys) {
+        final int m = items.length;
+        if (m <= CAPACITY) return;
+        final int nodes = (m + CAPACITY - 1) / CAPACITY;
+        final int slices = (int) Math.ceil(Math.sqrt(nodes));
+        final int sliceSize = ((nodes + slices - 1) / slices) * CAPACITY;
+        sort(items, xs, 0, m - 1);
+        for (int lo = 0; lo < m; lo += sliceSize) sort(items, ys, lo, Math.min(m, lo + sliceSize) - 1);
+    }
+
+    /**
+     * Quicksort of items[lo..hi] by keys[item] (median-of-three, with insertion sort for small ranges).
+     */
+    private static void sort(int[] items, double[] keys, int lo, int hi) {
+        while (hi - lo > INSERTION_SORT_CUTOFF) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[items[mid]] < keys[items[lo]]) swap(items, mid, lo);
+            if (keys[items[hi]] < keys[items[lo]]) swap(items, hi, lo);
+            if (keys[items[hi]] < keys[items[mid]]) swap(items, hi, mid);
+            double pivot = keys[items[mid]];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (keys[items[i]] < pivot) i++;
+                while (keys[items[j]] > pivot) j--;
+                if (i <= j) swap(items, i++, j--);
+            }
+            // Recurse into the smaller part, and loop on the larger.
+            if (j - lo < hi - i) {
+                sort(items, keys, lo, j);
+                lo = i;
+            } else {
+                sort(items, keys, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++)
+            for (int j = i; j > lo && keys[items[j]] < keys[items[j - 1]]; j--) swap(items, j, j - 1);
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    private static int[] identity(int n) {
+        final int[] result = new int[n];
+        for (int i = 0; i < n; i++) result[i] = i;
+        return result;
+    }
+
+    /**
+     * One level of nodes, during construction.
+     */
+    private static class Level {
+        Level(int size) {
+            minX = new double[size];
+            minY = new double[size];
+            maxX = new double[size];
+            maxY = new double[size];
+            first = new int[size];
+            count = new int[size];
+        }
+
+        int size() {
+            return first.length;
+        }
+
+        /**
+         * Set node to cover the children [first, first + count), whose bounds are given.
+         */
+        void set(int node, int first, int count, double[] lowX, double[] lowY, double[] highX, double[] highY) {
+            this.first[node] = first;
+            this.count[node] = count;
+            minX[node] = minY[node] = Double.POSITIVE_INFINITY;
+            maxX[node] = maxY[node] = Double.NEGATIVE_INFINITY;
+            for (int i = first; i < first + count; i++) {
+                minX[node] = Math.min(minX[node], lowX[i]);
+                minY[node] = Math.min(minY[node], lowY[i]);
+                maxX[node] = Math.max(maxX[node], highX[i]);
+                maxY[node] = Math.max(maxY[node], highY[i]);
+            }
+        }
+
+        /**
+         * Rearrange the nodes so that the node at i is the one which was at permutation[i].
+         */
+        void permute(int[] permutation) {
+            minX = permute(minX, permutation);
+            minY = permute(minY, permutation);
+            maxX = permute(maxX, permutation);
+            maxY = permute(maxY, permutation);
+            final int[] f = first.clone(), c = count.clone();
+            for (int i = 0; i < permutation.length; i++) {
+                first[i] = f[permutation[i]];
+                count[i] = c[permutation[i]];
+            }
+        }
+
+        private static double[] permute(double[] a, int[] permutation) {
+            final double[] result = new double[a.length];
+            for (int i = 0; i < a.length; i++) result[i] = a[permutation[i]];
+            return result;
+        }
+
+        double[] minX;
+        double[] minY;
+        double[] maxX;
+        double[] maxY;
+        final int[] first;
+        final int[] count;
+    }
+
+    /**
+     * A binary min-heap of items (node numbers, or -1 - p for the point in slot p) keyed by squared distance.
+     */
+    private static class Queue {
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void insert(double key, int item) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+                items = Arrays.copyOf(items, 2 * size);
+            }
+            int k = size++;
+            while (k > 0 && keys[(k - 1) / 2] > key) {
+                keys[k] = keys[(k - 1) / 2];
+                items[k] = items[(k - 1) / 2];
+                k = (k - 1) / 2;
+            }
+            keys[k] = key;
+            items[k] = item;
+        }
+
+        int delMin() {
+            final int result = items[0];
+            final double key = keys[--size];
+            final int item = items[size];
+            int k = 0;
+            while (2 * k + 1 < size) {
+                int j = 2 * k + 1;
+                if (j + 1 < size && keys[j + 1] < keys[j]) j++;
+                if (key <= keys[j]) break;
+                keys[k] = keys[j];
+                items[k] = items[j];
+                k = j;
+            }
+            keys[k] = key;
+            items[k] = item;
+            return result;
+        }
+
+        private double[] keys = new double[64];
+        private int[] items = new int[64];
+        private int size;
+    }
+
+    // The maximum number of children of a node.
+    static final int CAPACITY = 16;
+
+    private static final int INSERTION_SORT_CUTOFF = 12;
+
+    // The points in leaf order: px and py are their coordinates and order their indices in the original list.
+    private final int[] order;
+    private final double[] px;
+    private final double[] py;
+
+    // The nodes: leaves are 0 until leaves, and root is the last.
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+    private final int[] first;
+    private final int[] count;
+    private final int leaves;
+    private final int root;
+    private final int height;
+}
@@ -0,0 +1,73 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+
+import java.util.List;
+
+/**
+ * Interface to define the behavior of a static spatial index over a list of GeoPoints.
+ * <p>
+ * Distances are measured in meters in the plane of the index's {@link Projection}.
+ *
+ * @param <V> the type of the points.
+ */
+public interface SpatialIndex<V extends GeoPoint> {
+
+    /**
+     * @return the number of points in the index.
+     */
+    int size();
+
+    /**
+     * Find the k nearest points to the given position.
+     *
+     * @param latitude  the latitude (in degrees).
+     * @param longitude the longitude (in degrees).
+     * @param k         the number of points required.
+     * @return the (up to) k nearest points, nearest first.
+     */
+    List<V> nearest(double latitude, double longitude, int k);
+
+    /**
+     * Find all the points within the given distance of the given position.
+     *
+     * @param latitude  the latitude (in degrees).
+     * @param longitude the longitude (in degrees).
+     * @param radius    the distance (in meters).
+     * @return the points whose distance from the position is no more than radius (in no particular order).
+     */
+    List<V> withinRadius(double latitude, double longitude, double radius);
+
+    /**
+     * Find all the points in the given range of latitude and longitude.
+     *
+     * @param south the least latitude.
+     * @param west  the least longitude.
+     * @param north the greatest latitude.
+     * @param east  the greatest longitude.
+     * @return the points in the box (in no particular order).
+     */
+    List<V> withinBox(double south, double west, double north, double east);
+
+    /**
+     * Find the k nearest points to the given point (which may be in the index, in which case it is included).
+     *
+     * @param point a GeoPoint (which must have a Position_Spherical position).
+     * @param k     the number of points required.
+     * @return the (up to) k nearest points, nearest first.
+     */
+    default List<V> nearest(GeoPoint point, int k) {
+        return nearest(Projection.position(point).getLatitude(), Projection.position(point).getLongitude(), k);
+    }
+
+    /**
+     * Find all the points within the given distance of the given point (including the point itself if it is in the index).
+     *
+     * @param point  a GeoPoint (which must have a Position_Spherical position).
+     * @param radius the distance (in meters).
+     * @return the points whose distance from point is no more than radius (in no particular order).
+     */
+    default List<V> withinRadius(GeoPoint point, double radius) {
+        return withinRadius(Projection.position(point).getLatitude(), Projection.position(point).getLongitude(), radius);
+    }
+}
@@ -0,0 +1,120 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+import edu.neu.coe.info6205.graphs.gis.Position_Spherical;
+import edu.neu.coe.info6205.graphs.undirected.Position;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Benchmark of {@link KdTree} and {@link RTree}: the time to build each index from random points
+ * (spread over about 100 km by 100 km), and the mean times of k-nearest-neighbour, radius and box queries,
+ * compared with a linear scan of the (projected) points.
+ * <p>
+ * Usage: SpatialIndexBenchmark [n [queries [k]]]
+ */
+public class SpatialIndexBenchmark {
+
+    public SpatialIndexBenchmark(int n, int queries, int k) {
+        this.k = k;
+        final Random random = new Random(0L);
+        points = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            points.add(new Location(i, SOUTH + random.nextDouble() * SIZE, WEST + random.nextDouble() * SIZE));
+        latitudes = new double[queries];
+        longitudes = new double[queries];
+        for (int i = 0; i < queries; i++) {
+            latitudes[i] = SOUTH + random.nextDouble() * SIZE;
+            longitudes[i] = WEST + random.nextDouble() * SIZE;
+        }
+    }
+
+    public void runBenchmarks() {
+        System.out.println("SpatialIndexBenchmark: N=" + Utilities.formatWhole(points.size()) + ", queries=" + Utilities.formatWhole(latitudes.length) + ", k=" + k);
+        final KdTree<Location> kdTree = build("KdTree", KdTree::new);
+        final RTree<Location> rTree = build("RTree", RTree::new);
+        System.out.println("  RTree height: " + rTree.height());
+        double scan = benchmark("linear scan (k-NN)", i -> scan(kdTree, latitudes[i], longitudes[i]), Math.max(1, latitudes.length / 100));
+        for (AbstractSpatialIndex<Location> index : List.of(kdTree, rTree)) {
+            String name = index.getClass().getSimpleName();
+            double time = benchmark(name + " k-NN", i -> index.nearest(latitudes[i], longitudes[i], k), latitudes.length);
+            System.out.println("  speedup over linear scan: " + Utilities.formatWhole((int) (scan / time)));
+            benchmark(name + " radius " + RADIUS + " m", i -> index.withinRadius(latitudes[i], longitudes[i], RADIUS), latitudes.length);
+            benchmark(name + " box " + BOX + " degrees", i -> index.withinBox(latitudes[i], longitudes[i], latitudes[i] + BOX, longitudes[i] + BOX), latitudes.length);
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int k = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        new SpatialIndexBenchmark(n, queries, k).runBenchmarks();
+    }
+
+    private <I extends AbstractSpatialIndex<Location>> I build(String description, Function<List<Location>, I> constructor) {
+        final long start = System.nanoTime();
+        final I result = constructor.apply(points);
+        System.out.println(description + " build: " + Utilities.formatDecimal3Places((System.nanoTime() - start) / 1E6) + " mSec");
+        return result;
+    }
+
+    /**
+     * @return the mean time (mSec) per query.
+     */
+    private double benchmark(String description, Consumer<Integer> query, int queries) {
+        double time = new Benchmark_Timer<Integer>(description, x -> {
+            for (int i = 0; i < queries; i++) query.accept(i);
+        }).run(0, 1) / queries;
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time * 1000) + " microseconds per query");
+        return time;
+    }
+
+    /**
+     * The k nearest points by a linear scan of the projected points (using a bounded heap).
+     */
+    private int scan(AbstractSpatialIndex<Location> index, double latitude, double longitude) {
+        final double[] xy = new double[2];
+        index.getProjection().project(latitude, longitude, xy);
+        final NeighborHeap heap = new NeighborHeap(new int[k]);
+        for (int i = 0; i < index.size(); i++) {
+            double dx = index.xs[i] - xy[0], dy = index.ys[i] - xy[1];
+            heap.offer(i, dx * dx + dy * dy);
+        }
+        return heap.sort();
+    }
+
+    private static class Location implements GeoPoint {
+        Location(int id, double latitude, double longitude) {
+            this.id = id;
+            this.position = new Position_Spherical(latitude, longitude);
+        }
+
+        public String getName() {
+            return "L" + id;
+        }
+
+        public Position getPosition() {
+            return position;
+        }
+
+        private final int id;
+        private final Position position;
+    }
+
+    private static final double SOUTH = 42.0;
+    private static final double WEST = -71.6;
+    private static final double SIZE = 1.0;
+    private static final double RADIUS = 250;
+    private static final double BOX = 0.005;
+
+    private final int k;
+    private final List<Location> points;
+    private final double[] latitudes;
+    private final double[] longitudes;
+}
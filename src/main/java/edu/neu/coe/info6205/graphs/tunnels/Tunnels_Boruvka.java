@@ -12,7 +12,6 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Predicate;
 
 public class Tunnels_Boruvka implements Iterable<Edge<Building, TunnelProperties>> {
 
@@ -38,7 +37,7 @@ public class Tunnels_Boruvka implements Iterable<Edge<Building, TunnelProperties
         setupZones();
         setupTunnels();
         // We arbitrarily limit the the length of any tunnel to 250m
-        Boruvka = new GeoBoruvka<>(createGraph(buildings, e -> e.getAttribute().length <= 250));
+        Boruvka = new GeoBoruvka<>(createGraph(buildings, 250));
     }
 
     public Graph<Building, Edge<Building, TunnelProperties>> getMst() {
@@ -62,24 +61,17 @@ public class Tunnels_Boruvka implements Iterable<Edge<Building, TunnelProperties
     private final Boruvka<Building, TunnelProperties> Boruvka;
 
     /**
-     * Create a graph consisting of all possible edges connection the buildings.
-     * The resulting graph should contain N(N-1)/2 edges where N is length of the list buildings.
+     * Create a graph of the possible tunnels connecting the buildings: every pair of buildings which are no further apart than maxLength.
+     * This is the same graph as that of all N(N-1)/2 possible edges (where N is length of the list buildings) filtered by length,
+     * but the candidate pairs are found by CandidateEdges without considering every possible edge.
      *
      * @param buildings a list of Buildings.
-     * @param predicate the predicate: only edges satisfying this predicate will be added to the graph.
+     * @param maxLength the maximum length of a tunnel (in meters, rounded as in TunnelProperties).
      * @return a Geo&lt;Building, TunnelProperties&gt;
      */
-    private static EdgeGraph<Building, TunnelProperties> createGraph(List<Building> buildings, Predicate<Edge<Building, TunnelProperties>> predicate) {
-        GeoGraphSpherical<Building, TunnelProperties> graph = new GeoGraphSpherical<>();
-        int len = buildings.size();
-        for (int i = 0; i < len; i++) {
-            Building b1 = buildings.get(i);
-            for (int j = i + 1; j < len; j++) {
-                Building b2 = buildings.get(j);
-                double length = graph.getDistance(b1, b2);
-                graph.addEdge(b1, b2, getTunnelProperties(b1, b2, length), predicate);
-            }
-        }
+    private static EdgeGraph<Building, TunnelProperties> createGraph(List<Building> buildings, int maxLength) {
+        // The length of a tunnel is rounded to the nearest meter, so we must search half a meter further.
+        GeoGraphSpherical<Building, TunnelProperties> graph = CandidateEdges.withinRadius(buildings, maxLength + 0.5, Tunnels_Boruvka::getTunnelProperties, e -> e.getAttribute().length <= maxLength);
         SizedIterable<Edge<Building, TunnelProperties>> edges = graph.edges();
         System.out.println("created " + edges.size() + " edges");
         return graph;
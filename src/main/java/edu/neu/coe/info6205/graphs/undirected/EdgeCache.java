@@ -0,0 +1,193 @@
+package edu.neu.coe.info6205.graphs.undirected;
+
+import edu.neu.coe.info6205.SizedIterable;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Cached list of the edges of a graph, maintained alongside its adjacency bags.
+ * <p>
+ * The graph calls add for each new edge, so that the list is kept up to date incrementally.
+ * Any other mutation (such as replacing an adjacency bag) should call invalidate,
+ * in which case the list is rebuilt from the adjacency bags the next time it is needed.
+ * <p>
+ * An EdgeCache is itself a read-only SizedIterable view of the edges: it is returned directly by edges(), without copying.
+ * As with any Java collection, a graph must not be mutated while such a view is being iterated.
+ *
+ * @param <V> the vertex type.
+ * @param <X> the edge type.
+ */
+public class EdgeCache<V, X> implements SizedIterable<X> {
+
+    /**
+     * Constructor.
+     *
+     * @param vertices a supplier of the vertices of the graph.
+     * @param bags     a supplier of the adjacency bags of the graph (used to rebuild the list after invalidation).
+     * @param from     a function to yield the first (from) vertex of an edge.
+     * @param to       a function to yield the second (to) vertex of an edge.
+     */
+    public EdgeCache(Supplier<Collection<V>> vertices, Supplier<Collection<? extends Iterable<X>>> bags, Function<X, V> from, Function<X, V> to) {
+        this.vertices = vertices;
+        this.bags = bags;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Record a new edge (which has just been added to the graph).
+     *
+     * @param x the edge.
+     */
+    public void add(X x) {
+        if (valid) edges.add(x);
+        arrays = null;
+    }
+
+    /**
+     * Invalidate this cache following a mutation of the graph other than the addition of an edge.
+     */
+    public void invalidate() {
+        valid = false;
+        edges.clear();
+        arrays = null;
+    }
+
+    public int size() {
+        return list().size();
+    }
+
+    public Iterator<X> iterator() {
+        return Collections.unmodifiableList(list()).iterator();
+    }
+
+    /**
+     * Get the edges as primitive arrays of vertex indices, for algorithms which scan the edges many times.
+     * The result is cached until the next mutation of the graph.
+     *
+     * @return an EdgeArrays object.
+     */
+    public EdgeArrays<V, X> arrays() {
+        if (arrays == null) arrays = new EdgeArrays<>(new ArrayList<>(vertices.get()), list(), from, to);
+        return arrays;
+    }
+
+    @Override
+    public String toString() {
+        return list().toString();
+    }
+
+    private List<X> list() {
+        if (!valid) {
+            for (Iterable<X> bag : bags.get()) for (X x : bag) edges.add(x);
+            valid = true;
+        }
+        return edges;
+    }
+
+    /**
+     * The edges of a graph in primitive form: edge i runs from vertex index from[i] to vertex index to[i].
+     * Vertex indices are dense, in the order of the graph's vertices at the time of export.
+     *
+     * @param <V> the vertex type.
+     * @param <X> the edge type.
+     */
+    public static class EdgeArrays<V, X> {
+
+        /**
+         * @return the number of vertices.
+         */
+        public int V() {
+            return vertices.size();
+        }
+
+        /**
+         * @return the number of edges.
+         */
+        public int E() {
+            return from.length;
+        }
+
+        /**
+         * @param i an edge index.
+         * @return the index of the from vertex of edge i.
+         */
+        public int from(int i) {
+            return from[i];
+        }
+
+        /**
+         * @param i an edge index.
+         * @return the index of the to vertex of edge i.
+         */
+        public int to(int i) {
+            return to[i];
+        }
+
+        /**
+         * @param i an edge index.
+         * @return edge i.
+         */
+        public X edge(int i) {
+            return edges.get(i);
+        }
+
+        /**
+         * @param v a vertex index.
+         * @return the vertex.
+         */
+        public V vertex(int v) {
+            return vertices.get(v);
+        }
+
+        /**
+         * @param v a vertex.
+         * @return the index of v (or -1 if it is not a vertex).
+         */
+        public int index(V v) {
+            return indices.getOrDefault(v, -1);
+        }
+
+        /**
+         * Get the weights of the edges as a primitive array.
+         *
+         * @param weight a function to yield the weight of an edge.
+         * @return a new array of weights, in edge order.
+         */
+        public double[] weights(ToDoubleFunction<X> weight) {
+            double[] result = new double[from.length];
+            for (int i = 0; i < result.length; i++) result[i] = weight.applyAsDouble(edges.get(i));
+            return result;
+        }
+
+        private EdgeArrays(List<V> vertices, List<X> edges, Function<X, V> fromFunction, Function<X, V> toFunction) {
+            this.vertices = vertices;
+            this.edges = new ArrayList<>(edges);
+            this.indices = new HashMap<>(2 * vertices.size());
+            for (V v : vertices) indices.put(v, indices.size());
+            from = new int[edges.size()];
+            to = new int[edges.size()];
+            for (int i = 0; i < from.length; i++) {
+                from[i] = indices.get(fromFunction.apply(edges.get(i)));
+                to[i] = indices.get(toFunction.apply(edges.get(i)));
+            }
+        }
+
+        private final List<V> vertices;
+        private final List<X> edges;
+        private final Map<V, Integer> indices;
+        private final int[] from;
+        private final int[] to;
+    }
+
+    private final Supplier<Collection<V>> vertices;
+    private final Supplier<Collection<? extends Iterable<X>>> bags;
+    private final Function<X, V> from;
+    private final Function<X, V> to;
+    private final List<X> edges = new ArrayList<>();
+    private boolean valid = true;
+    private EdgeArrays<V, X> arrays;
+}
@@ -1,19 +1,34 @@
 package edu.neu.coe.info6205.graphs.undirected;
 
 import edu.neu.coe.info6205.SizedIterable;
-import edu.neu.coe.info6205.bqs.Bag;
-import edu.neu.coe.info6205.bqs.Bag_Array;
 
 import java.util.function.Predicate;
 
 public class Graph_Edges<V, E> extends AbstractGraph<V, Edge<V, E>> implements EdgeGraph<V, E> {
 
+    /**
+     * Method to get the edges as a read-only view (which is maintained as edges are added, rather than rebuilt on each call).
+     *
+     * @return a SizedIterable
+     */
     public SizedIterable<Edge<V, E>> edges() {
-        Bag<Edge<V, E>> result = new Bag_Array<>();
-        for (Iterable<Edge<V, E>> b : adjacentEdges.values())
-            for (Edge<V, E> e : b)
-                result.add(e);
-        return result;
+        return edgeCache;
+    }
+
+    /**
+     * Method to get the edges as primitive arrays of vertex indices (cached until this graph is next mutated).
+     *
+     * @return an EdgeArrays object.
+     */
+    public EdgeCache.EdgeArrays<V, Edge<V, E>> edgeArrays() {
+        return edgeCache.arrays();
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        // Replacing the adjacency bag of an existing vertex discards its edges.
+        if (adjacentEdges.containsKey(vertex)) edgeCache.invalidate();
+        super.addVertex(vertex);
     }
 
     public void addEdge(Edge<V, E> edge, Predicate<Edge<V, E>> predicate) {
@@ -23,6 +38,7 @@ public class Graph_Edges<V, E> extends AbstractGraph<V, Edge<V, E>> implements E
             getAdjacencyBag(v).add(edge);
             // Then, we simply ensure that the "to" vertex has an adjacency bag (which might be empty)
             getAdjacencyBag(edge.getOther(v));
+            edgeCache.add(edge);
         }
     }
 
@@ -35,4 +51,6 @@ public class Graph_Edges<V, E> extends AbstractGraph<V, Edge<V, E>> implements E
         return adjacentEdges.toString();
     }
 
+    private final EdgeCache<V, Edge<V, E>> edgeCache = new EdgeCache<>(adjacentEdges::keySet, adjacentEdges::values, Edge::get, e -> e.getOther(e.get()));
+
 }
\ No newline at end of file
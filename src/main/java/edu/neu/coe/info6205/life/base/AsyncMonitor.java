@@ -0,0 +1,119 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * This class is a monitor which hands each generation to a background thread, by way of a bounded ring buffer,
+ * so that the (slow) work of the underlying monitor, typically rendering and printing, is taken off the thread running the Game.
+ * <p>
+ * The ring has a single producer (the thread which calls accept) and a single consumer (the background thread):
+ * each advances its own counter, so no locks are needed.
+ * If the ring is full, the generation is dropped (and counted) rather than holding up the producer.
+ * The monitored things must not be changed after they are passed to accept (the Grids of a Game, for example, are never changed).
+ *
+ * @param <T> the type of the thing being monitored.
+ */
+public class AsyncMonitor<T> implements BiConsumer<Long, T>, AutoCloseable {
+
+    /**
+     * Constructor (which starts the background thread).
+     *
+     * @param capacity the capacity of the ring (rounded up to a power of two).
+     * @param monitor  the underlying monitor, which will be invoked on the background thread.
+     */
+    public AsyncMonitor(int capacity, BiConsumer<Long, T> monitor) {
+        if (capacity < 1) throw new LifeException("AsyncMonitor: capacity must be positive");
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.generations = new long[size];
+        this.things = new Object[size];
+        this.monitor = monitor;
+        this.thread = new Thread(this::drain, "AsyncMonitor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Method to offer a generation to the ring, without waiting.
+     *
+     * @param generation the generation.
+     * @param t          the thing being monitored.
+     */
+    public void accept(Long generation, T t) {
+        final long h = head.get();
+        if (h - tail.get() > mask) {
+            dropped++;
+            return;
+        }
+        final int slot = (int) (h & mask);
+        generations[slot] = generation;
+        things[slot] = t;
+        // The volatile write publishes the slot to the consumer.
+        head.set(h + 1);
+    }
+
+    /**
+     * Method to wait until every generation in the ring has been passed to the underlying monitor, and then stop the background thread.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the number of generations passed to the underlying monitor so far.
+     */
+    public long getLogged() {
+        return tail.get();
+    }
+
+    /**
+     * @return the number of generations dropped because the ring was full (to be called by the producer).
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        while (true) {
+            final boolean finished = closed;
+            final long h = head.get();
+            long t = tail.get();
+            if (t == h) {
+                if (finished) return;
+                LockSupport.parkNanos(IdleNanos);
+                continue;
+            }
+            for (; t < h; t++) {
+                final int slot = (int) (t & mask);
+                final T thing = (T) things[slot];
+                things[slot] = null;
+                try {
+                    monitor.accept(generations[slot], thing);
+                } finally {
+                    tail.set(t + 1);
+                }
+            }
+        }
+    }
+
+    private static final long IdleNanos = 1_000_000L;
+
+    private final int mask;
+    private final long[] generations;
+    private final Object[] things;
+    private final BiConsumer<Long, T> monitor;
+    private final Thread thread;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile boolean closed;
+    private long dropped;
+}
@@ -0,0 +1,149 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class detects when a sequence of generations repeats itself, by means of their Fingerprints.
+ * <p>
+ * An instance is a bounded ring of the most recent fingerprints (window of them), indexed by a map:
+ * each new fingerprint is offered in turn, and the first one which matches a fingerprint still in the ring yields the Cycle.
+ * The pre-period and period are exact provided that the period is no greater than the window; the memory is O(window).
+ * <p>
+ * Alternatively, when the next generation can be computed at will, {@link #brent(Object, UnaryOperator, Function, long)}
+ * finds the Cycle by Brent's algorithm in O(1) memory, whatever the period.
+ */
+public class CycleDetector {
+
+    /**
+     * This class represents a cycle: the generation at which it starts (that is to say the pre-period) and its period.
+     */
+    public static class Cycle {
+        public Cycle(long start, long period) {
+            this.start = start;
+            this.period = period;
+        }
+
+        /**
+         * @return the first generation which is repeated (the pre-period, if the sequence starts at generation 0).
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * @return the period (1 for a still life or an empty universe).
+         */
+        public long getPeriod() {
+            return period;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Cycle)) return false;
+            Cycle cycle = (Cycle) o;
+            return start == cycle.start && period == cycle.period;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, period);
+        }
+
+        @Override
+        public String toString() {
+            return "period " + period + " after pre-period " + start;
+        }
+
+        private final long start;
+        private final long period;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param window the number of recent fingerprints to remember (at least 1).
+     */
+    public CycleDetector(int window) {
+        if (window < 1) throw new LifeException("CycleDetector: window must be positive");
+        this.fingerprints = new Fingerprint[window];
+        this.generations = new long[window];
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Method to offer the fingerprint of the next generation.
+     *
+     * @param generation  the generation (which should be greater than all those previously offered).
+     * @param fingerprint its Fingerprint.
+     * @return the Cycle, if fingerprint matches one in the ring; otherwise null.
+     */
+    public Cycle offer(long generation, Fingerprint fingerprint) {
+        final Long previous = index.get(fingerprint);
+        if (previous != null) return new Cycle(previous, generation - previous);
+        final int slot = (int) (count++ % fingerprints.length);
+        if (fingerprints[slot] != null) index.remove(fingerprints[slot], generations[slot]);
+        fingerprints[slot] = fingerprint;
+        generations[slot] = generation;
+        index.put(fingerprint, generation);
+        return null;
+    }
+
+    /**
+     * @return the number of fingerprints currently remembered.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Method to find the Cycle of the sequence start, next(start), next(next(start)), ... by Brent's algorithm.
+     * <p>
+     * The first phase finds the period: a "hare" steps on ahead, and the "tortoise" teleports to the hare each time
+     * the number of steps since the last teleport reaches a power of two. The period is the number of steps since the last teleport
+     * when the hare meets the tortoise.
+     * The second phase finds the pre-period by starting again, with the hare a period ahead of the tortoise: they first meet at the start of the cycle.
+     *
+     * @param start       the first state (generation 0).
+     * @param next        the function to yield the next state (which must not modify its argument).
+     * @param fingerprint the function to yield the fingerprint of a state.
+     * @param limit       the maximum number of steps to be taken in the first phase.
+     * @param <S>         the type of a state.
+     * @return the Cycle, or null if none was found within limit steps.
+     */
+    public static <S> Cycle brent(S start, UnaryOperator<S> next, Function<S, Fingerprint> fingerprint, long limit) {
+        long power = 1, period = 1;
+        Fingerprint tortoise = fingerprint.apply(start);
+        S hare = next.apply(start);
+        Fingerprint hareFingerprint = fingerprint.apply(hare);
+        for (long steps = 1; !tortoise.equals(hareFingerprint); steps++) {
+            if (steps >= limit) return null;
+            if (power == period) {
+                tortoise = hareFingerprint;
+                power *= 2;
+                period = 0;
+            }
+            hare = next.apply(hare);
+            hareFingerprint = fingerprint.apply(hare);
+            period++;
+        }
+        S t = start, h = start;
+        for (long i = 0; i < period; i++) h = next.apply(h);
+        long preperiod = 0;
+        while (!fingerprint.apply(t).equals(fingerprint.apply(h))) {
+            t = next.apply(t);
+            h = next.apply(h);
+            preperiod++;
+        }
+        return new Cycle(preperiod, period);
+    }
+
+    private final Fingerprint[] fingerprints;
+    private final long[] generations;
+    private final Map<Fingerprint, Long> index;
+    private long count;
+}
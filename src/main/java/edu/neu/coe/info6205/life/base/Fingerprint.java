@@ -0,0 +1,111 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class represents a 128-bit fingerprint of a set of live cells, in the style of Zobrist hashing.
+ * <p>
+ * The plane is divided into words of 64 cells: a row y and the columns 64 * wordX to 64 * wordX + 63
+ * (with the most significant bit furthest to the West, as for {@link PackedGrid}).
+ * Each non-empty word has a pseudo-random key (two 64-bit halves) which depends on its position and its bits,
+ * and the fingerprint is the exclusive-or of the keys of all the non-empty words.
+ * Therefore, when a word changes from one generation to the next, the fingerprint is updated incrementally
+ * by the exclusive-or of the key of its old value and the key of its new value (see {@link #change(long, int, int, long, long)}).
+ * <p>
+ * Two different sets of cells have the same fingerprint with a probability of about 2<sup>-128</sup>.
+ */
+public final class Fingerprint {
+
+    /**
+     * Method to compute the fingerprint of the given cells from scratch.
+     *
+     * @param cells the live cells (duplicates are ignored).
+     * @return a Fingerprint.
+     */
+    public static Fingerprint of(Iterable<Point> cells) {
+        final Map<Long, Long> words = new HashMap<>();
+        for (Point p : cells) {
+            final long position = (long) Math.floorDiv(p.getX(), BitsPerLong) << 32 | (p.getY() & 0xFFFFFFFFL);
+            words.merge(position, HighBit >>> Math.floorMod(p.getX(), BitsPerLong), (a, b) -> a | b);
+        }
+        long high = 0, low = 0;
+        for (Map.Entry<Long, Long> e : words.entrySet()) {
+            final int wordX = (int) (e.getKey() >> 32), y = (int) (long) e.getKey();
+            high ^= key(SeedHigh, wordX, y, e.getValue());
+            low ^= key(SeedLow, wordX, y, e.getValue());
+        }
+        return new Fingerprint(high, low);
+    }
+
+    public Fingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Fingerprint)) return false;
+        Fingerprint that = (Fingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) low;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    /**
+     * Method to get the change to one half of a fingerprint when a word changes:
+     * the half should be updated by exclusive-or with the result.
+     *
+     * @param seed   SeedHigh (for the high half) or SeedLow (for the low half).
+     * @param wordX  the x-coordinate of the word (that of its westernmost cell divided by 64).
+     * @param y      the y-coordinate of the word.
+     * @param before the old bits of the word.
+     * @param after  the new bits of the word.
+     * @return the change.
+     */
+    static long change(long seed, int wordX, int y, long before, long after) {
+        return key(seed, wordX, y, before) ^ key(seed, wordX, y, after);
+    }
+
+    /**
+     * @return the key of a word (zero for an empty word, so that empty words need never be considered).
+     */
+    static long key(long seed, int wordX, int y, long bits) {
+        if (bits == 0) return 0;
+        return mix(mix(seed ^ bits) + ((long) wordX << 32 | (y & 0xFFFFFFFFL)));
+    }
+
+    // The finalizer of SplitMix64.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    static final long SeedHigh = 0x9E3779B97F4A7C15L;
+    static final long SeedLow = 0xD1B54A32D192ED03L;
+
+    private static final int BitsPerLong = 64;
+
+    private static final long HighBit = 0x8000000000000000L;
+
+    private final long high;
+    private final long low;
+}
@@ -2,9 +2,8 @@ package edu.neu.coe.info6205.life.base;
 
 import edu.neu.coe.info6205.life.library.Library;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
@@ -38,17 +37,45 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
         if (this == o) return true;
         if (!(o instanceof Game)) return false;
         Game game = (Game) o;
-        return grid.equals(game.grid);
+        return getFingerprint().equals(game.getFingerprint()) && grid.equals(game.grid);
     }
 
     /**
      * Method to generate a hashCode, ignoring generation.
      *
-     * @return hashCode for this.
+     * @return hashCode for this (based on its Fingerprint).
      */
     @Override
     public int hashCode() {
-        return Objects.hash(grid);
+        return getFingerprint().hashCode();
+    }
+
+    /**
+     * Method to get the Fingerprint of the live cells of this Game (which is computed once only).
+     *
+     * @return the Fingerprint.
+     */
+    public Fingerprint getFingerprint() {
+        if (fingerprint == null) {
+            final List<Point> cells = new ArrayList<>();
+            grid.forEach(g -> cells.addAll(g.pointsAbsolute()));
+            fingerprint = Fingerprint.of(cells);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return the generation of this Game.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the number of (non-overlapping) groups of this Game.
+     */
+    public int getGroupCount() {
+        return grid.size();
     }
 
     public Game generation(BiConsumer<Long, Grid> monitor) {
@@ -62,8 +89,8 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
 
     public static final int MaxGenerations = 1000;
 
-    // CONSIDER making this a priority queue so that the older generations can be discarded.
-    public static final Map<Game, Long> generations = new HashMap<>();
+    // The number of recent generations remembered in order to detect a cycle (so that any period up to this is detected).
+    public static final int CycleWindow = 1024;
 
     public static void main(String[] args) {
         String patternName = args.length > 0 ? args[0] : "Blip";
@@ -72,19 +99,54 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
         run(pattern);
     }
 
-    public static void run(String pattern) {
-        final long generation = 0L;
-        final Grid grid = new Grid(generation);
-        grid.add(Group.create(generation, pattern));
+    /**
+     * Method to run a Game until it exceeds MaxGenerations, dies out, or repeats a previous generation.
+     *
+     * @param pattern the starting pattern.
+     * @return the Cycle (if the Game was terminated by repeating itself), else null.
+     */
+    public static CycleDetector.Cycle run(String pattern) {
         BiConsumer<Long, Grid> gridMonitor = (l, g) -> System.out.println("generation " + l + "; grid=" + g);
         BiConsumer<Long, Group> groupMonitor = (l, g) -> System.out.println("generation " + l + ";\ngroup=\n" + g.render());
-        Game game = new Game(generation, grid, groupMonitor);
-        while (!game.terminated()) {
-            generations.put(game, game.generation);
+        Game game = create(pattern, groupMonitor);
+        final CycleDetector detector = new CycleDetector(CycleWindow);
+        CycleDetector.Cycle cycle = null;
+        while (!game.terminated() && (cycle = game.repeats(detector)) == null) {
             System.out.println(game.render());
             game = game.generation(gridMonitor);
         }
         System.out.println("Ending Game of Life after " + game.generation + " generations and with " + game.getCount() + " cells");
+        return cycle;
+    }
+
+    /**
+     * Method to find the Cycle of a pattern (if any) by Brent's algorithm, using a PackedGrid and its incremental Fingerprint.
+     * Unlike run, this uses constant memory (beyond that of the pattern itself) and can detect any period.
+     *
+     * @param pattern the starting pattern.
+     * @param limit   the maximum number of generations to search.
+     * @return the Cycle, or null if none was found.
+     */
+    public static CycleDetector.Cycle cycle(String pattern, long limit) {
+        return CycleDetector.brent(PackedGrid.create(0L, pattern), g -> {
+            final PackedGrid result = new PackedGrid(g);
+            result.step();
+            return result;
+        }, PackedGrid::getFingerprint, limit);
+    }
+
+    /**
+     * Factory method to create a new Game at generation 0.
+     *
+     * @param pattern the starting pattern.
+     * @param monitor the monitor for each Group of each generation.
+     * @return a new Game.
+     */
+    public static Game create(String pattern, BiConsumer<Long, Group> monitor) {
+        final long generation = 0L;
+        final Grid grid = new Grid(generation);
+        grid.add(Group.create(generation, pattern));
+        return new Game(generation, grid, monitor);
     }
 
     private Game(long generation, BiConsumer<Long, Group> monitor) {
@@ -99,8 +161,13 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
 
     private boolean terminated() {
         return testTerminationPredicate(g -> g.generation >= MaxGenerations, "having exceeded " + MaxGenerations + " generations") ||
-                testTerminationPredicate(g -> g.getCount() == 0, "no cells") ||
-                testTerminationPredicate(generations::containsKey, "having previous equivalent game");
+                testTerminationPredicate(g -> g.getCount() == 0, "no cells");
+    }
+
+    private CycleDetector.Cycle repeats(CycleDetector detector) {
+        final CycleDetector.Cycle result = detector.offer(generation, getFingerprint());
+        if (result != null) System.out.println("Terminating due to: having previous equivalent game (" + result + ")");
+        return result;
     }
 
     private boolean testTerminationPredicate(Predicate<Game> predicate, String message) {
@@ -114,4 +181,5 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
     private final Grid grid;
     private final BiConsumer<Long, Group> monitor;
     private final long generation;
+    private Fingerprint fingerprint;
 }
\ No newline at end of file
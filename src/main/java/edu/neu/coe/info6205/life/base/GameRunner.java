@@ -0,0 +1,144 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import edu.neu.coe.info6205.util.StatPack;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This class runs a {@link Game} headless (without rendering or printing each generation) for a given number of generations,
+ * so that the cost of each step can be measured, and long runs can be used to soak-test the engine.
+ * <p>
+ * Each generation is passed to a pluggable monitor (see {@link Monitors} and {@link AsyncMonitor}).
+ * The metrics of every interval-th generation are collected in a {@link StatPack}:
+ * the number of live cells, the number of groups, the time taken by the step (in nanoseconds)
+ * and, where the JVM supports it, the number of bytes allocated by the step.
+ * The total time of all the steps is kept separately, since it is measured for every generation.
+ * <p>
+ * Usage: GameRunner [pattern [generations [monitor [interval]]]] where monitor is one of none, sampled, async.
+ */
+public class GameRunner {
+
+    public static final String CELLS = "cells";
+    public static final String GROUPS = "groups";
+    public static final String TIME = "time";
+    public static final String ALLOCATION = "allocation";
+
+    /**
+     * Constructor.
+     *
+     * @param generations the maximum number of generations to run.
+     * @param interval    the metrics are collected for the generations which are multiples of interval (at least 1).
+     */
+    public GameRunner(long generations, int interval) {
+        if (interval < 1) throw new LifeException("GameRunner: interval must be positive");
+        this.generations = generations;
+        this.interval = interval;
+    }
+
+    /**
+     * Method to run a Game until it has run the given number of generations, or until it dies out.
+     *
+     * @param pattern the starting pattern.
+     * @param monitor the monitor for each generation.
+     * @return the metrics.
+     */
+    public StatPack run(String pattern, BiConsumer<Long, Grid> monitor) {
+        // The initial capacity of the statistics (which grow as needed).
+        final int samples = (int) Math.min(1 << 16, Math.max(1, generations / interval + 1));
+        final boolean allocation = allocationSupported();
+        final StatPack result = allocation ?
+                new StatPack(Identity, samples, 1, CELLS, GROUPS, TIME, ALLOCATION) :
+                new StatPack(Identity, samples, 1, CELLS, GROUPS, TIME);
+        Game game = Game.create(pattern, Monitors.none());
+        nanos = 0;
+        while (game.getGeneration() < generations && game.getCount() > 0) {
+            final long bytes = allocation ? allocatedBytes() : 0;
+            final long start = System.nanoTime();
+            game = game.generation(monitor);
+            final long time = System.nanoTime() - start;
+            nanos += time;
+            if (game.getGeneration() % interval == 0) {
+                if (allocation) result.add(ALLOCATION, allocatedBytes() - bytes);
+                result.add(CELLS, game.getCount());
+                result.add(GROUPS, game.getGroupCount());
+                result.add(TIME, time);
+            }
+        }
+        this.game = game;
+        return result;
+    }
+
+    /**
+     * @return the final Game of the last run.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return the total time taken by the steps of the last run, in milliseconds.
+     */
+    public double getMillis() {
+        return nanos / 1E6;
+    }
+
+    public static void main(String[] args) {
+        String patternName = args.length > 0 ? args[0] : "Blinker";
+        long generations = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        String monitorName = args.length > 2 ? args[2] : "none";
+        int interval = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        final String pattern = Library.get(patternName);
+        if (pattern == null) throw new LifeException("GameRunner: unknown pattern: " + patternName);
+        System.out.println("GameRunner: " + patternName + " for " + Utilities.formatWhole(generations) + " generations with monitor " + monitorName);
+        final GameRunner runner = new GameRunner(generations, interval);
+        final BiConsumer<Long, Grid> printer = Monitors.printer();
+        final StatPack statPack;
+        switch (monitorName) {
+            case "none":
+                statPack = runner.run(pattern, Monitors.none());
+                break;
+            case "sampled":
+                statPack = runner.run(pattern, Monitors.sampled(interval, printer));
+                break;
+            case "async":
+                try (AsyncMonitor<Grid> monitor = new AsyncMonitor<>(1024, printer)) {
+                    statPack = runner.run(pattern, monitor);
+                    System.out.println("AsyncMonitor: dropped " + Utilities.formatWhole(monitor.getDropped()) + " generations");
+                }
+                break;
+            default:
+                throw new LifeException("GameRunner: unknown monitor: " + monitorName);
+        }
+        final Game game = runner.getGame();
+        final double millis = runner.getMillis();
+        System.out.println("Ended after " + Utilities.formatWhole(game.getGeneration()) + " generations with " + game.getCount() + " cells in " +
+                Utilities.formatDecimal3Places(millis) + " mSec (" + Utilities.formatWhole(Math.round(game.getGeneration() / millis * 1000)) + " generations/sec)");
+        System.out.println(statPack);
+    }
+
+    private static boolean allocationSupported() {
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return false;
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+        return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled();
+    }
+
+    // The bytes allocated (so far) by the current thread.
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+    }
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    // The metrics are not normalized.
+    private static final Function<Double, Double> Identity = x -> x;
+
+    private final long generations;
+    private final int interval;
+    private Game game;
+    private long nanos;
+}
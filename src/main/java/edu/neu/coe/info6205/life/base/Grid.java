@@ -1,7 +1,11 @@
 package edu.neu.coe.info6205.life.base;
 
+import edu.neu.coe.info6205.union_find.WQUPC;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -59,6 +63,15 @@ public class Grid implements Generational<Grid, Group>, Countable, Renderable {
             return groups.add(group);
     }
 
+    /**
+     * Method to get the number of (non-overlapping) groups.
+     *
+     * @return the number of groups.
+     */
+    public int size() {
+        return groups.size();
+    }
+
     public int getCount() {
         int result = 0;
         for (Group g : groups)
@@ -126,18 +139,29 @@ public class Grid implements Generational<Grid, Group>, Countable, Renderable {
         forEach(g -> monitor.accept(generation, g));
         if (groups == null)
             throw new LifeException("logic error: groups is null");
-        final List<Group> newGroups = this.groups.stream().map(g -> g.generation((l, group) -> System.out.println("Group generation: " + l))).collect(Collectors.toList());
+        final List<Group> newGroups = this.groups.stream().map(g -> g.generation(Monitors.none())).collect(Collectors.toList());
         return new Grid(generation + 1, mergeGroups(newGroups));
     }
 
     /**
-     * method to look for and to merge overlapping Groups.
+     * Method to look for and to merge overlapping Groups.
+     * <p>
+     * The (non-empty) groups are placed in a spatial hash: a map from square cells to the groups whose extents cover them,
+     * so that only groups which share a cell need be tested for overlap.
+     * Overlapping groups are connected in a union-find structure, and then each component is merged into one Group.
+     * Since a merged Group is larger than its constituents, it may overlap a Group which none of them did,
+     * so this is repeated until there is nothing more to merge (in practice, once or twice).
      *
      * @param groups the groups to be checked.
-     * @return a list of non-overlapping groups.
+     * @return a list of non-overlapping groups (each in the position of the first of its constituents).
      */
     static List<Group> mergeGroups(List<Group> groups) {
-        return inner(groups, new ArrayList<>());
+        List<Group> result = new ArrayList<>(groups);
+        while (true) {
+            final List<Group> merged = mergeOnce(result);
+            if (merged == result) return result;
+            result = merged;
+        }
     }
 
     private Grid(long generation, List<Group> groups) {
@@ -145,22 +169,62 @@ public class Grid implements Generational<Grid, Group>, Countable, Renderable {
         this.groups = groups;
     }
 
-    private static List<Group> inner(List<Group> work, List<Group> result) {
-        if (work.size() == 0) return result;
-        Group group = work.get(0);
-        final List<Group> subList = work.subList(1, work.size());
-        for (int i = 0; i < subList.size(); i++) {
-            final Group other = subList.get(i);
-            if (group.overlap(other)) {
-                List<Group> merged = new ArrayList<>();
-                merged.add(group.merge(other));
-                merged.addAll(subList.subList(0, i));
-                if (i < subList.size()) merged.addAll(subList.subList(i + 1, subList.size()));
-                return inner(merged, result);
+    /**
+     * Merge each set of overlapping groups.
+     *
+     * @param groups the groups to be checked.
+     * @return groups itself if nothing overlaps, else a new (shorter) list.
+     */
+    private static List<Group> mergeOnce(List<Group> groups) {
+        final int n = groups.size();
+        final WQUPC uf = new WQUPC(n);
+        final int side = cellSide(groups);
+        final Map<Long, List<Integer>> cells = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            final Group group = groups.get(i);
+            final Point extent1 = group.getExtent1(), extent2 = group.getExtent2();
+            if (extent1 == null || extent2 == null) continue;
+            for (int cx = Math.floorDiv(extent1.getX(), side); cx <= Math.floorDiv(extent2.getX(), side); cx++)
+                for (int cy = Math.floorDiv(extent1.getY(), side); cy <= Math.floorDiv(extent2.getY(), side); cy++) {
+                    final List<Integer> candidates = cells.computeIfAbsent((long) cx << 32 | (cy & 0xFFFFFFFFL), k -> new ArrayList<>());
+                    for (int j : candidates)
+                        if (!uf.connected(i, j) && (group.overlap(groups.get(j)) || groups.get(j).overlap(group))) uf.union(i, j);
+                    candidates.add(i);
+                }
+        }
+        if (uf.count() == n) return groups;
+        final Group[] merged = new Group[n];
+        for (int i = 0; i < n; i++) {
+            final int root = uf.find(i);
+            merged[root] = merged[root] == null ? groups.get(i) : merged[root].merge(groups.get(i));
+        }
+        final List<Group> result = new ArrayList<>(uf.count());
+        for (int i = 0; i < n; i++) {
+            final int root = uf.find(i);
+            if (merged[root] != null) {
+                result.add(merged[root]);
+                merged[root] = null;
             }
         }
-        result.add(group);
-        return inner(subList, result);
+        return result;
+    }
+
+    /**
+     * @return the side of the cells of the spatial hash: the mean size of the groups,
+     * but large enough that no Group covers more than about 32 x 32 cells.
+     */
+    private static int cellSide(List<Group> groups) {
+        long total = 0;
+        int count = 0, largest = 0;
+        for (Group group : groups) {
+            final Point extent1 = group.getExtent1(), extent2 = group.getExtent2();
+            if (extent1 == null || extent2 == null) continue;
+            final int size = Math.max(extent2.getX() - extent1.getX(), extent2.getY() - extent1.getY()) + 1;
+            total += size;
+            count++;
+            largest = Math.max(largest, size);
+        }
+        return count == 0 ? 1 : (int) Math.max(Math.max(1, total / count), largest / 32);
     }
 
     private final long generation;
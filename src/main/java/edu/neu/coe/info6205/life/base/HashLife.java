@@ -0,0 +1,702 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * This class represents an (unbounded) Game of Life universe by Gosper's HashLife algorithm.
+ * <p>
+ * The universe is a quadtree: a node of level L is a square of side 2<sup>L</sup> cells, made of four nodes of level L-1
+ * (nw, ne, sw, se), down to the leaves of level 0, which are single cells.
+ * Nodes are immutable and canonical (hash-consed by a {@link Cache}): there is only ever one node for a given configuration,
+ * so that children may be compared by identity and a repetitive pattern takes space in proportion to its information,
+ * rather than to its area.
+ * <p>
+ * The key operation is Cache.next: the centre of a node of level L (a node of level L-1),
+ * 2<sup>k</sup> generations into the future, where k is at most L-2.
+ * This is computed recursively from nine overlapping nodes of level L-1, and it is memoized in the node itself.
+ * Since a pattern typically contains the same few nodes over and over again (in space and in time),
+ * it can be advanced by 2<sup>k</sup> generations at a time for large k in much less time than it takes to do so one generation at a time.
+ * <p>
+ * The root is always centred on the origin of the Grid (so that it covers x and y from -2<sup>L-1</sup> to 2<sup>L-1</sup>-1),
+ * with y increasing to the North.
+ * A HashLife is immutable: {@link #step(int)} and friends return a new HashLife which shares the same Cache.
+ * <p>
+ * NOTE this class is not thread-safe: all HashLife instances which share a Cache must be used from one thread.
+ */
+public class HashLife implements Generational<HashLife, Void>, Countable, Renderable {
+
+    /**
+     * Factory method to create a new HashLife from the given string.
+     *
+     * @param generation the current generation.
+     * @param pattern    a String, in the same form as for Group.create, typically from the library of patterns.
+     * @return a new HashLife, with a new Cache.
+     */
+    public static HashLife create(long generation, String pattern) {
+        if (pattern == null) throw new LifeException("create: was given null string");
+        return create(generation, pattern.isEmpty() ? new ArrayList<>() : Point.points(pattern), new Cache());
+    }
+
+    /**
+     * Factory method to create a new HashLife from the given points.
+     *
+     * @param generation the current generation.
+     * @param points     the live cells.
+     * @param cache      the Cache of nodes.
+     * @return a new HashLife.
+     */
+    public static HashLife create(long generation, Iterable<Point> points, Cache cache) {
+        Node root = cache.empty(MinLevel);
+        for (Point p : points) {
+            while (!inside(root, p.getX(), p.getY())) root = cache.expand(root);
+            root = set(cache, root, p.getX(), p.getY());
+        }
+        return new HashLife(generation, cache.compact(root), cache);
+    }
+
+    /**
+     * Factory method to create a new HashLife from the live cells (and generation) of a Group.
+     *
+     * @param group the Group.
+     * @return a new HashLife, with a new Cache.
+     */
+    public static HashLife create(Group group) {
+        return create(group.getGeneration(), group.pointsAbsolute(), new Cache());
+    }
+
+    /**
+     * Method to create the next generation.
+     *
+     * @param monitor the monitor (which is passed the current generation).
+     * @return a new HashLife.
+     */
+    public HashLife generation(BiConsumer<Long, Void> monitor) {
+        monitor.accept(generation, null);
+        return step(0);
+    }
+
+    /**
+     * Method to advance by 2^k generations.
+     *
+     * @param k the log (base 2) of the number of generations.
+     * @return a new HashLife.
+     */
+    public HashLife step(int k) {
+        if (k < 0 || k > MaxStep) throw new LifeException("step: k must be between 0 and " + MaxStep + " but was " + k);
+        cache.evictIfFull();
+        Node node = root;
+        // The live cells must be in the central quarter of the root, and the root must be of level at least k + 2...
+        while (node.level < k + 2 || !padded(node)) node = cache.expand(node);
+        // ...then one more level gives room for the pattern to grow by 2^k in every direction.
+        node = cache.expand(node);
+        return new HashLife(generation + (1L << k), cache.compact(cache.next(node, k)), cache);
+    }
+
+    /**
+     * Method to advance by any number of generations (by steps of the powers of two which make up generations).
+     *
+     * @param generations the number of generations (non-negative).
+     * @return a new HashLife.
+     */
+    public HashLife advance(long generations) {
+        if (generations < 0) throw new LifeException("advance: generations must not be negative");
+        HashLife result = this;
+        for (int k = 0; generations != 0; k++, generations >>>= 1)
+            if ((generations & 1) != 0) result = result.step(k);
+        return result;
+    }
+
+    /**
+     * Method to get the cell count.
+     *
+     * @return the number of live cells (or Integer.MAX_VALUE if there are more than that).
+     */
+    public int getCount() {
+        return (int) Math.min(Integer.MAX_VALUE, root.population);
+    }
+
+    /**
+     * @return the number of live cells.
+     */
+    public long getPopulation() {
+        return root.population;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the Cache of nodes (in particular, for its statistics).
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return the level of the root node (whose side is 2^level).
+     */
+    public int getLevel() {
+        return root.level;
+    }
+
+    /**
+     * Method to determine if a cell is alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell is alive.
+     */
+    public boolean isAlive(long x, long y) {
+        if (!inside(root, x, y)) return false;
+        Node node = root;
+        while (node.level > 0) {
+            if (node.population == 0) return false;
+            final long quarter = node.level > 1 ? 1L << (node.level - 2) : 0;
+            final boolean east = x >= 0, north = y >= 0;
+            node = north ? (east ? node.ne : node.nw) : (east ? node.se : node.sw);
+            if (node.level > 0) {
+                x += east ? -quarter : quarter;
+                y += north ? -quarter : quarter;
+            }
+        }
+        return node.population != 0;
+    }
+
+    /**
+     * Method to call action for each live cell (North-West quadrant first, recursively).
+     *
+     * @param action the action.
+     * @throws LifeException if a live cell does not have int coordinates.
+     */
+    public void forEach(PackedGrid.CellConsumer action) {
+        forEach(root, 0, 0, action);
+    }
+
+    /**
+     * @return the live cells.
+     */
+    public List<Point> points() {
+        final List<Point> result = new ArrayList<>(getCount());
+        forEach((x, y) -> result.add(new Point(x, y)));
+        return result;
+    }
+
+    /**
+     * @return a new Group with the same live cells (and generation) as this.
+     */
+    public Group toGroup() {
+        Group result = new Group(generation);
+        if (root.population > 0) result.add(points());
+        return result;
+    }
+
+    /**
+     * Method to export the live cells in the form expected by Group.create (and Point.points), that is to say "x y, x y, ...".
+     *
+     * @return a String.
+     */
+    public String toPattern() {
+        final StringBuilder sb = new StringBuilder();
+        forEach((x, y) -> {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(x).append(' ').append(y);
+        });
+        return sb.toString();
+    }
+
+    /**
+     * @return the bounding box of the live cells as {minX, minY, maxX, maxY}, or null if there are none.
+     */
+    public int[] boundingBox() {
+        if (root.population == 0) return null;
+        final int[] result = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        forEach((x, y) -> {
+            result[0] = Math.min(result[0], x);
+            result[1] = Math.min(result[1], y);
+            result[2] = Math.max(result[2], x);
+            result[3] = Math.max(result[3], y);
+        });
+        return result;
+    }
+
+    /**
+     * Method to yield a String which represents the cells of this HashLife:
+     * one line for each row of the bounding box of the live cells, North first, with '*' for a live cell and '.' otherwise.
+     *
+     * @return a String.
+     */
+    public String render() {
+        if (root.population == 0) return "";
+        final int[] box = boundingBox();
+        final StringBuilder sb = new StringBuilder();
+        for (int y = box[3]; y >= box[1]; y--) {
+            for (int x = box[0]; x <= box[2]; x++) sb.append(isAlive(x, y) ? '*' : '.');
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Test for equality of the live cells, ignoring the generation.
+     *
+     * @param o the other HashLife.
+     * @return true if they have the same live cells.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HashLife)) return false;
+        HashLife that = (HashLife) o;
+        // Roots are compacted, so equal patterns in the same Cache have the very same root.
+        if (cache == that.cache) return root == that.root;
+        return root.hash == that.root.hash && root.population == that.root.population && toPattern().equals(that.toPattern());
+    }
+
+    @Override
+    public int hashCode() {
+        return root.hash;
+    }
+
+    @Override
+    public String toString() {
+        return "HashLife{generation=" + generation + ", population=" + root.population + ", level=" + root.level + "}";
+    }
+
+    public static void main(String[] args) {
+        String patternName = args.length > 0 ? args[0] : "Glider1";
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        System.out.println("HashLife with starting pattern: " + patternName + " for 2^" + k + " generations");
+        HashLife life = create(0L, Library.get(patternName));
+        long start = System.nanoTime();
+        life = life.step(k);
+        System.out.println("generation " + Utilities.formatWhole(life.generation) + ": population " + life.getPopulation() + ", level " + life.getLevel() +
+                " in " + Utilities.formatDecimal3Places((System.nanoTime() - start) / 1E6) + " mSec");
+        System.out.println(life.cache);
+    }
+
+    /**
+     * The canonical cache of quadtree nodes.
+     * <p>
+     * Nodes are held by weak references, so a node which is no longer part of any pattern (nor the memoized result of one)
+     * is collected by the garbage collector, and its entry is then evicted.
+     * Since memoized results keep their nodes alive, the results are discarded altogether
+     * whenever the number of nodes exceeds the capacity of the cache.
+     * <p>
+     * The cache also keeps statistics: how many lookups found an existing node, and how many results were found memoized.
+     */
+    public static class Cache {
+
+        /**
+         * Constructor.
+         *
+         * @param capacity the number of nodes beyond which memoized results are discarded (before the next step).
+         */
+        public Cache(int capacity) {
+            this.capacity = capacity;
+            this.table = new Entry[1 << 10];
+        }
+
+        public Cache() {
+            this(DefaultCapacity);
+        }
+
+        /**
+         * @return the number of nodes in the cache (some of which may be garbage that has not yet been evicted).
+         */
+        public int size() {
+            expunge();
+            return size;
+        }
+
+        public long getLookups() {
+            return lookups;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return the fraction of node lookups which found an existing node.
+         */
+        public double hitRate() {
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        public long getResultLookups() {
+            return resultLookups;
+        }
+
+        public long getResultHits() {
+            return resultHits;
+        }
+
+        /**
+         * @return the fraction of calls to next which found a memoized result.
+         */
+        public double resultHitRate() {
+            return resultLookups == 0 ? 0 : (double) resultHits / resultLookups;
+        }
+
+        /**
+         * @return the number of entries evicted because their nodes were collected.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return the number of times that all memoized results were discarded.
+         */
+        public int getFlushes() {
+            return flushes;
+        }
+
+        /**
+         * Method to discard all memoized results, so that nodes which are only reachable from them may be collected.
+         */
+        public void flush() {
+            for (Entry head : table)
+                for (Entry e = head; e != null; e = e.next) {
+                    Node node = e.get();
+                    if (node != null) node.result = null;
+                }
+            flushes++;
+        }
+
+        @Override
+        public String toString() {
+            return "Cache{nodes=" + Utilities.formatWhole(size()) + ", lookups=" + Utilities.formatWhole(lookups) +
+                    ", hit rate=" + Utilities.formatDecimal3Places(100 * hitRate()) + "%, results=" + Utilities.formatWhole(resultLookups) +
+                    ", result hit rate=" + Utilities.formatDecimal3Places(100 * resultHitRate()) + "%, evictions=" + Utilities.formatWhole(evictions) +
+                    ", flushes=" + flushes + "}";
+        }
+
+        /**
+         * Method to get the canonical node with the given children (which must all be of the same level).
+         */
+        Node join(Node nw, Node ne, Node sw, Node se) {
+            lookups++;
+            final int hash = hash(nw, ne, sw, se);
+            final int index = hash & (table.length - 1);
+            for (Entry e = table[index]; e != null; e = e.next) {
+                if (e.hash != hash) continue;
+                Node node = e.get();
+                if (node != null && node.nw == nw && node.ne == ne && node.sw == sw && node.se == se) {
+                    hits++;
+                    return node;
+                }
+            }
+            expunge();
+            final Node result = new Node(nw, ne, sw, se, hash);
+            if (size >= table.length - (table.length >> 2)) resize();
+            final int i = hash & (table.length - 1);
+            table[i] = new Entry(result, queue, table[i]);
+            size++;
+            return result;
+        }
+
+        /**
+         * @return the (canonical) empty node of the given level.
+         */
+        Node empty(int level) {
+            while (empties.size() <= level) {
+                Node e = empties.get(empties.size() - 1);
+                empties.add(join(e, e, e, e));
+            }
+            return empties.get(level);
+        }
+
+        /**
+         * @return a node of the next level up, with node at its centre.
+         */
+        Node expand(Node node) {
+            final Node e = empty(node.level - 1);
+            return join(join(e, e, e, node.nw), join(e, e, node.ne, e), join(e, node.sw, e, e), join(node.se, e, e, e));
+        }
+
+        /**
+         * @return the centre of node (the smallest node, of level at least MinLevel, centred on node and containing all its live cells).
+         */
+        Node compact(Node node) {
+            while (node.level > MinLevel && padded(node)) node = centre(node);
+            return node;
+        }
+
+        /**
+         * @return the centre of node (of level L, at least 2): a node of level L-1, 2^k generations on, where k is at most L-2.
+         */
+        Node next(Node node, int k) {
+            if (node.population == 0) return empty(node.level - 1);
+            resultLookups++;
+            if (node.result != null && node.resultStep == k) {
+                resultHits++;
+                return node.result;
+            }
+            final Node result;
+            if (node.level == 2) result = base(node);
+            else {
+                // The nine overlapping nodes of level L-1, North-West first.
+                final Node n00 = node.nw, n01 = join(node.nw.ne, node.ne.nw, node.nw.se, node.ne.sw), n02 = node.ne;
+                final Node n10 = join(node.nw.sw, node.nw.se, node.sw.nw, node.sw.ne), n11 = centre(node), n12 = join(node.ne.sw, node.ne.se, node.se.nw, node.se.ne);
+                final Node n20 = node.sw, n21 = join(node.sw.ne, node.se.nw, node.sw.se, node.se.sw), n22 = node.se;
+                if (k == node.level - 2) {
+                    // Two half-steps: each of the nine advanced by 2^(L-3), then each of the four quadrants advanced by 2^(L-3) again.
+                    final Node a00 = next(n00, k - 1), a01 = next(n01, k - 1), a02 = next(n02, k - 1);
+                    final Node a10 = next(n10, k - 1), a11 = next(n11, k - 1), a12 = next(n12, k - 1);
+                    final Node a20 = next(n20, k - 1), a21 = next(n21, k - 1), a22 = next(n22, k - 1);
+                    result = join(next(join(a00, a01, a10, a11), k - 1), next(join(a01, a02, a11, a12), k - 1),
+                            next(join(a10, a11, a20, a21), k - 1), next(join(a11, a12, a21, a22), k - 1));
+                } else {
+                    // A smaller step: the centres of the nine (as they are), then each of the four quadrants advanced by 2^k.
+                    final Node a00 = centre(n00), a01 = centre(n01), a02 = centre(n02);
+                    final Node a10 = centre(n10), a11 = centre(n11), a12 = centre(n12);
+                    final Node a20 = centre(n20), a21 = centre(n21), a22 = centre(n22);
+                    result = join(next(join(a00, a01, a10, a11), k), next(join(a01, a02, a11, a12), k),
+                            next(join(a10, a11, a20, a21), k), next(join(a11, a12, a21, a22), k));
+                }
+            }
+            node.result = result;
+            node.resultStep = k;
+            return result;
+        }
+
+        /**
+         * If the number of nodes exceeds the capacity, discard all memoized results and count the nodes again.
+         */
+        void evictIfFull() {
+            if (size() <= capacity) return;
+            flush();
+            // Collect now, so that the nodes which are no longer reachable are evicted before the next step.
+            System.gc();
+            expunge();
+        }
+
+        /**
+         * @return the centre of a node of level 2 (a node of level 1), one generation on.
+         */
+        private Node base(Node node) {
+            // Bit (4 * row + column) of the 4x4 cells, where row 0 is to the North and column 0 is to the West.
+            final int cells = quadrant(node.nw) | quadrant(node.ne) << 2 | quadrant(node.sw) << 8 | quadrant(node.se) << 10;
+            final int result = Rule[cells];
+            return join(leaf(result & 1), leaf(result & 2), leaf(result & 4), leaf(result & 8));
+        }
+
+        private Node centre(Node node) {
+            return join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+        }
+
+        private void expunge() {
+            for (Object x; (x = queue.poll()) != null; ) {
+                final Entry entry = (Entry) x;
+                final int i = entry.hash & (table.length - 1);
+                Entry prev = null;
+                for (Entry e = table[i]; e != null; prev = e, e = e.next)
+                    if (e == entry) {
+                        if (prev == null) table[i] = e.next;
+                        else prev.next = e.next;
+                        size--;
+                        evictions++;
+                        break;
+                    }
+            }
+        }
+
+        private void resize() {
+            final Entry[] old = table;
+            table = new Entry[old.length * 2];
+            for (Entry head : old)
+                for (Entry e = head; e != null; ) {
+                    final Entry next = e.next;
+                    final int i = e.hash & (table.length - 1);
+                    e.next = table[i];
+                    table[i] = e;
+                    e = next;
+                }
+        }
+
+        private static int hash(Node nw, Node ne, Node sw, Node se) {
+            int h = nw.hash;
+            h = h * 0x9E3779B1 + ne.hash;
+            h = h * 0x9E3779B1 + sw.hash;
+            h = h * 0x9E3779B1 + se.hash;
+            return h ^ (h >>> 15);
+        }
+
+        private static class Entry extends WeakReference<Node> {
+            Entry(Node node, ReferenceQueue<Node> queue, Entry next) {
+                super(node, queue);
+                this.hash = node.hash;
+                this.next = next;
+            }
+
+            final int hash;
+            Entry next;
+        }
+
+        private final int capacity;
+        private final ReferenceQueue<Node> queue = new ReferenceQueue<>();
+        // The empty nodes are held strongly, so that they are never collected.
+        private final List<Node> empties = new ArrayList<>(List.of(Dead));
+        private Entry[] table;
+        private int size;
+        private long lookups;
+        private long hits;
+        private long resultLookups;
+        private long resultHits;
+        private long evictions;
+        private int flushes;
+    }
+
+    /**
+     * A node of the quadtree.
+     * Apart from its memoized result, a Node is immutable.
+     */
+    static final class Node {
+        Node(Node nw, Node ne, Node sw, Node se, int hash) {
+            this.nw = nw;
+            this.ne = ne;
+            this.sw = sw;
+            this.se = se;
+            this.level = nw.level + 1;
+            this.population = nw.population + ne.population + sw.population + se.population;
+            this.hash = hash;
+        }
+
+        // Constructor for a leaf.
+        private Node(boolean alive) {
+            this.nw = this.ne = this.sw = this.se = null;
+            this.level = 0;
+            this.population = alive ? 1 : 0;
+            this.hash = alive ? 1 : 0;
+        }
+
+        final Node nw;
+        final Node ne;
+        final Node sw;
+        final Node se;
+        final int level;
+        final long population;
+        final int hash;
+        Node result;
+        int resultStep;
+    }
+
+    HashLife(long generation, Node root, Cache cache) {
+        this.generation = generation;
+        this.root = root;
+        this.cache = cache;
+    }
+
+    /**
+     * @return true if all the live cells of node are in its central quarter.
+     */
+    private static boolean padded(Node node) {
+        return node.nw.se.population + node.ne.sw.population + node.sw.ne.population + node.se.nw.population == node.population;
+    }
+
+    private static boolean inside(Node node, long x, long y) {
+        final long half = 1L << (node.level - 1);
+        return x >= -half && x < half && y >= -half && y < half;
+    }
+
+    /**
+     * @return node (of level at least 1) with the cell at (x, y) alive, where (x, y) are relative to its centre.
+     */
+    private static Node set(Cache cache, Node node, long x, long y) {
+        final boolean east = x >= 0, north = y >= 0;
+        if (node.level == 1) {
+            return cache.join(north && !east ? Alive : node.nw, north && east ? Alive : node.ne,
+                    !north && !east ? Alive : node.sw, !north && east ? Alive : node.se);
+        }
+        final long quarter = 1L << (node.level - 2);
+        final long cx = east ? x - quarter : x + quarter, cy = north ? y - quarter : y + quarter;
+        if (north) {
+            if (east) return cache.join(node.nw, set(cache, node.ne, cx, cy), node.sw, node.se);
+            else return cache.join(set(cache, node.nw, cx, cy), node.ne, node.sw, node.se);
+        } else {
+            if (east) return cache.join(node.nw, node.ne, node.sw, set(cache, node.se, cx, cy));
+            else return cache.join(node.nw, node.ne, set(cache, node.sw, cx, cy), node.se);
+        }
+    }
+
+    /**
+     * Call action for each live cell of node, whose centre is at (x, y).
+     * For a leaf, (x, y) is the cell itself.
+     */
+    private static void forEach(Node node, long x, long y, PackedGrid.CellConsumer action) {
+        if (node.population == 0) return;
+        if (node.level == 0) {
+            if (x < Integer.MIN_VALUE || x > Integer.MAX_VALUE || y < Integer.MIN_VALUE || y > Integer.MAX_VALUE)
+                throw new LifeException("forEach: cell is beyond the range of int: " + x + ", " + y);
+            action.accept((int) x, (int) y);
+        } else if (node.level == 1) {
+            forEach(node.nw, x - 1, y, action);
+            forEach(node.ne, x, y, action);
+            forEach(node.sw, x - 1, y - 1, action);
+            forEach(node.se, x, y - 1, action);
+        } else {
+            final long quarter = 1L << (node.level - 2);
+            forEach(node.nw, x - quarter, y + quarter, action);
+            forEach(node.ne, x + quarter, y + quarter, action);
+            forEach(node.sw, x - quarter, y - quarter, action);
+            forEach(node.se, x + quarter, y - quarter, action);
+        }
+    }
+
+    /**
+     * @return the 2x2 cells of a node of level 1 in bits 0, 1 (the North row) and 4, 5 (the South row) of a 4x4 block.
+     */
+    private static int quadrant(Node node) {
+        return (int) (node.nw.population | node.ne.population << 1 | node.sw.population << 4 | node.se.population << 5);
+    }
+
+    private static Node leaf(int bit) {
+        return bit != 0 ? Alive : Dead;
+    }
+
+    private static final Node Dead = new Node(false);
+    private static final Node Alive = new Node(true);
+
+    // The smallest level of a root.
+    private static final int MinLevel = 3;
+
+    // The largest step (as a power of two): this leaves room for the root to grow without its coordinates overflowing a long.
+    private static final int MaxStep = 56;
+
+    private static final int DefaultCapacity = 1 << 22;
+
+    /*
+     * For each of the 2^16 configurations of a 4x4 block (as for base), the central 2x2 block in the next generation:
+     * in bits 0 (North-West), 1 (North-East), 2 (South-West) and 3 (South-East).
+     */
+    private static final byte[] Rule = new byte[1 << 16];
+
+    static {
+        for (int cells = 0; cells < Rule.length; cells++) {
+            int result = 0;
+            for (int i = 0; i < 4; i++) {
+                final int row = 1 + i / 2, column = 1 + i % 2;
+                int count = 0;
+                for (int dr = -1; dr <= 1; dr++)
+                    for (int dc = -1; dc <= 1; dc++)
+                        if ((dr != 0 || dc != 0) && (cells >> (4 * (row + dr) + column + dc) & 1) != 0) count++;
+                final boolean alive = (cells >> (4 * row + column) & 1) != 0;
+                if (count == 3 || alive && count == 2) result |= 1 << i;
+            }
+            Rule[cells] = (byte) result;
+        }
+    }
+
+    private final long generation;
+    private final Node root;
+    private final Cache cache;
+}
@@ -0,0 +1,48 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.function.BiConsumer;
+
+/**
+ * This class provides the monitors (sinks for the generations of a Game, a Grid or a Group) which may be plugged into
+ * {@link Game} and {@link GameRunner}: a monitor which does nothing, one which passes on only a sample of the generations,
+ * and (see {@link AsyncMonitor}) one which hands the generations to a background thread.
+ */
+public class Monitors {
+
+    /**
+     * Method to get a monitor which does nothing, for running headless.
+     *
+     * @param <T> the type of the thing being monitored.
+     * @return a monitor which ignores its arguments.
+     */
+    public static <T> BiConsumer<Long, T> none() {
+        return (l, t) -> {
+        };
+    }
+
+    /**
+     * Method to get a monitor which passes on only every interval-th generation (those which are multiples of interval).
+     *
+     * @param interval the interval (at least 1).
+     * @param monitor  the monitor to which the sampled generations are passed.
+     * @param <T>      the type of the thing being monitored.
+     * @return a sampling monitor.
+     */
+    public static <T> BiConsumer<Long, T> sampled(long interval, BiConsumer<Long, T> monitor) {
+        if (interval < 1) throw new LifeException("sampled: interval must be positive");
+        return (l, t) -> {
+            if (l % interval == 0) monitor.accept(l, t);
+        };
+    }
+
+    /**
+     * Method to get a monitor which prints the generation and the number of live cells (and, for a Grid, of groups).
+     *
+     * @param <T> the type of the thing being monitored.
+     * @return a printing monitor.
+     */
+    public static <T extends Countable> BiConsumer<Long, T> printer() {
+        return (l, t) -> System.out.println("generation " + l + ": " + t.getCount() + " cells" +
+                (t instanceof Grid ? " in " + ((Grid) t).size() + " groups" : ""));
+    }
+}
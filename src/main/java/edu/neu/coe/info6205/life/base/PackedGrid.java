@@ -0,0 +1,492 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * This class represents an (unbounded) Game of Life universe as bits packed into rows of long words,
+ * and advances it by bit-parallel logic: 64 cells per handful of word operations.
+ * <p>
+ * The live cells lie within a rectangular window of rows, each of words longs, in which the most significant bit of a word
+ * is the cell furthest to the West (just as for Matrix.Bits).
+ * The window has a border of zero words (and zero rows) all round so that the inner loop needs no bounds checks.
+ * Whenever a live cell reaches the edge of the window, the window is refitted to the live cells, with a margin:
+ * so a pattern which moves (a glider, say) is followed by its window, rather than leaving an ever-growing trail of empty space.
+ * <p>
+ * For each word, the eight neighbors of its 64 cells are the words above and below, and all three rows shifted one place
+ * East and West (with the carry from the adjacent words). These are summed by a tree of bit-sliced full adders,
+ * yielding, for each cell, bit 0 and bit 1 of its neighbor count and whether the count is four or more.
+ * A cell is then alive in the next generation if its count is three, or if it is alive and its count is two.
+ * <p>
+ * There are two buffers (the current cells and the next cells) which are swapped after each generation,
+ * so that stepping allocates nothing (except when the window is refitted).
+ */
+public class PackedGrid implements Generational<PackedGrid, Void>, Countable, Renderable {
+
+    /**
+     * Functional interface to receive the coordinates of a cell.
+     */
+    @FunctionalInterface
+    public interface CellConsumer {
+        void accept(int x, int y);
+    }
+
+    /**
+     * Functional interface to receive a horizontal run of cells: from (x, y) eastwards, for length cells.
+     */
+    @FunctionalInterface
+    public interface RunConsumer {
+        void accept(int x, int y, int length);
+    }
+
+    /**
+     * Factory method to create a new PackedGrid from the given string.
+     *
+     * @param generation the current generation.
+     * @param pattern    a String, in the same form as for Group.create, typically from the library of patterns.
+     * @return a new PackedGrid.
+     */
+    public static PackedGrid create(long generation, String pattern) {
+        if (pattern == null) throw new LifeException("create: was given null string");
+        return create(generation, Point.points(pattern));
+    }
+
+    /**
+     * Factory method to create a new PackedGrid from the given points.
+     *
+     * @param generation the current generation.
+     * @param points     the live cells.
+     * @return a new PackedGrid.
+     */
+    public static PackedGrid create(long generation, Iterable<Point> points) {
+        PackedGrid result = new PackedGrid(generation);
+        for (Point p : points) result.add(p.getX(), p.getY());
+        return result;
+    }
+
+    /**
+     * Factory method to create a new PackedGrid with the same cells as a Group.
+     *
+     * @param group the Group.
+     * @return a new PackedGrid.
+     */
+    public static PackedGrid create(Group group) {
+        return create(group.getGeneration(), group.pointsAbsolute());
+    }
+
+    /**
+     * Constructor for an empty PackedGrid.
+     *
+     * @param generation the generation.
+     */
+    public PackedGrid(long generation) {
+        this.generation = generation;
+        allocate(0, 0, 1, 1);
+    }
+
+    /**
+     * Constructor for an empty PackedGrid whose window already encloses the given rectangle
+     * (so that cells may be added within it without the window being refitted).
+     *
+     * @param generation the generation.
+     * @param minX       the least x-coordinate.
+     * @param minY       the least y-coordinate.
+     * @param maxX       the greatest x-coordinate.
+     * @param maxY       the greatest y-coordinate.
+     */
+    public PackedGrid(long generation, int minX, int minY, int maxX, int maxY) {
+        this.generation = generation;
+        refit(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param source the PackedGrid to be copied.
+     */
+    public PackedGrid(PackedGrid source) {
+        this.generation = source.generation;
+        this.originX = source.originX;
+        this.originY = source.originY;
+        this.words = source.words;
+        this.rows = source.rows;
+        this.stride = source.stride;
+        this.cells = source.cells.clone();
+        this.next = new long[cells.length];
+        this.count = source.count;
+        this.fingerprintHigh = source.fingerprintHigh;
+        this.fingerprintLow = source.fingerprintLow;
+    }
+
+    /**
+     * Method to add a live cell (if it is not already alive).
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell was not already alive.
+     */
+    public boolean add(int x, int y) {
+        if (!inside(x, y)) {
+            final int[] box = count > 0 ? boundingBox() : new int[]{x, y, x, y};
+            refit(Math.min(x, box[0]), Math.min(y, box[1]), Math.max(x, box[2]), Math.max(y, box[3]));
+        }
+        int index = index(x, y);
+        long mask = mask(x);
+        if ((cells[index] & mask) != 0) return false;
+        updateFingerprint(Math.floorDiv(x, BitsPerLong), y, cells[index], cells[index] | mask);
+        cells[index] |= mask;
+        count++;
+        return true;
+    }
+
+    /**
+     * Method to add a horizontal run of live cells, a word at a time.
+     *
+     * @param x      the x-coordinate of the westernmost cell.
+     * @param y      the y-coordinate.
+     * @param length the number of cells.
+     * @return the number of cells which were not already alive.
+     */
+    public int addRun(int x, int y, int length) {
+        if (length <= 0) return 0;
+        final int last = x + length - 1;
+        if (!inside(x, y) || !inside(last, y)) {
+            final int[] box = count > 0 ? boundingBox() : new int[]{x, y, last, y};
+            refit(Math.min(x, box[0]), Math.min(y, box[1]), Math.max(last, box[2]), Math.max(y, box[3]));
+        }
+        int added = 0;
+        for (int from = x; from <= last; ) {
+            final int index = index(from, y), offset = (from - originX) % BitsPerLong;
+            final int n = Math.min(BitsPerLong - offset, last - from + 1);
+            // The bits from offset to offset + n - 1 (counting from the most significant).
+            final long mask = offset + n == BitsPerLong ? -1L >>> offset : (-1L >>> offset) & ~(-1L >>> (offset + n));
+            final long before = cells[index], after = before | mask;
+            if (after != before) {
+                updateFingerprint(Math.floorDiv(from, BitsPerLong), y, before, after);
+                cells[index] = after;
+                added += Long.bitCount(after ^ before);
+            }
+            from += n;
+        }
+        count += added;
+        return added;
+    }
+
+    /**
+     * Method to determine if a cell is alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell is alive.
+     */
+    public boolean isAlive(int x, int y) {
+        return inside(x, y) && (cells[index(x, y)] & mask(x)) != 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the fingerprint of the live cells (which is maintained incrementally as cells change).
+     */
+    public Fingerprint getFingerprint() {
+        return new Fingerprint(fingerprintHigh, fingerprintLow);
+    }
+
+    /**
+     * Method to create the next generation, leaving this PackedGrid unchanged.
+     *
+     * @param monitor the monitor (which is passed the current generation).
+     * @return a new PackedGrid.
+     */
+    public PackedGrid generation(BiConsumer<Long, Void> monitor) {
+        monitor.accept(generation, null);
+        PackedGrid result = new PackedGrid(this);
+        result.step();
+        return result;
+    }
+
+    /**
+     * Method to advance this PackedGrid (in place) by one generation.
+     */
+    public void step() {
+        ensureMargin();
+        long total = 0;
+        final long[] a = cells, b = next;
+        final int s = stride, wordX = Math.floorDiv(originX, BitsPerLong) - 1;
+        for (int r = 1; r <= rows; r++) {
+            final int mid = r * s;
+            for (int i = mid + 1; i <= mid + words; i++) {
+                // Skip words whose neighborhood is entirely dead (the common case in sparse patterns).
+                if ((a[i - s - 1] | a[i - s] | a[i - s + 1] | a[i - 1] | a[i] | a[i + 1] | a[i + s - 1] | a[i + s] | a[i + s + 1]) == 0) {
+                    b[i] = 0;
+                    continue;
+                }
+                long word = rule(a[i - s - 1], a[i - s], a[i - s + 1], a[i - 1], a[i], a[i + 1], a[i + s - 1], a[i + s], a[i + s + 1]);
+                b[i] = word;
+                total += Long.bitCount(word);
+                if (word != a[i]) updateFingerprint(wordX + i - mid, originY + r - 1, a[i], word);
+            }
+        }
+        cells = b;
+        next = a;
+        count = (int) total;
+        generation++;
+    }
+
+    /**
+     * Method to advance this PackedGrid (in place) by several generations.
+     *
+     * @param generations the number of generations.
+     */
+    public void step(long generations) {
+        for (long g = 0; g < generations; g++) step();
+    }
+
+    /**
+     * Method to call action for each live cell (in order of y and then x).
+     *
+     * @param action the action.
+     */
+    public void forEach(CellConsumer action) {
+        for (int r = 1; r <= rows; r++)
+            for (int w = 1; w <= words; w++) {
+                long word = cells[r * stride + w];
+                while (word != 0) {
+                    int bit = Long.numberOfLeadingZeros(word);
+                    action.accept(originX + (w - 1) * BitsPerLong + bit, originY + r - 1);
+                    word &= ~(HighBit >>> bit);
+                }
+            }
+    }
+
+    /**
+     * Method to call action for each maximal horizontal run of live cells: North first (y descending), then West to East.
+     * This is the order of the rows in the RLE and plaintext pattern formats.
+     *
+     * @param action the action.
+     */
+    public void forEachRun(RunConsumer action) {
+        for (int r = rows; r >= 1; r--) {
+            final int y = originY + r - 1, row = r * stride;
+            boolean inRun = false;
+            int start = 0;
+            for (int w = 1; w <= words; w++) {
+                final long word = cells[row + w];
+                final int x0 = originX + (w - 1) * BitsPerLong;
+                int bit = 0;
+                while (bit < BitsPerLong) {
+                    if (inRun) {
+                        // Look for the next dead cell (if none, the run continues into the next word).
+                        final long dead = ~word << bit;
+                        if (dead == 0) break;
+                        bit += Long.numberOfLeadingZeros(dead);
+                        action.accept(start, y, x0 + bit - start);
+                        inRun = false;
+                    } else {
+                        final long alive = word << bit;
+                        if (alive == 0) break;
+                        bit += Long.numberOfLeadingZeros(alive);
+                        start = x0 + bit;
+                        inRun = true;
+                    }
+                }
+            }
+            if (inRun) action.accept(start, y, originX + words * BitsPerLong - start);
+        }
+    }
+
+    /**
+     * @return the live cells (in order of y and then x).
+     */
+    public List<Point> points() {
+        final List<Point> result = new ArrayList<>(count);
+        forEach((x, y) -> result.add(new Point(x, y)));
+        return result;
+    }
+
+    /**
+     * @return a new Group with the same live cells (and generation) as this.
+     */
+    public Group toGroup() {
+        Group result = new Group(generation);
+        if (count > 0) result.add(points());
+        return result;
+    }
+
+    /**
+     * Method to yield a String which represents the cells of this PackedGrid:
+     * one line for each row of the bounding box of the live cells, North first, with '*' for a live cell and '.' otherwise.
+     *
+     * @return a String.
+     */
+    public String render() {
+        if (count == 0) return "";
+        final int[] box = boundingBox();
+        final StringBuilder sb = new StringBuilder();
+        for (int y = box[3]; y >= box[1]; y--) {
+            for (int x = box[0]; x <= box[2]; x++) sb.append(isAlive(x, y) ? '*' : '.');
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the bounding box of the live cells as {minX, minY, maxX, maxY}, or null if there are none.
+     */
+    public int[] boundingBox() {
+        if (count == 0) return null;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int r = 1; r <= rows; r++)
+            for (int w = 1; w <= words; w++) {
+                long word = cells[r * stride + w];
+                if (word == 0) continue;
+                int y = originY + r - 1, x0 = originX + (w - 1) * BitsPerLong;
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+                minX = Math.min(minX, x0 + Long.numberOfLeadingZeros(word));
+                maxX = Math.max(maxX, x0 + BitsPerLong - 1 - Long.numberOfTrailingZeros(word));
+            }
+        return new int[]{minX, minY, maxX, maxY};
+    }
+
+    /**
+     * Test for equality of the live cells, ignoring the generation.
+     *
+     * @param o the other PackedGrid.
+     * @return true if they have the same live cells.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedGrid)) return false;
+        PackedGrid that = (PackedGrid) o;
+        return count == that.count && points().equals(that.points());
+    }
+
+    @Override
+    public int hashCode() {
+        return points().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PackedGrid{generation=" + generation + ", count=" + count + ", window=" + BitsPerLong * words + "x" + rows + " at " + new Point(originX, originY) + "}";
+    }
+
+    /**
+     * The Life rule for the 64 cells of word b, given the words around it (a is the row to the South, c the row to the North;
+     * the suffix L denotes the word to the West and R the word to the East).
+     *
+     * @return the next generation of b.
+     */
+    static long rule(long aL, long a, long aR, long bL, long b, long bR, long cL, long c, long cR) {
+        // The neighbors to the West and East of each cell, for each of the three rows.
+        final long aw = (a >>> 1) | (aL << 63), ae = (a << 1) | (aR >>> 63);
+        final long bw = (b >>> 1) | (bL << 63), be = (b << 1) | (bR >>> 63);
+        final long cw = (c >>> 1) | (cL << 63), ce = (c << 1) | (cR >>> 63);
+        // Sum each of the outer rows (three cells) and the middle row (two cells): a1, c1, m1 are the ones, a2, c2, m2 the twos.
+        final long ax = aw ^ ae, a1 = ax ^ a, a2 = (aw & ae) | (a & ax);
+        final long cx = cw ^ ce, c1 = cx ^ c, c2 = (cw & ce) | (c & cx);
+        final long m1 = bw ^ be, m2 = bw & be;
+        // Sum the ones: s0 is bit 0 of the count, k0 the carry into the twos.
+        final long ox = a1 ^ c1, s0 = ox ^ m1, k0 = (a1 & c1) | (m1 & ox);
+        // Sum the four twos (a2, c2, m2, k0): s1 is bit 1 of the count, and over is set if there are at least two of them.
+        final long tx = a2 ^ c2, t1 = tx ^ m2, t2 = (a2 & c2) | (m2 & tx);
+        final long s1 = t1 ^ k0, over = t2 | (t1 & k0);
+        return s1 & ~over & (s0 | b);
+    }
+
+    private void updateFingerprint(int wordX, int y, long before, long after) {
+        fingerprintHigh ^= Fingerprint.change(Fingerprint.SeedHigh, wordX, y, before, after);
+        fingerprintLow ^= Fingerprint.change(Fingerprint.SeedLow, wordX, y, before, after);
+    }
+
+    /**
+     * Refit the window if any live cell lies on its edge, so that births can never fall outside it.
+     */
+    private void ensureMargin() {
+        if (count == 0) return;
+        boolean touching = false;
+        for (int w = 1; w <= words && !touching; w++) touching = cells[stride + w] != 0 || cells[rows * stride + w] != 0;
+        for (int r = 1; r <= rows && !touching; r++)
+            touching = (cells[r * stride + 1] & HighBit) != 0 || (cells[r * stride + words] & 1L) != 0;
+        if (touching) {
+            final int[] box = boundingBox();
+            refit(box[0], box[1], box[2], box[3]);
+        }
+    }
+
+    /**
+     * Reallocate the window (and copy the live cells) so that it encloses the given rectangle with a margin of at least MARGIN
+     * (plus a quarter of the size of the rectangle, so that a growing pattern is refitted only occasionally).
+     */
+    private void refit(int minX, int minY, int maxX, int maxY) {
+        final int padX = MARGIN + (maxX - minX) / 4, padY = MARGIN + (maxY - minY) / 4;
+        // The window is aligned to whole words of the plane, so that the fingerprint is independent of the window.
+        final int newOriginX = Math.floorDiv(minX - padX, BitsPerLong) * BitsPerLong, newOriginY = minY - padY;
+        final int newWords = (maxX + padX - newOriginX) / BitsPerLong + 1, newRows = maxY + padY - newOriginY + 1;
+        final long[] old = cells;
+        final int oldOriginX = originX, oldOriginY = originY, oldWords = words, oldRows = rows, oldStride = stride;
+        allocate(newOriginX, newOriginY, newWords, newRows);
+        if (count == 0) return;
+        // Both windows are aligned, so the live cells (all of which lie in the new window) are copied a whole word at a time.
+        final int shift = (oldOriginX - newOriginX) / BitsPerLong;
+        final int fromWord = Math.max(1, 1 - shift), toWord = Math.min(oldWords, newWords - shift);
+        final int fromRow = Math.max(1, newOriginY - oldOriginY + 1), toRow = Math.min(oldRows, newOriginY + newRows - oldOriginY);
+        for (int r = fromRow; r <= toRow; r++)
+            System.arraycopy(old, r * oldStride + fromWord, cells, (oldOriginY + r - newOriginY) * stride + shift + fromWord, toWord - fromWord + 1);
+    }
+
+    private void allocate(int originX, int originY, int words, int rows) {
+        this.originX = originX;
+        this.originY = originY;
+        this.words = words;
+        this.rows = rows;
+        this.stride = words + 2;
+        final int size = Math.multiplyExact(stride, rows + 2);
+        this.cells = new long[size];
+        this.next = new long[size];
+    }
+
+    private boolean inside(int x, int y) {
+        return x >= originX && x < originX + BitsPerLong * words && y >= originY && y < originY + rows;
+    }
+
+    private int index(int x, int y) {
+        return (y - originY + 1) * stride + (x - originX) / BitsPerLong + 1;
+    }
+
+    private long mask(int x) {
+        return HighBit >>> ((x - originX) % BitsPerLong);
+    }
+
+    // The least number of empty cells on each side of the live cells when the window is refitted.
+    private static final int MARGIN = 8;
+
+    private static final int BitsPerLong = 64;
+
+    private static final long HighBit = 0x8000000000000000L;
+
+    private long generation;
+    // The coordinates of the cell at the South-West corner of the window (the most significant bit of the first word).
+    private int originX;
+    private int originY;
+    // The size of the window (not including the border).
+    private int words;
+    private int rows;
+    // The number of words in a row (including the border).
+    private int stride;
+    private long[] cells;
+    private long[] next;
+    private int count;
+    // The two halves of the Fingerprint of the live cells.
+    private long fingerprintHigh;
+    private long fingerprintLow;
+}
@@ -0,0 +1,71 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark of the {@link Group} generation path against {@link PackedGrid},
+ * running each of the patterns of {@link Library} (and a random soup) for a number of generations.
+ * <p>
+ * Usage: PackedGridBenchmark [generations [soup [runs]]]
+ */
+public class PackedGridBenchmark {
+
+    public PackedGridBenchmark(int generations, int soup, int runs) {
+        this.generations = generations;
+        this.soup = soup;
+        this.runs = runs;
+    }
+
+    public void runBenchmarks() {
+        System.out.println("PackedGridBenchmark: " + Utilities.formatWhole(generations) + " generations");
+        for (String name : new String[]{"Block", "Beehive", "Loaf", "Blinker", "Glider1", "Glider2", "Glider3"})
+            compare(name, Library.get(name));
+        compare("Soup " + soup + "x" + soup, soup(soup, new Random(0L)));
+    }
+
+    public static void main(String[] args) {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int soup = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        new PackedGridBenchmark(generations, soup, runs).runBenchmarks();
+    }
+
+    private void compare(String name, String pattern) {
+        double group = benchmark(name + ": Group", pattern, p -> {
+            Group g = Group.create(0L, p);
+            for (int i = 0; i < generations; i++) g = g.generation((l, v) -> {
+            });
+        });
+        double packed = benchmark(name + ": PackedGrid", pattern, p -> PackedGrid.create(0L, p).step(generations));
+        System.out.println("  speedup: " + Utilities.formatDecimal3Places(group / packed));
+    }
+
+    private double benchmark(String description, String pattern, Consumer<String> function) {
+        double time = new Benchmark_Timer<>(description, function).run(pattern, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec");
+        return time;
+    }
+
+    /**
+     * @return a pattern (in the format of Point.points) with cells chosen at random from a square of side n, at a density of 3/8.
+     */
+    static String soup(int n, Random random) {
+        final StringBuilder result = new StringBuilder();
+        for (int y = 0; y < n; y++)
+            for (int x = 0; x < n; x++)
+                if (random.nextInt(8) < 3) {
+                    if (result.length() > 0) result.append(", ");
+                    result.append(x).append(' ').append(y);
+                }
+        return result.toString();
+    }
+
+    private final int generations;
+    private final int soup;
+    private final int runs;
+}
@@ -0,0 +1,490 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.util.Parallel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+
+/**
+ * This class represents an (unbounded) Game of Life universe as a sparse set of fixed-size tiles,
+ * which are advanced in parallel on a fork/join pool.
+ * <p>
+ * Each tile is a square of TileSize x TileSize cells, packed into rows of long words just as for {@link PackedGrid}
+ * (whose bit-parallel rule is used here), and surrounded by a halo: a border of one row (and one word) on each side,
+ * which holds a copy of the adjacent cells of the eight neighboring tiles.
+ * Each generation has two parallel phases: first, every tile to be computed fills its halo from its neighbors;
+ * then every such tile computes its next generation from its own cells and its halo alone.
+ * Since the halos are not read in the first phase, and the cells are not written in the first phase (nor read by other tiles
+ * in the second), there are no races, and no locks.
+ * <p>
+ * Not every tile is computed in every generation:
+ * <ul>
+ *     <li>a tile which did not change in the previous generation, and none of whose neighbors changed, is stable: it is skipped;</li>
+ *     <li>an empty tile with an empty halo is skipped.</li>
+ * </ul>
+ * The tiles are created as live cells reach their borders, and removed when they (and their neighbors) are empty.
+ * Each tile has two buffers (the current cells and the next cells) which are swapped after each generation,
+ * so that stepping allocates nothing (except when a tile is created).
+ */
+public class TiledGrid implements Generational<TiledGrid, Void>, Countable, Renderable {
+
+    /**
+     * Factory method to create a new TiledGrid from the given string.
+     *
+     * @param generation the current generation.
+     * @param pattern    a String, in the same form as for Group.create, typically from the library of patterns.
+     * @param pool       the fork/join pool.
+     * @return a new TiledGrid.
+     */
+    public static TiledGrid create(long generation, String pattern, ForkJoinPool pool) {
+        if (pattern == null) throw new LifeException("create: was given null string");
+        return create(generation, Point.points(pattern), pool);
+    }
+
+    public static TiledGrid create(long generation, String pattern) {
+        return create(generation, pattern, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Factory method to create a new TiledGrid from the given points.
+     *
+     * @param generation the current generation.
+     * @param points     the live cells.
+     * @param pool       the fork/join pool.
+     * @return a new TiledGrid.
+     */
+    public static TiledGrid create(long generation, Iterable<Point> points, ForkJoinPool pool) {
+        TiledGrid result = new TiledGrid(generation, pool);
+        for (Point p : points) result.add(p.getX(), p.getY());
+        return result;
+    }
+
+    /**
+     * Factory method to create a new TiledGrid from the live cells (and generation) of a Group.
+     *
+     * @param group the Group.
+     * @param pool  the fork/join pool.
+     * @return a new TiledGrid.
+     */
+    public static TiledGrid create(Group group, ForkJoinPool pool) {
+        return create(group.getGeneration(), group.pointsAbsolute(), pool);
+    }
+
+    /**
+     * Constructor for an empty TiledGrid.
+     *
+     * @param generation the generation.
+     * @param pool       the fork/join pool.
+     */
+    public TiledGrid(long generation, ForkJoinPool pool) {
+        this.generation = generation;
+        this.pool = pool;
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param source the TiledGrid to be copied.
+     */
+    public TiledGrid(TiledGrid source) {
+        this(source.generation, source.pool);
+        for (Tile t : source.tiles.values()) {
+            Tile tile = tile(t.tx, t.ty);
+            System.arraycopy(t.cells, 0, tile.cells, 0, t.cells.length);
+            tile.population = t.population;
+            tile.changed = t.changed;
+        }
+        this.count = source.count;
+    }
+
+    /**
+     * Method to add a live cell (if it is not already alive).
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell was not already alive.
+     */
+    public boolean add(int x, int y) {
+        final Tile tile = tile(Math.floorDiv(x, TileSize), Math.floorDiv(y, TileSize));
+        final int index = index(x, y);
+        final long mask = mask(x);
+        if ((tile.cells[index] & mask) != 0) return false;
+        tile.cells[index] |= mask;
+        tile.population++;
+        tile.changed = true;
+        count++;
+        return true;
+    }
+
+    /**
+     * Method to determine if a cell is alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell is alive.
+     */
+    public boolean isAlive(int x, int y) {
+        final Tile tile = tiles.get(key(Math.floorDiv(x, TileSize), Math.floorDiv(y, TileSize)));
+        return tile != null && (tile.cells[index(x, y)] & mask(x)) != 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the number of tiles (including empty tiles which border live ones).
+     */
+    public int getTiles() {
+        return tiles.size();
+    }
+
+    /**
+     * @return the number of tiles which were computed in the most recent generation (the others were skipped).
+     */
+    public int getComputed() {
+        return computed;
+    }
+
+    /**
+     * Method to create the next generation, leaving this TiledGrid unchanged.
+     *
+     * @param monitor the monitor (which is passed the current generation).
+     * @return a new TiledGrid.
+     */
+    public TiledGrid generation(BiConsumer<Long, Void> monitor) {
+        monitor.accept(generation, null);
+        TiledGrid result = new TiledGrid(this);
+        result.step();
+        return result;
+    }
+
+    /**
+     * Method to advance this TiledGrid (in place) by one generation.
+     */
+    public void step() {
+        final List<Tile> work = prepare();
+        final int n = work.size();
+        final int grain = Math.max(1, n / (8 * pool.getParallelism()));
+        Parallel.forEachChunk(pool, n, grain, (from, to) -> {
+            for (int i = from; i < to; i++) work.get(i).fillHalo();
+        });
+        Parallel.forEachChunk(pool, n, grain, (from, to) -> {
+            for (int i = from; i < to; i++) work.get(i).step();
+        });
+        finish(work);
+        computed = n;
+        generation++;
+    }
+
+    /**
+     * Method to advance this TiledGrid (in place) by several generations.
+     *
+     * @param generations the number of generations.
+     */
+    public void step(long generations) {
+        for (long g = 0; g < generations; g++) step();
+    }
+
+    /**
+     * Method to call action for each live cell (tile by tile).
+     *
+     * @param action the action.
+     */
+    public void forEach(PackedGrid.CellConsumer action) {
+        for (Tile tile : tiles.values()) {
+            if (tile.population == 0) continue;
+            for (int r = 1; r <= TileSize; r++)
+                for (int w = 1; w <= TileWords; w++) {
+                    long word = tile.cells[r * Stride + w];
+                    while (word != 0) {
+                        int bit = Long.numberOfLeadingZeros(word);
+                        action.accept(tile.tx * TileSize + (w - 1) * BitsPerLong + bit, tile.ty * TileSize + r - 1);
+                        word &= ~(HighBit >>> bit);
+                    }
+                }
+        }
+    }
+
+    /**
+     * @return the live cells (in no particular order).
+     */
+    public List<Point> points() {
+        final List<Point> result = new ArrayList<>(count);
+        forEach((x, y) -> result.add(new Point(x, y)));
+        return result;
+    }
+
+    /**
+     * @return a new Group with the same live cells (and generation) as this.
+     */
+    public Group toGroup() {
+        Group result = new Group(generation);
+        if (count > 0) result.add(points());
+        return result;
+    }
+
+    /**
+     * @return the bounding box of the live cells as {minX, minY, maxX, maxY}, or null if there are none.
+     */
+    public int[] boundingBox() {
+        if (count == 0) return null;
+        final int[] result = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        forEach((x, y) -> {
+            result[0] = Math.min(result[0], x);
+            result[1] = Math.min(result[1], y);
+            result[2] = Math.max(result[2], x);
+            result[3] = Math.max(result[3], y);
+        });
+        return result;
+    }
+
+    /**
+     * Method to yield a String which represents the cells of this TiledGrid:
+     * one line for each row of the bounding box of the live cells, North first, with '*' for a live cell and '.' otherwise.
+     *
+     * @return a String.
+     */
+    public String render() {
+        if (count == 0) return "";
+        final int[] box = boundingBox();
+        final StringBuilder sb = new StringBuilder();
+        for (int y = box[3]; y >= box[1]; y--) {
+            for (int x = box[0]; x <= box[2]; x++) sb.append(isAlive(x, y) ? '*' : '.');
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Test for equality of the live cells, ignoring the generation.
+     *
+     * @param o the other TiledGrid.
+     * @return true if they have the same live cells.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TiledGrid)) return false;
+        TiledGrid that = (TiledGrid) o;
+        if (count != that.count) return false;
+        for (Tile tile : tiles.values()) {
+            if (tile.population == 0) continue;
+            Tile other = that.tiles.get(key(tile.tx, tile.ty));
+            if (other == null || other.population != tile.population) return false;
+            for (int r = 1; r <= TileSize; r++)
+                for (int w = 1; w <= TileWords; w++)
+                    if (tile.cells[r * Stride + w] != other.cells[r * Stride + w]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (Tile tile : tiles.values())
+            for (int r = 1; r <= TileSize; r++)
+                for (int w = 1; w <= TileWords; w++) {
+                    final long word = tile.cells[r * Stride + w];
+                    if (word != 0) result += (Long.hashCode(word) * 31 + r * Stride + w) * 31 + Long.hashCode(key(tile.tx, tile.ty));
+                }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TiledGrid{generation=" + generation + ", count=" + count + ", tiles=" + tiles.size() + ", computed=" + computed + "}";
+    }
+
+    /**
+     * A tile of TileSize x TileSize cells, with its halo, its two buffers and links to its eight neighbors.
+     */
+    private static class Tile {
+        Tile(int tx, int ty) {
+            this.tx = tx;
+            this.ty = ty;
+        }
+
+        /**
+         * Copy the adjacent cells of the neighbors into the halo.
+         */
+        void fillHalo() {
+            final long[] c = cells;
+            final int top = (TileSize + 1) * Stride;
+            final Tile s = neighbors[S], n = neighbors[N], w = neighbors[W], e = neighbors[E];
+            for (int i = 1; i <= TileWords; i++) {
+                c[i] = s != null ? s.cells[TileSize * Stride + i] : 0;
+                c[top + i] = n != null ? n.cells[Stride + i] : 0;
+            }
+            for (int r = 1; r <= TileSize; r++) {
+                c[r * Stride] = w != null ? w.cells[r * Stride + TileWords] : 0;
+                c[r * Stride + TileWords + 1] = e != null ? e.cells[r * Stride + 1] : 0;
+            }
+            c[0] = neighbors[SW] != null ? neighbors[SW].cells[TileSize * Stride + TileWords] : 0;
+            c[TileWords + 1] = neighbors[SE] != null ? neighbors[SE].cells[TileSize * Stride + 1] : 0;
+            c[top] = neighbors[NW] != null ? neighbors[NW].cells[Stride + TileWords] : 0;
+            c[top + TileWords + 1] = neighbors[NE] != null ? neighbors[NE].cells[Stride + 1] : 0;
+        }
+
+        /**
+         * Compute the next generation of this tile from its cells and halo, then swap the buffers.
+         */
+        void step() {
+            final long[] a = cells, b = next;
+            if (population == 0 && haloEmpty()) {
+                changedNext = false;
+                return;
+            }
+            final int s = Stride;
+            int total = 0;
+            boolean different = false;
+            for (int r = 1; r <= TileSize; r++) {
+                final int mid = r * s;
+                for (int i = mid + 1; i <= mid + TileWords; i++) {
+                    long word = (a[i - s - 1] | a[i - s] | a[i - s + 1] | a[i - 1] | a[i] | a[i + 1] | a[i + s - 1] | a[i + s] | a[i + s + 1]) == 0 ? 0 :
+                            PackedGrid.rule(a[i - s - 1], a[i - s], a[i - s + 1], a[i - 1], a[i], a[i + 1], a[i + s - 1], a[i + s], a[i + s + 1]);
+                    b[i] = word;
+                    different |= word != a[i];
+                    total += Long.bitCount(word);
+                }
+            }
+            cells = b;
+            next = a;
+            population = total;
+            changedNext = different;
+        }
+
+        boolean touchesBorder() {
+            if (population == 0) return false;
+            for (int i = 1; i <= TileWords; i++)
+                if (cells[Stride + i] != 0 || cells[TileSize * Stride + i] != 0) return true;
+            for (int r = 1; r <= TileSize; r++)
+                if ((cells[r * Stride + 1] & HighBit) != 0 || (cells[r * Stride + TileWords] & 1L) != 0) return true;
+            return false;
+        }
+
+        private boolean haloEmpty() {
+            final int top = (TileSize + 1) * Stride;
+            for (int i = 0; i < Stride; i++) if (cells[i] != 0 || cells[top + i] != 0) return false;
+            for (int r = 1; r <= TileSize; r++) if (cells[r * Stride] != 0 || cells[r * Stride + TileWords + 1] != 0) return false;
+            return true;
+        }
+
+        final int tx;
+        final int ty;
+        final Tile[] neighbors = new Tile[8];
+        long[] cells = new long[Stride * (TileSize + 2)];
+        long[] next = new long[Stride * (TileSize + 2)];
+        int population;
+        // Whether the cells changed in the previous generation (for a new tile, whether it has been modified).
+        boolean changed = true;
+        boolean changedNext;
+    }
+
+    /**
+     * Create the neighbors of any tile whose live cells reach its border, and collect the tiles which must be computed.
+     */
+    private List<Tile> prepare() {
+        // A tile which did not change has already had its neighbors created (and they cannot have been removed since).
+        for (Tile tile : new ArrayList<>(tiles.values()))
+            if (tile.changed && tile.touchesBorder())
+                for (int d = 0; d < 8; d++)
+                    if (tile.neighbors[d] == null) tile(tile.tx + DX[d], tile.ty + DY[d]);
+        final List<Tile> result = new ArrayList<>();
+        for (Tile tile : tiles.values()) {
+            boolean stable = !tile.changed;
+            for (int d = 0; d < 8 && stable; d++) stable = tile.neighbors[d] == null || !tile.neighbors[d].changed;
+            if (!stable) result.add(tile);
+        }
+        return result;
+    }
+
+    /**
+     * Record which tiles changed, update the count, and remove the empty tiles which have no live neighbors.
+     */
+    private void finish(List<Tile> work) {
+        for (Tile tile : tiles.values()) tile.changed = false;
+        for (Tile tile : work) tile.changed = tile.changedNext;
+        int total = 0;
+        final List<Tile> empty = new ArrayList<>();
+        for (Tile tile : tiles.values()) {
+            total += tile.population;
+            if (tile.population == 0) {
+                boolean lonely = true;
+                for (int d = 0; d < 8 && lonely; d++) lonely = tile.neighbors[d] == null || tile.neighbors[d].population == 0;
+                if (lonely) empty.add(tile);
+            }
+        }
+        for (Tile tile : empty) remove(tile);
+        count = total;
+    }
+
+    /**
+     * @return the tile at (tx, ty), creating it (and linking it to its neighbors) if necessary.
+     */
+    private Tile tile(int tx, int ty) {
+        final long key = key(tx, ty);
+        Tile result = tiles.get(key);
+        if (result != null) return result;
+        result = new Tile(tx, ty);
+        for (int d = 0; d < 8; d++) {
+            Tile neighbor = tiles.get(key(tx + DX[d], ty + DY[d]));
+            if (neighbor != null) {
+                result.neighbors[d] = neighbor;
+                neighbor.neighbors[7 - d] = result;
+            }
+        }
+        tiles.put(key, result);
+        return result;
+    }
+
+    private void remove(Tile tile) {
+        for (int d = 0; d < 8; d++)
+            if (tile.neighbors[d] != null) tile.neighbors[d].neighbors[7 - d] = null;
+        tiles.remove(key(tile.tx, tile.ty));
+    }
+
+    private static long key(int tx, int ty) {
+        return (long) tx << 32 | (ty & 0xFFFFFFFFL);
+    }
+
+    private static int index(int x, int y) {
+        return (Math.floorMod(y, TileSize) + 1) * Stride + Math.floorMod(x, TileSize) / BitsPerLong + 1;
+    }
+
+    private static long mask(int x) {
+        return HighBit >>> (Math.floorMod(x, TileSize) % BitsPerLong);
+    }
+
+    private static final int BitsPerLong = 64;
+
+    private static final long HighBit = 0x8000000000000000L;
+
+    // The number of words in a row of a tile (not including the halo).
+    private static final int TileWords = 4;
+
+    // The number of cells (and rows) on each side of a tile.
+    static final int TileSize = TileWords * BitsPerLong;
+
+    // The number of words in a row of a tile (including the halo).
+    private static final int Stride = TileWords + 2;
+
+    // The directions of the neighbors, such that the opposite of direction d is 7 - d.
+    private static final int SW = 0, S = 1, SE = 2, W = 3, E = 4, NW = 5, N = 6, NE = 7;
+    private static final int[] DX = {-1, 0, 1, -1, 1, -1, 0, 1};
+    private static final int[] DY = {-1, -1, -1, 0, 0, 1, 1, 1};
+
+    private final ForkJoinPool pool;
+    private final Map<Long, Tile> tiles = new HashMap<>();
+    private long generation;
+    private int count;
+    private int computed;
+}
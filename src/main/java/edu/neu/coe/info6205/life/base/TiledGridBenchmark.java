@@ -0,0 +1,69 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of {@link TiledGrid} on a large random soup, with the number of threads ranging from 1 to the number of available processors,
+ * compared with the single-threaded {@link PackedGrid}.
+ * The rate is given in cells per second: that is to say, the area of the soup times the number of generations, divided by the time.
+ * <p>
+ * Usage: TiledGridBenchmark [n [generations [runs]]]
+ */
+public class TiledGridBenchmark {
+
+    public TiledGridBenchmark(int n, int generations, int runs) {
+        this.n = n;
+        this.generations = generations;
+        this.runs = runs;
+        final Random random = new Random(0L);
+        for (int y = 0; y < n; y++)
+            for (int x = 0; x < n; x++)
+                if (random.nextInt(8) < 3) soup.add(new Point(x, y));
+    }
+
+    public void runBenchmarks() {
+        System.out.println("TiledGridBenchmark: soup " + n + "x" + n + " with " + Utilities.formatWhole(soup.size()) + " cells, " + generations + " generations");
+        final double base = new Benchmark_Timer<PackedGrid>("PackedGrid", g -> g.step(generations)).runFromSupplier(() -> PackedGrid.create(0L, soup), runs);
+        report("PackedGrid", base);
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= processors; p *= 2) {
+            scaling(p, base);
+            if (p < processors && 2 * p > processors) scaling(processors, base);
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2048;
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        new TiledGridBenchmark(n, generations, runs).runBenchmarks();
+    }
+
+    private void scaling(int p, double base) {
+        final ForkJoinPool pool = new ForkJoinPool(p);
+        try {
+            final String description = "TiledGrid with " + p + " threads";
+            double time = new Benchmark_Timer<TiledGrid>(description, g -> g.step(generations)).runFromSupplier(() -> TiledGrid.create(0L, soup, pool), runs);
+            report(description, time);
+            System.out.println("  speedup over PackedGrid: " + Utilities.formatDecimal3Places(base / time));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void report(String description, double time) {
+        final double rate = (double) n * n * generations / time * 1000;
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec (" + Utilities.formatWhole((long) rate) + " cells/sec)");
+    }
+
+    private final int n;
+    private final int generations;
+    private final int runs;
+    private final List<Point> soup = new ArrayList<>();
+}
@@ -0,0 +1,109 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.PackedGrid;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * This class is a corpus of well-known patterns (in RLE format) which run for a long time, together with
+ * methods to load patterns from files and to build large patterns (arrays of guns, random soups) for benchmarks.
+ */
+public class Corpus {
+
+    /**
+     * The R-pentomino: it stabilizes at generation 1103 with 116 cells (six gliders having escaped).
+     */
+    final public static String RPentomino = "x = 3, y = 3\nb2o$2ob$bo!";
+
+    /**
+     * Acorn: it stabilizes at generation 5206 with 633 cells (thirteen gliders having escaped).
+     */
+    final public static String Acorn = "x = 7, y = 3\nbo5b$3bo3b$2o2b3o!";
+
+    /**
+     * Diehard: it vanishes at generation 130.
+     */
+    final public static String Diehard = "x = 8, y = 3\n6bob$2o6b$bo3b3o!";
+
+    /**
+     * The Gosper glider gun: it has period 30, emitting a glider to the South-East each period.
+     */
+    final public static String GosperGliderGun = "x = 36, y = 9\n24bo11b$22bobo11b$12b2o6b2o12b2o$11bo3bo4b2o12b2o$" +
+            "2o8bo5bo3b2o14b$2o8bo3bob2o4bobo11b$10bo5bo7bo11b$11bo3bo20b$12b2o22b!";
+
+    final public static Map<String, String> map = new LinkedHashMap<>();
+
+    public static String get(String key) {
+        return map.get(key.toLowerCase());
+    }
+
+    public static String put(String key, String value) {
+        return map.put(key.toLowerCase(), value);
+    }
+
+    /**
+     * Method to load a pattern from a file: RLE if its name ends with .rle, plaintext if it ends with .cells.
+     *
+     * @param path the path of the file.
+     * @return a new PackedGrid at generation 0.
+     * @throws IOException   if the file cannot be read.
+     * @throws LifeException if the format is unknown or the pattern is malformed.
+     */
+    public static PackedGrid load(Path path) throws IOException {
+        final String name = path.getFileName().toString().toLowerCase();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (name.endsWith(".rle")) return RLE.read(reader, 0L);
+            if (name.endsWith(".cells")) return PlainText.read(reader, 0L);
+        }
+        throw new LifeException("Corpus: unknown pattern format: " + path);
+    }
+
+    /**
+     * Method to build a row of Gosper glider guns, each of which emits its own stream of gliders to the South-East.
+     *
+     * @param k the number of guns.
+     * @return a new PackedGrid at generation 0.
+     */
+    public static PackedGrid gunRow(int k) {
+        final PackedGrid gun = RLE.parse(GosperGliderGun);
+        final PackedGrid result = new PackedGrid(0L, 0, -8, GunSpacing * k - 1, 0);
+        for (int i = 0; i < k; i++) {
+            final int dx = GunSpacing * i;
+            gun.forEachRun((x, y, length) -> result.addRun(x + dx, y, length));
+        }
+        return result;
+    }
+
+    /**
+     * Method to build a random soup: a square with cells chosen at random at a density of 3/8.
+     *
+     * @param n    the side of the square.
+     * @param seed the seed of the random number generator.
+     * @return a new PackedGrid at generation 0.
+     */
+    public static PackedGrid soup(int n, long seed) {
+        final Random random = new Random(seed);
+        final PackedGrid result = new PackedGrid(0L, 0, 1 - n, n - 1, 0);
+        for (int y = 0; y < n; y++)
+            for (int x = 0; x < n; x++)
+                if (random.nextInt(8) < 3) result.add(x, -y);
+        return result;
+    }
+
+    private static final int GunSpacing = 48;
+
+    static {
+        put("R-pentomino", RPentomino);
+        put("Acorn", Acorn);
+        put("Diehard", Diehard);
+        put("Gosper glider gun", GosperGliderGun);
+    }
+}
@@ -0,0 +1,81 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.PackedGrid;
+import edu.neu.coe.info6205.life.base.TiledGrid;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of {@link PackedGrid} and {@link TiledGrid} on the large, long-running patterns of {@link Corpus}
+ * (and on any pattern files, in RLE or plaintext format, named on the command line),
+ * running each for a number of generations and reporting the throughput in cells per second:
+ * that is to say, the total of the live cells of each generation divided by the time taken.
+ * <p>
+ * Usage: PatternBenchmark [generations [file...]]
+ */
+public class PatternBenchmark {
+
+    public PatternBenchmark(int generations, int runs) {
+        this.generations = generations;
+        this.runs = runs;
+    }
+
+    public void runBenchmarks(Map<String, PackedGrid> patterns) {
+        System.out.println("PatternBenchmark: " + Utilities.formatWhole(generations) + " generations");
+        for (Map.Entry<String, PackedGrid> e : patterns.entrySet()) benchmark(e.getKey(), e.getValue());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final Map<String, PackedGrid> patterns = new LinkedHashMap<>();
+        if (args.length > 1)
+            for (int i = 1; i < args.length; i++) {
+                final Path path = Paths.get(args[i]);
+                final long start = System.nanoTime();
+                patterns.put(path.getFileName().toString(), Corpus.load(path));
+                System.out.println("Loaded " + path + " in " + Utilities.formatDecimal3Places((System.nanoTime() - start) / 1E6) + " mSec");
+            }
+        else {
+            for (String name : Corpus.map.keySet()) patterns.put(name, RLE.parse(Corpus.get(name)));
+            patterns.put("row of 64 guns", Corpus.gunRow(64));
+            patterns.put("soup 1024x1024", Corpus.soup(1024, 0L));
+        }
+        new PatternBenchmark(generations, 10).runBenchmarks(patterns);
+    }
+
+    private void benchmark(String name, PackedGrid pattern) {
+        // The work done is independent of the implementation, so it is counted once, outside the timed runs.
+        final PackedGrid grid = new PackedGrid(pattern);
+        long cells = 0;
+        for (int i = 0; i < generations; i++) {
+            grid.step();
+            cells += grid.getCount();
+        }
+        System.out.println(name + ": " + Utilities.formatWhole(pattern.getCount()) + " cells, " + Utilities.formatWhole(cells) + " cell-generations");
+        time(name + ": PackedGrid", cells, () -> new PackedGrid(pattern), g -> g.step(generations));
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        time(name + ": TiledGrid", cells, () -> {
+            final TiledGrid result = new TiledGrid(pattern.getGeneration(), pool);
+            pattern.forEach(result::add);
+            return result;
+        }, t -> t.step(generations));
+    }
+
+    private <T> void time(String description, long cells, Supplier<T> supplier, Consumer<T> function) {
+        final double time = new Benchmark_Timer<T>(description, function).runFromSupplier(supplier, runs);
+        System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec, " +
+                Utilities.formatWhole(Math.round(cells / time * 1000)) + " cells/sec");
+    }
+
+    private final int generations;
+    private final int runs;
+}
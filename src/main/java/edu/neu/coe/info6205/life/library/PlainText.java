@@ -0,0 +1,136 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.PackedGrid;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * This class reads and writes patterns in the plaintext (.cells) format.
+ * <p>
+ * For example, a glider is:
+ * <pre>
+ * !Name: Glider
+ * .O
+ * ..O
+ * OOO
+ * </pre>
+ * Lines beginning with ! are comments; every other line is a row of the pattern (North first),
+ * with O (or *) for a live cell and . for a dead cell. Trailing dead cells may be omitted.
+ * <p>
+ * As for {@link RLE}, each run of live cells goes directly into a {@link PackedGrid}, without creating Point objects;
+ * the top-left cell of the pattern is at (0, 0), and its rows go South.
+ */
+public class PlainText {
+
+    /**
+     * Method to read a pattern into a new PackedGrid.
+     *
+     * @param reader     the source of the pattern.
+     * @param generation the generation of the result.
+     * @return a new PackedGrid.
+     * @throws IOException if the reader fails.
+     */
+    public static PackedGrid read(Reader reader, long generation) throws IOException {
+        final PackedGrid result = new PackedGrid(generation);
+        read(reader, result::addRun);
+        return result;
+    }
+
+    /**
+     * Method to read a pattern, passing each run of live cells to action.
+     *
+     * @param reader the source of the pattern.
+     * @param action the action for each run of live cells.
+     * @throws IOException if the reader fails.
+     */
+    public static void read(Reader reader, PackedGrid.RunConsumer action) throws IOException {
+        final BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, 1 << 16);
+        int y = 0;
+        for (String line; (line = in.readLine()) != null; ) {
+            if (line.startsWith("!")) continue;
+            final int n = line.length();
+            for (int x = 0; x < n; ) {
+                if (alive(line.charAt(x))) {
+                    int end = x + 1;
+                    while (end < n && alive(line.charAt(end))) end++;
+                    action.accept(x, y, end - x);
+                    x = end;
+                } else x++;
+            }
+            y--;
+        }
+    }
+
+    /**
+     * Method to parse a pattern from a String.
+     *
+     * @param pattern the pattern in plaintext format.
+     * @return a new PackedGrid at generation 0.
+     */
+    public static PackedGrid parse(String pattern) {
+        try {
+            return read(new StringReader(pattern), 0L);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method to write the live cells of grid as a pattern.
+     *
+     * @param grid   the PackedGrid.
+     * @param name   the name of the pattern (or null).
+     * @param writer the destination.
+     * @throws IOException if the writer fails.
+     */
+    public static void write(PackedGrid grid, String name, Writer writer) throws IOException {
+        if (name != null) writer.write("!Name: " + name + "\n");
+        final int[] box = grid.boundingBox();
+        if (box == null) return;
+        // The row being written and the next column in that row.
+        final int[] cursor = {box[3], box[0]};
+        try {
+            grid.forEachRun((x, y, length) -> {
+                try {
+                    for (; cursor[0] > y; cursor[0]--) {
+                        writer.write('\n');
+                        cursor[1] = box[0];
+                    }
+                    for (; cursor[1] < x; cursor[1]++) writer.write('.');
+                    for (; cursor[1] < x + length; cursor[1]++) writer.write('O');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Method to format the live cells of grid as a pattern.
+     *
+     * @param grid the PackedGrid.
+     * @return a String in plaintext format.
+     */
+    public static String format(PackedGrid grid) {
+        final StringWriter result = new StringWriter();
+        try {
+            write(grid, null, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    private static boolean alive(char c) {
+        return c == 'O' || c == '*';
+    }
+}
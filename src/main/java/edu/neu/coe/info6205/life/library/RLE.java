@@ -0,0 +1,252 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.PackedGrid;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * This class reads and writes patterns in the run-length encoded (RLE) format, which is the standard format for Life patterns.
+ * <p>
+ * For example, a glider is:
+ * <pre>
+ * #N Glider
+ * x = 3, y = 3, rule = B3/S23
+ * bob$2bo$3o!
+ * </pre>
+ * Lines beginning with # are comments, then there is a header line giving the width (x) and height (y) of the pattern,
+ * then the pattern itself: runs of dead (b) or live (o) cells, each optionally preceded by its length,
+ * with $ for the end of a row (again optionally preceded by a count) and ! for the end of the pattern.
+ * <p>
+ * The pattern is read as a stream of characters, and each run of live cells goes directly into a {@link PackedGrid}
+ * (a word at a time): no Point objects are created, so that multi-megabyte patterns can be loaded quickly.
+ * The top-left cell of the pattern is at (0, 0), and its rows go South (that is to say, y decreases), as in {@link Library}.
+ */
+public class RLE {
+
+    /**
+     * Method to read a pattern into a new PackedGrid (whose window is sized according to the header).
+     *
+     * @param reader     the source of the pattern.
+     * @param generation the generation of the result.
+     * @return a new PackedGrid.
+     * @throws IOException   if the reader fails.
+     * @throws LifeException if the pattern is malformed (or not for Conway's rule).
+     */
+    public static PackedGrid read(Reader reader, long generation) throws IOException {
+        final BufferedReader in = buffered(reader);
+        final int[] size = readHeader(in);
+        final PackedGrid result = size != null && size[0] > 0 && size[1] > 0 ?
+                new PackedGrid(generation, 0, 1 - size[1], size[0] - 1, 0) : new PackedGrid(generation);
+        readBody(in, result::addRun);
+        return result;
+    }
+
+    /**
+     * Method to read a pattern, passing each run of live cells to action.
+     *
+     * @param reader the source of the pattern.
+     * @param action the action for each run of live cells.
+     * @return the width and height given by the header (or null if there was no header).
+     * @throws IOException   if the reader fails.
+     * @throws LifeException if the pattern is malformed (or not for Conway's rule).
+     */
+    public static int[] read(Reader reader, PackedGrid.RunConsumer action) throws IOException {
+        final BufferedReader in = buffered(reader);
+        final int[] result = readHeader(in);
+        readBody(in, action);
+        return result;
+    }
+
+    /**
+     * Method to parse a pattern from a String.
+     *
+     * @param pattern the pattern in RLE format.
+     * @return a new PackedGrid at generation 0.
+     */
+    public static PackedGrid parse(String pattern) {
+        try {
+            return read(new StringReader(pattern), 0L);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method to write the live cells of grid as a pattern (with lines of at most 70 characters).
+     *
+     * @param grid   the PackedGrid.
+     * @param writer the destination.
+     * @throws IOException if the writer fails.
+     */
+    public static void write(PackedGrid grid, Writer writer) throws IOException {
+        final int[] box = grid.boundingBox();
+        if (box == null) {
+            writer.write("x = 0, y = 0, rule = B3/S23\n!\n");
+            return;
+        }
+        writer.write("x = " + (box[2] - box[0] + 1) + ", y = " + (box[3] - box[1] + 1) + ", rule = B3/S23\n");
+        final Encoder encoder = new Encoder(writer, box[0], box[3]);
+        try {
+            grid.forEachRun(encoder::run);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        encoder.finish();
+    }
+
+    /**
+     * Method to format the live cells of grid as a pattern.
+     *
+     * @param grid the PackedGrid.
+     * @return a String in RLE format.
+     */
+    public static String format(PackedGrid grid) {
+        final StringWriter result = new StringWriter();
+        try {
+            write(grid, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Read the comments and the header line (if any), leaving the reader at the start of the pattern.
+     *
+     * @return {x, y} from the header, or null if there is no header.
+     */
+    private static int[] readHeader(BufferedReader in) throws IOException {
+        while (true) {
+            in.mark(1);
+            final int c = in.read();
+            if (c == -1) return null;
+            if (Character.isWhitespace(c)) continue;
+            if (c == '#') {
+                in.readLine();
+                continue;
+            }
+            if (c != 'x') {
+                in.reset();
+                return null;
+            }
+            final String line = "x" + in.readLine();
+            final int[] result = new int[2];
+            for (String field : line.split(",")) {
+                final String[] pair = field.split("=");
+                if (pair.length != 2) throw new LifeException("RLE: malformed header: " + line);
+                final String key = pair[0].trim(), value = pair[1].trim();
+                switch (key) {
+                    case "x":
+                        result[0] = Integer.parseInt(value);
+                        break;
+                    case "y":
+                        result[1] = Integer.parseInt(value);
+                        break;
+                    case "rule":
+                        if (!value.equalsIgnoreCase("B3/S23") && !value.equals("23/3"))
+                            throw new LifeException("RLE: unsupported rule: " + value);
+                        break;
+                    default:
+                        // ignore any other fields
+                }
+            }
+            return result;
+        }
+    }
+
+    private static void readBody(BufferedReader in, PackedGrid.RunConsumer action) throws IOException {
+        final char[] buffer = new char[BufferSize];
+        int x = 0, y = 0, count = 0;
+        for (int n; (n = in.read(buffer)) > 0; )
+            for (int i = 0; i < n; i++) {
+                final char c = buffer[i];
+                if (c >= '0' && c <= '9') {
+                    count = count * 10 + (c - '0');
+                    continue;
+                }
+                if (Character.isWhitespace(c)) continue;
+                final int run = count == 0 ? 1 : count;
+                count = 0;
+                switch (c) {
+                    case 'b':
+                    case '.':
+                        x += run;
+                        break;
+                    case '$':
+                        y -= run;
+                        x = 0;
+                        break;
+                    case '!':
+                        return;
+                    default:
+                        if (!Character.isLetter(c)) throw new LifeException("RLE: unexpected character '" + c + "' at row " + -y);
+                        // o, or any other state of a multi-state pattern, is alive.
+                        action.accept(x, y, run);
+                        x += run;
+                }
+            }
+    }
+
+    private static BufferedReader buffered(Reader reader) {
+        return reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, BufferSize);
+    }
+
+    /**
+     * Encoder of the runs of live cells of a pattern, North first, wrapping the lines.
+     */
+    private static class Encoder {
+        Encoder(Writer writer, int minX, int maxY) {
+            this.writer = writer;
+            this.minX = minX;
+            this.y = maxY;
+            this.x = minX;
+        }
+
+        void run(int x, int y, int length) {
+            try {
+                if (y != this.y) {
+                    token(this.y - y, '$');
+                    this.y = y;
+                    this.x = minX;
+                }
+                if (x > this.x) token(x - this.x, 'b');
+                token(length, 'o');
+                this.x = x + length;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            token(1, '!');
+            writer.write('\n');
+        }
+
+        private void token(int count, char tag) throws IOException {
+            final String token = count == 1 ? String.valueOf(tag) : count + String.valueOf(tag);
+            if (column + token.length() > LineLength) {
+                writer.write('\n');
+                column = 0;
+            }
+            writer.write(token);
+            column += token.length();
+        }
+
+        private final Writer writer;
+        private final int minX;
+        private int x;
+        private int y;
+        private int column;
+    }
+
+    private static final int LineLength = 70;
+
+    private static final int BufferSize = 1 << 16;
+}
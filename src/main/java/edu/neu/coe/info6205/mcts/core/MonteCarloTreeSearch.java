@@ -0,0 +1,429 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class implements a Monte Carlo Tree Search for any Game, with UCT (upper confidence bounds applied to trees) selection
+ * and a pluggable {@link Rollout} policy.
+ * <p>
+ * Each iteration selects a path from the root by UCT, expands the last Node of the path (if it has been visited before),
+ * plays out the rest of the game according to the Rollout, and adds the result to the score of every Node of the path.
+ * <p>
+ * The search may run on several threads of a fork/join pool, in either of two ways:
+ * <dl>
+ *     <dt>TREE</dt><dd>all threads share the one tree, whose statistics are atomic counters,
+ *     and a virtual loss (see {@link SearchNode}) keeps the threads from all following the same path;</dd>
+ *     <dt>ROOT</dt><dd>each thread builds a tree of its own, and the statistics of the children of the roots are merged at the end.</dd>
+ * </dl>
+ * The search stops when the {@link Budget} (a number of iterations, a time, or both) is exhausted.
+ * <p>
+ * Optionally, the Nodes may be kept in a {@link TranspositionTable}, so that each distinct position (up to symmetry, if the key is canonical)
+ * has one Node, however it is reached: the tree becomes a DAG, and the memory is bounded by the capacity of the table.
+ * For root parallelism, each tree but the first has a fresh table of its own.
+ * Since the Node to which a move from the root leads also counts the playouts which reach it by other paths,
+ * the Result is then taken from statistics kept for each edge from the root.
+ *
+ * @param <G> the type of the Game.
+ */
+public class MonteCarloTreeSearch<G extends Game> {
+
+    /**
+     * The kinds of parallelism.
+     */
+    public enum Parallelism {TREE, ROOT}
+
+    /**
+     * This class represents the budget of a search: a maximum number of iterations (in total, over all threads) and a maximum time.
+     */
+    public static class Budget {
+        public static Budget iterations(long iterations) {
+            return new Budget(iterations, Long.MAX_VALUE);
+        }
+
+        public static Budget millis(long millis) {
+            return new Budget(Long.MAX_VALUE, millis);
+        }
+
+        public Budget(long iterations, long millis) {
+            if (iterations < 1 || millis < 1) throw new RuntimeException("Budget: iterations and millis must be positive");
+            this.iterations = iterations;
+            this.millis = millis;
+        }
+
+        public long getIterations() {
+            return iterations;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        /**
+         * @return the deadline (in terms of System.nanoTime) for a search starting now.
+         */
+        long deadline() {
+            return millis > Long.MAX_VALUE / 1_000_000L - System.nanoTime() ? Long.MAX_VALUE : System.nanoTime() + millis * 1_000_000L;
+        }
+
+        @Override
+        public String toString() {
+            return "Budget{" + (iterations < Long.MAX_VALUE ? iterations + " iterations" : "") +
+                    (iterations < Long.MAX_VALUE && millis < Long.MAX_VALUE ? ", " : "") +
+                    (millis < Long.MAX_VALUE ? millis + " mSec" : "") + "}";
+        }
+
+        private final long iterations;
+        private final long millis;
+    }
+
+    /**
+     * This class represents the result of a search: the statistics of each move from the root (merged, for root parallelism).
+     *
+     * @param <G> the type of the Game.
+     */
+    public static class Result<G extends Game> {
+        Result(List<Move<G>> moves, int[] wins, int[] playouts, long iterations, long nanos) {
+            this.moves = moves;
+            this.wins = wins;
+            this.playouts = playouts;
+            this.iterations = iterations;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return the moves from the root, in the order of State.moves
+         * (omitting, with a TranspositionTable, any move which leads to the same key as an earlier one).
+         */
+        public List<Move<G>> getMoves() {
+            return moves;
+        }
+
+        public int getWins(int i) {
+            return wins[i];
+        }
+
+        public int getPlayouts(int i) {
+            return playouts[i];
+        }
+
+        /**
+         * @return the index of the most visited move (the most robust choice), or -1 if there are no moves.
+         */
+        public int bestIndex() {
+            int result = -1;
+            for (int i = 0; i < moves.size(); i++) if (result < 0 || playouts[i] > playouts[result]) result = i;
+            return result;
+        }
+
+        /**
+         * @return the most visited move (or null if there are no moves).
+         */
+        public Move<G> bestMove() {
+            final int i = bestIndex();
+            return i < 0 ? null : moves.get(i);
+        }
+
+        /**
+         * @return the total number of iterations (playouts) of the search.
+         */
+        public long getIterations() {
+            return iterations;
+        }
+
+        /**
+         * @return the time taken by the search, in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        public double playoutsPerSecond() {
+            return nanos == 0 ? 0 : iterations * 1E9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("Result{iterations=" + iterations + ", moves=[");
+            for (int i = 0; i < moves.size(); i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(moves.get(i)).append(": ").append(wins[i]).append('/').append(playouts[i]);
+            }
+            return sb.append("]}").toString();
+        }
+
+        private final List<Move<G>> moves;
+        private final int[] wins;
+        private final int[] playouts;
+        private final long iterations;
+        private final long nanos;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param state       the State from which to search (whose player is to move).
+     * @param rollout     the playout policy.
+     * @param exploration the exploration constant of UCT (the square root of 2, in theory).
+     * @param seed        the seed for the random sources of the threads.
+     * @param table       the TranspositionTable (or null for a tree).
+     */
+    public MonteCarloTreeSearch(State<G> state, Rollout<G> rollout, double exploration, long seed, TranspositionTable<G> table) {
+        this.root = new SearchNode<>(state);
+        this.rollout = rollout;
+        this.exploration = exploration;
+        this.seed = seed;
+        this.table = table;
+        this.rootEdges = table == null ? null : new RootEdges(root.edges(table).keys.length);
+    }
+
+    /**
+     * Constructor without a transposition table.
+     *
+     * @param state       the State from which to search (whose player is to move).
+     * @param rollout     the playout policy.
+     * @param exploration the exploration constant of UCT (the square root of 2, in theory).
+     * @param seed        the seed for the random sources of the threads.
+     */
+    public MonteCarloTreeSearch(State<G> state, Rollout<G> rollout, double exploration, long seed) {
+        this(state, rollout, exploration, seed, null);
+    }
+
+    /**
+     * Constructor with random playouts and the theoretical exploration constant.
+     *
+     * @param state the State from which to search.
+     * @param seed  the seed for the random sources of the threads.
+     */
+    public MonteCarloTreeSearch(State<G> state, long seed) {
+        this(state, Rollout.random(), Math.sqrt(2), seed);
+    }
+
+    /**
+     * @return the root of the (shared) tree, which is kept from one search to the next.
+     */
+    public SearchNode<G> getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the TranspositionTable (null if there is none).
+     */
+    public TranspositionTable<G> getTable() {
+        return table;
+    }
+
+    /**
+     * Method to search on the current thread.
+     *
+     * @param budget the Budget.
+     * @return the Result.
+     */
+    public Result<G> search(Budget budget) {
+        final long start = System.nanoTime();
+        final long iterations = run(root, table, rootEdges, new Random(seed), new AtomicLong(), budget.getIterations(), budget.deadline());
+        return result(Collections.singletonList(root), Collections.singletonList(rootEdges), iterations, System.nanoTime() - start);
+    }
+
+    /**
+     * Method to search on all the threads of a fork/join pool.
+     *
+     * @param budget      the Budget (shared by all the threads).
+     * @param pool        the fork/join pool.
+     * @param parallelism TREE or ROOT.
+     * @return the Result.
+     */
+    public Result<G> search(Budget budget, ForkJoinPool pool, Parallelism parallelism) {
+        final int threads = pool.getParallelism();
+        final long start = System.nanoTime(), deadline = budget.deadline();
+        final AtomicLong counter = new AtomicLong();
+        final List<SearchNode<G>> roots = new ArrayList<>();
+        final List<RootEdges> statistics = new ArrayList<>();
+        final List<Callable<Long>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final boolean shared = parallelism == Parallelism.TREE || i == 0;
+            final SearchNode<G> tree = shared ? root : new SearchNode<>(root.state());
+            final TranspositionTable<G> t = shared || table == null ? table : table.fresh();
+            final RootEdges edges = shared || table == null ? rootEdges : new RootEdges(rootEdges.playouts.length());
+            if (!roots.contains(tree)) {
+                roots.add(tree);
+                statistics.add(edges);
+            }
+            final Random random = new Random(seed + i);
+            tasks.add(() -> run(tree, t, edges, random, counter, budget.getIterations(), deadline));
+        }
+        long iterations = 0;
+        try {
+            for (Future<Long> future : pool.invokeAll(tasks)) iterations += future.get();
+        } catch (Exception e) {
+            throw new RuntimeException("MonteCarloTreeSearch: search failed", e);
+        }
+        return result(roots, statistics, iterations, System.nanoTime() - start);
+    }
+
+    /**
+     * Method to run iterations on one tree until the budget is exhausted.
+     *
+     * @return the number of iterations run.
+     */
+    private long run(SearchNode<G> tree, TranspositionTable<G> table, RootEdges edges, Random random, AtomicLong counter, long iterations, long deadline) {
+        final List<SearchNode<G>> path = new ArrayList<>();
+        long result = 0;
+        while (counter.getAndIncrement() < iterations && System.nanoTime() < deadline) {
+            iterate(tree, table, edges, random, path);
+            result++;
+        }
+        return result;
+    }
+
+    /**
+     * Method to run one iteration: selection, expansion, playout and back-propagation.
+     * With a TranspositionTable, the edge taken from the root is counted in rootEdges.
+     */
+    void iterate(SearchNode<G> tree, TranspositionTable<G> table, RootEdges rootEdges, Random random, List<SearchNode<G>> path) {
+        path.clear();
+        if (table != null) table.tick();
+        SearchNode<G> node = tree;
+        node.visit();
+        path.add(node);
+        int edge = -1;
+        while (!node.isLeaf()) {
+            final SearchNode<G> child;
+            if (table == null) child = select(node, node.expand());
+            else {
+                final SearchNode.Edges<G> edges = node.edges(table);
+                final int i = select(node, edges, table);
+                if (i < 0) break;
+                if (node == tree) {
+                    edge = i;
+                    rootEdges.playouts.incrementAndGet(i);
+                }
+                child = table.getOrCreate(node.state().next(edges.moves.get(i)), node.state().player());
+            }
+            if (child == null) break;
+            node = child;
+            path.add(node);
+            // A Node is played out from on its first visit, and expanded on its second.
+            if (node.visit() == 1) break;
+        }
+        final Optional<Integer> winner = playout(node.state(), random);
+        for (SearchNode<G> n : path) n.addWins(score(n.mover(), winner));
+        if (edge >= 0) {
+            final int score = score(tree.state().player(), winner);
+            if (score != 0) rootEdges.wins.addAndGet(edge, score);
+        }
+    }
+
+    /**
+     * Method to select the child with the greatest upper confidence bound (an unvisited child being chosen first).
+     */
+    private SearchNode<G> select(SearchNode<G> parent, List<SearchNode<G>> children) {
+        final double log = Math.log(Math.max(1, parent.playouts()));
+        SearchNode<G> result = null;
+        double best = Double.NEGATIVE_INFINITY;
+        for (SearchNode<G> child : children) {
+            if (child.playouts() == 0) return child;
+            final double value = uct(child, log);
+            if (value > best) {
+                best = value;
+                result = child;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method to select as above, but looking up the children in a TranspositionTable
+     * (the caller adds a child to the table when it is first selected, or first selected again since its eviction).
+     *
+     * @return the index of the selected edge (or -1 if there is none).
+     */
+    private int select(SearchNode<G> parent, SearchNode.Edges<G> edges, TranspositionTable<G> table) {
+        final double log = Math.log(Math.max(1, parent.playouts()));
+        int result = -1;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < edges.keys.length; i++) {
+            final SearchNode<G> child = table.get(edges.keys[i]);
+            if (child == null || child.playouts() == 0) return i;
+            final double value = uct(child, log);
+            if (value > best) {
+                best = value;
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private double uct(SearchNode<G> child, double log) {
+        final int n = child.playouts();
+        return child.wins() / (2.0 * n) + exploration * Math.sqrt(log / n);
+    }
+
+    private Optional<Integer> playout(State<G> state, Random random) {
+        while (!state.isTerminal()) state = state.next(rollout.choose(state, random));
+        return state.winner();
+    }
+
+    private static int score(int mover, Optional<Integer> winner) {
+        if (winner.isEmpty()) return 1;
+        return winner.get() == mover ? 2 : 0;
+    }
+
+    private Result<G> result(List<SearchNode<G>> roots, List<RootEdges> statistics, long iterations, long nanos) {
+        if (table != null) return resultFromEdges(statistics, iterations, nanos);
+        final List<Move<G>> moves = new ArrayList<>();
+        for (SearchNode<G> child : root.expand()) moves.add(child.move());
+        final int[] wins = new int[moves.size()], playouts = new int[moves.size()];
+        // For root parallelism, the children of the roots correspond, since they are created in the order of State.moves.
+        for (SearchNode<G> tree : roots) {
+            final List<SearchNode<G>> children = tree.expand();
+            for (int i = 0; i < children.size(); i++) {
+                wins[i] += children.get(i).wins();
+                playouts[i] += children.get(i).playouts();
+            }
+        }
+        return new Result<>(moves, wins, playouts, iterations, nanos);
+    }
+
+    private Result<G> resultFromEdges(List<RootEdges> statistics, long iterations, long nanos) {
+        final SearchNode.Edges<G> edges = root.edges(table);
+        final int[] wins = new int[edges.keys.length], playouts = new int[edges.keys.length];
+        // For root parallelism, the edges of the roots correspond, since they are created in the order of State.moves.
+        for (RootEdges s : statistics)
+            for (int i = 0; i < edges.keys.length; i++) {
+                wins[i] += s.wins.get(i);
+                playouts[i] += s.playouts.get(i);
+            }
+        return new Result<>(edges.moves, wins, playouts, iterations, nanos);
+    }
+
+    /**
+     * This class holds the statistics of each edge from a root, for a search with a TranspositionTable:
+     * the number of playouts which took the edge, and their score from the point of view of the player at the root.
+     * (These are the statistics which a tree would keep in the child itself.)
+     */
+    static class RootEdges {
+        RootEdges(int n) {
+            this.wins = new AtomicIntegerArray(n);
+            this.playouts = new AtomicIntegerArray(n);
+        }
+
+        final AtomicIntegerArray wins;
+        final AtomicIntegerArray playouts;
+    }
+
+    private final SearchNode<G> root;
+    private final Rollout<G> rollout;
+    private final double exploration;
+    private final long seed;
+    private final TranspositionTable<G> table;
+    private final RootEdges rootEdges;
+}
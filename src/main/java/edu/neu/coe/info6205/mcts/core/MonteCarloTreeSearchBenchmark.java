@@ -0,0 +1,64 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.nim.Nim;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of the throughput (playouts per second) of {@link MonteCarloTreeSearch}, with tree and root parallelism,
+ * on fork/join pools of 1, 2, 4, ... threads (up to the number of processors), searching the opening position of {@link Nim}.
+ * <p>
+ * Usage: MonteCarloTreeSearchBenchmark [millis [pile [runs]]]
+ */
+public class MonteCarloTreeSearchBenchmark {
+
+    public MonteCarloTreeSearchBenchmark(long millis, int pile, int runs) {
+        this.millis = millis;
+        this.pile = pile;
+        this.runs = runs;
+    }
+
+    public void runBenchmarks() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        System.out.println("MonteCarloTreeSearchBenchmark: Nim with pile " + pile + ", " + millis + " mSec per search, " + processors + " processors");
+        for (MonteCarloTreeSearch.Parallelism parallelism : MonteCarloTreeSearch.Parallelism.values()) {
+            double base = 0;
+            for (int p = 1; p <= processors; p *= 2) {
+                final double rate = benchmark(parallelism, p);
+                if (p == 1) base = rate;
+                System.out.println(parallelism + " parallelism with " + p + " threads: " + Utilities.formatWhole(Math.round(rate)) +
+                        " playouts/sec (speedup " + Utilities.formatDecimal3Places(rate / base) + ")");
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        int pile = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        new MonteCarloTreeSearchBenchmark(millis, pile, runs).runBenchmarks();
+    }
+
+    /**
+     * @return the mean number of playouts per second (after one warm-up search).
+     */
+    private double benchmark(MonteCarloTreeSearch.Parallelism parallelism, int threads) {
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            double total = 0;
+            for (int i = 0; i <= runs; i++) {
+                final MonteCarloTreeSearch<Nim> search = new MonteCarloTreeSearch<>(new Nim(pile, 3, i).start(), i);
+                final double rate = search.search(MonteCarloTreeSearch.Budget.millis(millis), pool, parallelism).playoutsPerSecond();
+                if (i > 0) total += rate;
+            }
+            return total / runs;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private final long millis;
+    private final int pile;
+    private final int runs;
+}
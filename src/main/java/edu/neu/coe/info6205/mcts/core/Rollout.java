@@ -0,0 +1,43 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This interface defines the policy by which moves are chosen during the playout (rollout) phase of a Monte Carlo Tree Search:
+ * that is to say, from the first new Node of an iteration until the end of the game.
+ *
+ * @param <G> the type of the Game.
+ */
+@FunctionalInterface
+public interface Rollout<G extends Game> {
+
+    /**
+     * Method to choose the next move from a (non-terminal) state.
+     *
+     * @param state  the current State (whose player is to move).
+     * @param random the random source of the thread doing the playout (the random of the State itself may be shared).
+     * @return a Move for state.player().
+     */
+    Move<G> choose(State<G> state, Random random);
+
+    /**
+     * Method to yield the policy which chooses each move uniformly at random.
+     *
+     * @param <G> the type of the Game.
+     * @return a random Rollout.
+     */
+    static <G extends Game> Rollout<G> random() {
+        return (state, random) -> {
+            final Collection<Move<G>> moves = state.moves(state.player());
+            if (moves.isEmpty()) throw new RuntimeException("Rollout: no moves for non-terminal state: " + state);
+            final int index = random.nextInt(moves.size());
+            if (moves instanceof List) return ((List<Move<G>>) moves).get(index);
+            final Iterator<Move<G>> iterator = moves.iterator();
+            for (int i = 0; i < index; i++) iterator.next();
+            return iterator.next();
+        };
+    }
+}
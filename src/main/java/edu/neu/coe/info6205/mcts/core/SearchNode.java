@@ -0,0 +1,212 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is a Node of the tree built by a {@link MonteCarloTreeSearch}, which may be shared by several threads.
+ * It does not implement {@link Node}, whose children are added (and whose statistics are recalculated) one at a time:
+ * here the children are added all at once, and the statistics are updated along the path of each playout.
+ * <p>
+ * The statistics are atomic counters: the number of playouts through this Node and its score (a win is worth 2 points,
+ * a draw 1 point) from the point of view of the player who made the move to this Node (the mover).
+ * A playout is counted as soon as the Node is selected (before its result is known), which makes it look, for the time being,
+ * like a loss: this "virtual loss" steers other threads towards other Nodes. When the result is known, only the score need be added.
+ * <p>
+ * The children are added all at once (by expand), in the order of State.moves, and are never changed thereafter.
+ * In a search with a {@link TranspositionTable}, however, a Node may be shared by several parents, and it refers to its children
+ * only by their keys (see {@link #edges(TranspositionTable)}), so that the table alone determines which Nodes are kept.
+ *
+ * @param <G> the type of the Game.
+ */
+public class SearchNode<G extends Game> {
+
+    /**
+     * Constructor.
+     *
+     * @param state the State which this Node represents.
+     * @param move  the Move which led to state (null for a root).
+     * @param mover the player who made move (-1 for a root).
+     */
+    public SearchNode(State<G> state, Move<G> move, int mover) {
+        this.state = state;
+        this.move = move;
+        this.mover = mover;
+    }
+
+    /**
+     * Constructor for a root.
+     *
+     * @param state the State which this Node represents.
+     */
+    public SearchNode(State<G> state) {
+        this(state, null, -1);
+    }
+
+    /**
+     * @return true if this node is a leaf node (in which case no further exploration is possible).
+     */
+    public boolean isLeaf() {
+        return state.isTerminal();
+    }
+
+    /**
+     * @return the State of the Game G that this Node represents.
+     */
+    public State<G> state() {
+        return state;
+    }
+
+    /**
+     * @return the Move which led to this Node (null for a root).
+     */
+    public Move<G> move() {
+        return move;
+    }
+
+    /**
+     * @return the player who made the move to this Node (-1 for a root).
+     */
+    public int mover() {
+        return mover;
+    }
+
+    /**
+     * Method to determine if the player who plays to this node is the opening player (by analogy with chess).
+     *
+     * @return true if this node represents a "white" move; false for "black."
+     */
+    public boolean white() {
+        return mover == state.game().opener();
+    }
+
+    /**
+     * @return the children of this Node (empty if it has not been expanded).
+     */
+    public List<SearchNode<G>> children() {
+        final List<SearchNode<G>> result = children;
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * @return the score for this Node (from the point of view of its mover): a win is worth 2 points, a draw is worth 1 point.
+     */
+    public int wins() {
+        return wins.get();
+    }
+
+    /**
+     * @return the number of playouts through this Node (including any which are still in progress).
+     */
+    public int playouts() {
+        return playouts.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SearchNode{move=" + move + ", wins=" + wins + ", playouts=" + playouts + "}";
+    }
+
+    /**
+     * Method to yield the children of this Node, adding them first if necessary.
+     * If several threads get here at once, only one of them creates the children.
+     *
+     * @return the children (empty for a terminal Node).
+     */
+    List<SearchNode<G>> expand() {
+        List<SearchNode<G>> result = children;
+        if (result != null) return result;
+        synchronized (this) {
+            if (children == null) {
+                final List<SearchNode<G>> list = new ArrayList<>();
+                if (!isLeaf()) {
+                    final int player = state.player();
+                    for (Move<G> m : state.moves(player)) list.add(new SearchNode<>(state.next(m), m, player));
+                }
+                children = Collections.unmodifiableList(list);
+            }
+            return children;
+        }
+    }
+
+    /**
+     * This class represents the edges from a Node in a transposition table: the moves, and the keys of the Nodes to which they lead.
+     *
+     * @param <G> the type of the Game.
+     */
+    static class Edges<G extends Game> {
+        Edges(List<Move<G>> moves, long[] keys) {
+            this.moves = moves;
+            this.keys = keys;
+        }
+
+        final List<Move<G>> moves;
+        final long[] keys;
+    }
+
+    /**
+     * Method to yield the edges from this Node (for a search with a transposition table), adding them first if necessary.
+     * A move which leads to the same key as an earlier move (a symmetric move, for example) is omitted.
+     * The children themselves are not referenced: they are looked up in the table by key.
+     *
+     * @param table the TranspositionTable (whose key function is used).
+     * @return the Edges (with no moves for a terminal Node).
+     */
+    Edges<G> edges(TranspositionTable<G> table) {
+        Edges<G> result = edges;
+        if (result != null) return result;
+        synchronized (this) {
+            if (edges == null) {
+                final List<Move<G>> moves = new ArrayList<>();
+                final List<Long> keys = new ArrayList<>();
+                if (!isLeaf())
+                    for (Move<G> m : state.moves(state.player())) {
+                        final long key = table.key(state.next(m));
+                        if (!keys.contains(key)) {
+                            moves.add(m);
+                            keys.add(key);
+                        }
+                    }
+                final long[] array = new long[keys.size()];
+                for (int i = 0; i < array.length; i++) array[i] = keys.get(i);
+                edges = new Edges<>(Collections.unmodifiableList(moves), array);
+            }
+            return edges;
+        }
+    }
+
+    /**
+     * @return the children (null if this Node has not been explored).
+     */
+    List<SearchNode<G>> explored() {
+        return children;
+    }
+
+    /**
+     * Method to count a playout (as a virtual loss, until its score is added).
+     *
+     * @return the number of playouts, including this one.
+     */
+    int visit() {
+        return playouts.incrementAndGet();
+    }
+
+    /**
+     * Method to add the score of a playout through this Node.
+     *
+     * @param score 2 for a win (by the mover), 1 for a draw, 0 for a loss.
+     */
+    void addWins(int score) {
+        if (score != 0) wins.addAndGet(score);
+    }
+
+    private final State<G> state;
+    private final Move<G> move;
+    private final int mover;
+    private final AtomicInteger wins = new AtomicInteger();
+    private final AtomicInteger playouts = new AtomicInteger();
+    private volatile List<SearchNode<G>> children;
+    private volatile Edges<G> edges;
+}
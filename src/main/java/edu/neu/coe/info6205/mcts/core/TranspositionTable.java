@@ -0,0 +1,207 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class is a transposition table for a {@link MonteCarloTreeSearch}: a bounded map from the key of a State to its {@link SearchNode},
+ * so that a position which can be reached by several paths (or, if the key is canonical, any position equivalent to it by symmetry)
+ * has one Node, and one set of statistics. The search tree thereby becomes a DAG.
+ * <p>
+ * The key must identify the position exactly (including the player to move); for a game with symmetries it should be canonical,
+ * for example {@code BitboardState.canonicalKey} for TicTacToe. The game must not be able to repeat a position.
+ * <p>
+ * The table is an array of buckets of four slots, which may be shared by several threads without locks.
+ * Each entry records when it was last used (in terms of a clock which the search advances once per iteration), and when a new entry
+ * finds its bucket full, it replaces the entry which has gone unused the longest. Since the Nodes refer to their children only by key,
+ * an evicted Node becomes garbage: the memory used is bounded by the capacity, whatever the number of iterations.
+ *
+ * @param <G> the type of the Game.
+ */
+public class TranspositionTable<G extends Game> {
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of Nodes (rounded up to a power of two, and at least 4).
+     * @param key      the function to yield the key of a State.
+     */
+    public TranspositionTable(int capacity, ToLongFunction<State<G>> key) {
+        if (capacity < 1) throw new RuntimeException("TranspositionTable: capacity must be positive");
+        final int size = Math.max(Ways, Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.key = key;
+    }
+
+    /**
+     * @return a new, empty TranspositionTable with the same capacity and key function.
+     */
+    public TranspositionTable<G> fresh() {
+        return new TranspositionTable<>(slots.length(), key);
+    }
+
+    /**
+     * Method to yield the key of a State.
+     *
+     * @param state the State.
+     * @return its key.
+     */
+    public long key(State<G> state) {
+        return key.applyAsLong(state);
+    }
+
+    /**
+     * Method to look up a Node (which counts as a use of it).
+     *
+     * @param key the key.
+     * @return the Node, or null if there is none (because it was never added, or was evicted).
+     */
+    public SearchNode<G> get(long key) {
+        lookups.increment();
+        final int bucket = bucket(key);
+        for (int i = 0; i < Ways; i++) {
+            final Entry<G> entry = slots.get(bucket + i);
+            if (entry != null && entry.key == key) {
+                hits.increment();
+                entry.used = clock.get();
+                return entry.node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method to get the Node for a State, adding a new one (with no statistics) if necessary.
+     *
+     * @param state the State.
+     * @param mover the player who moved to state.
+     * @return the Node.
+     */
+    public SearchNode<G> getOrCreate(State<G> state, int mover) {
+        final long k = key(state);
+        final int bucket = bucket(k);
+        Entry<G> created = null;
+        while (true) {
+            // Look for the key, and meanwhile for an empty slot or (failing that) the least recently used entry.
+            int empty = -1, victim = -1;
+            Entry<G> oldest = null;
+            for (int i = 0; i < Ways; i++) {
+                final Entry<G> entry = slots.get(bucket + i);
+                if (entry == null) {
+                    if (empty < 0) empty = bucket + i;
+                } else if (entry.key == k) {
+                    entry.used = clock.get();
+                    return entry.node;
+                } else if (oldest == null || entry.used < oldest.used) {
+                    victim = bucket + i;
+                    oldest = entry;
+                }
+            }
+            if (empty >= 0) {
+                victim = empty;
+                oldest = null;
+            }
+            if (created == null) created = new Entry<>(k, new SearchNode<>(state, null, mover));
+            created.used = clock.get();
+            if (slots.compareAndSet(victim, oldest, created)) {
+                creations.increment();
+                if (oldest != null) evictions.increment();
+                return created.node;
+            }
+            // Another thread changed the slot (perhaps by adding this very key): try again.
+            // (Two threads adding the same key to different slots at once will each add a Node: that is harmless, since
+            // lookups find the first, and the other will in due course be evicted.)
+        }
+    }
+
+    /**
+     * Method to advance the clock by which the age of each entry is measured (once per iteration of the search).
+     */
+    public void tick() {
+        clock.incrementAndGet();
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * @return the number of Nodes in the table (not an atomic snapshot, if the table is in use).
+     */
+    public int size() {
+        int result = 0;
+        for (int i = 0; i < slots.length(); i++) if (slots.get(i) != null) result++;
+        return result;
+    }
+
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the fraction of lookups which found their Node.
+     */
+    public double hitRate() {
+        final long n = getLookups();
+        return n == 0 ? 0 : (double) getHits() / n;
+    }
+
+    /**
+     * @return the number of Nodes added.
+     */
+    public long getCreations() {
+        return creations.sum();
+    }
+
+    /**
+     * @return the number of Nodes evicted to make room for others.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TranspositionTable{capacity=" + capacity() + ", lookups=" + getLookups() + ", hitRate=" + String.format("%.3f", hitRate()) +
+                ", creations=" + getCreations() + ", evictions=" + getEvictions() + "}";
+    }
+
+    private int bucket(long key) {
+        // The finalizer of SplitMix64, so that similar keys are spread over the table.
+        long z = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31)) & mask & -Ways;
+    }
+
+    private static class Entry<G extends Game> {
+        Entry(long key, SearchNode<G> node) {
+            this.key = key;
+            this.node = node;
+        }
+
+        private final long key;
+        private final SearchNode<G> node;
+        private volatile long used;
+    }
+
+    private static final int Ways = 4;
+
+    private final AtomicReferenceArray<Entry<G>> slots;
+    private final int mask;
+    private final ToLongFunction<State<G>> key;
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+}
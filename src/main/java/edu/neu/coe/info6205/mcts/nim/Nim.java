@@ -0,0 +1,177 @@
+package edu.neu.coe.info6205.mcts.nim;
+
+import edu.neu.coe.info6205.mcts.core.Game;
+import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Class which models a simple game of Nim (the subtraction game): there is one pile of counters,
+ * the players take turns to remove between 1 and max counters, and the player who takes the last counter wins.
+ * <p>
+ * The theory is simple (the player to move wins if and only if the pile is not a multiple of max + 1, by leaving such a multiple),
+ * which makes it a good test of a Monte Carlo Tree Search.
+ */
+public class Nim implements Game<Nim> {
+
+    public static void main(String[] args) {
+        State<Nim> state = new Nim(21, 3, 0L).start();
+        while (!state.isTerminal()) {
+            final Move<Nim> move = state.chooseMove(state.player());
+            System.out.println(state + ": " + move);
+            state = state.next(move);
+        }
+        System.out.println("Nim: winner is: " + state.winner().orElse(-1));
+    }
+
+    /**
+     * This method determines the opening player.
+     *
+     * @return 0.
+     */
+    public int opener() {
+        return 0;
+    }
+
+    /**
+     * Get the starting state for this game.
+     *
+     * @return a State of Nim.
+     */
+    public State<Nim> start() {
+        return new NimState(pile, opener());
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param pile   the number of counters at the start.
+     * @param max    the maximum number of counters which may be taken in one move.
+     * @param random a random source.
+     */
+    public Nim(int pile, int max, Random random) {
+        this.pile = pile;
+        this.max = max;
+        this.random = random;
+    }
+
+    public Nim(int pile, int max, long seed) {
+        this(pile, max, new Random(seed));
+    }
+
+    private final int pile;
+    private final int max;
+    private final Random random;
+
+    /**
+     * Inner class to define a Move of Nim.
+     */
+    public static class NimMove implements Move<Nim> {
+        public NimMove(int player, int take) {
+            this.player = player;
+            this.take = take;
+        }
+
+        public int player() {
+            return player;
+        }
+
+        /**
+         * @return the number of counters taken.
+         */
+        public int take() {
+            return take;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NimMove)) return false;
+            NimMove that = (NimMove) o;
+            return player == that.player && take == that.take;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(player, take);
+        }
+
+        @Override
+        public String toString() {
+            return "take " + take;
+        }
+
+        private final int player;
+        private final int take;
+    }
+
+    /**
+     * Inner class to define a State of Nim.
+     */
+    public class NimState implements State<Nim> {
+        public NimState(int pile, int player) {
+            this.pile = pile;
+            this.player = player;
+        }
+
+        public Nim game() {
+            return Nim.this;
+        }
+
+        /**
+         * @return the number of counters remaining.
+         */
+        public int pile() {
+            return pile;
+        }
+
+        public boolean isTerminal() {
+            return pile == 0;
+        }
+
+        /**
+         * @return the player who is to move.
+         */
+        public int player() {
+            return player;
+        }
+
+        /**
+         * @return the player who took the last counter (the one who is not to move), if the pile is empty.
+         */
+        public Optional<Integer> winner() {
+            return pile == 0 ? Optional.of(1 - player) : Optional.empty();
+        }
+
+        public Random random() {
+            return random;
+        }
+
+        public Collection<Move<Nim>> moves(int player) {
+            if (player != this.player) throw new RuntimeException("not the turn of player: " + player);
+            final List<Move<Nim>> result = new ArrayList<>();
+            for (int take = 1; take <= Math.min(max, pile); take++) result.add(new NimMove(player, take));
+            return result;
+        }
+
+        public State<Nim> next(Move<Nim> move) {
+            final int take = ((NimMove) move).take();
+            if (take < 1 || take > Math.min(max, pile)) throw new RuntimeException("illegal move: " + move + " from " + this);
+            return new NimState(pile - take, 1 - player);
+        }
+
+        @Override
+        public String toString() {
+            return "Nim{pile=" + pile + ", player=" + player + "}";
+        }
+
+        private final int pile;
+        private final int player;
+    }
+}
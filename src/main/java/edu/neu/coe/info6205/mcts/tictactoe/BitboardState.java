@@ -0,0 +1,251 @@
+package edu.neu.coe.info6205.mcts.tictactoe;
+
+import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * This class represents a State of TicTacToe as a bitboard: a single int holding two 9-bit masks,
+ * the cells of X in bits 0 to 8 and those of O in bits 9 to 17, where the cell in row i and column j is bit 3 * i + j.
+ * <p>
+ * Everything which a playout needs is precomputed: whether a mask contains three in a row (for each of the 512 masks),
+ * the list of moves for each player and each set of empty cells, and the Optional winners.
+ * Moreover, the States themselves are cached by their TicTacToe (see {@link TicTacToe#bitboard(int)}),
+ * so that, once warmed up, a playout allocates nothing at all.
+ * <p>
+ * The hash code is that of the canonical form of the board under the eight symmetries of the square
+ * (the rotations and reflections of {@link Position#rotate()} and {@link Position#reflect(int)}),
+ * so that equivalent positions can share statistics (see {@link #canonicalKey()}).
+ */
+public class BitboardState implements State<TicTacToe> {
+
+    /**
+     * Method to convert a Position into a BitboardState.
+     *
+     * @param game     the TicTacToe.
+     * @param position the Position.
+     * @return the equivalent BitboardState.
+     */
+    public static BitboardState from(TicTacToe game, Position position) {
+        int board = 0;
+        for (int i = 0; i < 3; i++) {
+            final int[] row = position.projectRow(i);
+            for (int j = 0; j < 3; j++)
+                if (row[j] == TicTacToe.X) board |= 1 << (3 * i + j);
+                else if (row[j] == TicTacToe.O) board |= 1 << (3 * i + j + 9);
+        }
+        return game.bitboard(board);
+    }
+
+    /**
+     * Method to yield the game of which this is a State.
+     *
+     * @return a TicTacToe.
+     */
+    public TicTacToe game() {
+        return game;
+    }
+
+    /**
+     * Method to determine the player who is to move (X, the opener, if the numbers of Xs and Os are equal, otherwise O).
+     *
+     * @return X or O.
+     */
+    public int player() {
+        return Integer.bitCount(board) % 2 == 0 ? TicTacToe.X : TicTacToe.O;
+    }
+
+    /**
+     * @return the board: the cells of X in bits 0 to 8, and those of O in bits 9 to 17.
+     */
+    public int board() {
+        return board;
+    }
+
+    /**
+     * Method to determine if either player has three in a row.
+     *
+     * @return an optional int if this State is a win/loss.
+     */
+    public Optional<Integer> winner() {
+        if (Wins[board & Full]) return XWins;
+        if (Wins[board >>> 9]) return OWins;
+        return Optional.empty();
+    }
+
+    /**
+     * A random source associated with this State (the same as that of its TicTacToe).
+     *
+     * @return the appropriate Random.
+     */
+    public Random random() {
+        return game.random();
+    }
+
+    /**
+     * Get the (precomputed) moves that can be made from this state, in the order of the cells.
+     *
+     * @param player the player of the moves.
+     * @return all the possible moves from this state.
+     */
+    public Collection<Move<TicTacToe>> moves(int player) {
+        if (player != player()) throw new RuntimeException("consecutive moves by same player: " + player);
+        return Moves[player][~(board | board >>> 9) & Full];
+    }
+
+    /**
+     * Implement the given move on this state.
+     *
+     * @param move the move to implement.
+     * @return the (cached) next state.
+     */
+    public State<TicTacToe> next(Move<TicTacToe> move) {
+        final int cell = ((TicTacToe.TicTacToeMove) move).cell(), player = move.player();
+        if (player != player()) throw new RuntimeException("consecutive moves by same player: " + player);
+        if (((board | board >>> 9) & 1 << cell) != 0) throw new RuntimeException("Position is occupied: " + cell / 3 + ", " + cell % 3);
+        return game.bitboard(board | 1 << (player == TicTacToe.X ? cell : cell + 9));
+    }
+
+    /**
+     * Is the game over?
+     *
+     * @return true if the board is full or if either player has three in a row.
+     */
+    public boolean isTerminal() {
+        return ((board | board >>> 9) & Full) == Full || Wins[board & Full] || Wins[board >>> 9];
+    }
+
+    /**
+     * Method to get the canonical key of this board: the least of the keys of its eight symmetric images.
+     * Two boards have the same canonical key if and only if one can be rotated and/or reflected into the other.
+     *
+     * @return an 18-bit key.
+     */
+    public int canonicalKey() {
+        final int x = board & Full, o = board >>> 9;
+        int result = board;
+        for (int s = 1; s < Symmetries.length; s++) result = Math.min(result, Transforms[s][x] | Transforms[s][o] << 9);
+        return result;
+    }
+
+    /**
+     * Method to yield the image of this board under one of the eight symmetries.
+     *
+     * @param symmetry 0 for the identity, 1 to 3 for rotations by 90, 180 and 270 degrees clockwise (as Position.rotate),
+     *                 4 to 7 for those rotations preceded by reflection in the middle column (as Position.reflect(1)).
+     * @return the (cached) image.
+     */
+    public BitboardState transform(int symmetry) {
+        return game.bitboard(Transforms[symmetry][board & Full] | Transforms[symmetry][board >>> 9] << 9);
+    }
+
+    /**
+     * @return the board in the same format as Position.render.
+     */
+    public String render() {
+        final StringBuilder sb = new StringBuilder();
+        for (int cell = 0; cell < 9; cell++) {
+            sb.append((board & 1 << cell) != 0 ? 'X' : (board & 1 << (cell + 9)) != 0 ? 'O' : '.');
+            if (cell < 8) sb.append(cell % 3 == 2 ? '\n' : ' ');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitboardState)) return false;
+        return board == ((BitboardState) o).board;
+    }
+
+    /**
+     * @return the canonical key, so that symmetric boards fall into the same bucket.
+     */
+    @Override
+    public int hashCode() {
+        return canonicalKey();
+    }
+
+    @Override
+    public String toString() {
+        return "TicTacToe{\n" + render() + "\n}";
+    }
+
+    BitboardState(TicTacToe game, int board) {
+        this.game = game;
+        this.board = board;
+    }
+
+    private final TicTacToe game;
+    private final int board;
+
+    private static final int Full = (1 << 9) - 1;
+
+    private static final Optional<Integer> XWins = Optional.of(TicTacToe.X);
+    private static final Optional<Integer> OWins = Optional.of(TicTacToe.O);
+
+    // The eight lines of three cells.
+    private static final int[] Lines = {0007, 0070, 0700, 0111, 0222, 0444, 0421, 0124};
+
+    // Wins[mask] is true if mask contains a line.
+    private static final boolean[] Wins = new boolean[Full + 1];
+
+    // Moves[player][empty] is the list of moves for player when the empty cells are given by the mask empty.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final List<Move<TicTacToe>>[][] Moves = new List[2][Full + 1];
+
+    // For each symmetry, the cell from which each cell of the image comes.
+    private static final int[][] Symmetries = new int[8][];
+
+    // Transforms[symmetry][mask] is the image of mask under symmetry.
+    private static final int[][] Transforms = new int[8][Full + 1];
+
+    static {
+        for (int mask = 0; mask <= Full; mask++)
+            for (int line : Lines) if ((mask & line) == line) Wins[mask] = true;
+        for (int player = 0; player < 2; player++) {
+            final List<Move<TicTacToe>> moves = new ArrayList<>(9);
+            for (int cell = 0; cell < 9; cell++) moves.add(new TicTacToe.TicTacToeMove(player, cell / 3, cell % 3));
+            for (int empty = 0; empty <= Full; empty++) {
+                final List<Move<TicTacToe>> list = new ArrayList<>(Integer.bitCount(empty));
+                for (int cell = 0; cell < 9; cell++) if ((empty & 1 << cell) != 0) list.add(moves.get(cell));
+                Moves[player][empty] = Collections.unmodifiableList(list);
+            }
+        }
+        // As Position.rotate: the image has in (i, j) what was in (j, 2 - i).
+        final int[] rotate = new int[9], reflect = new int[9], identity = new int[9];
+        for (int i = 0; i < 3; i++)
+            for (int j = 0; j < 3; j++) {
+                identity[3 * i + j] = 3 * i + j;
+                rotate[3 * i + j] = 3 * j + 2 - i;
+                // As Position.reflect(1): the image has in (i, j) what was in (i, 2 - j).
+                reflect[3 * i + j] = 3 * i + 2 - j;
+            }
+        Symmetries[0] = identity;
+        Symmetries[4] = reflect;
+        for (int s = 1; s < 4; s++) {
+            Symmetries[s] = compose(rotate, Symmetries[s - 1]);
+            Symmetries[s + 4] = compose(rotate, Symmetries[s + 3]);
+        }
+        for (int s = 0; s < 8; s++)
+            for (int mask = 0; mask <= Full; mask++)
+                for (int cell = 0; cell < 9; cell++)
+                    if ((mask & 1 << Symmetries[s][cell]) != 0) Transforms[s][mask] |= 1 << cell;
+    }
+
+    /**
+     * @return the symmetry which applies first and then second.
+     */
+    private static int[] compose(int[] second, int[] first) {
+        final int[] result = new int[9];
+        // The image of first has in cell c what was in first[c]; then second takes cell c from second[c].
+        for (int cell = 0; cell < 9; cell++) result[cell] = first[second[cell]];
+        return result;
+    }
+}
@@ -1,6 +1,10 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
+import edu.neu.coe.info6205.mcts.core.MonteCarloTreeSearch;
 import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.Rollout;
+import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
 
 /**
  * Class to represent a Monte Carlo Tree Search for TicTacToe.
@@ -12,6 +16,44 @@ public class MCTS {
         Node<TicTacToe> root = mcts.root;
 
         // This is where you process the MCTS to try to win the game.
+
+        // Meanwhile, here is a game played by a generic MonteCarloTreeSearch (on both sides), using bitboards and a transposition table.
+        State<TicTacToe> state = selfPlay(new TicTacToe(0L), 10000, 1 << 12, true);
+        if (state.winner().isPresent()) System.out.println("MCTS: winner is: " + state.winner().get());
+        else System.out.println("MCTS: draw");
+    }
+
+    /**
+     * Method to play a game of TicTacToe in which each move is chosen by a MonteCarloTreeSearch.
+     *
+     * @param game       the TicTacToe.
+     * @param iterations the number of iterations of each search.
+     * @param verbose    true if each position is to be printed.
+     * @return the terminal State.
+     */
+    static State<TicTacToe> selfPlay(TicTacToe game, int iterations, boolean verbose) {
+        return selfPlay(game, iterations, 0, verbose);
+    }
+
+    /**
+     * Method to play a game of TicTacToe in which each move is chosen by a MonteCarloTreeSearch,
+     * optionally with a transposition table keyed by the canonical key of each board (so that symmetric positions share a Node).
+     *
+     * @param game       the TicTacToe.
+     * @param iterations the number of iterations of each search.
+     * @param capacity   the capacity of the transposition table of each search (0 for none).
+     * @param verbose    true if each position (and the table) is to be printed.
+     * @return the terminal State.
+     */
+    static State<TicTacToe> selfPlay(TicTacToe game, int iterations, int capacity, boolean verbose) {
+        State<TicTacToe> state = game.startBitboard();
+        for (long seed = 0; !state.isTerminal(); seed++) {
+            final TranspositionTable<TicTacToe> table = capacity > 0 ? new TranspositionTable<>(capacity, s -> ((BitboardState) s).canonicalKey()) : null;
+            final MonteCarloTreeSearch<TicTacToe> search = new MonteCarloTreeSearch<>(state, Rollout.random(), Math.sqrt(2), seed, table);
+            state = state.next(search.search(MonteCarloTreeSearch.Budget.iterations(iterations)).bestMove());
+            if (verbose) System.out.println(state + (table != null ? "\n" + table : ""));
+        }
+        return state;
     }
 
     public MCTS(Node<TicTacToe> root) {
@@ -19,4 +61,4 @@ public class MCTS {
     }
 
     private final Node<TicTacToe> root;
-}
\ No newline at end of file
+}
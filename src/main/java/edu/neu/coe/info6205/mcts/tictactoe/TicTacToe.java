@@ -69,6 +69,37 @@ public class TicTacToe implements Game<TicTacToe> {
         return new TicTacToeState();
     }
 
+    /**
+     * Get the starting state for this game as a bitboard (for fast playouts).
+     *
+     * @return a BitboardState.
+     */
+    public BitboardState startBitboard() {
+        return bitboard(0);
+    }
+
+    /**
+     * Method to get the (unique, cached) BitboardState of this game for a board.
+     * The cache is filled lazily; if two threads race to fill a slot, one of the two (equal) states is simply lost.
+     *
+     * @param board the cells of X in bits 0 to 8, and those of O in bits 9 to 17.
+     * @return a BitboardState.
+     */
+    BitboardState bitboard(int board) {
+        BitboardState[] cache = bitboards;
+        if (cache == null) bitboards = cache = new BitboardState[1 << 18];
+        BitboardState result = cache[board];
+        if (result == null) cache[board] = result = new BitboardState(this, board);
+        return result;
+    }
+
+    /**
+     * @return the random source of this game.
+     */
+    Random random() {
+        return random;
+    }
+
     /**
      * Primary constructor.
      *
@@ -96,6 +127,8 @@ public class TicTacToe implements Game<TicTacToe> {
 
     private final Random random;
 
+    private BitboardState[] bitboards;
+
     /**
      * Inner class to define a Move of TicTacToe.
      */
@@ -127,6 +160,13 @@ public class TicTacToe implements Game<TicTacToe> {
             return new int[]{i, j};
         }
 
+        /**
+         * @return the index of the cell of this move (3 * row + column).
+         */
+        int cell() {
+            return 3 * i + j;
+        }
+
         private final int player;
         private final int i;
         private final int j;
@@ -0,0 +1,74 @@
+package edu.neu.coe.info6205.mcts.tictactoe;
+
+import edu.neu.coe.info6205.mcts.core.MonteCarloTreeSearch;
+import edu.neu.coe.info6205.mcts.core.Rollout;
+import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of the throughput (playouts per second) of the two representations of a State of TicTacToe:
+ * the {@link Position} (an int[][] grid) of {@link TicTacToe.TicTacToeState} and the {@link BitboardState},
+ * both for random playouts from the start and for a {@link MonteCarloTreeSearch} of the opening move
+ * (and, for the BitboardState, a search with a {@link TranspositionTable} keyed by the canonical key).
+ * <p>
+ * NOTE: the playouts of Position require its moves, move and threeInARow methods to have been implemented.
+ * <p>
+ * Usage: TicTacToeBenchmark [playouts [millis [runs]]]
+ */
+public class TicTacToeBenchmark {
+
+    public TicTacToeBenchmark(int playouts, long millis, int runs) {
+        this.playouts = playouts;
+        this.millis = millis;
+        this.runs = runs;
+    }
+
+    public void runBenchmarks() {
+        System.out.println("TicTacToeBenchmark: " + Utilities.formatWhole(playouts) + " random playouts; " + millis + " mSec per search");
+        final TicTacToe game = new TicTacToe(0L);
+        benchmark("Position", game::start);
+        benchmark("BitboardState", game::startBitboard);
+    }
+
+    public static void main(String[] args) {
+        int playouts = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        new TicTacToeBenchmark(playouts, millis, runs).runBenchmarks();
+    }
+
+    private void benchmark(String description, Supplier<State<TicTacToe>> start) {
+        try {
+            final Rollout<TicTacToe> rollout = Rollout.random();
+            final Random random = new Random(0L);
+            final double time = new Benchmark_Timer<State<TicTacToe>>(description + ": playouts", s -> {
+                for (int i = 0; i < playouts; i++) {
+                    State<TicTacToe> state = s;
+                    while (!state.isTerminal()) state = state.next(rollout.choose(state, random));
+                }
+            }).runFromSupplier(start, runs);
+            System.out.println(description + ": " + Utilities.formatDecimal3Places(time) + " mSec for " + Utilities.formatWhole(playouts) +
+                    " playouts (" + Utilities.formatWhole(Math.round(playouts / time * 1000)) + " playouts/sec)");
+            final MonteCarloTreeSearch.Result<TicTacToe> result = new MonteCarloTreeSearch<>(start.get(), rollout, Math.sqrt(2), 0L)
+                    .search(MonteCarloTreeSearch.Budget.millis(millis));
+            System.out.println(description + ": search " + Utilities.formatWhole(Math.round(result.playoutsPerSecond())) + " playouts/sec");
+            if (start.get() instanceof BitboardState) {
+                final TranspositionTable<TicTacToe> table = new TranspositionTable<>(1 << 12, s -> ((BitboardState) s).canonicalKey());
+                final MonteCarloTreeSearch.Result<TicTacToe> transposed = new MonteCarloTreeSearch<>(start.get(), rollout, Math.sqrt(2), 0L, table)
+                        .search(MonteCarloTreeSearch.Budget.millis(millis));
+                System.out.println(description + ": search with " + table + " " + Utilities.formatWhole(Math.round(transposed.playoutsPerSecond())) + " playouts/sec");
+            }
+        } catch (RuntimeException e) {
+            System.out.println(description + ": not available (" + e.getMessage().split("\n")[0] + ")");
+        }
+    }
+
+    private final int playouts;
+    private final long millis;
+    private final int runs;
+}
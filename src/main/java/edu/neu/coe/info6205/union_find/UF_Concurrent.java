@@ -0,0 +1,95 @@
+package edu.neu.coe.info6205.union_find;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free (wait-free for find) union-find which may be shared between threads.
+ * <p>
+ * Roots are linked by index (the root with the larger index is made to point to the one with the smaller index)
+ * using compare-and-set, so that concurrent unions can never form a cycle.
+ * Find uses path halving, also by compare-and-set: a failed update merely means that another thread
+ * has already shortened the path.
+ * <p>
+ * Without ranks, linking by index does not bound the height of the trees,
+ * but with path halving the amortized cost per operation remains small in practice.
+ */
+public class UF_Concurrent implements UF {
+
+    /**
+     * Initializes an empty union–find data structure with {@code n} sites
+     * {@code 0} through {@code n-1}. Each site is initially in its own component.
+     *
+     * @param n the number of sites
+     */
+    public UF_Concurrent(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) parent.set(i, i);
+        count = new AtomicInteger(n);
+    }
+
+    public int components() {
+        return count.get();
+    }
+
+    public int find(int p) {
+        validate(p);
+        while (true) {
+            int q = parent.get(p);
+            if (q == p) return p;
+            int r = parent.get(q);
+            if (q != r) parent.compareAndSet(p, q, r);
+            p = r;
+        }
+    }
+
+    /**
+     * Merges the component containing site {@code p} with the component containing site {@code q}.
+     *
+     * @param p the integer representing one site
+     * @param q the integer representing the other site
+     */
+    public void union(int p, int q) {
+        while (true) {
+            int i = find(p), j = find(q);
+            if (i == j) return;
+            if (i < j) {
+                int t = i;
+                i = j;
+                j = t;
+            }
+            // i is the larger root: it only succeeds if i is still a root.
+            if (parent.compareAndSet(i, i, j)) {
+                count.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    public void connect(int p, int q) {
+        union(p, q);
+    }
+
+    public boolean connected(int p, int q) {
+        return find(p) == find(q);
+    }
+
+    public int size() {
+        return parent.length();
+    }
+
+    @Override
+    public String toString() {
+        return "UF_Concurrent:" + "\n  count: " + count + "\n  parents: " + parent;
+    }
+
+    private void validate(int p) {
+        int n = parent.length();
+        if (p < 0 || p >= n) {
+            throw new IllegalArgumentException("index " + p + " is not between 0 and " + (n - 1));
+        }
+    }
+
+    private final AtomicIntegerArray parent;   // parent.get(i) = parent of i
+    private final AtomicInteger count;         // number of components
+}
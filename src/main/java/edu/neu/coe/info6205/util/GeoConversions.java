@@ -53,24 +53,51 @@ public class GeoConversions {
     }
 
     public static UTM position2UTM(Position p) {
-        int zone = (int) Math.floor(p.longitude / DEG_ZONE + 31);
-        double adjustedLon = adjustLongitude(p.longitude, zone);
-        double radiansLat = p.latitude * DEG2RAD;
+        int zone = zone(p.longitude);
+        double[] projected = new double[2];
+        project(p.latitude, p.longitude, zone, projected);
+        double northing = projected[1];
+        char letter = 'N';
+        if (getLetter(p.latitude) < 'M') {
+            northing = northing + N_0;
+            letter = 'S';
+        }
+        return new UTM(round(projected[0]), round(northing), zone, letter);
+    }
+
+    /**
+     * @param longitude a longitude (in degrees).
+     * @return the UTM zone of that longitude.
+     */
+    public static int zone(double longitude) {
+        return (int) Math.floor(longitude / DEG_ZONE + 31);
+    }
+
+    /**
+     * Project a position onto the plane of the given UTM zone, without rounding.
+     * The zone need not be the position's own zone, so that points which straddle a zone boundary can share one plane
+     * (the distortion grows with the distance from the zone's central meridian).
+     * There is no false northing for the southern hemisphere: northings south of the equator are negative.
+     *
+     * @param latitude  the latitude (in degrees).
+     * @param longitude the longitude (in degrees).
+     * @param zone      the UTM zone.
+     * @param result    an array of two elements to receive the easting and the northing (in meters).
+     */
+    public static void project(double latitude, double longitude, int zone, double[] result) {
+        double adjustedLon = adjustLongitude(longitude, zone);
+        double radiansLat = latitude * DEG2RAD;
         double sineLong = Math.sin(adjustedLon);
         double cosLong = Math.cos(adjustedLon);
         double cosLat = Math.cos(radiansLat);
         double product = cosLat * sineLong;
         double eConstantSqr = square(E_constant);
         double logValue = Math.log((1 + product) / (1 - product));
-        double easting = 0.5 * logValue * K_0 * RADIUS_P / Math.pow((1 + eConstantSqr * square(cosLat)), 0.5) * (1 + eConstantSqr / 2 * square(0.5 * Math.log((1 + cosLat * Math.sin(adjustLongitude(p.longitude, zone))) / (1 - product))) * square(cosLat) / 3) + E_0;
-        double var4 = radiansLat + sineOfHalfDegrees(p.latitude) / 2;
-        double northing = (Math.atan(Math.tan(radiansLat) / cosLong) - radiansLat) * K_0 * RADIUS_P / Math.sqrt(1 + N_constant * square(cosLat)) * (1 + N_constant / 2 * square(0.5 * logValue) * square(cosLat)) + K_0 * RADIUS_P * (radiansLat - N_constant_2 * var4 + N_constant3 * (3 * var4 + sineOfHalfDegrees(p.latitude) * square(cosLat)) / 4 - 1.674057895e-07 * (5 * (3 * var4 + sineOfHalfDegrees(p.latitude) * square(cosLat)) / 4 + sineOfHalfDegrees(p.latitude) * square(cosLat) * square(cosLat)) / 3);
-        char letter = 'N';
-        if (getLetter(p.latitude) < 'M') {
-            northing = northing + N_0;
-            letter = 'S';
-        }
-        return new UTM(round(easting), round(northing), zone, letter);
+        double easting = 0.5 * logValue * K_0 * RADIUS_P / Math.pow((1 + eConstantSqr * square(cosLat)), 0.5) * (1 + eConstantSqr / 2 * square(0.5 * logValue) * square(cosLat) / 3) + E_0;
+        double var4 = radiansLat + sineOfHalfDegrees(latitude) / 2;
+        double northing = (Math.atan(Math.tan(radiansLat) / cosLong) - radiansLat) * K_0 * RADIUS_P / Math.sqrt(1 + N_constant * square(cosLat)) * (1 + N_constant / 2 * square(0.5 * logValue) * square(cosLat)) + K_0 * RADIUS_P * (radiansLat - N_constant_2 * var4 + N_constant3 * (3 * var4 + sineOfHalfDegrees(latitude) * square(cosLat)) / 4 - 1.674057895e-07 * (5 * (3 * var4 + sineOfHalfDegrees(latitude) * square(cosLat)) / 4 + sineOfHalfDegrees(latitude) * square(cosLat) * square(cosLat)) / 3);
+        result[0] = easting;
+        result[1] = northing;
     }
 
     static class Position {
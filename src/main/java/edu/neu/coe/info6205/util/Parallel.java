@@ -0,0 +1,79 @@
+package edu.neu.coe.info6205.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility for running data-parallel loops on a fork/join pool.
+ * <p>
+ * The range [0, n) is split recursively in half until each piece has no more than grain elements,
+ * and each piece is then handed to the body as a half-open chunk [from, to).
+ * Passing a chunk (rather than one index at a time) allows the body to keep its inner loop tight.
+ */
+public class Parallel {
+
+    /**
+     * Functional interface for the body of a parallel loop.
+     */
+    @FunctionalInterface
+    public interface Chunk {
+        /**
+         * Process the indices from (inclusive) to to (exclusive).
+         *
+         * @param from the first index.
+         * @param to   one more than the last index.
+         */
+        void accept(int from, int to);
+    }
+
+    /**
+     * Run body over the range [0, n) in chunks of at most grain indices, using pool.
+     * Returns only when all chunks have completed.
+     *
+     * @param pool  the fork/join pool.
+     * @param n     the number of indices.
+     * @param grain the maximum number of indices in one chunk (at least 1).
+     * @param body  the body of the loop.
+     */
+    public static void forEachChunk(ForkJoinPool pool, int n, int grain, Chunk body) {
+        if (n <= 0) return;
+        final int g = Math.max(1, grain);
+        if (n <= g || pool.getParallelism() == 1) body.accept(0, n);
+        else pool.invoke(new Task(0, n, g, body));
+    }
+
+    /**
+     * Calculate a reasonable grain size for a loop of n cheap iterations on pool.
+     *
+     * @param pool the fork/join pool.
+     * @param n    the number of indices.
+     * @return a grain which yields several chunks per worker thread (but never fewer than 1024 indices per chunk).
+     */
+    public static int grain(ForkJoinPool pool, int n) {
+        return Math.max(1024, n / (8 * pool.getParallelism()));
+    }
+
+    // A Task is never serialized (the body is a lambda).
+    @SuppressWarnings("serial")
+    private static class Task extends RecursiveAction {
+        Task(int from, int to, int grain, Chunk body) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        protected void compute() {
+            if (to - from <= grain) body.accept(from, to);
+            else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Task(from, mid, grain, body), new Task(mid, to, grain, body));
+            }
+        }
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final Chunk body;
+    }
+}
@@ -0,0 +1,206 @@
+package edu.neu.coe.info6205.dynamicProgramming.knapsack;
+
+import edu.neu.coe.info6205.dynamicProgramming.knapsack.BellmanFord.Mode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class BellmanFordTest {
+
+    /**
+     * The graph tinyEWDn.txt from Sedgewick and Wayne (which has negative weights but no negative cycle).
+     */
+    private static final int[] FROM = {4, 5, 4, 5, 7, 5, 0, 0, 7, 1, 2, 6, 3, 6, 6};
+    private static final int[] TO = {5, 4, 7, 7, 5, 1, 4, 2, 3, 3, 7, 2, 6, 0, 4};
+    private static final double[] WEIGHTS = {0.35, 0.35, 0.37, 0.28, 0.28, 0.32, 0.38, 0.26, 0.39, 0.29, 0.34, -1.20, 0.52, -1.40, -1.25};
+    private static final double[] EXPECTED = {0.0, 0.93, 0.26, 0.99, 0.26, 0.61, 1.51, 0.60};
+
+    @Test
+    public void testTinyEWDn() {
+        BellmanFord bellmanFord = new BellmanFord(8, FROM, TO, WEIGHTS);
+        for (Mode mode : Mode.values()) {
+            BellmanFord.ShortestPaths paths = bellmanFord.shortestPaths(0, mode);
+            assertFalse(paths.hasNegativeCycle());
+            assertNull(paths.negativeCycle());
+            for (int v = 0; v < 8; v++) {
+                assertEquals(mode + ": " + v, EXPECTED[v], paths.distTo(v), 1E-9);
+                checkPath(bellmanFord, paths, 0, v);
+            }
+        }
+    }
+
+    @Test
+    public void testEarlyTermination() {
+        // A path 0 -> 1 -> ... -> 9 whose edges are listed in order: the first pass finds everything, the second changes nothing.
+        int n = 10;
+        int[] from = new int[n - 1], to = new int[n - 1];
+        double[] weights = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            from[i] = i;
+            to[i] = i + 1;
+            weights[i] = -1;
+        }
+        BellmanFord.ShortestPaths paths = new BellmanFord(n, from, to, weights).shortestPaths(0, Mode.PASSES);
+        assertEquals(2, paths.passes());
+        assertEquals(n - 1, paths.relaxations());
+        assertEquals(-9, paths.distTo(9), 0);
+    }
+
+    @Test
+    public void testUnreachable() {
+        BellmanFord.ShortestPaths paths = new BellmanFord(3, new int[]{1}, new int[]{2}, new double[]{-1}).shortestPaths(0, Mode.QUEUE);
+        assertFalse(paths.hasPathTo(2));
+        assertNull(paths.pathTo(2));
+        assertEquals(Double.POSITIVE_INFINITY, paths.distTo(1), 0);
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        // 0 -> 1 -> 2 -> 3 -> 1 with the cycle 1 -> 2 -> 3 -> 1 of weight -1, and 3 -> 4.
+        int[] from = {0, 1, 2, 3, 3};
+        int[] to = {1, 2, 3, 1, 4};
+        double[] weights = {1, 2, -4, 1, 1};
+        BellmanFord bellmanFord = new BellmanFord(5, from, to, weights);
+        for (Mode mode : Mode.values()) {
+            BellmanFord.ShortestPaths paths = bellmanFord.shortestPaths(0, mode);
+            assertTrue(mode.toString(), paths.hasNegativeCycle());
+            checkCycle(bellmanFord, paths.negativeCycle());
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPathWithNegativeCycle() {
+        new BellmanFord(2, new int[]{0, 1}, new int[]{1, 0}, new double[]{1, -2}).shortestPaths(0, Mode.QUEUE).pathTo(1);
+    }
+
+    @Test
+    public void testNegativeCycleUnreachable() {
+        // The negative cycle 1 <-> 2 is not reachable from 0.
+        BellmanFord bellmanFord = new BellmanFord(3, new int[]{1, 2, 0}, new int[]{2, 1, 0}, new double[]{-1, -1, 1});
+        for (Mode mode : Mode.values()) assertFalse(bellmanFord.shortestPaths(0, mode).hasNegativeCycle());
+    }
+
+    @Test
+    public void testRandom() {
+        // Negative weights without negative cycles: w(u, v) = c(u, v) + p(u) - p(v) with c non-negative.
+        Random random = new Random(0L);
+        int n = 2000, m = 10000;
+        double[] potential = new double[n];
+        for (int v = 0; v < n; v++) potential[v] = random.nextDouble() * 10;
+        int[] from = new int[m], to = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextDouble() + potential[from[e]] - potential[to[e]];
+        }
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BellmanFord bellmanFord = new BellmanFord(n, from, to, weights, pool);
+            BellmanFord.ShortestPaths expected = bellmanFord.shortestPaths(0, Mode.PASSES);
+            assertFalse(expected.hasNegativeCycle());
+            for (Mode mode : Mode.values()) {
+                BellmanFord.ShortestPaths paths = bellmanFord.shortestPaths(0, mode);
+                assertFalse(paths.hasNegativeCycle());
+                for (int v = 0; v < n; v++) {
+                    assertEquals(mode + ": " + v, expected.distTo(v), paths.distTo(v), 1E-9);
+                    checkPath(bellmanFord, paths, 0, v);
+                }
+            }
+            // Now make a negative cycle reachable from 0.
+            BellmanFord.ShortestPaths paths = bellmanFord.shortestPaths(0, Mode.QUEUE);
+            int v = 0;
+            while (v == 0 || !paths.hasPathTo(v)) v = random.nextInt(n);
+            int[] from2 = Arrays.copyOf(from, m + 1), to2 = Arrays.copyOf(to, m + 1);
+            double[] weights2 = Arrays.copyOf(weights, m + 1);
+            from2[m] = v;
+            to2[m] = 0;
+            weights2[m] = -paths.distTo(v) - 0.5;
+            BellmanFord cyclic = new BellmanFord(n, from2, to2, weights2, pool);
+            for (Mode mode : Mode.values()) {
+                BellmanFord.ShortestPaths result = cyclic.shortestPaths(0, mode);
+                assertTrue(mode.toString(), result.hasNegativeCycle());
+                checkCycle(cyclic, result.negativeCycle());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBellmanFordAlgorihm() {
+        // Items of (weight, value) = (1, 1), (3, 4), (4, 5) for a bag of capacity 7: the best is items 2 and 3.
+        int[] itemWeights = {1, 3, 4};
+        int[] values = {1, 4, 5};
+        int capacity = 7;
+        Vertex[][] vertices = new Vertex[itemWeights.length + 1][capacity + 1];
+        for (int i = 0; i <= itemWeights.length; i++)
+            for (int c = 0; c <= capacity; c++) vertices[i][c] = new Vertex(i + ":" + c, c);
+        Graph<Vertex> graph = new Graph<>(vertices[0][0]);
+        for (int i = 0; i <= itemWeights.length; i++)
+            for (int c = 0; c <= capacity; c++) graph.addVertex(vertices[i][c]);
+        Vertex target = new Vertex("target", capacity);
+        graph.addVertex(target);
+        for (int i = 0; i < itemWeights.length; i++)
+            for (int c = 0; c <= capacity; c++) {
+                graph.addEdge(vertices[i][c], vertices[i + 1][c], 0);
+                if (c + itemWeights[i] <= capacity)
+                    graph.addEdge(vertices[i][c], vertices[i + 1][c + itemWeights[i]], -values[i]);
+            }
+        for (int c = 0; c <= capacity; c++) graph.addEdge(vertices[itemWeights.length][c], target, 0);
+        assertEquals(9, BellmanFord.bellmanFordAlgorihm(graph, vertices[0][0], target), 0);
+        assertEquals(-Double.MAX_VALUE, BellmanFord.bellmanFordAlgorihm(graph, vertices[0][0], new Vertex("other", 0)), 0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testBellmanFordAlgorihmCycle() {
+        // The cycle a -> b -> a has a profit of 1, so the profit of reaching the target is unbounded.
+        Vertex source = new Vertex("source", 0), a = new Vertex("a", 0), b = new Vertex("b", 0), target = new Vertex("target", 0);
+        Graph<Vertex> graph = new Graph<>(source);
+        for (Vertex v : new Vertex[]{source, a, b, target}) graph.addVertex(v);
+        graph.addEdge(source, a, -1);
+        graph.addEdge(a, b, -2);
+        graph.addEdge(b, a, 1);
+        graph.addEdge(b, target, 0);
+        BellmanFord.bellmanFordAlgorihm(graph, source, target);
+    }
+
+    /**
+     * Check that the path to v is made of consecutive edges from s to v whose total weight is distTo(v).
+     * NOTE: the path is a Stack, which iterates from the bottom (the last edge), so we walk backwards from v.
+     */
+    private static void checkPath(BellmanFord bellmanFord, BellmanFord.ShortestPaths paths, int s, int v) {
+        Iterable<Integer> path = paths.pathTo(v);
+        if (!paths.hasPathTo(v)) {
+            assertNull(path);
+            return;
+        }
+        int x = v;
+        double total = 0;
+        for (int e : path) {
+            assertEquals(x, bellmanFord.to(e));
+            x = bellmanFord.from(e);
+            total += bellmanFord.weight(e);
+        }
+        assertEquals(s, x);
+        assertEquals(paths.distTo(v), total, 1E-9);
+    }
+
+    private static void checkCycle(BellmanFord bellmanFord, Iterable<Integer> cycle) {
+        assertNotNull(cycle);
+        int first = -1, x = -1;
+        double total = 0;
+        for (int e : cycle) {
+            if (first < 0) first = bellmanFord.from(e);
+            else assertEquals(x, bellmanFord.from(e));
+            x = bellmanFord.to(e);
+            total += bellmanFord.weight(e);
+        }
+        assertEquals(first, x);
+        assertTrue(total < 0);
+    }
+}
@@ -0,0 +1,87 @@
+package edu.neu.coe.info6205.graphs.DijkstraTest;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.BucketQueue;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BucketQueueTest {
+
+    @Test
+    public void testInsertDelMin() {
+        BucketQueue pq = new BucketQueue(5, 100000);
+        assertTrue(pq.isEmpty());
+        pq.insert(0, 7L);
+        pq.insert(1, 3L);
+        pq.insert(2, 12L);
+        pq.insert(3, 3L);
+        assertEquals(4, pq.size());
+        assertTrue(pq.contains(2));
+        assertFalse(pq.contains(4));
+        int first = pq.delMin();
+        int second = pq.delMin();
+        assertTrue(first == 1 && second == 3 || first == 3 && second == 1);
+        assertEquals(0, pq.delMin());
+        assertEquals(2, pq.delMin());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        BucketQueue pq = new BucketQueue(3, 100000);
+        pq.insert(0, 10.0);
+        pq.insert(1, 20.0);
+        pq.insert(2, 30.0);
+        assertEquals(0, pq.delMin());
+        pq.decreaseKey(2, 15.0);
+        assertEquals(15L, pq.keyOf(2));
+        assertEquals(2, pq.delMin());
+        assertEquals(1, pq.delMin());
+    }
+
+    @Test
+    public void testSorted() {
+        int n = 1000;
+        BucketQueue pq = new BucketQueue(n, 100000);
+        Random random = new Random(0L);
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(100000);
+            pq.insert(i, keys[i]);
+        }
+        long last = 0;
+        while (!pq.isEmpty()) {
+            int min = pq.delMin();
+            assertTrue(keys[min] >= last);
+            last = keys[min];
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonMonotone() {
+        BucketQueue pq = new BucketQueue(2, 100000);
+        pq.insert(0, 10L);
+        pq.delMin();
+        pq.insert(1, 5L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutOfRange() {
+        BucketQueue pq = new BucketQueue(2, 10);
+        pq.insert(0, 5L);
+        pq.insert(1, 11L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonInteger() {
+        new BucketQueue(1, 100000).insert(0, 1.5);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testUnderflow() {
+        new BucketQueue(1, 100000).delMin();
+    }
+}
@@ -0,0 +1,136 @@
+package edu.neu.coe.info6205.graphs.DijkstraTest;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.ContractionHierarchy;
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import edu.neu.coe.info6205.graphs.Dijkstra.DirectedEdge;
+import edu.neu.coe.info6205.graphs.Dijkstra.EdgeWeightedDigraph;
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ContractionHierarchyTest {
+
+    @Test
+    public void testSmall() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(9);
+        int[][] edges = {{0, 1, 4}, {0, 7, 8}, {1, 2, 8}, {1, 7, 11}, {7, 6, 1}, {7, 8, 11}, {2, 8, 2}, {2, 3, 7}, {2, 5, 4}, {8, 6, 6}, {6, 5, 2}, {3, 5, 14}, {3, 4, 9}, {5, 4, 10}};
+        for (int[] edge : edges) ewd.addEdge(new DirectedEdge(edge[0], edge[1], edge[2]));
+        ContractionHierarchy ch = ContractionHierarchy.create(ewd);
+        assertEquals(9, ch.V());
+        checkAllPairs(ewd, ch);
+        ContractionHierarchy.Route route = ch.query(0, 4);
+        assertEquals(21, route.distance(), 0);
+        assertFalse(ch.query(4, 0).hasPath());
+        assertNull(ch.query(4, 0).path());
+        assertEquals(0, ch.query(3, 3).distance(), 0);
+    }
+
+    @Test
+    public void testGrid() {
+        // A road-like grid, in both directions, with random weights.
+        final int size = 15;
+        final Random random = new Random(0L);
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(size * size);
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++) {
+                int v = i * size + j;
+                if (i + 1 < size) addBoth(ewd, v, v + size, 1 + random.nextInt(10));
+                if (j + 1 < size) addBoth(ewd, v, v + 1, 1 + random.nextInt(10));
+            }
+        ContractionHierarchy ch = ContractionHierarchy.create(ewd);
+        assertTrue(ch.shortcuts() > 0);
+        checkAllPairs(ewd, ch);
+        assertTrue(ch.query(0, size * size - 1).settled() < size * size);
+    }
+
+    @Test
+    public void testRandomDirected() {
+        final Random random = new Random(1L);
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(200);
+        for (int i = 0; i < 600; i++)
+            ewd.addEdge(new DirectedEdge(random.nextInt(200), random.nextInt(200), random.nextInt(5) == 0 ? 0 : random.nextDouble()));
+        checkAllPairs(ewd, ContractionHierarchy.create(ewd));
+    }
+
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testDiGraph() {
+        DiGraph<String, Double> graph = new DiGraph<>();
+        graph.addEdge(new Edge<>("A", "B", 1.0));
+        graph.addEdge(new Edge<>("B", "C", 2.0));
+        graph.addEdge(new Edge<>("C", "D", 1.0));
+        graph.addEdge(new Edge<>("A", "E", 4.0));
+        graph.addEdge(new Edge<>("D", "H", 4.0));
+        graph.addEdge(new Edge<>("C", "G", 2.0));
+        graph.addEdge(new Edge<>("G", "H", 1.0));
+        ContractionHierarchy ch = ContractionHierarchy.create(graph);
+        assertEquals(6.0, ch.query(graph.edgeArrays().index("A"), graph.edgeArrays().index("H")).distance(), 0);
+    }
+
+    @Test
+    public void testSerialization() throws IOException {
+        final Random random = new Random(2L);
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(100);
+        for (int i = 0; i < 400; i++)
+            ewd.addEdge(new DirectedEdge(random.nextInt(100), random.nextInt(100), random.nextDouble()));
+        ContractionHierarchy ch = ContractionHierarchy.create(ewd);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ch.write(out);
+        ContractionHierarchy copy = ContractionHierarchy.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(ch.V(), copy.V());
+        assertEquals(ch.E(), copy.E());
+        assertEquals(ch.shortcuts(), copy.shortcuts());
+        for (int v = 0; v < ch.V(); v++) assertEquals(ch.rank(v), copy.rank(v));
+        checkAllPairs(ewd, copy);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadBadStream() throws IOException {
+        ContractionHierarchy.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(2);
+        ewd.addEdge(new DirectedEdge(0, 1, -1));
+        ContractionHierarchy.create(ewd);
+    }
+
+    private static void addBoth(EdgeWeightedDigraph ewd, int v, int w, double weight) {
+        ewd.addEdge(new DirectedEdge(v, w, weight));
+        ewd.addEdge(new DirectedEdge(w, v, weight));
+    }
+
+    /**
+     * Check every query against Dijkstra, and check that each path runs from s to t with the right length.
+     * NOTE that iterating a Stack yields the edges in the order in which they were pushed (from t back to s).
+     */
+    private static void checkAllPairs(EdgeWeightedDigraph ewd, ContractionHierarchy ch) {
+        for (int s = 0; s < ewd.V(); s++) {
+            Dijkstra.ShortestPaths expected = new Dijkstra(ewd).shortestPaths(s);
+            for (int t = 0; t < ewd.V(); t++) {
+                ContractionHierarchy.Route route = ch.query(s, t);
+                assertEquals(expected.hasPathTo(t), route.hasPath());
+                if (!route.hasPath()) continue;
+                assertEquals(expected.distTo(t), route.distance(), 1E-9);
+                int current = t;
+                double length = 0;
+                for (DirectedEdge e : route.path()) {
+                    assertEquals(current, e.to());
+                    length += e.weight();
+                    current = e.from();
+                }
+                assertEquals(s, current);
+                assertEquals(route.distance(), length, 1E-9);
+            }
+        }
+    }
+}
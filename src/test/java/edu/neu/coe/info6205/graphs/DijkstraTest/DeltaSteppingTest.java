@@ -0,0 +1,117 @@
+package edu.neu.coe.info6205.graphs.DijkstraTest;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.DeltaStepping;
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import edu.neu.coe.info6205.graphs.Dijkstra.DirectedEdge;
+import edu.neu.coe.info6205.graphs.Dijkstra.EdgeWeightedDigraph;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class DeltaSteppingTest {
+
+    @Test
+    public void testSmall() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(9);
+        int[][] edges = {{0, 1, 4}, {0, 7, 8}, {1, 2, 8}, {1, 7, 11}, {7, 6, 1}, {7, 8, 11}, {2, 8, 2}, {2, 3, 7}, {2, 5, 4}, {8, 6, 6}, {6, 5, 2}, {3, 5, 14}, {3, 4, 9}, {5, 4, 10}};
+        for (int[] edge : edges) ewd.addEdge(new DirectedEdge(edge[0], edge[1], edge[2]));
+        double[] expected = {0, 4, 12, 19, 21, 11, 9, 8, 14};
+        for (double delta : new double[]{0, 1, 3, 100}) {
+            DeltaStepping.ShortestPaths paths = new DeltaStepping(ewd, ForkJoinPool.commonPool(), delta).shortestPaths(0);
+            for (int v = 0; v < 9; v++) assertEquals(expected[v], paths.distTo(v), 0);
+            checkPaths(ewd, paths, 0);
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0L);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 10; trial++) {
+                EdgeWeightedDigraph ewd = randomGraph(2000, 10000, random);
+                Dijkstra.ShortestPaths expected = new Dijkstra(ewd).shortestPaths(trial);
+                DeltaStepping deltaStepping = new DeltaStepping(ewd, pool);
+                assertTrue(deltaStepping.delta() > 0);
+                DeltaStepping.ShortestPaths paths = deltaStepping.shortestPaths(trial);
+                for (int v = 0; v < ewd.V(); v++) {
+                    assertEquals(expected.hasPathTo(v), paths.hasPathTo(v));
+                    assertEquals(expected.distTo(v), paths.distTo(v), 0);
+                }
+                checkPaths(ewd, paths, trial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTinyDelta() {
+        // A delta of 1E-12 would need about 10^13 buckets: it is raised so that there are at most MIN_BUCKETS.
+        Random random = new Random(1L);
+        EdgeWeightedDigraph ewd = randomGraph(100, 500, random);
+        Dijkstra.ShortestPaths expected = new Dijkstra(ewd).shortestPaths(0);
+        DeltaStepping deltaStepping = new DeltaStepping(ewd, ForkJoinPool.commonPool(), 1E-12);
+        assertTrue(deltaStepping.delta() > 1E-12);
+        double max = 0;
+        for (DirectedEdge e : ewd.edges()) max = Math.max(max, e.weight());
+        assertTrue(max / deltaStepping.delta() + 2 <= DeltaStepping.MIN_BUCKETS + 1);
+        DeltaStepping.ShortestPaths paths = deltaStepping.shortestPaths(0);
+        for (int v = 0; v < ewd.V(); v++) assertEquals(expected.distTo(v), paths.distTo(v), 0);
+        checkPaths(ewd, paths, 0);
+        // A delta which needs few enough buckets is unchanged.
+        assertEquals(0.5, new DeltaStepping(ewd, ForkJoinPool.commonPool(), 0.5).delta(), 0);
+    }
+
+    @Test
+    public void testZeroWeights() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(5);
+        ewd.addEdge(new DirectedEdge(0, 1, 0));
+        ewd.addEdge(new DirectedEdge(1, 2, 0));
+        ewd.addEdge(new DirectedEdge(2, 1, 0));
+        ewd.addEdge(new DirectedEdge(2, 3, 1));
+        DeltaStepping deltaStepping = new DeltaStepping(ewd);
+        DeltaStepping.ShortestPaths paths = deltaStepping.shortestPaths(0);
+        assertEquals(0, paths.distTo(2), 0);
+        assertEquals(1, paths.distTo(3), 0);
+        assertFalse(paths.hasPathTo(4));
+        assertNull(paths.pathTo(4));
+        checkPaths(ewd, paths, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(2);
+        ewd.addEdge(new DirectedEdge(0, 1, -1));
+        new DeltaStepping(ewd);
+    }
+
+    /**
+     * Check that each path runs from s to v and has the length given by distTo.
+     * NOTE that iterating a Stack yields the edges in the order in which they were pushed (from v back to s).
+     */
+    private static void checkPaths(EdgeWeightedDigraph ewd, DeltaStepping.ShortestPaths paths, int s) {
+        for (int v = 0; v < ewd.V(); v++) {
+            if (!paths.hasPathTo(v)) continue;
+            int current = v;
+            double length = 0;
+            for (DirectedEdge e : paths.pathTo(v)) {
+                assertEquals(current, e.to());
+                length += e.weight();
+                current = e.from();
+            }
+            assertEquals(s, current);
+            assertEquals(paths.distTo(v), length, 1E-9);
+        }
+    }
+
+    private static EdgeWeightedDigraph randomGraph(int V, int E, Random random) {
+        EdgeWeightedDigraph result = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < E; i++)
+            result.addEdge(new DirectedEdge(random.nextInt(V), random.nextInt(V), random.nextInt(10) == 0 ? 0 : random.nextDouble()));
+        return result;
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 
@@ -212,4 +213,68 @@ public class DijkstraTest {
         Dijkstra dijkstra = new Dijkstra(ewd);
         dijkstra.shortestPaths(0);
     }
+
+    @Test
+    public void testRadixHeap() {
+        EdgeWeightedDigraph ewd = createIntegerGraph();
+        final Dijkstra.ShortestPaths shortestPaths = new Dijkstra(ewd, Dijkstra.Strategy.RADIX_HEAP).shortestPaths(0);
+        assertEquals(0, shortestPaths.distTo(0), 0);
+        assertEquals(2, shortestPaths.distTo(1), 0);
+        assertEquals(6, shortestPaths.distTo(2), 0);
+        assertEquals(7, shortestPaths.distTo(3), 0);
+        assertEquals(17, shortestPaths.distTo(4), 0);
+        assertEquals(22, shortestPaths.distTo(5), 0);
+        assertEquals(19, shortestPaths.distTo(6), 0);
+    }
+
+    @Test
+    public void testBucketQueue() {
+        EdgeWeightedDigraph ewd = createIntegerGraph();
+        final Dijkstra.ShortestPaths shortestPaths = new Dijkstra(ewd, Dijkstra.Strategy.BUCKET_QUEUE).shortestPaths(0);
+        assertEquals(0, shortestPaths.distTo(0), 0);
+        assertEquals(2, shortestPaths.distTo(1), 0);
+        assertEquals(6, shortestPaths.distTo(2), 0);
+        assertEquals(7, shortestPaths.distTo(3), 0);
+        assertEquals(17, shortestPaths.distTo(4), 0);
+        assertEquals(22, shortestPaths.distTo(5), 0);
+        assertEquals(19, shortestPaths.distTo(6), 0);
+    }
+
+    @Test
+    public void testStrategiesAgree() {
+        Random random = new Random(0L);
+        int V = 200;
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < 1000; i++)
+            ewd.addEdge(new DirectedEdge(random.nextInt(V), random.nextInt(V), random.nextInt(50)));
+        final Dijkstra.ShortestPaths expected = new Dijkstra(ewd).shortestPaths(0);
+        for (Dijkstra.Strategy strategy : new Dijkstra.Strategy[]{Dijkstra.Strategy.RADIX_HEAP, Dijkstra.Strategy.BUCKET_QUEUE}) {
+            final Dijkstra.ShortestPaths actual = new Dijkstra(ewd, strategy).shortestPaths(0);
+            for (int v = 0; v < V; v++) {
+                assertEquals(expected.hasPathTo(v), actual.hasPathTo(v));
+                assertEquals(expected.distTo(v), actual.distTo(v), 0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRadixHeapNonInteger() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(2);
+        ewd.addEdge(new DirectedEdge(0, 1, 0.5));
+        new Dijkstra(ewd, Dijkstra.Strategy.RADIX_HEAP);
+    }
+
+    private static EdgeWeightedDigraph createIntegerGraph() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(7);
+        ewd.addEdge(new DirectedEdge(0, 1, 2));
+        ewd.addEdge(new DirectedEdge(0, 2, 6));
+        ewd.addEdge(new DirectedEdge(1, 3, 5));
+        ewd.addEdge(new DirectedEdge(2, 3, 8));
+        ewd.addEdge(new DirectedEdge(3, 5, 15));
+        ewd.addEdge(new DirectedEdge(3, 4, 10));
+        ewd.addEdge(new DirectedEdge(5, 6, 6));
+        ewd.addEdge(new DirectedEdge(4, 6, 2));
+        ewd.addEdge(new DirectedEdge(4, 5, 6));
+        return ewd;
+    }
 }
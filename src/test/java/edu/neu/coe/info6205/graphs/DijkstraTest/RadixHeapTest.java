@@ -0,0 +1,80 @@
+package edu.neu.coe.info6205.graphs.DijkstraTest;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.RadixHeap;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RadixHeapTest {
+
+    @Test
+    public void testInsertDelMin() {
+        RadixHeap pq = new RadixHeap(5);
+        assertTrue(pq.isEmpty());
+        pq.insert(0, 7L);
+        pq.insert(1, 3L);
+        pq.insert(2, 12L);
+        pq.insert(3, 3L);
+        assertEquals(4, pq.size());
+        assertTrue(pq.contains(2));
+        assertFalse(pq.contains(4));
+        int first = pq.delMin();
+        int second = pq.delMin();
+        assertTrue(first == 1 && second == 3 || first == 3 && second == 1);
+        assertEquals(0, pq.delMin());
+        assertEquals(2, pq.delMin());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        RadixHeap pq = new RadixHeap(3);
+        pq.insert(0, 10.0);
+        pq.insert(1, 20.0);
+        pq.insert(2, 30.0);
+        assertEquals(0, pq.delMin());
+        pq.decreaseKey(2, 15.0);
+        assertEquals(15L, pq.keyOf(2));
+        assertEquals(2, pq.delMin());
+        assertEquals(1, pq.delMin());
+    }
+
+    @Test
+    public void testSorted() {
+        int n = 1000;
+        RadixHeap pq = new RadixHeap(n);
+        Random random = new Random(0L);
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(100000);
+            pq.insert(i, keys[i]);
+        }
+        long last = 0;
+        while (!pq.isEmpty()) {
+            int min = pq.delMin();
+            assertTrue(keys[min] >= last);
+            last = keys[min];
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonMonotone() {
+        RadixHeap pq = new RadixHeap(2);
+        pq.insert(0, 10L);
+        pq.delMin();
+        pq.insert(1, 5L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonInteger() {
+        new RadixHeap(1).insert(0, 1.5);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testUnderflow() {
+        new RadixHeap(1).delMin();
+    }
+}
@@ -0,0 +1,68 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import edu.neu.coe.info6205.graphs.Dijkstra.DirectedEdge;
+import edu.neu.coe.info6205.graphs.Dijkstra.EdgeWeightedDigraph;
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class FloydWarshallTest {
+
+    @Test
+    public void testSmall() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(4);
+        ewd.addEdge(new DirectedEdge(0, 1, 5));
+        ewd.addEdge(new DirectedEdge(0, 3, 10));
+        ewd.addEdge(new DirectedEdge(1, 2, 3));
+        ewd.addEdge(new DirectedEdge(2, 3, 1));
+        ArrayDistanceMatrix matrix = FloydWarshall.distances(ewd, ForkJoinPool.commonPool());
+        assertEquals(9, matrix.get(0, 3), 0);
+        assertEquals(8, matrix.get(0, 2), 0);
+        assertEquals(0, matrix.get(2, 2), 0);
+        assertEquals(Double.POSITIVE_INFINITY, matrix.get(3, 0), 0);
+        assertFalse(FloydWarshall.hasNegativeCycle(matrix));
+    }
+
+    @Test
+    public void testRandom() {
+        // More than one block in each direction, and not a multiple of the block size.
+        final int n = 2 * FloydWarshall.BLOCK + 17;
+        final Random random = new Random(0L);
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(n);
+        for (int i = 0; i < 4 * n; i++)
+            ewd.addEdge(new DirectedEdge(random.nextInt(n), random.nextInt(n), random.nextInt(100)));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayDistanceMatrix matrix = FloydWarshall.distances(ewd, pool);
+            Dijkstra dijkstra = new Dijkstra(ewd);
+            for (int s = 0; s < n; s++) {
+                Dijkstra.ShortestPaths paths = dijkstra.shortestPaths(s);
+                for (int v = 0; v < n; v++) assertEquals(paths.distTo(v), matrix.get(s, v), 0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUndirectedCSR() {
+        CSRGraph<Integer, Double> graph = CSRGraph.create(3, new int[]{0, 1}, new int[]{1, 2}, new double[]{2, 3}, false);
+        ArrayDistanceMatrix matrix = FloydWarshall.distances(graph, ForkJoinPool.commonPool());
+        assertEquals(5, matrix.get(2, 0), 0);
+        assertEquals(5, matrix.get(0, 2), 0);
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(3);
+        ewd.addEdge(new DirectedEdge(0, 1, 1));
+        ewd.addEdge(new DirectedEdge(1, 2, -3));
+        ewd.addEdge(new DirectedEdge(2, 0, 1));
+        assertTrue(FloydWarshall.hasNegativeCycle(FloydWarshall.distances(ewd, ForkJoinPool.commonPool())));
+    }
+}
@@ -0,0 +1,73 @@
+package edu.neu.coe.info6205.graphs.apsp;
+
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import edu.neu.coe.info6205.graphs.csr.CSRShortestPaths;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelDijkstraTest {
+
+    @Test
+    public void testAgainstFloydWarshall() {
+        CSRGraph<Integer, Double> graph = randomGraph(150, 600, new Random(0L));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayDistanceMatrix expected = FloydWarshall.distances(graph, pool);
+            ArrayDistanceMatrix matrix = ParallelDijkstra.distances(graph, pool);
+            for (int i = 0; i < graph.V(); i++)
+                for (int j = 0; j < graph.V(); j++) assertEquals(expected.get(i, j), matrix.get(i, j), 1E-9);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMapped() throws IOException {
+        CSRGraph<Integer, Double> graph = randomGraph(100, 300, new Random(1L));
+        Path path = Files.createTempFile("apsp", ".bin");
+        try {
+            try (MappedDistanceMatrix matrix = DistanceMatrix.mapped(graph.V(), path)) {
+                ParallelDijkstra.distances(graph, matrix, ForkJoinPool.commonPool());
+            }
+            assertEquals(8L * graph.V() * graph.V(), Files.size(path));
+            try (MappedDistanceMatrix matrix = MappedDistanceMatrix.open(path)) {
+                assertEquals(graph.V(), matrix.size());
+                double[] row = new double[graph.V()];
+                for (int s = 0; s < graph.V(); s += 7) {
+                    CSRShortestPaths paths = new CSRShortestPaths(graph, s);
+                    matrix.getRow(s, row);
+                    for (int v = 0; v < graph.V(); v++) {
+                        assertEquals(paths.distTo(v), row[v], 0);
+                        assertEquals(paths.distTo(v), matrix.get(s, v), 0);
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongSize() {
+        CSRGraph<Integer, Double> graph = randomGraph(10, 20, new Random(2L));
+        ParallelDijkstra.distances(graph, DistanceMatrix.inMemory(9), ForkJoinPool.commonPool());
+    }
+
+    private static CSRGraph<Integer, Double> randomGraph(int n, int m, Random random) {
+        int[] from = new int[m], to = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextInt(50);
+        }
+        return CSRGraph.create(n, from, to, weights, true);
+    }
+}
@@ -0,0 +1,56 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class CSRDeltaSteppingTest {
+
+    @Test
+    public void testShortestPaths() {
+        int[] from = {0, 0, 1, 2, 3, 3, 5, 4, 4};
+        int[] to = {1, 2, 3, 3, 5, 4, 6, 6, 5};
+        double[] weights = {2, 6, 5, 8, 15, 10, 6, 2, 6};
+        CSRGraph<Integer, Double> graph = CSRGraph.create(7, from, to, weights, true);
+        double[] expected = {0, 2, 6, 7, 17, 22, 19};
+        CSRDeltaStepping paths = new CSRDeltaStepping(graph, 0);
+        for (int v = 0; v < 7; v++) assertEquals(expected[v], paths.distTo(v), 0);
+        int count = 0;
+        for (int ignored : paths.pathTo(6)) count++;
+        assertEquals(4, count);
+        assertEquals(7, paths.edgeTo(6));
+    }
+
+    @Test
+    public void testRandom() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[]{true, false}) {
+                CSRGraph<Integer, Double> graph = RandomGraphs.uniform(5000, 20000, directed, new Random(0L));
+                CSRShortestPaths expected = new CSRShortestPaths(graph, 0);
+                CSRDeltaStepping paths = new CSRDeltaStepping(graph, 0, pool);
+                for (int v = 0; v < graph.V(); v++) {
+                    assertEquals(expected.distTo(v), paths.distTo(v), 0);
+                    if (!paths.hasPathTo(v)) continue;
+                    double length = 0;
+                    for (int e : paths.pathTo(v)) length += graph.edgeWeight(e);
+                    assertEquals(paths.distTo(v), length, 1E-9);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnreachable() {
+        CSRGraph<Integer, Double> graph = CSRGraph.create(3, new int[]{0}, new int[]{1}, new double[]{1}, false);
+        CSRDeltaStepping paths = new CSRDeltaStepping(graph, 1);
+        assertEquals(1, paths.distTo(0), 0);
+        assertFalse(paths.hasPathTo(2));
+        assertNull(paths.pathTo(2));
+    }
+}
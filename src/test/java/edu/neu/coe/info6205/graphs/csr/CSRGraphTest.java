@@ -0,0 +1,79 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class CSRGraphTest {
+
+    @Test
+    public void testCreateDirected() {
+        CSRGraph<Integer, Double> graph = CSRGraph.create(4, new int[]{0, 0, 1, 2}, new int[]{1, 2, 3, 3}, new double[]{1, 2, 3, 4}, true);
+        assertTrue(graph.isDirected());
+        assertEquals(4, graph.V());
+        assertEquals(4, graph.E());
+        assertEquals(2, graph.degree(0));
+        assertEquals(0, graph.degree(3));
+        List<Integer> adjacent = new ArrayList<>();
+        for (PrimitiveIterator.OfInt iterator = graph.adjacent(0); iterator.hasNext(); ) adjacent.add(iterator.nextInt());
+        assertEquals(List.of(1, 2), adjacent);
+        assertEquals(2.0, graph.weight(graph.begin(0) + 1), 0);
+        assertEquals(Double.valueOf(4), graph.attribute(3));
+        assertEquals(2, graph.index(2));
+    }
+
+    @Test
+    public void testCreateUndirected() {
+        CSRGraph<Integer, Double> graph = CSRGraph.create(3, new int[]{0, 1}, new int[]{1, 2}, new double[]{5, 6}, false);
+        assertFalse(graph.isDirected());
+        assertEquals(2, graph.E());
+        assertEquals(1, graph.degree(0));
+        assertEquals(2, graph.degree(1));
+        assertEquals(1, graph.degree(2));
+        assertEquals(1, graph.target(graph.begin(2)));
+        assertEquals(6.0, graph.weight(graph.begin(2)), 0);
+        assertEquals(1, graph.edge(graph.begin(2)));
+        List<Integer> adjacent = new ArrayList<>();
+        for (Integer v : graph.adjacent(Integer.valueOf(1))) adjacent.add(v);
+        assertEquals(List.of(0, 2), adjacent);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateBadVertex() {
+        CSRGraph.create(2, new int[]{0}, new int[]{2}, new double[]{1}, true);
+    }
+
+    @Ignore // Graph_Edges and DiGraph require Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testFromEdgeGraph() {
+        EdgeGraph<String, Double> edgeGraph = new Graph_Edges<>();
+        edgeGraph.addEdge("A", "B", 1.0);
+        edgeGraph.addEdge("B", "C", 2.0);
+        CSRGraph<String, Double> graph = CSRGraph.create(edgeGraph, x -> x);
+        assertEquals(3, graph.V());
+        assertEquals(2, graph.E());
+        assertEquals(2, graph.degree(graph.index("B")));
+        assertEquals("B", graph.vertex(graph.index("B")));
+    }
+
+    @Ignore // Graph_Edges and DiGraph require Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testFromDiGraph() {
+        DiGraph<String, Integer> diGraph = new DiGraph<>();
+        diGraph.addEdge(new edu.neu.coe.info6205.graphs.dag.Edge<>("A", "B", 3));
+        CSRGraph<String, Integer> graph = CSRGraph.create(diGraph, x -> x);
+        assertEquals(2, graph.V());
+        assertEquals(1, graph.E());
+        assertEquals(1, graph.degree(graph.index("A")));
+        assertEquals(0, graph.degree(graph.index("B")));
+        assertEquals(3.0, graph.edgeWeight(0), 0);
+    }
+}
@@ -0,0 +1,60 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CSRMSTTest {
+
+    @Test
+    public void testSmall() {
+        // algs4 tinyEWG
+        int[] from = {4, 4, 5, 0, 1, 0, 2, 1, 0, 1, 2, 1, 6, 3, 6, 6};
+        int[] to = {5, 7, 7, 7, 5, 4, 3, 7, 2, 2, 7, 3, 2, 6, 0, 4};
+        double[] weights = {.35, .37, .28, .16, .32, .38, .17, .19, .26, .36, .34, .29, .40, .52, .58, .93};
+        CSRGraph<Integer, Double> graph = CSRGraph.create(8, from, to, weights, false);
+        for (int[] mst : new int[][]{CSRMST.kruskal(graph), CSRMST.prim(graph), CSRMST.boruvka(graph)}) {
+            assertEquals(7, mst.length);
+            assertEquals(1.81, CSRMST.weight(graph, mst), 1E-9);
+        }
+        assertArrayEquals(new int[]{3, 6, 7, 8, 2, 0, 12}, CSRMST.kruskal(graph));
+    }
+
+    @Test
+    public void testAgree() {
+        Random random = new Random(0L);
+        int n = 500, m = 3000;
+        int[] from = new int[m], to = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextInt(1000);
+        }
+        CSRGraph<Integer, Double> graph = CSRGraph.create(n, from, to, weights, false);
+        int[] kruskal = CSRMST.kruskal(graph);
+        int[] boruvka = CSRMST.boruvka(graph);
+        int[] prim = CSRMST.prim(graph);
+        assertEquals(CSRMST.weight(graph, kruskal), CSRMST.weight(graph, boruvka), 0);
+        assertEquals(CSRMST.weight(graph, kruskal), CSRMST.weight(graph, prim), 0);
+        Arrays.sort(kruskal);
+        Arrays.sort(boruvka);
+        assertArrayEquals(kruskal, boruvka);
+    }
+
+    @Test
+    public void testForest() {
+        CSRGraph<Integer, Double> graph = CSRGraph.create(4, new int[]{0, 2}, new int[]{1, 3}, new double[]{1, 2}, false);
+        assertEquals(2, CSRMST.kruskal(graph).length);
+        assertEquals(2, CSRMST.prim(graph).length);
+        assertEquals(2, CSRMST.boruvka(graph).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirected() {
+        CSRMST.kruskal(CSRGraph.create(2, new int[]{0}, new int[]{1}, new double[]{1}, true));
+    }
+}
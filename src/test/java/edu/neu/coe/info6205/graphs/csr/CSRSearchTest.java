@@ -0,0 +1,49 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CSRSearchTest {
+
+    @Test
+    public void testBFS() {
+        CSRGraph<Integer, Double> graph = createGraph();
+        CSRSearch search = CSRSearch.bfs(graph, 0);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, search.order());
+        assertEquals(0, search.distTo(0));
+        assertEquals(1, search.distTo(2));
+        assertEquals(2, search.distTo(3));
+        assertEquals(3, search.distTo(4));
+        assertEquals(1, search.edgeTo(3));
+        assertFalse(search.marked(5));
+        assertEquals(-1, search.distTo(5));
+    }
+
+    @Test
+    public void testDFS() {
+        CSRGraph<Integer, Double> graph = createGraph();
+        CSRSearch search = CSRSearch.dfs(graph, 0);
+        assertArrayEquals(new int[]{0, 1, 3, 4, 2}, search.order());
+        assertEquals(3, search.distTo(4));
+        assertEquals(3, search.edgeTo(4));
+        assertFalse(search.marked(5));
+    }
+
+    @Test
+    public void testDeepDFS() {
+        int n = 1_000_000;
+        int[] from = new int[n - 1], to = new int[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            from[i] = i;
+            to[i] = i + 1;
+        }
+        CSRGraph<Integer, Double> graph = CSRGraph.create(n, from, to, new double[n - 1], true);
+        CSRSearch search = CSRSearch.dfs(graph, 0);
+        assertEquals(n - 1, search.distTo(n - 1));
+    }
+
+    private static CSRGraph<Integer, Double> createGraph() {
+        return CSRGraph.create(6, new int[]{0, 0, 1, 2, 3}, new int[]{1, 2, 3, 3, 4}, new double[5], true);
+    }
+}
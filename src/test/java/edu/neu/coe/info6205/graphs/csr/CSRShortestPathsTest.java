@@ -0,0 +1,40 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CSRShortestPathsTest {
+
+    @Test
+    public void testShortestPaths() {
+        int[] from = {0, 0, 1, 2, 3, 3, 5, 4, 4};
+        int[] to = {1, 2, 3, 3, 5, 4, 6, 6, 5};
+        double[] weights = {2, 6, 5, 8, 15, 10, 6, 2, 6};
+        CSRGraph<Integer, Double> graph = CSRGraph.create(7, from, to, weights, true);
+        double[] expected = {0, 2, 6, 7, 17, 22, 19};
+        for (Dijkstra.Strategy strategy : Dijkstra.Strategy.values()) {
+            CSRShortestPaths paths = new CSRShortestPaths(graph, 0, strategy);
+            for (int v = 0; v < 7; v++) assertEquals(expected[v], paths.distTo(v), 0);
+        }
+        CSRShortestPaths paths = new CSRShortestPaths(graph, 0);
+        List<Integer> path = new ArrayList<>();
+        for (int e : paths.pathTo(6)) path.add(e);
+        assertEquals(4, path.size());
+        assertEquals(8, paths.edgeTo(6) + 1);
+        assertTrue(paths.hasPathTo(6));
+    }
+
+    @Test
+    public void testUnreachable() {
+        CSRGraph<Integer, Double> graph = CSRGraph.create(3, new int[]{0}, new int[]{1}, new double[]{1}, false);
+        CSRShortestPaths paths = new CSRShortestPaths(graph, 1);
+        assertEquals(1, paths.distTo(0), 0);
+        assertFalse(paths.hasPathTo(2));
+        assertNull(paths.pathTo(2));
+    }
+}
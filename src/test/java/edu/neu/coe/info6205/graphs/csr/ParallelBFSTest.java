@@ -0,0 +1,90 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelBFSTest {
+
+    @Test
+    public void testSmall() {
+        int[] from = {0, 0, 1, 2, 3};
+        int[] to = {1, 2, 3, 3, 4};
+        CSRGraph<Integer, Double> graph = CSRGraph.create(6, from, to, new double[5], false);
+        ParallelBFS target = new ParallelBFS(graph, 0, pool);
+        assertArrayEquals(new int[]{0, 1, 1, 2, 3, -1}, target.distances());
+        assertEquals(-1, target.edgeTo(0));
+        assertEquals(3, target.edgeTo(4));
+        assertFalse(target.marked(5));
+        assertEquals(5, target.traverse().size());
+        assertEquals(Integer.valueOf(0), target.traverse().get(0));
+    }
+
+    @Test
+    public void testUniform() {
+        for (boolean directed : new boolean[]{false, true})
+            check(RandomGraphs.uniform(20000, 160000, directed, new Random(0L)), 17);
+    }
+
+    @Test
+    public void testPowerLaw() {
+        for (boolean directed : new boolean[]{false, true}) {
+            CSRGraph<Integer, Double> graph = RandomGraphs.rmat(14, 16, directed, new Random(1L));
+            ParallelBFS target = check(graph, maxDegree(graph));
+            assertTrue(target.bottomUpSteps() > 0);
+        }
+    }
+
+    @Test
+    public void testDeep() {
+        int n = 10000;
+        int[] from = new int[n - 1], to = new int[n - 1];
+        for (int v = 0; v + 1 < n; v++) {
+            from[v] = v;
+            to[v] = v + 1;
+        }
+        CSRGraph<Integer, Double> graph = CSRGraph.create(n, from, to, new double[n - 1], true);
+        ParallelBFS target = new ParallelBFS(graph, 0, pool);
+        assertEquals(n - 1, target.distTo(n - 1));
+        assertEquals(0, target.bottomUpSteps());
+    }
+
+    /**
+     * Check that the search agrees with CSRSearch.bfs (with or without direction optimization).
+     * Parents may differ, but must be at the previous level and adjacent.
+     */
+    private ParallelBFS check(CSRGraph<Integer, Double> graph, int s) {
+        CSRSearch expected = CSRSearch.bfs(graph, s);
+        ParallelBFS result = null;
+        for (boolean directionOptimize : new boolean[]{false, true}) {
+            ParallelBFS target = new ParallelBFS(graph, s, pool, directionOptimize);
+            assertEquals(expected.order().length, target.order().length);
+            for (int v = 0; v < graph.V(); v++) {
+                assertEquals(expected.distTo(v), target.distTo(v));
+                int p = target.edgeTo(v);
+                if (v == s || !target.marked(v)) assertEquals(-1, p);
+                else {
+                    assertEquals(target.distTo(v) - 1, target.distTo(p));
+                    boolean adjacent = false;
+                    for (int slot = graph.begin(p); slot < graph.end(p); slot++) adjacent |= graph.target(slot) == v;
+                    assertTrue(adjacent);
+                }
+            }
+            int[] order = target.order();
+            for (int i = 1; i < order.length; i++) assertTrue(target.distTo(order[i - 1]) <= target.distTo(order[i]));
+            result = target;
+        }
+        return result;
+    }
+
+    private static int maxDegree(CSRGraph<Integer, Double> graph) {
+        int result = 0;
+        for (int v = 1; v < graph.V(); v++) if (graph.degree(v) > graph.degree(result)) result = v;
+        return result;
+    }
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+}
@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.graphs.csr;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelBoruvkaTest {
+
+    @Test
+    public void testSmall() {
+        // algs4 tinyEWG
+        int[] from = {4, 4, 5, 0, 1, 0, 2, 1, 0, 1, 2, 1, 6, 3, 6, 6};
+        int[] to = {5, 7, 7, 7, 5, 4, 3, 7, 2, 2, 7, 3, 2, 6, 0, 4};
+        double[] weights = {.35, .37, .28, .16, .32, .38, .17, .19, .26, .36, .34, .29, .40, .52, .58, .93};
+        CSRGraph<Integer, Double> graph = CSRGraph.create(8, from, to, weights, false);
+        ParallelBoruvka target = new ParallelBoruvka(graph, pool);
+        assertEquals(7, target.edges().length);
+        assertEquals(1.81, target.weight(), 1E-9);
+        assertArrayEquals(sorted(CSRMST.boruvka(graph)), sorted(target.edges()));
+    }
+
+    @Test
+    public void testGeometric() {
+        CSRGraph<Integer, Double> graph = RandomGraphs.geometric(20000, 0.02, new Random(0L));
+        ParallelBoruvka target = new ParallelBoruvka(graph, pool);
+        assertArrayEquals(sorted(CSRMST.kruskal(graph)), sorted(target.edges()));
+        assertTrue(target.rounds() <= 15);
+    }
+
+    @Test
+    public void testTies() {
+        // Many equal weights: ties must be broken consistently by edge index.
+        Random random = new Random(1L);
+        int n = 5000, m = 40000;
+        int[] from = new int[m], to = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextInt(4);
+        }
+        CSRGraph<Integer, Double> graph = CSRGraph.create(n, from, to, weights, false);
+        int[] expected = CSRMST.kruskal(graph);
+        assertArrayEquals(sorted(expected), sorted(new ParallelBoruvka(graph, pool).edges()));
+        assertArrayEquals(sorted(expected), sorted(new ParallelBoruvka(graph, new ForkJoinPool(1)).edges()));
+    }
+
+    @Test
+    public void testForest() {
+        int[] from = {0, 1, 3, 4};
+        int[] to = {1, 2, 4, 5};
+        double[] weights = {1, 2, 3, 4};
+        CSRGraph<Integer, Double> graph = CSRGraph.create(7, from, to, weights, false);
+        ParallelBoruvka target = new ParallelBoruvka(graph, pool);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, sorted(target.edges()));
+        assertEquals(10.0, target.weight(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirected() {
+        new ParallelBoruvka(CSRGraph.create(2, new int[]{0}, new int[]{1}, new double[]{1}, true), pool);
+    }
+
+    private static int[] sorted(int[] xs) {
+        int[] result = xs.clone();
+        Arrays.sort(result);
+        return result;
+    }
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+}
@@ -0,0 +1,40 @@
+package edu.neu.coe.info6205.graphs.dag;
+
+import edu.neu.coe.info6205.SizedIterable;
+import edu.neu.coe.info6205.SizedIterableImpl;
+import edu.neu.coe.info6205.graphs.undirected.Graph;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal directed graph which keeps the outgoing edges of each vertex in a list.
+ * Unlike DiGraph, it does not depend on Bag_Array, so that it can be used as a test fixture for algorithms
+ * which only need the vertices and adjacent edges of a directed graph.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge-attribute type.
+ */
+public class AdjacencyLists<V, E> implements Graph<V, Edge<V, E>> {
+
+    public SizedIterable<V> vertices() {
+        return SizedIterableImpl.create(adjacent.keySet());
+    }
+
+    public Iterable<Edge<V, E>> adjacent(V vertex) {
+        return adjacent.get(vertex);
+    }
+
+    public void addVertex(V vertex) {
+        adjacent.computeIfAbsent(vertex, k -> new ArrayList<>());
+    }
+
+    public void addEdge(Edge<V, E> edge) {
+        adjacent.computeIfAbsent(edge.getFrom(), k -> new ArrayList<>()).add(edge);
+        addVertex(edge.getTo());
+    }
+
+    private final Map<V, List<Edge<V, E>>> adjacent = new LinkedHashMap<>();
+}
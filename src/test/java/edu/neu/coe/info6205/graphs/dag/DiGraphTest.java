@@ -3,11 +3,14 @@ package edu.neu.coe.info6205.graphs.dag;
 import edu.neu.coe.info6205.SizedIterable;
 import edu.neu.coe.info6205.bqs.BQSException;
 import edu.neu.coe.info6205.bqs.Stack;
+import edu.neu.coe.info6205.graphs.undirected.EdgeCache;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.Iterator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class DiGraphTest {
@@ -39,6 +42,32 @@ public class DiGraphTest {
         assertEquals(1, edges.size());
     }
 
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented (see EdgeCacheTest)
+    @Test
+    public void testEdgesCached() {
+        DiGraph<String, Integer> graph = creatTestGraph();
+        SizedIterable<Edge<String, Integer>> edges = graph.edges();
+        assertSame(edges, graph.edges());
+        graph.addEdge(new Edge<>("F", "A", 8));
+        assertEquals(8, edges.size());
+        graph.addVertex("D");
+        assertEquals(6, edges.size());
+        assertEquals(6, graph.reverse().edges().size());
+    }
+
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented (see EdgeCacheTest)
+    @Test
+    public void testEdgeArrays() {
+        DiGraph<String, Integer> graph = creatTestGraph();
+        EdgeCache.EdgeArrays<String, Edge<String, Integer>> arrays = graph.edgeArrays();
+        assertEquals(6, arrays.V());
+        assertEquals(7, arrays.E());
+        for (int i = 0; i < arrays.E(); i++) {
+            assertEquals(arrays.edge(i).getFrom(), arrays.vertex(arrays.from(i)));
+            assertEquals(arrays.edge(i).getTo(), arrays.vertex(arrays.to(i)));
+        }
+    }
+
     @Test
     public void testKernelDAG() {
         DiGraph<String, Integer> graph = creatTestGraph();
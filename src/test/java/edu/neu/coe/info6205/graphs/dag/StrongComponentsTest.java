@@ -0,0 +1,168 @@
+package edu.neu.coe.info6205.graphs.dag;
+
+import edu.neu.coe.info6205.SizedIterable;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class StrongComponentsTest {
+
+    @Test
+    public void testComponents() {
+        // Three components {A, B, C}, {D, E} and {F}, and a fourth {G, H, I} which is not reachable from them.
+        AdjacencyLists<String, Integer> graph = new AdjacencyLists<>();
+        graph.addEdge(new Edge<>("A", "B", 1));
+        graph.addEdge(new Edge<>("B", "C", 2));
+        graph.addEdge(new Edge<>("C", "A", 3));
+        graph.addEdge(new Edge<>("A", "D", 4));
+        graph.addEdge(new Edge<>("D", "E", 5));
+        graph.addEdge(new Edge<>("E", "D", 6));
+        graph.addEdge(new Edge<>("D", "F", 7));
+        graph.addEdge(new Edge<>("G", "H", 8));
+        graph.addEdge(new Edge<>("H", "I", 9));
+        graph.addEdge(new Edge<>("I", "G", 10));
+        graph.addEdge(new Edge<>("I", "E", 11));
+        StrongComponents<String, Integer> target = new StrongComponents<>(graph);
+        assertEquals(4, target.count());
+        assertTrue(target.stronglyConnected("A", "C"));
+        assertTrue(target.stronglyConnected("B", "C"));
+        assertTrue(target.stronglyConnected("E", "D"));
+        assertTrue(target.stronglyConnected("G", "I"));
+        assertFalse(target.stronglyConnected("A", "D"));
+        assertFalse(target.stronglyConnected("D", "F"));
+        assertFalse(target.stronglyConnected("G", "E"));
+        // Topological order of components.
+        assertTrue(target.component("A") < target.component("D"));
+        assertTrue(target.component("D") < target.component("F"));
+        assertTrue(target.component("G") < target.component("E"));
+    }
+
+    @Test
+    public void testRandomComponents() {
+        // Compare with a brute-force (transitive closure) solution.
+        Random random = new Random(1L);
+        int n = 80;
+        AdjacencyLists<Integer, Integer> graph = new AdjacencyLists<>();
+        boolean[][] reach = new boolean[n][n];
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+            reach[v][v] = true;
+        }
+        for (int e = 0; e < 110; e++) {
+            int v = random.nextInt(n), w = random.nextInt(n);
+            graph.addEdge(new Edge<>(v, w, e));
+            reach[v][w] = true;
+        }
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    if (reach[i][k] && reach[k][j]) reach[i][j] = true;
+        StrongComponents<Integer, Integer> target = new StrongComponents<>(graph);
+        int components = 0;
+        for (int i = 0; i < n; i++) {
+            boolean first = true;
+            for (int j = 0; j < i; j++) if (reach[i][j] && reach[j][i]) first = false;
+            if (first) components++;
+            for (int j = 0; j < n; j++) {
+                assertEquals(reach[i][j] && reach[j][i], target.stronglyConnected(i, j));
+                if (reach[i][j] && !reach[j][i]) assertTrue(target.component(i) < target.component(j));
+            }
+        }
+        assertTrue(components > 1);
+        assertEquals(components, target.count());
+    }
+
+    @Test
+    public void testDeepChain() {
+        // A chain of a million vertices would overflow the stack of a recursive search.
+        int n = 1_000_000;
+        AdjacencyLists<Integer, Integer> graph = new AdjacencyLists<>();
+        for (int v = 0; v + 1 < n; v++) graph.addEdge(new Edge<>(v, v + 1, v));
+        StrongComponents<Integer, Integer> chain = new StrongComponents<>(graph);
+        assertEquals(n, chain.count());
+        for (int v = 0; v < n; v += 1000) assertEquals(v, chain.component(v));
+        // Closing the chain makes a single cycle.
+        graph.addEdge(new Edge<>(n - 1, 0, n - 1));
+        StrongComponents<Integer, Integer> cycle = new StrongComponents<>(graph);
+        assertEquals(1, cycle.count());
+        assertTrue(cycle.stronglyConnected(0, n - 1));
+    }
+
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testSmall() {
+        DiGraph<String, Integer> graph = new DiGraph<>();
+        graph.addEdge(new Edge<>("A", "B", 1));
+        graph.addEdge(new Edge<>("B", "C", 2));
+        graph.addEdge(new Edge<>("C", "A", 3));
+        graph.addEdge(new Edge<>("A", "D", 4));
+        graph.addEdge(new Edge<>("D", "E", 5));
+        graph.addEdge(new Edge<>("E", "D", 6));
+        graph.addEdge(new Edge<>("D", "F", 7));
+        StrongComponents<String, Integer> target = graph.strongComponents();
+        assertEquals(3, target.count());
+        assertTrue(target.stronglyConnected("A", "C"));
+        assertTrue(target.stronglyConnected("E", "D"));
+        assertFalse(target.stronglyConnected("A", "D"));
+        // Topological order of components.
+        assertTrue(target.component("A") < target.component("D"));
+        assertTrue(target.component("D") < target.component("F"));
+        DAG<DiGraph.Kernel<String>, Integer> condensation = target.condensation();
+        assertEquals(3, condensation.vertices().size());
+        SizedIterable<Edge<DiGraph.Kernel<String>, Integer>> edges = condensation.edges();
+        assertEquals(2, edges.size());
+        for (Edge<DiGraph.Kernel<String>, Integer> edge : edges) assertTrue(edge.getAttributes() == 4 || edge.getAttributes() == 7);
+    }
+
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testRandom() {
+        // Compare with a brute-force (transitive closure) solution.
+        Random random = new Random(0L);
+        int n = 60;
+        DiGraph<Integer, Integer> graph = new DiGraph<>();
+        boolean[][] reach = new boolean[n][n];
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+            reach[v][v] = true;
+        }
+        for (int e = 0; e < 90; e++) {
+            int v = random.nextInt(n), w = random.nextInt(n);
+            graph.addEdge(new Edge<>(v, w, e));
+            reach[v][w] = true;
+        }
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    if (reach[i][k] && reach[k][j]) reach[i][j] = true;
+        StrongComponents<Integer, Integer> target = graph.strongComponents();
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                assertEquals(reach[i][j] && reach[j][i], target.stronglyConnected(i, j));
+                if (reach[i][j] && !reach[j][i]) assertTrue(target.component(i) < target.component(j));
+            }
+    }
+
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testDeep() {
+        // A single cycle of a million vertices would overflow the stack of a recursive search.
+        int n = 1_000_000;
+        DiGraph<Integer, Integer> graph = new DiGraph<>();
+        for (int v = 0; v < n; v++) graph.addEdge(new Edge<>(v, (v + 1) % n, v));
+        StrongComponents<Integer, Integer> target = graph.strongComponents();
+        assertEquals(1, target.count());
+        assertTrue(target.stronglyConnected(0, n - 1));
+    }
+
+    @Ignore // DiGraph requires Bag_Array.growFrom (an exercise) to be implemented
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissing() {
+        DiGraph<String, Integer> graph = new DiGraph<>();
+        graph.addEdge(new Edge<>("A", "B", 1));
+        graph.strongComponents().component("C");
+    }
+}
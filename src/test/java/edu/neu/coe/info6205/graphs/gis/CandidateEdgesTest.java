@@ -0,0 +1,79 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class CandidateEdgesTest {
+
+    @Test
+    public void testNearest() {
+        List<MockGeoPoint> points = randomPoints(500, new Random(0L));
+        int k = 4;
+        EdgeList<MockGeoPoint, Double> graph = CandidateEdges.nearest(points, k, (v1, v2, length) -> length, e -> true, new EdgeList<>());
+        Set<String> pairs = pairs(graph);
+        assertTrue(pairs.size() <= k * points.size());
+        // Every point must be joined to each of its k nearest neighbours (found by brute force).
+        for (MockGeoPoint p : points) {
+            List<MockGeoPoint> others = new ArrayList<>(points);
+            others.remove(p);
+            others.sort(Comparator.comparingDouble(q -> sphere.getDistance(p, q)));
+            for (MockGeoPoint q : others.subList(0, k)) assertTrue(pairs.contains(key(p, q)));
+        }
+    }
+
+    @Test
+    public void testWithinRadius() {
+        List<MockGeoPoint> points = randomPoints(500, new Random(1L));
+        double radius = 100;
+        EdgeList<MockGeoPoint, Double> graph = CandidateEdges.withinRadius(points, radius, (v1, v2, length) -> length, e -> true, new EdgeList<>());
+        // Compare with a brute-force scan of all pairs.
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < points.size(); i++)
+            for (int j = i + 1; j < points.size(); j++)
+                if (sphere.getDistance(points.get(i), points.get(j)) <= radius)
+                    expected.add(key(points.get(i), points.get(j)));
+        assertEquals(expected, pairs(graph));
+    }
+
+    @Test
+    public void testPredicate() {
+        List<MockGeoPoint> points = randomPoints(200, new Random(2L));
+        EdgeList<MockGeoPoint, Double> graph = CandidateEdges.nearest(points, 6, (v1, v2, length) -> length, e -> e.getAttribute() <= 50, new EdgeList<>());
+        for (Edge<MockGeoPoint, Double> edge : graph.edges()) {
+            assertTrue(edge.getAttribute() <= 50);
+            MockGeoPoint v = edge.get();
+            assertEquals(sphere.getDistance(v, edge.getOther(v)), edge.getAttribute(), 1E-9);
+        }
+    }
+
+    @Test
+    public void testFewPoints() {
+        List<MockGeoPoint> points = randomPoints(3, new Random(3L));
+        assertEquals(3, CandidateEdges.nearest(points, 8, (v1, v2, length) -> length, e -> true, new EdgeList<>()).edges().size());
+    }
+
+    private static Set<String> pairs(EdgeList<MockGeoPoint, Double> graph) {
+        Set<String> result = new HashSet<>();
+        for (Edge<MockGeoPoint, Double> edge : graph.edges()) result.add(key(edge.get(), edge.getOther(edge.get())));
+        return result;
+    }
+
+    private static String key(MockGeoPoint p, MockGeoPoint q) {
+        return p.getName().compareTo(q.getName()) < 0 ? p.getName() + "-" + q.getName() : q.getName() + "-" + p.getName();
+    }
+
+    // Used only for its (great-circle) distance.
+    private static final GeoGraphSpherical<GeoPoint, Object> sphere = new GeoGraphSpherical<>();
+
+    private static List<MockGeoPoint> randomPoints(int n, Random random) {
+        // Points scattered over about a kilometer square (in Boston).
+        List<MockGeoPoint> result = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            result.add(new MockGeoPoint("p" + i, new Position_Spherical(42.335 + random.nextDouble() * 0.01, -71.09 + random.nextDouble() * 0.013)));
+        return result;
+    }
+}
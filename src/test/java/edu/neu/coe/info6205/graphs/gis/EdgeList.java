@@ -0,0 +1,53 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.SizedIterable;
+import edu.neu.coe.info6205.SizedIterableImpl;
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A minimal EdgeGraph which simply keeps its edges in a list.
+ * Unlike Graph_Edges, it does not depend on Bag_Array, so that it can be used as a test fixture for algorithms
+ * which only need the vertices and edges of a graph.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge-attribute type.
+ */
+public class EdgeList<V, E> implements EdgeGraph<V, E> {
+
+    public SizedIterable<V> vertices() {
+        return SizedIterableImpl.create(vertices);
+    }
+
+    public Iterable<Edge<V, E>> adjacent(V vertex) {
+        List<Edge<V, E>> result = new ArrayList<>();
+        for (Edge<V, E> edge : edges) if (edge.get().equals(vertex)) result.add(edge);
+        return result;
+    }
+
+    public SizedIterable<Edge<V, E>> edges() {
+        return SizedIterableImpl.create(edges);
+    }
+
+    public void addEdge(Edge<V, E> edge, Predicate<Edge<V, E>> predicate) {
+        if (predicate.test(edge)) {
+            V v = edge.get();
+            vertices.add(v);
+            vertices.add(edge.getOther(v));
+            edges.add(edge);
+        }
+    }
+
+    public void addEdge(V from, V to, E attribute, Predicate<Edge<V, E>> predicate) {
+        addEdge(new Edge<>(from, to, attribute), predicate);
+    }
+
+    private final Set<V> vertices = new LinkedHashSet<>();
+    private final List<Edge<V, E>> edges = new ArrayList<>();
+}
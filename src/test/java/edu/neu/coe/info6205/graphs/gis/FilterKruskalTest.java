@@ -0,0 +1,114 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.csr.CSRGraph;
+import edu.neu.coe.info6205.graphs.csr.CSRMST;
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static edu.neu.coe.info6205.graphs.gis.Kruskal.createEdge;
+import static org.junit.Assert.*;
+
+public class FilterKruskalTest {
+
+    static class Route implements Comparable<Route>, Sequenced {
+        public Route(double cost) {
+            this.cost = cost;
+        }
+
+        public int getSequence() {
+            return sequence;
+        }
+
+        public void setSequence(int sequence) {
+            this.sequence = sequence;
+        }
+
+        public int compareTo(Route o) {
+            return Double.compare(cost, o.cost);
+        }
+
+        private final double cost;
+        private int sequence = -1;
+    }
+
+    @Test
+    public void testKalimantan() {
+        FilterKruskal<String, Route> target = new FilterKruskal<>(kalimantan());
+        List<Double> costs = new ArrayList<>();
+        for (Edge<String, Route> edge : target) costs.add(edge.getAttribute().cost);
+        assertEquals(List.of(23., 56., 63., 64., 80.), costs);
+    }
+
+    @Ignore // getMST yields a Graph_Edges, which requires Bag_Array.growFrom (an exercise) to be implemented
+    @Test
+    public void testGetMST() {
+        FilterKruskal<String, Route> target = new FilterKruskal<>(kalimantan());
+        int sequence = 0;
+        EdgeGraph<String, Route> mst = target.getMST();
+        assertEquals(5, mst.edges().size());
+        for (Edge<String, Route> edge : target) assertEquals(sequence++, edge.getAttribute().getSequence());
+    }
+
+    @Test
+    public void testDense() {
+        // A complete graph with enough edges that partitioning and filtering actually take place.
+        for (boolean parallel : new boolean[]{true, false}) {
+            Random random = new Random(0L);
+            int n = 200;
+            EdgeList<Integer, Route> graph = new EdgeList<>();
+            for (int i = 0; i < n; i++)
+                for (int j = i + 1; j < n; j++) graph.addEdge(createEdge(i, j, new Route(random.nextInt(100000))));
+            FilterKruskal<Integer, Route> target = new FilterKruskal<>(graph, parallel);
+            CSRGraph<Integer, Route> csr = CSRGraph.createRanked(graph, Route::compareTo);
+            double expected = 0;
+            for (int e : CSRMST.kruskal(csr)) expected += csr.attribute(e).cost;
+            double actual = 0;
+            Route previous = null;
+            int count = 0;
+            for (Edge<Integer, Route> edge : target) {
+                actual += edge.getAttribute().cost;
+                if (previous != null) assertTrue(previous.compareTo(edge.getAttribute()) <= 0);
+                previous = edge.getAttribute();
+                count++;
+            }
+            assertEquals(n - 1, count);
+            assertEquals(expected, actual, 0.0);
+        }
+    }
+
+    @Test
+    public void testForest() {
+        EdgeList<String, Route> graph = new EdgeList<>();
+        graph.addEdge(createEdge("a", "b", new Route(1)));
+        graph.addEdge(createEdge("c", "d", new Route(2)));
+        int count = 0;
+        for (Edge<String, Route> ignored : new FilterKruskal<>(graph)) count++;
+        assertEquals(2, count);
+    }
+
+    private EdgeGraph<String, Route> kalimantan() {
+        EdgeList<String, Route> g = new EdgeList<>();
+        g.addEdge(createEdge("Po", "Pa", new Route(80.)));
+        g.addEdge(createEdge("Po", "Ban", new Route(101.)));
+        g.addEdge(createEdge("Po", "Bal", new Route(123.)));
+        g.addEdge(createEdge("Po", "S", new Route(237.)));
+        g.addEdge(createEdge("Po", "T", new Route(417.)));
+        g.addEdge(createEdge("Pa", "Ban", new Route(56.)));
+        g.addEdge(createEdge("Pa", "Bal", new Route(64.)));
+        g.addEdge(createEdge("Pa", "S", new Route(83.)));
+        g.addEdge(createEdge("Pa", "T", new Route(187.)));
+        g.addEdge(createEdge("Ban", "Bal", new Route(73.)));
+        g.addEdge(createEdge("Ban", "S", new Route(95.)));
+        g.addEdge(createEdge("Ban", "T", new Route(203.)));
+        g.addEdge(createEdge("Bal", "S", new Route(23.)));
+        g.addEdge(createEdge("Bal", "T", new Route(89.)));
+        g.addEdge(createEdge("S", "T", new Route(63.)));
+        return g;
+    }
+}
@@ -0,0 +1,99 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class GeoDistancesTest {
+
+    final GeoPoint london = new MockGeoPoint("London", new Position_Spherical(51.5, -0.5));
+    final GeoPoint boston = new MockGeoPoint("Boston", new Position_Spherical(42.35, -71));
+
+    @Test
+    public void testDistance() {
+        GeoDistances distances = GeoDistances.of(List.of(london, boston));
+        assertEquals(2, distances.size());
+        assertEquals(new GeoGraphSpherical<>().getDistance(london, boston), distances.distance(0, 1), 1E-6);
+        assertEquals(distances.distance(0, 1), distances.distance(1, 0), 0);
+        assertEquals(0, distances.distance(1, 1), 0);
+    }
+
+    @Test
+    public void testAgainstGeoGraphSpherical() {
+        // Points at all scales: worldwide, and within a few hundred meters.
+        List<GeoPoint> points = new ArrayList<>();
+        Random random = new Random(0L);
+        for (int i = 0; i < 100; i++)
+            points.add(new MockGeoPoint("w" + i, new Position_Spherical(random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180)));
+        for (int i = 0; i < 100; i++)
+            points.add(new MockGeoPoint("b" + i, new Position_Spherical(42.338 + random.nextDouble() * 0.003, -71.09 + random.nextDouble() * 0.003)));
+        GeoGraphSpherical<GeoPoint, Double> graph = new GeoGraphSpherical<>();
+        GeoDistances distances = GeoDistances.of(points);
+        double[] matrix = distances.matrix();
+        double[] row = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            distances.row(i, row);
+            for (int j = 0; j < points.size(); j++) {
+                double expected = graph.getDistance(points.get(i), points.get(j));
+                assertEquals(expected, row[j], 1E-6 + expected * 1E-12);
+                assertEquals(row[j], matrix[i * points.size() + j], 0);
+                assertEquals(row[j], distances.distance(i, j), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testAntipodes() {
+        GeoDistances distances = new GeoDistances(new double[]{0, 0, 90}, new double[]{0, 180, 0});
+        assertEquals(Math.PI * GeoGraphSpherical.R, distances.distance(0, 1), 1E-6);
+        assertEquals(Math.PI / 2 * GeoGraphSpherical.R, distances.distance(0, 2), 1E-6);
+    }
+
+    @Test
+    public void testMatrixParallel() {
+        Random random = new Random(1L);
+        int n = 300;
+        double[] latitudes = new double[n], longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = 42 + random.nextDouble();
+            longitudes[i] = -71.6 + random.nextDouble();
+        }
+        GeoDistances distances = new GeoDistances(latitudes, longitudes);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertArrayEquals(distances.matrix(), distances.matrix(pool), 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLengths() {
+        Random random = new Random(2L);
+        int n = 50, m = 200;
+        double[] latitudes = new double[n], longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = random.nextDouble() * 10;
+            longitudes[i] = random.nextDouble() * 10;
+        }
+        GeoDistances distances = new GeoDistances(latitudes, longitudes);
+        int[] from = new int[m], to = new int[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+        }
+        double[] lengths = new double[m];
+        distances.lengths(from, to, lengths);
+        for (int e = 0; e < m; e++) assertEquals(distances.distance(from[e], to[e]), lengths[e], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatch() {
+        new GeoDistances(new double[2], new double[3]);
+    }
+}
@@ -0,0 +1,130 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.AdjacencyLists;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PointToPointTest {
+
+    @Test
+    public void testSmall() {
+        AdjacencyLists<String, Double> graph = new AdjacencyLists<>();
+        graph.addEdge(new Edge<>("A", "B", 1.0));
+        graph.addEdge(new Edge<>("B", "C", 2.0));
+        graph.addEdge(new Edge<>("C", "D", 1.0));
+        graph.addEdge(new Edge<>("A", "E", 4.0));
+        graph.addEdge(new Edge<>("A", "F", 8.0));
+        graph.addEdge(new Edge<>("B", "F", 6.0));
+        graph.addEdge(new Edge<>("B", "G", 6.0));
+        graph.addEdge(new Edge<>("C", "G", 2.0));
+        graph.addEdge(new Edge<>("D", "G", 1.0));
+        graph.addEdge(new Edge<>("D", "H", 4.0));
+        graph.addEdge(new Edge<>("E", "F", 5.0));
+        graph.addEdge(new Edge<>("G", "F", 1.0));
+        graph.addEdge(new Edge<>("G", "H", 1.0));
+        PointToPoint<String, Double> p2p = new PointToPoint<>(graph);
+        // The expected costs are found by Floyd-Warshall.
+        List<String> vertices = graph.vertices().toList();
+        int n = vertices.size();
+        double[][] expected = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(expected[i], Double.POSITIVE_INFINITY);
+            expected[i][i] = 0;
+            for (Edge<String, Double> e : graph.adjacent(vertices.get(i)))
+                expected[i][vertices.indexOf(e.getTo())] = e.getAttributes();
+        }
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    expected[i][j] = Math.min(expected[i][j], expected[i][k] + expected[k][j]);
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                String s = vertices.get(i), t = vertices.get(j);
+                checkRoute(p2p.dijkstra(s, t), s, t, expected[i][j]);
+                checkRoute(p2p.bidirectional(s, t), s, t, expected[i][j]);
+                checkRoute(p2p.aStar(s, t, (v, w) -> 0.0), s, t, expected[i][j]);
+            }
+        assertEquals(6.0, p2p.bidirectional("A", "H").cost(), 0);
+    }
+
+    @Test
+    public void testUnreachable() {
+        AdjacencyLists<String, Double> graph = new AdjacencyLists<>();
+        graph.addEdge(new Edge<>("A", "B", 1.0));
+        graph.addVertex("C");
+        PointToPoint<String, Double> p2p = new PointToPoint<>(graph);
+        assertFalse(p2p.bidirectional("B", "A").hasPath());
+        assertFalse(p2p.dijkstra("A", "C").hasPath());
+        assertEquals(Double.POSITIVE_INFINITY, p2p.bidirectional("A", "C").cost(), 0);
+        assertFalse(p2p.bidirectional("A", "C").path().iterator().hasNext());
+        assertTrue(p2p.bidirectional("C", "C").hasPath());
+        assertEquals(0, p2p.bidirectional("C", "C").cost(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight() {
+        AdjacencyLists<String, Double> graph = new AdjacencyLists<>();
+        graph.addEdge(new Edge<>("A", "B", -1.0));
+        new PointToPoint<>(graph);
+    }
+
+    @Test
+    public void testGeoGrid() {
+        final int size = 40;
+        final GeoGraphSpherical<GeoPoint, Object> geo = new GeoGraphSpherical<>();
+        final GeoPoint[][] points = new GeoPoint[size][size];
+        final Random random = new Random(0L);
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++)
+                points[i][j] = new MockGeoPoint(i + "," + j, new Position_Spherical(42.33 + i * 0.001, -71.09 + j * 0.001));
+        // A grid in which each edge is somewhat longer than the great-circle distance between its ends.
+        final AdjacencyLists<GeoPoint, Double> graph = new AdjacencyLists<>();
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++) {
+                if (i + 1 < size) addBoth(graph, geo, points[i][j], points[i + 1][j], 1 + random.nextDouble());
+                if (j + 1 < size) addBoth(graph, geo, points[i][j], points[i][j + 1], 1 + random.nextDouble());
+            }
+        final PointToPoint<GeoPoint, Double> p2p = new PointToPoint<>(graph);
+        GeoPoint s = points[5][5], t = points[20][25];
+        PointToPoint.Route<GeoPoint, Double> dijkstra = p2p.dijkstra(s, t);
+        PointToPoint.Route<GeoPoint, Double> bidirectional = p2p.bidirectional(s, t);
+        PointToPoint.Route<GeoPoint, Double> aStar = p2p.aStar(s, t, PointToPoint.haversine(geo));
+        checkRoute(dijkstra, s, t, dijkstra.cost());
+        checkRoute(bidirectional, s, t, dijkstra.cost());
+        checkRoute(aStar, s, t, dijkstra.cost());
+        assertTrue(dijkstra.settled() < size * size);
+        assertTrue(bidirectional.settled() < dijkstra.settled());
+        assertTrue(aStar.settled() < dijkstra.settled());
+    }
+
+    private static void addBoth(AdjacencyLists<GeoPoint, Double> graph, GeoGraphSpherical<GeoPoint, Object> geo, GeoPoint p1, GeoPoint p2, double factor) {
+        double length = factor * geo.getDistance(p1, p2);
+        graph.addEdge(new Edge<>(p1, p2, length));
+        graph.addEdge(new Edge<>(p2, p1, length));
+    }
+
+    /**
+     * Check that the route has the expected cost, and that its path runs from s to t.
+     * NOTE that iterating a Stack yields the edges in the order in which they were pushed (from t back to s).
+     */
+    private static <V> void checkRoute(PointToPoint.Route<V, Double> route, V s, V t, double cost) {
+        assertEquals(cost, route.cost(), 1E-9);
+        assertEquals(cost < Double.POSITIVE_INFINITY, route.hasPath());
+        if (!route.hasPath()) return;
+        V current = t;
+        double length = 0;
+        for (Edge<V, Double> e : route.path()) {
+            assertEquals(current, e.getTo());
+            length += e.getAttributes();
+            current = e.getFrom();
+        }
+        assertEquals(s, current);
+        assertEquals(cost, length, 1E-9);
+    }
+}
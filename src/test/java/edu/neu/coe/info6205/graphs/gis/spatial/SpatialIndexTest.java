@@ -0,0 +1,179 @@
+package edu.neu.coe.info6205.graphs.gis.spatial;
+
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+import edu.neu.coe.info6205.graphs.gis.Position_Spherical;
+import edu.neu.coe.info6205.graphs.undirected.Position;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class SpatialIndexTest {
+
+    @Test
+    public void testNearest() {
+        List<Point> points = randomPoints(3000, new Random(0L));
+        for (Function<List<Point>, AbstractSpatialIndex<Point>> factory : factories()) {
+            AbstractSpatialIndex<Point> index = factory.apply(points);
+            assertEquals(points.size(), index.size());
+            Random random = new Random(1L);
+            for (int q = 0; q < 50; q++) {
+                double latitude = 42.3 + random.nextDouble() * 0.1, longitude = -71.15 + random.nextDouble() * 0.1;
+                int k = 1 + random.nextInt(10);
+                List<Point> expected = bruteForceNearest(index, points, latitude, longitude, k);
+                List<Point> actual = index.nearest(latitude, longitude, k);
+                assertEquals(index.getClass().getSimpleName(), expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testNearestPointItself() {
+        List<Point> points = randomPoints(500, new Random(2L));
+        for (Function<List<Point>, AbstractSpatialIndex<Point>> factory : factories()) {
+            AbstractSpatialIndex<Point> index = factory.apply(points);
+            for (Point p : points) assertSame(p, index.nearest(p, 1).get(0));
+        }
+    }
+
+    @Test
+    public void testFewPoints() {
+        List<Point> points = randomPoints(5, new Random(3L));
+        for (Function<List<Point>, AbstractSpatialIndex<Point>> factory : factories()) {
+            AbstractSpatialIndex<Point> index = factory.apply(points);
+            assertEquals(5, index.nearest(42.35, -71.1, 10).size());
+            assertEquals(0, index.nearest(42.35, -71.1, 0).size());
+            AbstractSpatialIndex<Point> empty = factory.apply(new ArrayList<>());
+            assertEquals(0, empty.size());
+            assertTrue(empty.nearest(42.35, -71.1, 3).isEmpty());
+            assertTrue(empty.withinRadius(42.35, -71.1, 1000).isEmpty());
+            assertTrue(empty.withinBox(42, -72, 43, -71).isEmpty());
+        }
+    }
+
+    @Test
+    public void testWithinRadius() {
+        List<Point> points = randomPoints(3000, new Random(4L));
+        for (Function<List<Point>, AbstractSpatialIndex<Point>> factory : factories()) {
+            AbstractSpatialIndex<Point> index = factory.apply(points);
+            Random random = new Random(5L);
+            for (int q = 0; q < 50; q++) {
+                double latitude = 42.3 + random.nextDouble() * 0.1, longitude = -71.15 + random.nextDouble() * 0.1;
+                double radius = random.nextDouble() * 500;
+                double[] xy = project(index, latitude, longitude);
+                Set<Point> expected = new HashSet<>();
+                for (int i = 0; i < points.size(); i++)
+                    if (distance(index, i, xy) <= radius) expected.add(points.get(i));
+                List<Point> actual = index.withinRadius(latitude, longitude, radius);
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected, new HashSet<>(actual));
+            }
+        }
+    }
+
+    @Test
+    public void testWithinBox() {
+        List<Point> points = randomPoints(3000, new Random(6L));
+        for (Function<List<Point>, AbstractSpatialIndex<Point>> factory : factories()) {
+            AbstractSpatialIndex<Point> index = factory.apply(points);
+            Random random = new Random(7L);
+            for (int q = 0; q < 50; q++) {
+                double south = 42.3 + random.nextDouble() * 0.1, west = -71.15 + random.nextDouble() * 0.1;
+                double north = south + random.nextDouble() * 0.02, east = west + random.nextDouble() * 0.02;
+                Set<Point> expected = new HashSet<>();
+                for (Point p : points) {
+                    Position_Spherical position = (Position_Spherical) p.getPosition();
+                    if (position.getLatitude() >= south && position.getLatitude() <= north && position.getLongitude() >= west && position.getLongitude() <= east)
+                        expected.add(p);
+                }
+                List<Point> actual = index.withinBox(south, west, north, east);
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected, new HashSet<>(actual));
+            }
+        }
+    }
+
+    @Test
+    public void testProjection() {
+        // About one kilometer (1/60 of a degree of latitude is one nautical mile).
+        Projection projection = new Projection(19);
+        double[] a = new double[2], b = new double[2];
+        projection.project(42.34, -71.09, a);
+        projection.project(42.34 + 1.0 / 60, -71.09, b);
+        assertEquals(1852, Math.hypot(a[0] - b[0], a[1] - b[1]), 10);
+        assertEquals(19, Projection.of(randomPoints(10, new Random(8L))).getZone());
+    }
+
+    @Test
+    public void testDuplicates() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) points.add(new Point("p" + i, 42.34, -71.09));
+        for (Function<List<Point>, AbstractSpatialIndex<Point>> factory : factories()) {
+            AbstractSpatialIndex<Point> index = factory.apply(points);
+            assertEquals(7, index.nearest(42.34, -71.09, 7).size());
+            assertEquals(100, index.withinRadius(42.34, -71.09, 0).size());
+            assertEquals(100, index.withinBox(42.34, -71.09, 42.34, -71.09).size());
+        }
+    }
+
+    private static List<Function<List<Point>, AbstractSpatialIndex<Point>>> factories() {
+        return Arrays.asList(KdTree::new, RTree::new);
+    }
+
+    private static List<Point> bruteForceNearest(AbstractSpatialIndex<Point> index, List<Point> points, double latitude, double longitude, int k) {
+        double[] xy = project(index, latitude, longitude);
+        Integer[] indices = new Integer[points.size()];
+        for (int i = 0; i < indices.length; i++) indices[i] = i;
+        Arrays.sort(indices, Comparator.comparingDouble(i -> distance(index, i, xy)));
+        List<Point> result = new ArrayList<>();
+        for (int i = 0; i < k; i++) result.add(points.get(indices[i]));
+        return result;
+    }
+
+    private static double[] project(AbstractSpatialIndex<Point> index, double latitude, double longitude) {
+        double[] xy = new double[2];
+        index.getProjection().project(latitude, longitude, xy);
+        return xy;
+    }
+
+    private static double distance(AbstractSpatialIndex<Point> index, int i, double[] xy) {
+        double[] p = new double[2];
+        index.getProjection().project(index.get(i), p);
+        return Math.hypot(p[0] - xy[0], p[1] - xy[1]);
+    }
+
+    /**
+     * Random points in a box of about 10 km around Boston.
+     */
+    private static List<Point> randomPoints(int n, Random random) {
+        List<Point> result = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            result.add(new Point("p" + i, 42.3 + random.nextDouble() * 0.1, -71.15 + random.nextDouble() * 0.1));
+        return result;
+    }
+
+    private static class Point implements GeoPoint {
+        Point(String name, double latitude, double longitude) {
+            this.name = name;
+            this.position = new Position_Spherical(latitude, longitude);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Position getPosition() {
+            return position;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        private final String name;
+        private final Position position;
+    }
+}
@@ -0,0 +1,60 @@
+package edu.neu.coe.info6205.graphs.tunnels;
+
+import edu.neu.coe.info6205.graphs.gis.EdgeList;
+import edu.neu.coe.info6205.graphs.gis.FilterKruskal;
+import edu.neu.coe.info6205.graphs.gis.GeoPoint;
+import edu.neu.coe.info6205.graphs.gis.GeoGraphSpherical;
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TunnelsTest {
+
+    @Test
+    public void testCreateGraph() {
+        // NOTE: the zones and existing tunnels (on which the cost of each tunnel depends) are set up only by the constructor,
+        // which also needs Bag_Array; but the graphs and trees should be the same, whatever the costs.
+        List<Building> buildings = BuildingLoader.createBuildings().subList(0, 40);
+        EdgeList<Building, TunnelProperties> target = Tunnels.createGraph(buildings, 250, new EdgeList<>());
+        // The graph of all possible tunnels, as originally created.
+        EdgeList<Building, TunnelProperties> graph = new EdgeList<>();
+        for (int i = 0; i < buildings.size(); i++)
+            for (int j = i + 1; j < buildings.size(); j++) {
+                Building b1 = buildings.get(i), b2 = buildings.get(j);
+                double length = sphere.getDistance(b1, b2);
+                graph.addEdge(b1, b2, Tunnels.getTunnelProperties(b1, b2, length), e -> e.getAttribute().length <= 250);
+            }
+        assertTrue(graph.edges().size() > 0);
+        assertTrue(graph.edges().size() < buildings.size() * (buildings.size() - 1) / 2);
+        assertEquals(pairs(graph.edges()), pairs(target.edges()));
+        // Hence the trees of tunnels are the same.
+        Iterable<Edge<Building, TunnelProperties>> expected = new FilterKruskal<>(graph);
+        Iterable<Edge<Building, TunnelProperties>> actual = new FilterKruskal<>(target);
+        assertEquals(pairs(expected), pairs(actual));
+        assertEquals(cost(expected), cost(actual));
+    }
+
+    private static Set<String> pairs(Iterable<Edge<Building, TunnelProperties>> edges) {
+        Set<String> result = new HashSet<>();
+        for (Edge<Building, TunnelProperties> edge : edges) {
+            String a = edge.get().getCode(), b = edge.getOther(edge.get()).getCode();
+            result.add(a.compareTo(b) < 0 ? a + "-" + b : b + "-" + a);
+        }
+        return result;
+    }
+
+    // Used only for its (great-circle) distance.
+    private static final GeoGraphSpherical<GeoPoint, Object> sphere = new GeoGraphSpherical<>();
+
+    private static long cost(Iterable<Edge<Building, TunnelProperties>> edges) {
+        long result = 0;
+        for (Edge<Building, TunnelProperties> edge : edges) result += edge.getAttribute().cost;
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package edu.neu.coe.info6205.graphs.undirected;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class EdgeCacheTest {
+
+    // The EdgeCache is tested over plain lists (rather than through a graph, whose adjacency bags are Bag_Arrays).
+
+    @Test
+    public void testAdd() {
+        EdgeCache<String, Edge<String, Integer>> target = create();
+        assertEquals(0, target.size());
+        Edge<String, Integer> ab = addEdge("A", "B", 1);
+        addEdge("B", "C", 2);
+        // The view is live: it reflects edges added after it was first used.
+        assertEquals(2, target.size());
+        Iterator<Edge<String, Integer>> iterator = target.iterator();
+        assertSame(ab, iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next().getAttribute());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        EdgeCache<String, Edge<String, Integer>> target = create();
+        addEdge("A", "B", 1);
+        Iterator<Edge<String, Integer>> iterator = target.iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    @Test
+    public void testInvalidate() {
+        EdgeCache<String, Edge<String, Integer>> target = create();
+        addEdge("A", "B", 1);
+        addEdge("B", "C", 2);
+        assertEquals(2, target.size());
+        // Replace the adjacency list of A, as Graph_Edges.addVertex does.
+        bags.put("A", new ArrayList<>());
+        target.invalidate();
+        assertEquals(1, target.size());
+        assertEquals(Integer.valueOf(2), target.iterator().next().getAttribute());
+        // Once rebuilt, the list is again maintained incrementally.
+        addEdge("C", "D", 3);
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void testArrays() {
+        EdgeCache<String, Edge<String, Integer>> target = create();
+        addEdge("A", "B", 1);
+        addEdge("B", "C", 2);
+        EdgeCache.EdgeArrays<String, Edge<String, Integer>> arrays = target.arrays();
+        assertSame(arrays, target.arrays());
+        assertEquals(3, arrays.V());
+        assertEquals(2, arrays.E());
+        assertEquals("B", arrays.vertex(arrays.from(1)));
+        assertEquals("C", arrays.vertex(arrays.to(1)));
+        assertEquals(Integer.valueOf(2), arrays.edge(1).getAttribute());
+        assertEquals(-1, arrays.index("D"));
+        assertArrayEquals(new double[]{1, 2}, arrays.weights(Edge::getAttribute), 0.0);
+        addEdge("C", "D", 3);
+        assertNotSame(arrays, target.arrays());
+        assertEquals(3, target.arrays().E());
+    }
+
+    private EdgeCache<String, Edge<String, Integer>> create() {
+        cache = new EdgeCache<>(bags::keySet, bags::values, Edge::get, e -> e.getOther(e.get()));
+        return cache;
+    }
+
+    private Edge<String, Integer> addEdge(String from, String to, int attribute) {
+        Edge<String, Integer> edge = new Edge<>(from, to, attribute);
+        bags.computeIfAbsent(from, k -> new ArrayList<>()).add(edge);
+        bags.computeIfAbsent(to, k -> new ArrayList<>());
+        cache.add(edge);
+        return edge;
+    }
+
+    private final Map<String, List<Edge<String, Integer>>> bags = new LinkedHashMap<>();
+    private EdgeCache<String, Edge<String, Integer>> cache;
+}
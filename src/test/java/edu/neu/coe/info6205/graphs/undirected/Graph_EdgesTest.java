@@ -1,13 +1,77 @@
 package edu.neu.coe.info6205.graphs.undirected;
 
+import edu.neu.coe.info6205.SizedIterable;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.Iterator;
+
+import static org.junit.Assert.*;
+
 public class Graph_EdgesTest {
 
     @Test
     public void edges() {
     }
 
+    @Ignore // Graph_Edges requires Bag_Array.growFrom (an exercise) to be implemented (see EdgeCacheTest)
+    @Test
+    public void edgesView() {
+        Graph_Edges<String, Integer> target = new Graph_Edges<>();
+        SizedIterable<Edge<String, Integer>> edges = target.edges();
+        assertEquals(0, edges.size());
+        Edge<String, Integer> ab = new Edge<>("A", "B", 1);
+        target.addEdge(ab);
+        target.addEdge("B", "C", 2, e -> e.getAttribute() > 2);
+        target.addEdge("B", "C", 3);
+        // The view is live and is not rebuilt on each call.
+        assertEquals(2, edges.size());
+        assertSame(edges, target.edges());
+        Iterator<Edge<String, Integer>> iterator = edges.iterator();
+        assertEquals(ab, iterator.next());
+        assertEquals(Integer.valueOf(3), iterator.next().getAttribute());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Ignore // Graph_Edges requires Bag_Array.growFrom (an exercise) to be implemented (see EdgeCacheTest)
+    @Test(expected = UnsupportedOperationException.class)
+    public void edgesReadOnly() {
+        Graph_Edges<String, Integer> target = new Graph_Edges<>();
+        target.addEdge("A", "B", 1);
+        Iterator<Edge<String, Integer>> iterator = target.edges().iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    @Ignore // Graph_Edges requires Bag_Array.growFrom (an exercise) to be implemented (see EdgeCacheTest)
+    @Test
+    public void addVertex() {
+        Graph_Edges<String, Integer> target = new Graph_Edges<>();
+        target.addEdge("A", "B", 1);
+        target.addEdge("B", "C", 2);
+        target.addVertex("A");
+        assertEquals(1, target.edges().size());
+        assertEquals(Integer.valueOf(2), target.edges().iterator().next().getAttribute());
+    }
+
+    @Ignore // Graph_Edges requires Bag_Array.growFrom (an exercise) to be implemented (see EdgeCacheTest)
+    @Test
+    public void edgeArrays() {
+        Graph_Edges<String, Integer> target = new Graph_Edges<>();
+        target.addEdge("A", "B", 1);
+        target.addEdge("B", "C", 2);
+        EdgeCache.EdgeArrays<String, Edge<String, Integer>> arrays = target.edgeArrays();
+        assertSame(arrays, target.edgeArrays());
+        assertEquals(3, arrays.V());
+        assertEquals(2, arrays.E());
+        assertEquals("B", arrays.vertex(arrays.from(1)));
+        assertEquals("C", arrays.vertex(arrays.to(1)));
+        assertEquals(-1, arrays.index("D"));
+        assertArrayEquals(new double[]{1, 2}, arrays.weights(Edge::getAttribute), 0.0);
+        target.addEdge("C", "D", 3);
+        assertEquals(3, target.edgeArrays().E());
+    }
+
     @Test
     public void addEdge() {
     }
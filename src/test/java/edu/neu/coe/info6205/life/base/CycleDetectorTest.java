@@ -0,0 +1,95 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CycleDetectorTest {
+
+    @Test
+    public void testOffer() {
+        // The sequence 0, 1, 2, then 3, 4, 5, 6, 7 repeated: pre-period 3, period 5.
+        final CycleDetector target = new CycleDetector(8);
+        CycleDetector.Cycle cycle = null;
+        long g = 0;
+        while (cycle == null) {
+            cycle = target.offer(g, fingerprint(sequence(g)));
+            g++;
+        }
+        assertEquals(new CycleDetector.Cycle(3, 5), cycle);
+        assertEquals(9L, g);
+        assertEquals("period 5 after pre-period 3", cycle.toString());
+    }
+
+    @Test
+    public void testOfferWindow() {
+        // A window which is smaller than the period never sees the repetition, and its memory is bounded.
+        final CycleDetector target = new CycleDetector(4);
+        for (long g = 0; g < 100; g++) assertNull(target.offer(g, fingerprint(sequence(g))));
+        assertEquals(4, target.size());
+    }
+
+    @Test(expected = LifeException.class)
+    public void testInvalidWindow() {
+        new CycleDetector(0);
+    }
+
+    @Test
+    public void testBrent() {
+        assertEquals(new CycleDetector.Cycle(3, 5), CycleDetector.brent(0L, CycleDetectorTest::step, CycleDetectorTest::fingerprint, 100));
+        assertEquals(new CycleDetector.Cycle(0, 1), CycleDetector.brent(3L, x -> 3L, CycleDetectorTest::fingerprint, 100));
+        assertNull(CycleDetector.brent(0L, x -> x + 1, CycleDetectorTest::fingerprint, 1000));
+        // A long cycle: pre-period 1000, period 12345.
+        final CycleDetector.Cycle cycle = CycleDetector.brent(0L, x -> x < 1000 + 12344 ? x + 1 : 1000, CycleDetectorTest::fingerprint, 100000);
+        assertEquals(new CycleDetector.Cycle(1000, 12345), cycle);
+    }
+
+    @Test
+    public void testLife() {
+        assertEquals(new CycleDetector.Cycle(0, 1), Game.cycle(Library.Block, 100));
+        assertEquals(new CycleDetector.Cycle(0, 2), Game.cycle(Library.Blinker, 100));
+        assertEquals(new CycleDetector.Cycle(1, 1), Game.cycle(Library.Blip2, 100));
+        assertNull(Game.cycle(Library.Glider1, 1000));
+    }
+
+    @Test
+    public void testSoup() {
+        // Brent's algorithm and the ring agree on random soups (those which emit gliders never repeat, and are skipped).
+        int checked = 0;
+        for (long seed = 0; checked < 3; seed++) {
+            final Random random = new Random(seed);
+            final List<Point> soup = new ArrayList<>();
+            for (int i = 0; i < 60; i++) soup.add(new Point(random.nextInt(12), random.nextInt(12)));
+            final PackedGrid start = PackedGrid.create(0L, soup);
+            final CycleDetector.Cycle expected = CycleDetector.brent(start, g -> {
+                final PackedGrid result = new PackedGrid(g);
+                result.step();
+                return result;
+            }, PackedGrid::getFingerprint, 5000);
+            if (expected == null) continue;
+            final CycleDetector detector = new CycleDetector(64);
+            final PackedGrid grid = new PackedGrid(start);
+            CycleDetector.Cycle cycle;
+            while ((cycle = detector.offer(grid.getGeneration(), grid.getFingerprint())) == null) grid.step();
+            assertEquals(expected, cycle);
+            checked++;
+        }
+    }
+
+    private static long sequence(long g) {
+        return g < 3 ? g : 3 + (g - 3) % 5;
+    }
+
+    private static long step(long x) {
+        return x < 7 ? x + 1 : 3;
+    }
+
+    private static Fingerprint fingerprint(long x) {
+        return new Fingerprint(x * 31, x);
+    }
+}
@@ -0,0 +1,66 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FingerprintTest {
+
+    @Test
+    public void testOf() {
+        final List<Point> points = Point.points(Library.Loaf);
+        final Fingerprint target = Fingerprint.of(points);
+        Collections.reverse(points);
+        assertEquals(target, Fingerprint.of(points));
+        points.add(points.get(0));
+        assertEquals(target, Fingerprint.of(points));
+        assertEquals(target.hashCode(), Fingerprint.of(points).hashCode());
+        assertNotEquals(target, Fingerprint.of(Point.points(Library.Beehive)));
+        assertEquals(32, target.toString().length());
+    }
+
+    @Test
+    public void testEmpty() {
+        final Fingerprint target = Fingerprint.of(new ArrayList<>());
+        assertEquals(0L, target.getHigh());
+        assertEquals(0L, target.getLow());
+        assertEquals(target, new PackedGrid(0L).getFingerprint());
+    }
+
+    @Test
+    public void testTranslation() {
+        // The fingerprint depends on position, including across the boundaries of words.
+        final List<Point> block = Point.points(Library.Block);
+        final Fingerprint target = Fingerprint.of(block);
+        for (int dx : new int[]{-64, -1, 1, 62, 63, 64})
+            for (int dy : new int[]{-1, 0, 1}) {
+                List<Point> moved = new ArrayList<>();
+                for (Point p : block) moved.add(p.move(dx, dy));
+                assertNotEquals(target, Fingerprint.of(moved));
+            }
+    }
+
+    @Test
+    public void testIncremental() {
+        // The fingerprint maintained by PackedGrid (as words change, and across refits) agrees with the one computed from scratch.
+        final Random random = new Random(0L);
+        final List<Point> soup = new ArrayList<>();
+        for (int i = 0; i < 600; i++) soup.add(new Point(random.nextInt(100) - 150, random.nextInt(40) - 20));
+        final PackedGrid target = PackedGrid.create(0L, soup);
+        assertEquals(Fingerprint.of(soup), target.getFingerprint());
+        for (int g = 0; g < 100; g++) {
+            target.step();
+            assertEquals("generation " + target.getGeneration(), Fingerprint.of(target.points()), target.getFingerprint());
+        }
+        final PackedGrid copy = new PackedGrid(target);
+        assertEquals(target.getFingerprint(), copy.getFingerprint());
+        copy.step();
+        assertEquals(Fingerprint.of(copy.points()), copy.getFingerprint());
+    }
+}
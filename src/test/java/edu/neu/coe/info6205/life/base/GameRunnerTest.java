@@ -0,0 +1,93 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import edu.neu.coe.info6205.util.StatPack;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.Assert.*;
+
+public class GameRunnerTest {
+
+    @Test
+    public void testRun() {
+        final GameRunner target = new GameRunner(100, 1);
+        final List<Long> generations = new ArrayList<>();
+        final StatPack statPack = target.run(Library.Blinker, (l, g) -> generations.add(l));
+        assertEquals(100, target.getGame().getGeneration());
+        assertEquals(3, target.getGame().getCount());
+        assertEquals(100, generations.size());
+        assertEquals(Long.valueOf(0L), generations.get(0));
+        assertEquals(Long.valueOf(99L), generations.get(99));
+        assertEquals(100, statPack.getCount(GameRunner.CELLS));
+        assertEquals(3.0, statPack.mean(GameRunner.CELLS), 0.0);
+        assertEquals(1.0, statPack.mean(GameRunner.GROUPS), 0.0);
+        assertTrue(statPack.total(GameRunner.TIME) > 0);
+        assertTrue(target.getMillis() > 0);
+    }
+
+    @Test
+    public void testInterval() {
+        final GameRunner target = new GameRunner(100, 10);
+        final StatPack statPack = target.run(Library.Block, Monitors.none());
+        assertEquals(10, statPack.getCount(GameRunner.CELLS));
+        assertEquals(4.0, statPack.mean(GameRunner.CELLS), 0.0);
+    }
+
+    @Test
+    public void testDeath() {
+        final GameRunner target = new GameRunner(100, 1);
+        final StatPack statPack = target.run(Library.Blip, Monitors.none());
+        assertEquals(1, target.getGame().getGeneration());
+        assertEquals(0, target.getGame().getCount());
+        assertEquals(1, statPack.getCount(GameRunner.CELLS));
+    }
+
+    @Test
+    public void testSampled() {
+        final List<Long> generations = new ArrayList<>();
+        final BiConsumer<Long, Grid> target = Monitors.sampled(25, (l, g) -> generations.add(l));
+        new GameRunner(100, 1).run(Library.Blinker, target);
+        assertEquals(4, generations.size());
+        assertEquals(Long.valueOf(75L), generations.get(3));
+    }
+
+    @Test
+    public void testAsync() {
+        final List<Long> generations = new ArrayList<>();
+        final long[] dropped = new long[1];
+        try (AsyncMonitor<Grid> target = new AsyncMonitor<>(1000, (l, g) -> {
+            assertEquals(3, g.getCount());
+            generations.add(l);
+        })) {
+            new GameRunner(500, 1).run(Library.Blinker, target);
+            dropped[0] = target.getDropped();
+        }
+        // Every generation was either logged (in order) or dropped.
+        assertEquals(500, generations.size() + dropped[0]);
+        for (int i = 1; i < generations.size(); i++) assertTrue(generations.get(i) > generations.get(i - 1));
+    }
+
+    @Test
+    public void testAsyncDrops() throws InterruptedException {
+        final Object lock = new Object();
+        final List<Long> generations = new ArrayList<>();
+        final AsyncMonitor<String> target = new AsyncMonitor<>(3, (l, s) -> {
+            synchronized (lock) {
+                generations.add(l);
+            }
+        });
+        // While the consumer is blocked, the ring (of capacity 4) fills up and the rest are dropped.
+        synchronized (lock) {
+            for (long i = 0; i < 10; i++) target.accept(i, "x");
+            Thread.sleep(10);
+        }
+        target.close();
+        assertTrue(target.getDropped() >= 5 && target.getDropped() <= 6);
+        assertEquals(10, generations.size() + target.getDropped());
+        assertEquals(generations.size(), target.getLogged());
+    }
+}
@@ -1,7 +1,10 @@
 package edu.neu.coe.info6205.life.base;
 
+import edu.neu.coe.info6205.life.library.Library;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 public class GameTest {
 
     @Test
@@ -13,4 +16,15 @@ public class GameTest {
     public void generation() {
         // TESTME
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRunCycle() {
+        assertEquals(new CycleDetector.Cycle(0, 2), Game.run(Library.Blinker));
+        assertEquals(new CycleDetector.Cycle(0, 1), Game.run(Library.Block));
+    }
+
+    @Test
+    public void testCycle() {
+        assertEquals(new CycleDetector.Cycle(0, 2), Game.cycle(Library.Blinker, 10));
+    }
+}
@@ -48,10 +48,46 @@ public class GridTest {
         System.out.println(target.get(0));
     }
 
+    @Test
+    public void testMergeGroupsSeparate() {
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) groups.add(block(10 * i, 10 * (i % 7)));
+        List<Group> target = Grid.mergeGroups(groups);
+        assertEquals(groups, target);
+    }
+
+    @Test
+    public void testMergeGroupsChain() {
+        // Each block's extents overlap those of the next block (but of no other), so they all merge together.
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < 500; i++) groups.add(block(3 * i, 3 * i));
+        List<Group> target = Grid.mergeGroups(groups);
+        assertEquals(1, target.size());
+        assertEquals(2000, target.get(0).getCount());
+    }
+
+    @Test
+    public void testMergeGroupsOrder() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(block(100, 100));
+        groups.add(block(0, 0));
+        groups.add(block(-100, 100));
+        groups.add(block(2, 2));
+        List<Group> target = Grid.mergeGroups(groups);
+        assertEquals(3, target.size());
+        assertEquals(groups.get(0), target.get(0));
+        assertEquals(8, target.get(1).getCount());
+        assertEquals(groups.get(2), target.get(2));
+    }
+
     @Test
     public void render() {
         final Grid target = new Grid(0L);
         target.add(Group.create(0L, Glider1));
         assertEquals("O**\n" + "..*\n" + ".*.\n" + "Origin: {0, 0}\n", target.render());
     }
+
+    private static Group block(int x, int y) {
+        return Group.create(0L, x + " " + y + ", " + (x + 1) + " " + y + ", " + x + " " + (y + 1) + ", " + (x + 1) + " " + (y + 1));
+    }
 }
\ No newline at end of file
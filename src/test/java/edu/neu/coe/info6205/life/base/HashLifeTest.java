@@ -0,0 +1,164 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class HashLifeTest {
+
+    @Test
+    public void testCreate() {
+        final HashLife target = HashLife.create(0L, Library.Glider1);
+        assertEquals(5, target.getCount());
+        assertEquals(0L, target.getGeneration());
+        assertEquals(3, target.getLevel());
+        assertTrue(target.isAlive(0, 0));
+        assertTrue(target.isAlive(1, -2));
+        assertFalse(target.isAlive(1, -1));
+        assertFalse(target.isAlive(1000, 1000));
+        assertEquals(new HashSet<>(Point.points(Library.Glider1)), new HashSet<>(target.points()));
+        assertArrayEquals(new int[]{0, -2, 2, 0}, target.boundingBox());
+        assertEquals("***\n..*\n.*.\n", target.render());
+    }
+
+    @Test
+    public void testCreateEmpty() {
+        final HashLife target = HashLife.create(0L, "");
+        assertEquals(0, target.getCount());
+        assertEquals("", target.render());
+        assertEquals("", target.toPattern());
+        assertNull(target.boundingBox());
+        assertEquals(0, target.step(10).getCount());
+    }
+
+    @Test
+    public void testGeneration() {
+        final HashLife target = HashLife.create(0L, Library.Blinker);
+        final List<Long> monitored = new ArrayList<>();
+        final HashLife next = target.generation((g, v) -> monitored.add(g));
+        assertEquals(List.of(0L), monitored);
+        assertEquals(1L, next.getGeneration());
+        assertEquals(new HashSet<>(Point.points("-1 0, 0 0, 1 0")), new HashSet<>(next.points()));
+        assertEquals(target, next.generation((g, v) -> {
+        }));
+    }
+
+    @Test
+    public void testStep() {
+        // A glider moves one cell diagonally (here, North-East) every four generations.
+        final HashLife target = HashLife.create(0L, Library.Glider1);
+        final Set<Point> expected = new HashSet<>();
+        for (Point p : target.points()) expected.add(p.move(1 << 18, 1 << 18));
+        final HashLife result = target.step(20);
+        assertEquals(1L << 20, result.getGeneration());
+        assertEquals(5, result.getCount());
+        assertEquals(expected, new HashSet<>(result.points()));
+        // the original is unchanged.
+        assertEquals(new HashSet<>(Point.points(Library.Glider1)), new HashSet<>(target.points()));
+    }
+
+    @Test
+    public void testStillLifes() {
+        for (String pattern : new String[]{Library.Block, Library.Beehive, Library.Loaf}) {
+            final HashLife target = HashLife.create(0L, pattern);
+            final HashLife result = target.step(40);
+            assertEquals(target, result);
+            assertEquals(target.getLevel(), result.getLevel());
+        }
+    }
+
+    @Test
+    public void testAgainstPackedGrid() {
+        final Random random = new Random(0L);
+        final List<Point> soup = new ArrayList<>();
+        for (int i = 0; i < 800; i++) soup.add(new Point(random.nextInt(64) - 32, random.nextInt(64) - 32));
+        final PackedGrid expected = PackedGrid.create(0L, soup);
+        HashLife target = HashLife.create(0L, soup, new HashLife.Cache());
+        for (int g = 0; g < 40; g++) {
+            expected.step();
+            target = target.step(0);
+            assertEquals("generation " + (g + 1), new HashSet<>(expected.points()), new HashSet<>(target.points()));
+        }
+        for (int k = 0; k < 8; k++) {
+            expected.step(1L << k);
+            target = target.step(k);
+            assertEquals("step " + k, new HashSet<>(expected.points()), new HashSet<>(target.points()));
+        }
+        expected.step(1000);
+        target = target.advance(1000);
+        assertEquals(new HashSet<>(expected.points()), new HashSet<>(target.points()));
+        assertEquals(expected.getGeneration(), target.getGeneration());
+    }
+
+    @Test
+    public void testAdvance() {
+        final HashLife target = HashLife.create(0L, Library.Glider2);
+        final PackedGrid expected = PackedGrid.create(0L, Library.Glider2);
+        expected.step(777);
+        final HashLife result = target.advance(777);
+        assertEquals(777L, result.getGeneration());
+        assertEquals(new HashSet<>(expected.points()), new HashSet<>(result.points()));
+        assertSame(target, target.advance(0));
+    }
+
+    @Test
+    public void testGroup() {
+        final Group group = Group.create(0L, Library.Loaf);
+        final HashLife target = HashLife.create(group);
+        assertEquals(new HashSet<>(group.pointsAbsolute()), new HashSet<>(target.points()));
+        final HashLife result = HashLife.create(0L, Library.Glider3).step(6);
+        final Group exported = result.toGroup();
+        assertEquals(64L, exported.getGeneration());
+        assertEquals(new HashSet<>(result.points()), new HashSet<>(exported.pointsAbsolute()));
+        // round trip through the pattern format.
+        final Group fromPattern = Group.create(0L, result.toPattern());
+        assertEquals(new HashSet<>(result.points()), new HashSet<>(fromPattern.pointsAbsolute()));
+        assertEquals(result, HashLife.create(0L, result.toPattern()));
+    }
+
+    @Test
+    public void testCache() {
+        final HashLife.Cache cache = new HashLife.Cache();
+        final HashLife a = HashLife.create(0L, Point.points(Library.Block), cache);
+        final HashLife b = HashLife.create(5L, Point.points("2 2, 1 1, 2 1, 1 2"), cache);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a, HashLife.create(0L, Library.Block));
+        assertNotEquals(a, HashLife.create(0L, Library.Beehive));
+        assertTrue(cache.getHits() > 0);
+        assertTrue(cache.hitRate() > 0 && cache.hitRate() < 1);
+        // A period-2 oscillator: after the first step, every result is memoized.
+        HashLife blinker = HashLife.create(0L, Point.points(Library.Blinker), cache);
+        blinker = blinker.step(10);
+        final long lookups = cache.getResultLookups(), hits = cache.getResultHits();
+        blinker = blinker.step(10);
+        assertEquals(cache.getResultLookups() - lookups, cache.getResultHits() - hits);
+        assertTrue(cache.resultHitRate() > 0);
+        assertTrue(cache.toString().startsWith("Cache{nodes="));
+    }
+
+    @Test
+    public void testEviction() {
+        final HashLife.Cache cache = new HashLife.Cache(100);
+        HashLife target = HashLife.create(0L, Point.points(Library.Glider1), cache);
+        final PackedGrid expected = PackedGrid.create(0L, Library.Glider1);
+        for (int i = 0; i < 10; i++) {
+            target = target.step(4);
+            expected.step(16);
+        }
+        assertTrue(cache.getFlushes() > 0);
+        assertEquals(new HashSet<>(expected.points()), new HashSet<>(target.points()));
+    }
+
+    @Test(expected = LifeException.class)
+    public void testStepInvalid() {
+        HashLife.create(0L, Library.Blip).step(-1);
+    }
+}
@@ -0,0 +1,183 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class PackedGridTest {
+
+    @Test
+    public void testCreate() {
+        final PackedGrid target = PackedGrid.create(0L, Library.Glider1);
+        assertEquals(5, target.getCount());
+        assertEquals(0L, target.getGeneration());
+        assertTrue(target.isAlive(0, 0));
+        assertTrue(target.isAlive(1, -2));
+        assertFalse(target.isAlive(1, -1));
+        assertEquals(new HashSet<>(Point.points(Library.Glider1)), new HashSet<>(target.points()));
+        assertArrayEquals(new int[]{0, -2, 2, 0}, target.boundingBox());
+        assertFalse(target.add(0, 0));
+        assertEquals(5, target.getCount());
+    }
+
+    @Test
+    public void testRender() {
+        final PackedGrid target = PackedGrid.create(0L, Library.Glider1);
+        assertEquals("***\n..*\n.*.\n", target.render());
+        assertEquals("", new PackedGrid(0L).render());
+    }
+
+    @Test
+    public void testBlinker() {
+        final PackedGrid target = PackedGrid.create(0L, Library.Blinker);
+        target.step();
+        assertEquals(new HashSet<>(Point.points("-1 0, 0 0, 1 0")), new HashSet<>(target.points()));
+        target.step();
+        assertEquals(new HashSet<>(Point.points(Library.Blinker)), new HashSet<>(target.points()));
+        assertEquals(2L, target.getGeneration());
+    }
+
+    @Test
+    public void testStillLifes() {
+        for (String pattern : new String[]{Library.Block, Library.Beehive, Library.Loaf}) {
+            final PackedGrid target = PackedGrid.create(0L, pattern);
+            target.step(10);
+            assertEquals(new HashSet<>(Point.points(pattern)), new HashSet<>(target.points()));
+        }
+    }
+
+    @Test
+    public void testGliderMoves() {
+        // After four generations, a glider has the same shape, moved one cell diagonally (here, North-East).
+        final PackedGrid target = PackedGrid.create(0L, Library.Glider1);
+        final Set<Point> expected = new HashSet<>();
+        for (Point p : target.points()) expected.add(p.move(1000, 1000));
+        target.step(4 * 1000);
+        assertEquals(5, target.getCount());
+        assertEquals(expected, new HashSet<>(target.points()));
+    }
+
+    @Test
+    public void testGeneration() {
+        final PackedGrid target = PackedGrid.create(0L, Library.Glider2);
+        final List<Long> monitored = new ArrayList<>();
+        final PackedGrid next = target.generation((g, v) -> monitored.add(g));
+        assertEquals(Collections.singletonList(0L), monitored);
+        assertEquals(1L, next.getGeneration());
+        assertEquals(0L, target.getGeneration());
+        assertEquals(new HashSet<>(Point.points(Library.Glider2)), new HashSet<>(target.points()));
+    }
+
+    @Test
+    public void testGroup() {
+        for (String pattern : new String[]{Library.Glider1, Library.Glider2, Library.Glider3, Library.Loaf, Library.Blinker}) {
+            final Group group = Group.create(0L, pattern);
+            final PackedGrid target = PackedGrid.create(group);
+            assertEquals(new HashSet<>(group.pointsAbsolute()), new HashSet<>(target.points()));
+            target.step(7);
+            final Group result = target.toGroup();
+            assertEquals(7L, result.getGeneration());
+            assertEquals(target.getCount(), result.getCount());
+            assertEquals(new HashSet<>(target.points()), new HashSet<>(result.pointsAbsolute()));
+        }
+    }
+
+    @Test
+    public void testFirstGenerationAgainstGroup() {
+        for (String pattern : new String[]{Library.Glider1, Library.Glider2, Library.Glider3, Library.Loaf, Library.Blinker}) {
+            final Group group = Group.create(0L, pattern).generation((g, v) -> {
+            });
+            final PackedGrid target = PackedGrid.create(0L, pattern);
+            target.step();
+            assertEquals(new HashSet<>(group.pointsAbsolute()), new HashSet<>(target.points()));
+        }
+    }
+
+    @Test
+    public void testRandomSoup() {
+        // Compare with a straightforward implementation on sets of points, over word boundaries and window refits.
+        final Random random = new Random(0L);
+        Set<Point> expected = new HashSet<>();
+        for (int i = 0; i < 1500; i++) expected.add(new Point(random.nextInt(150) - 75, random.nextInt(60) - 30));
+        final PackedGrid target = PackedGrid.create(0L, expected);
+        assertEquals(expected.size(), target.getCount());
+        for (int g = 0; g < 60; g++) {
+            expected = reference(expected);
+            target.step();
+            assertEquals("generation " + (g + 1), expected, new HashSet<>(target.points()));
+            assertEquals(expected.size(), target.getCount());
+        }
+    }
+
+    @Test
+    public void testDeath() {
+        final PackedGrid target = PackedGrid.create(0L, Library.Blip2);
+        target.step();
+        assertEquals(0, target.getCount());
+        assertNull(target.boundingBox());
+        target.step();
+        assertEquals(0, target.getCount());
+    }
+
+    @Test
+    public void testEquals() {
+        final PackedGrid a = PackedGrid.create(0L, Library.Block);
+        final PackedGrid b = PackedGrid.create(5L, "2 2, 1 1, 2 1, 1 2");
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, PackedGrid.create(0L, Library.Beehive));
+    }
+
+    @Test
+    public void testRule() {
+        // A single word: the cell in the middle of a horizontal blinker survives, those at its ends die, and those above and below are born.
+        final long blinker = 0x0000000700000000L;
+        assertEquals(0x0000000200000000L, PackedGrid.rule(0, 0, 0, 0, blinker, 0, 0, 0, 0));
+        assertEquals(0x0000000200000000L, PackedGrid.rule(0, blinker, 0, 0, 0, 0, 0, 0, 0));
+        // Carries across words: a vertical blinker straddling the boundary between words is born in the East word.
+        assertEquals(0x8000000000000000L, PackedGrid.rule(1L, 0, 0, 1L, 0, 0, 1L, 0, 0) & 0x8000000000000000L);
+    }
+
+    @Test
+    public void testRuns() {
+        // Runs which start and end at arbitrary offsets, spanning several words (and extending the window).
+        final PackedGrid target = new PackedGrid(0L, 0, 0, 10, 10);
+        final Set<Point> expected = new HashSet<>();
+        final Random random = new Random(0L);
+        for (int i = 0; i < 50; i++) {
+            final int x = random.nextInt(400) - 200, y = random.nextInt(20), length = 1 + random.nextInt(150);
+            int added = 0;
+            for (int j = 0; j < length; j++) if (expected.add(new Point(x + j, y))) added++;
+            assertEquals(added, target.addRun(x, y, length));
+        }
+        assertEquals(expected.size(), target.getCount());
+        assertEquals(Fingerprint.of(expected), target.getFingerprint());
+        // The runs are maximal, and come North first.
+        final Set<Point> actual = new HashSet<>();
+        final int[] previous = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        target.forEachRun((x, y, length) -> {
+            assertTrue(y < previous[0] || y == previous[0] && x > previous[1]);
+            assertFalse(target.isAlive(x - 1, y));
+            assertFalse(target.isAlive(x + length, y));
+            for (int j = 0; j < length; j++) assertTrue(actual.add(new Point(x + j, y)));
+            previous[0] = y;
+            previous[1] = x + length;
+        });
+        assertEquals(expected, actual);
+    }
+
+    static Set<Point> reference(Set<Point> cells) {
+        final Map<Point, Integer> counts = new HashMap<>();
+        for (Point p : cells)
+            for (int dx = -1; dx <= 1; dx++)
+                for (int dy = -1; dy <= 1; dy++)
+                    if (dx != 0 || dy != 0) counts.merge(p.move(dx, dy), 1, Integer::sum);
+        final Set<Point> result = new HashSet<>();
+        for (Map.Entry<Point, Integer> e : counts.entrySet())
+            if (e.getValue() == 3 || e.getValue() == 2 && cells.contains(e.getKey())) result.add(e.getKey());
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.life.library.Library;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TiledGridTest {
+
+    @Test
+    public void testCreate() {
+        final TiledGrid target = TiledGrid.create(0L, Library.Glider1);
+        assertEquals(5, target.getCount());
+        assertTrue(target.isAlive(0, 0));
+        assertTrue(target.isAlive(1, -2));
+        assertFalse(target.isAlive(1, -1));
+        assertFalse(target.add(2, -1));
+        assertEquals(new HashSet<>(Point.points(Library.Glider1)), new HashSet<>(target.points()));
+        assertArrayEquals(new int[]{0, -2, 2, 0}, target.boundingBox());
+        assertEquals("***\n..*\n.*.\n", target.render());
+    }
+
+    @Test
+    public void testGeneration() {
+        final TiledGrid target = TiledGrid.create(0L, Library.Blinker);
+        final List<Long> monitored = new ArrayList<>();
+        final TiledGrid next = target.generation((g, v) -> monitored.add(g));
+        assertEquals(List.of(0L), monitored);
+        assertEquals(1L, next.getGeneration());
+        assertEquals(new HashSet<>(Point.points("-1 0, 0 0, 1 0")), new HashSet<>(next.points()));
+        assertEquals(new HashSet<>(Point.points(Library.Blinker)), new HashSet<>(target.points()));
+        assertEquals(target, next.generation((g, v) -> {
+        }));
+        assertEquals(target.hashCode(), TiledGrid.create(0L, Library.Blinker).hashCode());
+    }
+
+    @Test
+    public void testGliderAcrossTiles() {
+        // The glider crosses several tile borders (including the corners at the origin), and the empty tiles it leaves are removed.
+        final TiledGrid target = TiledGrid.create(0L, Library.Glider1);
+        final Set<Point> expected = new HashSet<>();
+        for (Point p : target.points()) expected.add(p.move(300, 300));
+        target.step(4 * 300);
+        assertEquals(5, target.getCount());
+        assertEquals(expected, new HashSet<>(target.points()));
+        assertTrue(target.getTiles() <= 9);
+    }
+
+    @Test
+    public void testStableTilesSkipped() {
+        final TiledGrid target = TiledGrid.create(0L, Library.Block);
+        for (Point p : Point.points(Library.Beehive)) target.add(p.getX() + 1000, p.getY() - 1000);
+        target.step(3);
+        assertEquals(10, target.getCount());
+        assertEquals(0, target.getComputed());
+        // A blinker keeps its own tile (and its neighbors) busy.
+        for (Point p : Point.points(Library.Blinker)) target.add(p.getX() + 64, p.getY() + 64);
+        target.step(3);
+        assertEquals(13, target.getCount());
+        assertTrue(target.getComputed() > 0);
+        assertTrue(target.getComputed() < target.getTiles());
+    }
+
+    @Test
+    public void testAgainstPackedGrid() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Random random = new Random(0L);
+            final List<Point> soup = new ArrayList<>();
+            for (int i = 0; i < 40000; i++) soup.add(new Point(random.nextInt(400) - 200, random.nextInt(400) - 200));
+            final PackedGrid expected = PackedGrid.create(0L, soup);
+            final TiledGrid target = TiledGrid.create(0L, soup, pool);
+            assertEquals(expected.getCount(), target.getCount());
+            for (int g = 0; g < 100; g++) {
+                expected.step();
+                target.step();
+                assertEquals(expected.getCount(), target.getCount());
+            }
+            assertEquals(new HashSet<>(expected.points()), new HashSet<>(target.points()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGroup() {
+        final Group group = Group.create(0L, Library.Loaf);
+        final TiledGrid target = TiledGrid.create(group, ForkJoinPool.commonPool());
+        assertEquals(new HashSet<>(group.pointsAbsolute()), new HashSet<>(target.points()));
+        target.step(5);
+        final Group result = target.toGroup();
+        assertEquals(5L, result.getGeneration());
+        assertEquals(new HashSet<>(target.points()), new HashSet<>(result.pointsAbsolute()));
+    }
+
+    @Test
+    public void testDeath() {
+        final TiledGrid target = TiledGrid.create(0L, Library.Blip2);
+        target.step();
+        assertEquals(0, target.getCount());
+        assertEquals("", target.render());
+        assertEquals(0, target.getTiles());
+    }
+}
@@ -0,0 +1,83 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.PackedGrid;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class CorpusTest {
+
+    @Test
+    public void testRPentomino() {
+        final PackedGrid target = RLE.parse(Corpus.get("R-pentomino"));
+        assertEquals(5, target.getCount());
+        target.step(1103);
+        assertEquals(116, target.getCount());
+    }
+
+    @Test
+    public void testDiehard() {
+        final PackedGrid target = RLE.parse(Corpus.Diehard);
+        target.step(129);
+        assertTrue(target.getCount() > 0);
+        target.step();
+        assertEquals(0, target.getCount());
+    }
+
+    @Test
+    public void testGosperGliderGun() {
+        final PackedGrid target = RLE.parse(Corpus.GosperGliderGun);
+        // After each period of 30 generations, the gun is restored and there is one more glider (of 5 cells).
+        target.step(120);
+        assertEquals(36 + 4 * 5, target.getCount());
+    }
+
+    @Test
+    public void testGunRow() {
+        final PackedGrid target = Corpus.gunRow(4);
+        assertEquals(4 * 36, target.getCount());
+        target.step(120);
+        assertEquals(4 * (36 + 4 * 5), target.getCount());
+    }
+
+    @Test
+    public void testSoup() {
+        final PackedGrid target = Corpus.soup(64, 0L);
+        assertEquals(target, Corpus.soup(64, 0L));
+        assertNotEquals(target, Corpus.soup(64, 1L));
+        assertTrue(target.getCount() > 64 * 64 / 4 && target.getCount() < 64 * 64 / 2);
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        final Path directory = Files.createTempDirectory("corpus");
+        final Path rle = directory.resolve("acorn.rle"), cells = directory.resolve("acorn.cells");
+        try {
+            final PackedGrid acorn = RLE.parse(Corpus.Acorn);
+            Files.write(rle, RLE.format(acorn).getBytes(StandardCharsets.UTF_8));
+            Files.write(cells, PlainText.format(acorn).getBytes(StandardCharsets.UTF_8));
+            assertEquals(acorn, Corpus.load(rle));
+            assertEquals(acorn, Corpus.load(cells));
+        } finally {
+            Files.deleteIfExists(rle);
+            Files.deleteIfExists(cells);
+            Files.delete(directory);
+        }
+    }
+
+    @Test(expected = LifeException.class)
+    public void testLoadUnknown() throws IOException {
+        final Path file = Files.createTempFile("corpus", ".txt");
+        try {
+            Corpus.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.PackedGrid;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PlainTextTest {
+
+    @Test
+    public void testParseGlider() {
+        final PackedGrid target = PlainText.parse("!Name: Glider\n!\n.O\n..O\nOOO\n");
+        assertEquals(RLE.parse("bob$2bo$3o!"), target);
+        assertEquals(".*.\n..*\n***\n", target.render());
+    }
+
+    @Test
+    public void testParseBlankRows() {
+        final PackedGrid target = PlainText.parse("O\n\n\n.*");
+        assertEquals(RLE.parse("o3$bo!"), target);
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals(".O\n..O\nOOO\n", PlainText.format(RLE.parse("bob$2bo$3o!")));
+        assertEquals("O\n\n\n.O\n", PlainText.format(RLE.parse("o3$bo!")));
+        assertEquals("", PlainText.format(new PackedGrid(0L)));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final PackedGrid gun = RLE.parse(Corpus.GosperGliderGun);
+        assertEquals(gun, PlainText.parse(PlainText.format(gun)));
+        assertEquals(36, gun.getCount());
+    }
+}
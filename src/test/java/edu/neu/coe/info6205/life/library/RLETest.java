@@ -0,0 +1,95 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.PackedGrid;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RLETest {
+
+    @Test
+    public void testParseGlider() {
+        final PackedGrid target = RLE.parse("#N Glider\n#C a comment\nx = 3, y = 3, rule = B3/S23\nbob$2bo$3o!\n");
+        assertEquals(5, target.getCount());
+        assertEquals(0L, target.getGeneration());
+        assertEquals(".*.\n..*\n***\n", target.render());
+        assertTrue(target.isAlive(1, 0));
+        assertTrue(target.isAlive(2, -1));
+        assertTrue(target.isAlive(0, -2));
+        assertArrayEquals(new int[]{0, -2, 2, 0}, target.boundingBox());
+    }
+
+    @Test
+    public void testParseWithoutHeader() {
+        assertEquals(RLE.parse("x = 3, y = 3\nbob$2bo$3o!"), RLE.parse("bob$2bo$3o!"));
+        // Line breaks and spaces may occur anywhere in the body.
+        assertEquals(RLE.parse("x = 3, y = 3\nbob$2bo$3o!"), RLE.parse("x = 3, y = 3\nbo\nb$2b o$\n3o!"));
+    }
+
+    @Test
+    public void testParseBlankRows() {
+        final PackedGrid target = RLE.parse("x = 2, y = 4\no3$bo!");
+        assertEquals(2, target.getCount());
+        assertTrue(target.isAlive(0, 0));
+        assertTrue(target.isAlive(1, -3));
+    }
+
+    @Test
+    public void testParseLongRun() {
+        final PackedGrid target = RLE.parse("x = 300, y = 2\n10b200o$300o!");
+        assertEquals(500, target.getCount());
+        assertFalse(target.isAlive(9, 0));
+        assertTrue(target.isAlive(10, 0));
+        assertTrue(target.isAlive(209, 0));
+        assertFalse(target.isAlive(210, 0));
+        assertTrue(target.isAlive(299, -1));
+    }
+
+    @Test
+    public void testReadRuns() throws IOException {
+        final List<int[]> runs = new ArrayList<>();
+        final int[] size = RLE.read(new StringReader("x = 5, y = 2\n2o2bo$b3o!"), (x, y, length) -> runs.add(new int[]{x, y, length}));
+        assertArrayEquals(new int[]{5, 2}, size);
+        assertEquals(3, runs.size());
+        assertArrayEquals(new int[]{0, 0, 2}, runs.get(0));
+        assertArrayEquals(new int[]{4, 0, 1}, runs.get(1));
+        assertArrayEquals(new int[]{1, -1, 3}, runs.get(2));
+    }
+
+    @Test(expected = LifeException.class)
+    public void testUnsupportedRule() {
+        RLE.parse("x = 3, y = 3, rule = B36/S23\nbob$2bo$3o!");
+    }
+
+    @Test(expected = LifeException.class)
+    public void testMalformed() {
+        RLE.parse("x = 3, y = 3\nbob$2bo$3o?");
+    }
+
+    @Test
+    public void testFormat() {
+        // Trailing dead cells are omitted.
+        final PackedGrid glider = RLE.parse("bob$2bo$3o!");
+        assertEquals("x = 3, y = 3, rule = B3/S23\nbo$2bo$3o!\n", RLE.format(glider));
+        assertEquals("x = 0, y = 0, rule = B3/S23\n!\n", RLE.format(new PackedGrid(0L)));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final PackedGrid soup = Corpus.soup(200, 1L);
+        final String formatted = RLE.format(soup);
+        for (String line : formatted.split("\n")) assertTrue(line.length() <= 70);
+        final PackedGrid target = RLE.parse(formatted);
+        assertEquals(soup.getCount(), target.getCount());
+        // The pattern is reproduced relative to its bounding box.
+        final int[] box = soup.boundingBox();
+        soup.forEach((x, y) -> assertTrue(target.isAlive(x - box[0], y - box[3])));
+        assertEquals(soup.getFingerprint(), RLE.parse(RLE.format(target)).getFingerprint());
+    }
+}
@@ -0,0 +1,98 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.nim.Nim;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class MonteCarloTreeSearchTest {
+
+    @Test
+    public void testSearch() {
+        // From a pile of 10, the winning move is to take 2 (leaving a multiple of 4).
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(10, 3, 0L).start(), 0L);
+        final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(20000));
+        assertEquals(20000, result.getIterations());
+        assertEquals(3, result.getMoves().size());
+        assertEquals(2, ((Nim.NimMove) result.bestMove()).take());
+        int playouts = 0;
+        for (int i = 0; i < 3; i++) playouts += result.getPlayouts(i);
+        assertEquals(20000, playouts);
+        assertEquals(20000, target.getRoot().playouts());
+        // The winning move should mostly win.
+        final int best = result.bestIndex();
+        assertTrue(result.getWins(best) > result.getPlayouts(best));
+    }
+
+    @Test
+    public void testDeterministic() {
+        final MonteCarloTreeSearch.Result<Nim> a = new MonteCarloTreeSearch<>(new Nim(9, 3, 0L).start(), 1L).search(MonteCarloTreeSearch.Budget.iterations(1000));
+        final MonteCarloTreeSearch.Result<Nim> b = new MonteCarloTreeSearch<>(new Nim(9, 3, 0L).start(), 1L).search(MonteCarloTreeSearch.Budget.iterations(1000));
+        assertEquals(a.toString(), b.toString());
+    }
+
+    @Test
+    public void testContinue() {
+        // The tree is kept from one search to the next.
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(10, 3, 0L).start(), 0L);
+        target.search(MonteCarloTreeSearch.Budget.iterations(100));
+        assertEquals(300, target.search(MonteCarloTreeSearch.Budget.iterations(200)).getIterations() + 100);
+        assertEquals(300, target.getRoot().playouts());
+    }
+
+    @Test
+    public void testTreeParallelism() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(14, 3, 0L).start(), 0L);
+            final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(40000), pool, MonteCarloTreeSearch.Parallelism.TREE);
+            assertEquals(40000, result.getIterations());
+            assertEquals(2, ((Nim.NimMove) result.bestMove()).take());
+            // Every virtual loss has been resolved: the statistics are exactly those of the completed playouts.
+            assertEquals(40000, target.getRoot().playouts());
+            int playouts = 0;
+            for (int i = 0; i < 3; i++) playouts += result.getPlayouts(i);
+            assertEquals(40000, playouts);
+            for (SearchNode<Nim> child : target.getRoot().children()) assertTrue(child.wins() <= 2 * child.playouts());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRootParallelism() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(13, 3, 0L).start(), 0L);
+            final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(40000), pool, MonteCarloTreeSearch.Parallelism.ROOT);
+            assertEquals(40000, result.getIterations());
+            assertEquals(1, ((Nim.NimMove) result.bestMove()).take());
+            // The result merges the trees of all the threads.
+            int playouts = 0;
+            for (int i = 0; i < 3; i++) playouts += result.getPlayouts(i);
+            assertEquals(40000, playouts);
+            assertTrue(target.getRoot().playouts() < 40000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeBudget() {
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(30, 3, 0L).start(), 0L);
+        final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.millis(50));
+        assertTrue(result.getIterations() > 0);
+        assertTrue(result.getNanos() >= 50_000_000L);
+        assertTrue(result.playoutsPerSecond() > 0);
+    }
+
+    @Test
+    public void testTerminal() {
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(0, 3, 0L).start(), 0L);
+        final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(10));
+        assertNull(result.bestMove());
+        assertEquals(-1, result.bestIndex());
+    }
+}
@@ -0,0 +1,50 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.nim.Nim;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SearchNodeTest {
+
+    @Test
+    public void testExpand() {
+        final SearchNode<Nim> target = new SearchNode<>(new Nim(5, 3, 0L).start());
+        assertFalse(target.isLeaf());
+        assertTrue(target.children().isEmpty());
+        assertNull(target.explored());
+        final List<SearchNode<Nim>> children = target.expand();
+        assertEquals(3, children.size());
+        assertSame(children, target.expand());
+        assertSame(children, target.children());
+        for (int i = 0; i < 3; i++) {
+            final SearchNode<Nim> child = children.get(i);
+            assertEquals(i + 1, ((Nim.NimMove) child.move()).take());
+            assertEquals(0, child.mover());
+            assertTrue(child.white());
+            assertEquals(1, child.state().player());
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        final SearchNode<Nim> target = new SearchNode<>(new Nim(1, 3, 0L).start());
+        assertEquals(1, target.visit());
+        assertEquals(2, target.visit());
+        target.addWins(2);
+        target.addWins(1);
+        assertEquals(2, target.playouts());
+        assertEquals(3, target.wins());
+    }
+
+    @Test
+    public void testLeaf() {
+        final SearchNode<Nim> target = new SearchNode<>(new Nim(0, 3, 0L).start());
+        assertTrue(target.isLeaf());
+        assertTrue(target.expand().isEmpty());
+        assertEquals(-1, target.mover());
+        assertNull(target.move());
+    }
+}
@@ -0,0 +1,119 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.nim.Nim;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void testGetOrCreate() {
+        final Nim nim = new Nim(10, 3, 0L);
+        final TranspositionTable<Nim> target = new TranspositionTable<>(16, TranspositionTableTest::key);
+        final State<Nim> start = nim.start();
+        assertNull(target.get(key(start)));
+        final SearchNode<Nim> node = target.getOrCreate(start, 1);
+        assertSame(node, target.getOrCreate(nim.new NimState(10, 0), 1));
+        assertSame(node, target.get(key(start)));
+        assertNotSame(node, target.getOrCreate(nim.new NimState(10, 1), 0));
+        assertEquals(2, target.size());
+        assertEquals(2, target.getCreations());
+        assertEquals(0, target.getEvictions());
+        assertEquals(2, target.getLookups());
+        assertEquals(1, target.getHits());
+        assertEquals(0.5, target.hitRate(), 1E-9);
+    }
+
+    @Test
+    public void testEviction() {
+        // A capacity of 4 is a single bucket: the entry which has gone unused the longest is evicted.
+        final Nim nim = new Nim(10, 3, 0L);
+        final TranspositionTable<Nim> target = new TranspositionTable<>(4, TranspositionTableTest::key);
+        assertEquals(4, target.capacity());
+        for (int pile = 1; pile <= 4; pile++) {
+            target.getOrCreate(nim.new NimState(pile, 0), 1);
+            target.tick();
+        }
+        assertNotNull(target.get(key(nim.new NimState(1, 0))));
+        target.getOrCreate(nim.new NimState(5, 0), 1);
+        assertEquals(4, target.size());
+        assertEquals(1, target.getEvictions());
+        assertNull(target.get(key(nim.new NimState(2, 0))));
+        assertNotNull(target.get(key(nim.new NimState(1, 0))));
+        assertNotNull(target.get(key(nim.new NimState(5, 0))));
+    }
+
+    @Test
+    public void testSearch() {
+        // In Nim, taking 1 then 2 leads to the same position as taking 2 then 1: the statistics are shared.
+        final TranspositionTable<Nim> table = new TranspositionTable<>(1 << 10, TranspositionTableTest::key);
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(10, 3, 0L).start(), Rollout.random(), Math.sqrt(2), 0L, table);
+        final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(20000));
+        assertEquals(20000, result.getIterations());
+        assertEquals(3, result.getMoves().size());
+        assertEquals(2, ((Nim.NimMove) result.bestMove()).take());
+        int playouts = 0;
+        for (int i = 0; i < 3; i++) playouts += result.getPlayouts(i);
+        assertEquals(20000, playouts);
+        // There are only 22 positions (11 piles, 2 players to move).
+        assertTrue(table.size() <= 22);
+        assertTrue(table.hitRate() > 0.9);
+    }
+
+    @Test
+    public void testTranspositionAtRoot() {
+        // From a pile of 7, taking 3 leads to the same position as taking 1 three times (and a large exploration constant
+        // makes the search try the latter often): the Node for each move counts the playouts which reach it by any path,
+        // but the Result counts only those which took the move from the root.
+        final TranspositionTable<Nim> table = new TranspositionTable<>(1 << 10, TranspositionTableTest::key);
+        final Nim nim = new Nim(7, 3, 0L);
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(nim.start(), Rollout.random(), 10, 0L, table);
+        final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(5000));
+        assertEquals(3, ((Nim.NimMove) result.bestMove()).take());
+        int playouts = 0, totals = 0;
+        for (int i = 0; i < 3; i++) {
+            playouts += result.getPlayouts(i);
+            totals += table.get(key(nim.new NimState(7 - (i + 1), 1))).playouts();
+        }
+        assertEquals(5000, playouts);
+        assertTrue(totals > 5000);
+        assertTrue(table.get(key(nim.new NimState(4, 1))).playouts() > result.getPlayouts(2));
+    }
+
+    @Test
+    public void testSearchBounded() {
+        // A table much smaller than the tree still yields a (slightly weaker) search, within its capacity.
+        final TranspositionTable<Nim> table = new TranspositionTable<>(8, TranspositionTableTest::key);
+        final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(30, 3, 0L).start(), Rollout.random(), Math.sqrt(2), 0L, table);
+        final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(5000));
+        assertEquals(5000, result.getIterations());
+        assertTrue(table.size() <= 8);
+        assertTrue(table.getEvictions() > 0);
+    }
+
+    @Test
+    public void testParallelism() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (MonteCarloTreeSearch.Parallelism parallelism : MonteCarloTreeSearch.Parallelism.values()) {
+                final TranspositionTable<Nim> table = new TranspositionTable<>(1 << 10, TranspositionTableTest::key);
+                final MonteCarloTreeSearch<Nim> target = new MonteCarloTreeSearch<>(new Nim(14, 3, 0L).start(), Rollout.random(), Math.sqrt(2), 0L, table);
+                final MonteCarloTreeSearch.Result<Nim> result = target.search(MonteCarloTreeSearch.Budget.iterations(40000), pool, parallelism);
+                assertEquals(40000, result.getIterations());
+                assertEquals(2, ((Nim.NimMove) result.bestMove()).take());
+                int playouts = 0;
+                for (int i = 0; i < 3; i++) playouts += result.getPlayouts(i);
+                assertEquals(40000, playouts);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long key(State<Nim> state) {
+        return ((Nim.NimState) state).pile() * 2L + state.player();
+    }
+}
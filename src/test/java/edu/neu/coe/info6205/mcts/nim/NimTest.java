@@ -0,0 +1,50 @@
+package edu.neu.coe.info6205.mcts.nim;
+
+import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.State;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class NimTest {
+
+    @Test
+    public void testMoves() {
+        final State<Nim> target = new Nim(2, 3, 0L).start();
+        assertEquals(0, target.player());
+        final Collection<Move<Nim>> moves = target.moves(0);
+        assertEquals(2, moves.size());
+        assertTrue(moves.contains(new Nim.NimMove(0, 2)));
+    }
+
+    @Test
+    public void testWinner() {
+        State<Nim> state = new Nim(4, 3, 0L).start();
+        assertEquals(Optional.empty(), state.winner());
+        state = state.next(new Nim.NimMove(0, 3));
+        assertFalse(state.isTerminal());
+        state = state.next(new Nim.NimMove(1, 1));
+        assertTrue(state.isTerminal());
+        assertEquals(Optional.of(1), state.winner());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testIllegal() {
+        new Nim(2, 3, 0L).start().next(new Nim.NimMove(0, 3));
+    }
+
+    @Test
+    public void testRandomGame() {
+        State<Nim> state = new Nim(21, 3, 0L).start();
+        int moves = 0;
+        while (!state.isTerminal()) {
+            state = state.next(state.chooseMove(state.player()));
+            moves++;
+        }
+        assertTrue(moves >= 7);
+        assertTrue(state.winner().isPresent());
+    }
+}
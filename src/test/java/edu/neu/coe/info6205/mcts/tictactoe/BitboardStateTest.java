@@ -0,0 +1,140 @@
+package edu.neu.coe.info6205.mcts.tictactoe;
+
+import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.Rollout;
+import edu.neu.coe.info6205.mcts.core.State;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class BitboardStateTest {
+
+    @Test
+    public void testStart() {
+        final BitboardState target = new TicTacToe(0L).startBitboard();
+        assertEquals(0, target.board());
+        assertEquals(TicTacToe.X, target.player());
+        assertFalse(target.isTerminal());
+        assertEquals(Optional.empty(), target.winner());
+        assertEquals(9, target.moves(TicTacToe.X).size());
+        assertEquals(". . .\n. . .\n. . .", target.render());
+    }
+
+    @Test
+    public void testFrom() {
+        final TicTacToe game = new TicTacToe(0L);
+        final String grid = "X . .\n. O .\n. . X";
+        final BitboardState target = BitboardState.from(game, Position.parsePosition(grid, TicTacToe.X));
+        assertEquals(grid, target.render());
+        assertEquals(TicTacToe.O, target.player());
+        // The moves are in the order of the cells (as for Position.moves).
+        final Collection<Move<TicTacToe>> moves = target.moves(TicTacToe.O);
+        assertEquals(6, moves.size());
+        assertArrayEquals(new int[]{0, 1}, ((TicTacToe.TicTacToeMove) moves.iterator().next()).move());
+        // The states are cached.
+        assertSame(target, BitboardState.from(game, Position.parsePosition(grid, TicTacToe.X)));
+    }
+
+    @Test
+    public void testNext() {
+        final TicTacToe game = new TicTacToe(0L);
+        State<TicTacToe> target = game.startBitboard();
+        target = target.next(new TicTacToe.TicTacToeMove(TicTacToe.X, 1, 1));
+        target = target.next(new TicTacToe.TicTacToeMove(TicTacToe.O, 0, 2));
+        assertEquals(". . O\n. X .\n. . .", ((BitboardState) target).render());
+        assertEquals(7, target.moves(TicTacToe.X).size());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testOccupied() {
+        final State<TicTacToe> target = new TicTacToe(0L).startBitboard().next(new TicTacToe.TicTacToeMove(TicTacToe.X, 1, 1));
+        target.next(new TicTacToe.TicTacToeMove(TicTacToe.O, 1, 1));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testConsecutive() {
+        new TicTacToe(0L).startBitboard().moves(TicTacToe.O);
+    }
+
+    @Test
+    public void testWinner() {
+        final TicTacToe game = new TicTacToe(0L);
+        assertEquals(Optional.of(TicTacToe.X), BitboardState.from(game, Position.parsePosition("X . 0\nX O .\nX . 0", TicTacToe.X)).winner());
+        assertEquals(Optional.of(TicTacToe.X), BitboardState.from(game, Position.parsePosition("X O .\nO X .\n. . X", TicTacToe.X)).winner());
+        assertEquals(Optional.of(TicTacToe.O), BitboardState.from(game, Position.parsePosition("X X O\nX O .\nO . .", TicTacToe.O)).winner());
+        final BitboardState draw = BitboardState.from(game, Position.parsePosition("X O X\nX O O\nO X X", TicTacToe.X));
+        assertTrue(draw.isTerminal());
+        assertEquals(Optional.empty(), draw.winner());
+        assertTrue(BitboardState.from(game, Position.parsePosition("X . 0\nX O .\nX . 0", TicTacToe.X)).isTerminal());
+    }
+
+    @Test
+    public void testSymmetry() {
+        // The transforms agree with Position.rotate and Position.reflect.
+        final TicTacToe game = new TicTacToe(0L);
+        final Position position = Position.parsePosition("X X .\n. O .\nO . .", TicTacToe.O);
+        final BitboardState target = BitboardState.from(game, position);
+        assertEquals(BitboardState.from(game, position.rotate()), target.transform(1));
+        assertEquals(BitboardState.from(game, position.rotate().rotate()), target.transform(2));
+        assertEquals(BitboardState.from(game, position.reflect(1)), target.transform(4));
+        assertEquals(BitboardState.from(game, position.reflect(1).rotate()), target.transform(5));
+        assertEquals(BitboardState.from(game, position.reflect(0)), target.transform(6));
+        // All eight images are distinct here, and all have the same canonical key (and hash code).
+        final Set<BitboardState> images = new HashSet<>();
+        for (int s = 0; s < 8; s++) {
+            final BitboardState image = target.transform(s);
+            images.add(image);
+            assertEquals(target.canonicalKey(), image.canonicalKey());
+            assertEquals(target.hashCode(), image.hashCode());
+        }
+        assertEquals(8, images.size());
+        assertNotEquals(target.canonicalKey(), BitboardState.from(game, Position.parsePosition("X X .\n. . .\nO . O", TicTacToe.O)).canonicalKey());
+    }
+
+    @Test
+    public void testCanonicalCount() {
+        // There are 765 essentially different positions reachable in a game of TicTacToe.
+        final Set<Integer> keys = new HashSet<>();
+        final Set<Integer> boards = new HashSet<>();
+        explore(new TicTacToe(0L).startBitboard(), keys, boards);
+        assertEquals(5478, boards.size());
+        assertEquals(765, keys.size());
+    }
+
+    @Test
+    public void testAllocationFree() {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        final BitboardState start = new TicTacToe(0L).startBitboard();
+        final Rollout<TicTacToe> rollout = Rollout.random();
+        final Random random = new Random(0L);
+        int wins = playouts(start, rollout, random, 100000);
+        final long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        wins += playouts(start, rollout, random, 100000);
+        final long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        assertTrue(wins > 0);
+        assertTrue("allocated " + allocated + " bytes", allocated < 100000);
+    }
+
+    private static int playouts(State<TicTacToe> start, Rollout<TicTacToe> rollout, Random random, int n) {
+        int result = 0;
+        for (int i = 0; i < n; i++) {
+            State<TicTacToe> state = start;
+            while (!state.isTerminal()) state = state.next(rollout.choose(state, random));
+            if (state.winner().isPresent()) result++;
+        }
+        return result;
+    }
+
+    private static void explore(BitboardState state, Set<Integer> keys, Set<Integer> boards) {
+        if (!boards.add(state.board())) return;
+        keys.add(state.canonicalKey());
+        if (state.isTerminal()) return;
+        for (Move<TicTacToe> move : state.moves(state.player())) explore((BitboardState) state.next(move), keys, boards);
+    }
+}
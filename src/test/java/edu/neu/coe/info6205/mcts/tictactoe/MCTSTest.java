@@ -1,5 +1,42 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
+import edu.neu.coe.info6205.mcts.core.MonteCarloTreeSearch;
+import edu.neu.coe.info6205.mcts.core.Rollout;
+import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class MCTSTest {
 
-}
\ No newline at end of file
+    @Test
+    public void testSelfPlay() {
+        // With good play on both sides, TicTacToe is a draw.
+        final State<TicTacToe> state = MCTS.selfPlay(new TicTacToe(0L), 20000, false);
+        assertTrue(state.isTerminal());
+        assertFalse(state.winner().isPresent());
+    }
+
+    @Test
+    public void testSelfPlayWithTranspositions() {
+        final State<TicTacToe> state = MCTS.selfPlay(new TicTacToe(0L), 20000, 1 << 12, false);
+        assertTrue(state.isTerminal());
+        assertFalse(state.winner().isPresent());
+    }
+
+    @Test
+    public void testSymmetryReduction() {
+        // From the empty board, the nine moves reduce (by symmetry) to three: corner, edge and centre.
+        final TranspositionTable<TicTacToe> table = new TranspositionTable<>(1 << 12, s -> ((BitboardState) s).canonicalKey());
+        final MonteCarloTreeSearch<TicTacToe> target = new MonteCarloTreeSearch<>(new TicTacToe(0L).startBitboard(), Rollout.random(), Math.sqrt(2), 0L, table);
+        final MonteCarloTreeSearch.Result<TicTacToe> result = target.search(MonteCarloTreeSearch.Budget.iterations(10000));
+        assertEquals(3, result.getMoves().size());
+        assertEquals(10000, result.getIterations());
+        // There are only 765 positions, up to symmetry.
+        assertTrue(table.size() <= 765);
+        assertTrue(table.hitRate() > 0);
+    }
+}
@@ -0,0 +1,48 @@
+package edu.neu.coe.info6205.union_find;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class UF_ConcurrentTest {
+
+    @Test
+    public void testUnion() {
+        UF_Concurrent h = new UF_Concurrent(10);
+        h.union(0, 1);
+        h.union(2, 1);
+        assertEquals(8, h.components());
+        assertTrue(h.connected(0, 2));
+        assertFalse(h.connected(0, 3));
+        assertEquals(0, h.find(2));
+        h.union(0, 2);
+        assertEquals(8, h.components());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidate() {
+        new UF_Concurrent(10).find(10);
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        int n = 100000;
+        Random random = new Random(0L);
+        int[] ps = new int[n], qs = new int[n];
+        for (int i = 0; i < n; i++) {
+            ps[i] = random.nextInt(n);
+            qs[i] = random.nextInt(n);
+        }
+        UF_Concurrent concurrent = new UF_Concurrent(n);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> concurrent.union(ps[i], qs[i]))).get();
+        WQUPC sequential = new WQUPC(n);
+        for (int i = 0; i < n; i++) sequential.union(ps[i], qs[i]);
+        assertEquals(sequential.count(), concurrent.components());
+        for (int i = 0; i < n; i++) assertEquals(sequential.connected(0, i), concurrent.connected(0, i));
+    }
+}